@@ -0,0 +1,94 @@
+package com.cartoes.api_cartoes.carga;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parâmetros de uma execução do gerador de carga, lidos de argumentos {@code --nome=valor}.
+ *
+ * @param url          Endpoint que recebe as requisições do corpus
+ * @param corpus       Arquivo JSONL com um corpo de requisição por linha
+ * @param modo         Laço aberto (taxa fixa) ou fechado (usuários simultâneos)
+ * @param taxa         Requisições por segundo; no modo fechado, 0 envia sem pausa entre as respostas
+ * @param concorrencia Usuários simultâneos do modo fechado
+ * @param duracao      Tempo de medição
+ * @param aquecimento  Tempo de carga antes da medição, descartado do relatório
+ * @param timeout      Tempo máximo de espera por uma resposta
+ * @param ajustarIdade Recalcula {@code cliente.idade} a partir de {@code data_nascimento} na data da execução
+ * @param relatorio    Arquivo JSON do relatório; a distribuição de percentis é gravada ao lado, em {@code .hgrm}
+ */
+public record ConfiguracaoCarga(URI url, Path corpus, Modo modo, double taxa, int concorrencia,
+                                Duration duracao, Duration aquecimento, Duration timeout,
+                                boolean ajustarIdade, Path relatorio) {
+
+    public enum Modo {
+        ABERTO,
+        FECHADO;
+
+        public String nome() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public ConfiguracaoCarga {
+        if (modo == Modo.ABERTO && taxa <= 0) {
+            throw new IllegalArgumentException("O modo aberto exige --taxa maior que zero");
+        }
+        if (taxa < 0) {
+            throw new IllegalArgumentException("--taxa não pode ser negativa");
+        }
+        if (concorrencia < 1) {
+            throw new IllegalArgumentException("--concorrencia deve ser maior que zero");
+        }
+        if (duracao.isNegative() || duracao.isZero() || aquecimento.isNegative()
+                || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("--duracao e --timeout devem ser positivos e --aquecimento não negativo");
+        }
+    }
+
+    /**
+     * Lê os argumentos no formato {@code --nome=valor}; durações aceitam o formato do Spring Boot
+     * ({@code 30s}, {@code 2m}, {@code 500ms}).
+     *
+     * @throws IllegalArgumentException se algum argumento for desconhecido ou inválido
+     */
+    public static ConfiguracaoCarga deArgumentos(String... argumentos) {
+        Map<String, String> valores = new HashMap<>();
+        for (String argumento : argumentos) {
+            int separador = argumento.indexOf('=');
+            if (!argumento.startsWith("--") || separador < 0) {
+                throw new IllegalArgumentException("Argumento inválido: " + argumento);
+            }
+            valores.put(argumento.substring(2, separador), argumento.substring(separador + 1).trim());
+        }
+
+        Modo modo = Modo.valueOf(valor(valores, "modo", "aberto").toUpperCase(Locale.ROOT));
+        ConfiguracaoCarga configuracao = new ConfiguracaoCarga(
+                URI.create(valor(valores, "url", "http://localhost:9292/api/cartoes")),
+                Path.of(valor(valores, "corpus", "src/gerador-carga/corpus/solicitacoes.jsonl")),
+                modo,
+                Double.parseDouble(valor(valores, "taxa", modo == Modo.ABERTO ? "100" : "0")),
+                Integer.parseInt(valor(valores, "concorrencia", "16")),
+                DurationStyle.detectAndParse(valor(valores, "duracao", "60s")),
+                DurationStyle.detectAndParse(valor(valores, "aquecimento", "10s")),
+                DurationStyle.detectAndParse(valor(valores, "timeout", "5s")),
+                Boolean.parseBoolean(valor(valores, "ajustar-idade", "true")),
+                Path.of(valor(valores, "relatorio", "target/carga/relatorio.json")));
+
+        if (!valores.isEmpty()) {
+            throw new IllegalArgumentException("Argumentos desconhecidos: " + valores.keySet());
+        }
+        return configuracao;
+    }
+
+    private static String valor(Map<String, String> valores, String nome, String padrao) {
+        String valor = valores.remove(nome);
+        return valor == null || valor.isEmpty() ? padrao : valor;
+    }
+}
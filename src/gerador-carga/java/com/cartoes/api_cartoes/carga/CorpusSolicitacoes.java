@@ -0,0 +1,90 @@
+package com.cartoes.api_cartoes.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Corpos de requisição de um arquivo JSONL, já convertidos em bytes e reenviados em ordem,
+ * voltando ao início quando o arquivo termina.
+ * <p>
+ * Linhas em branco são ignoradas; qualquer outra linha precisa ser um objeto JSON, que é
+ * enviado byte a byte como foi gravado, salvo o ajuste opcional de {@code cliente.idade}.
+ */
+final class CorpusSolicitacoes {
+
+    private final List<byte[]> corpos;
+
+    private CorpusSolicitacoes(List<byte[]> corpos) {
+        this.corpos = List.copyOf(corpos);
+    }
+
+    /**
+     * Lê o corpus.
+     *
+     * @param ajustarIdade Recalcula {@code cliente.idade} na data de hoje, para que um corpus gravado
+     *                     há tempos não passe a ser rejeitado por idade inconsistente
+     * @throws IllegalArgumentException se uma linha não for um objeto JSON ou o arquivo estiver vazio
+     */
+    static CorpusSolicitacoes ler(Path arquivo, ObjectMapper objectMapper, boolean ajustarIdade) throws IOException {
+        List<byte[]> corpos = new ArrayList<>();
+        LocalDate hoje = LocalDate.now();
+        try (BufferedReader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            int numero = 0;
+            for (String linha = leitor.readLine(); linha != null; linha = leitor.readLine()) {
+                numero++;
+                if (linha.isBlank()) {
+                    continue;
+                }
+                JsonNode corpo;
+                try {
+                    corpo = objectMapper.readTree(linha);
+                } catch (IOException e) {
+                    throw new IllegalArgumentException(arquivo + ":" + numero + " não é um JSON válido", e);
+                }
+                if (!corpo.isObject()) {
+                    throw new IllegalArgumentException(arquivo + ":" + numero + " deve ser um objeto JSON");
+                }
+                corpos.add(ajustarIdade && ajustarIdade((ObjectNode) corpo, hoje)
+                        ? objectMapper.writeValueAsBytes(corpo)
+                        : linha.strip().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        if (corpos.isEmpty()) {
+            throw new IllegalArgumentException(arquivo + " não contém requisições");
+        }
+        return new CorpusSolicitacoes(corpos);
+    }
+
+    byte[] corpo(long sequencia) {
+        return corpos.get((int) (sequencia % corpos.size()));
+    }
+
+    int tamanho() {
+        return corpos.size();
+    }
+
+    private static boolean ajustarIdade(ObjectNode corpo, LocalDate hoje) {
+        if (corpo.get("cliente") instanceof ObjectNode cliente
+                && cliente.hasNonNull("idade") && cliente.path("data_nascimento").isTextual()) {
+            try {
+                LocalDate nascimento = LocalDate.parse(cliente.get("data_nascimento").asText());
+                cliente.put("idade", Period.between(nascimento, hoje).getYears());
+                return true;
+            } catch (RuntimeException e) {
+                // Data inválida de propósito: a requisição segue como foi gravada
+            }
+        }
+        return false;
+    }
+}
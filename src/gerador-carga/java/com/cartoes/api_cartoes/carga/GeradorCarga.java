@@ -0,0 +1,168 @@
+package com.cartoes.api_cartoes.carga;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reenvia um corpus JSONL de solicitações para a API e grava um relatório de vazão, percentis de
+ * latência e erros, para comparação entre versões.
+ * <ul>
+ *     <li>{@code aberto}: envia {@code --taxa} requisições por segundo em instantes planejados,
+ *     independentemente das respostas pendentes. A latência conta a partir do instante planejado,
+ *     então um atraso do próprio gerador também aparece no relatório;</li>
+ *     <li>{@code fechado}: {@code --concorrencia} usuários enviam uma requisição e aguardam a
+ *     resposta. Com {@code --taxa}, cada usuário segue uma agenda própria e a latência conta do
+ *     instante planejado; sem ela, os usuários não pausam e o histograma é corrigido depois
+ *     com o tempo médio de serviço como intervalo esperado.</li>
+ * </ul>
+ * Cada requisição roda em uma thread virtual e é enviada pelo {@link HttpClient} do JDK.
+ * <p>
+ * Execução: {@code ./mvnw -Pgerador-carga test-compile exec:exec -Dcarga.modo=aberto -Dcarga.taxa=200}
+ */
+public final class GeradorCarga {
+
+    private final ConfiguracaoCarga configuracao;
+    private final CorpusSolicitacoes corpus;
+    private final HttpClient cliente;
+    private final AtomicLong sequencia = new AtomicLong();
+
+    GeradorCarga(ConfiguracaoCarga configuracao, CorpusSolicitacoes corpus, HttpClient cliente) {
+        this.configuracao = configuracao;
+        this.corpus = corpus;
+        this.cliente = cliente;
+    }
+
+    public static void main(String[] argumentos) throws Exception {
+        ConfiguracaoCarga configuracao;
+        try {
+            configuracao = ConfiguracaoCarga.deArgumentos(argumentos);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Uso: --url= --corpus= --modo=aberto|fechado --taxa= --concorrencia= "
+                    + "--duracao= --aquecimento= --timeout= --ajustar-idade= --relatorio=");
+            System.exit(2);
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        CorpusSolicitacoes corpus = CorpusSolicitacoes.ler(configuracao.corpus(), objectMapper, configuracao.ajustarIdade());
+
+        try (ExecutorService executorCliente = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient cliente = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(configuracao.timeout())
+                    .executor(executorCliente)
+                    .build();
+            GeradorCarga gerador = new GeradorCarga(configuracao, corpus, cliente);
+
+            System.out.printf("%s: %d requisições no corpus, modo %s%n",
+                    configuracao.corpus(), corpus.tamanho(), configuracao.modo().nome());
+            if (configuracao.aquecimento().isPositive()) {
+                System.out.printf("Aquecimento por %s%n", configuracao.aquecimento());
+                gerador.executar(configuracao.aquecimento());
+            }
+            System.out.printf("Medição por %s%n", configuracao.duracao());
+            ResultadoCarga resultado = gerador.executar(configuracao.duracao());
+
+            RelatorioCarga relatorio = new RelatorioCarga(configuracao, corpus.tamanho(), resultado);
+            relatorio.gravar(objectMapper);
+            relatorio.imprimir(System.out);
+        }
+    }
+
+    /**
+     * Executa uma fase de carga e aguarda as respostas pendentes.
+     */
+    ResultadoCarga executar(Duration duracao) throws InterruptedException {
+        long inicio = System.nanoTime();
+        long fim = inicio + duracao.toNanos();
+        ResultadoCarga resultado = new ResultadoCarga(inicio);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (configuracao.modo() == ConfiguracaoCarga.Modo.ABERTO) {
+                double intervalo = TimeUnit.SECONDS.toNanos(1) / configuracao.taxa();
+                for (long i = 0; ; i++) {
+                    long previsto = inicio + (long) (i * intervalo);
+                    if (previsto >= fim) {
+                        break;
+                    }
+                    aguardarAte(previsto);
+                    executor.execute(() -> enviar(previsto, resultado));
+                }
+            } else {
+                long intervalo = configuracao.taxa() > 0
+                        ? (long) (TimeUnit.SECONDS.toNanos(1) * configuracao.concorrencia() / configuracao.taxa())
+                        : 0L;
+                for (int usuario = 0; usuario < configuracao.concorrencia(); usuario++) {
+                    // Agendas defasadas para que os usuários não enviem todos no mesmo instante
+                    long primeiro = inicio + intervalo * usuario / configuracao.concorrencia();
+                    executor.execute(() -> usuario(primeiro, intervalo, fim, resultado));
+                }
+            }
+            // Respostas pendentes ao fim da fase têm até o timeout para chegar
+            executor.shutdown();
+            long espera = fim - System.nanoTime() + configuracao.timeout().toNanos();
+            if (!executor.awaitTermination(espera, TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+        return resultado;
+    }
+
+    private void usuario(long primeiro, long intervalo, long fim, ResultadoCarga resultado) {
+        long previsto = primeiro;
+        while (!Thread.currentThread().isInterrupted()) {
+            if (intervalo == 0) {
+                previsto = System.nanoTime();
+            }
+            if (previsto >= fim) {
+                return;
+            }
+            aguardarAte(previsto);
+            enviar(previsto, resultado);
+            previsto += intervalo;
+        }
+    }
+
+    private void enviar(long previsto, ResultadoCarga resultado) {
+        HttpRequest requisicao = HttpRequest.newBuilder(configuracao.url())
+                .timeout(configuracao.timeout())
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(corpus.corpo(sequencia.getAndIncrement())))
+                .build();
+
+        long envio = System.nanoTime();
+        String erro;
+        try {
+            int status = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+            erro = status >= 200 && status < 300 ? null : Integer.toString(status);
+        } catch (IOException e) {
+            erro = e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            // Resposta ainda pendente ao fim da espera: conta como excedida
+            Thread.currentThread().interrupt();
+            erro = "Interrompida";
+        }
+        resultado.registrar(previsto, envio, System.nanoTime(), erro);
+    }
+
+    private static void aguardarAte(long instante) {
+        for (long restante = instante - System.nanoTime();
+             restante > 0 && !Thread.currentThread().isInterrupted();
+             restante = instante - System.nanoTime()) {
+            LockSupport.parkNanos(restante);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.cartoes.api_cartoes.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relatório da fase de medição: um JSON com chaves em ordem fixa e valores arredondados, para ser
+ * comparado com {@code diff} entre versões, e a distribuição completa de percentis no formato
+ * {@code .hgrm} do HdrHistogram, que pode ser plotada no HdrHistogram Plotter.
+ */
+final class RelatorioCarga {
+
+    private static final double MICROS_POR_MILISSEGUNDO = 1_000.0;
+
+    private final ConfiguracaoCarga configuracao;
+    private final int tamanhoCorpus;
+    private final ResultadoCarga resultado;
+    private final Histogram latencia;
+    private final String correcao;
+
+    RelatorioCarga(ConfiguracaoCarga configuracao, int tamanhoCorpus, ResultadoCarga resultado) {
+        this.configuracao = configuracao;
+        this.tamanhoCorpus = tamanhoCorpus;
+        this.resultado = resultado;
+
+        if (configuracao.modo() == ConfiguracaoCarga.Modo.FECHADO && configuracao.taxa() == 0) {
+            // Sem agenda não há instante planejado: estima as requisições que deixaram de ser enviadas
+            // durante as respostas lentas a partir do tempo médio de serviço
+            long intervaloEsperado = Math.max((long) resultado.servico().getMean(), 1L);
+            this.latencia = resultado.latencia().copyCorrectedForCoordinatedOmission(intervaloEsperado);
+            this.correcao = "intervalo-esperado-" + intervaloEsperado + "us";
+        } else {
+            this.latencia = resultado.latencia();
+            this.correcao = "envio-planejado";
+        }
+    }
+
+    /**
+     * Grava o JSON e o {@code .hgrm} de latência no caminho configurado.
+     */
+    void gravar(ObjectMapper objectMapper) throws IOException {
+        Path arquivo = configuracao.relatorio().toAbsolutePath();
+        Files.createDirectories(arquivo.getParent());
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(arquivo.toFile(), conteudo());
+
+        String nome = arquivo.getFileName().toString();
+        Path distribuicao = arquivo.resolveSibling(
+                (nome.endsWith(".json") ? nome.substring(0, nome.length() - 5) : nome) + ".hgrm");
+        try (PrintStream saida = new PrintStream(Files.newOutputStream(distribuicao), false, StandardCharsets.UTF_8)) {
+            latencia.outputPercentileDistribution(saida, MICROS_POR_MILISSEGUNDO);
+        }
+    }
+
+    void imprimir(PrintStream saida) {
+        long requisicoes = resultado.requisicoes();
+        saida.printf("Requisições: %d (%d com sucesso), vazão %s req/s%n",
+                requisicoes, resultado.sucessos(), vazao());
+        saida.printf("Latência (ms): p50 %s | p99 %s | p99.9 %s | máx %s%n",
+                percentil(latencia, 50), percentil(latencia, 99), percentil(latencia, 99.9),
+                milissegundos(latencia.getMaxValue()));
+        saida.printf("Serviço (ms):  p50 %s | p99 %s | p99.9 %s | máx %s%n",
+                percentil(resultado.servico(), 50), percentil(resultado.servico(), 99),
+                percentil(resultado.servico(), 99.9), milissegundos(resultado.servico().getMaxValue()));
+        SortedMap<String, Long> erros = resultado.erros();
+        if (!erros.isEmpty()) {
+            saida.printf("Erros: %s%n", erros);
+        }
+        saida.printf("Relatório: %s%n", configuracao.relatorio().toAbsolutePath());
+    }
+
+    Map<String, Object> conteudo() {
+        Map<String, Object> execucao = new LinkedHashMap<>();
+        execucao.put("url", configuracao.url().toString());
+        execucao.put("corpus", configuracao.corpus().getFileName().toString());
+        execucao.put("requisicoes_corpus", tamanhoCorpus);
+        execucao.put("modo", configuracao.modo().nome());
+        execucao.put("taxa_alvo", configuracao.taxa());
+        execucao.put("concorrencia", configuracao.modo() == ConfiguracaoCarga.Modo.FECHADO ? configuracao.concorrencia() : null);
+        execucao.put("duracao_s", configuracao.duracao().toSeconds());
+        execucao.put("correcao_omissao_coordenada", correcao);
+
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("execucao", execucao);
+        relatorio.put("requisicoes", resultado.requisicoes());
+        relatorio.put("sucessos", resultado.sucessos());
+        relatorio.put("erros", resultado.requisicoes() - resultado.sucessos());
+        relatorio.put("vazao_rps", vazao());
+        relatorio.put("latencia_ms", percentis(latencia));
+        relatorio.put("servico_ms", percentis(resultado.servico()));
+        relatorio.put("erros_por_tipo", resultado.erros());
+        return relatorio;
+    }
+
+    private BigDecimal vazao() {
+        double segundos = resultado.duracaoNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        return BigDecimal.valueOf(resultado.requisicoes() / segundos).setScale(1, RoundingMode.HALF_UP);
+    }
+
+    private static Map<String, BigDecimal> percentis(Histogram histograma) {
+        Map<String, BigDecimal> percentis = new LinkedHashMap<>();
+        percentis.put("p50", percentil(histograma, 50));
+        percentis.put("p90", percentil(histograma, 90));
+        percentis.put("p99", percentil(histograma, 99));
+        percentis.put("p999", percentil(histograma, 99.9));
+        percentis.put("max", milissegundos(histograma.getMaxValue()));
+        percentis.put("media", BigDecimal.valueOf(histograma.getMean() / MICROS_POR_MILISSEGUNDO)
+                .setScale(3, RoundingMode.HALF_UP));
+        return percentis;
+    }
+
+    private static BigDecimal percentil(Histogram histograma, double percentil) {
+        return milissegundos(histograma.getValueAtPercentile(percentil));
+    }
+
+    private static BigDecimal milissegundos(long micros) {
+        return BigDecimal.valueOf(micros, 3);
+    }
+}
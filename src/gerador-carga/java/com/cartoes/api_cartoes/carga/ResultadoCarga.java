@@ -0,0 +1,90 @@
+package com.cartoes.api_cartoes.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências e contagens de uma fase da execução, registradas concorrentemente pelas threads que
+ * enviam as requisições. Os histogramas guardam microssegundos com três dígitos significativos.
+ * <ul>
+ *     <li>{@code latencia}: desde o instante em que a requisição deveria ter sido enviada, o que
+ *     inclui a espera causada por respostas lentas anteriores (sem omissão coordenada);</li>
+ *     <li>{@code servico}: desde o envio efetivo, como um cliente ingênuo mediria.</li>
+ * </ul>
+ */
+final class ResultadoCarga {
+
+    private final Histogram latencia = new ConcurrentHistogram(3);
+    private final Histogram servico = new ConcurrentHistogram(3);
+    private final LongAdder sucessos = new LongAdder();
+    private final Map<String, LongAdder> erros = new ConcurrentHashMap<>();
+    private final AtomicLong ultimoTermino = new AtomicLong();
+    private final long inicio;
+
+    ResultadoCarga(long inicio) {
+        this.inicio = inicio;
+    }
+
+    /**
+     * Registra uma resposta.
+     *
+     * @param previsto Instante planejado de envio, em {@link System#nanoTime()}
+     * @param envio    Instante efetivo de envio
+     * @param termino  Instante em que a resposta foi recebida ou o erro ocorreu
+     * @param erro     Status HTTP ou nome da exceção; {@code null} para respostas 2xx
+     */
+    void registrar(long previsto, long envio, long termino, String erro) {
+        latencia.recordValue(microssegundos(termino - previsto));
+        servico.recordValue(microssegundos(termino - envio));
+        if (erro == null) {
+            sucessos.increment();
+        } else {
+            erros.computeIfAbsent(erro, chave -> new LongAdder()).increment();
+        }
+        ultimoTermino.accumulateAndGet(termino, Math::max);
+    }
+
+    Histogram latencia() {
+        return latencia;
+    }
+
+    Histogram servico() {
+        return servico;
+    }
+
+    long sucessos() {
+        return sucessos.sum();
+    }
+
+    long requisicoes() {
+        return latencia.getTotalCount();
+    }
+
+    /**
+     * Erros por status HTTP ou exceção, em ordem alfabética para que relatórios possam ser comparados.
+     */
+    SortedMap<String, Long> erros() {
+        SortedMap<String, Long> ordenados = new TreeMap<>();
+        erros.forEach((erro, quantidade) -> ordenados.put(erro, quantidade.sum()));
+        return ordenados;
+    }
+
+    /**
+     * Tempo entre o início da fase e a última resposta.
+     */
+    long duracaoNanos() {
+        return Math.max(ultimoTermino.get() - inicio, 1L);
+    }
+
+    private static long microssegundos(long nanos) {
+        return Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1L);
+    }
+}
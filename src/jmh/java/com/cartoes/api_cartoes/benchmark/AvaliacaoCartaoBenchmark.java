@@ -0,0 +1,77 @@
+package com.cartoes.api_cartoes.benchmark;
+
+import com.cartoes.api_cartoes.domain.entity.Cartao;
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.service.CalculadoraIdade;
+import com.cartoes.api_cartoes.domain.service.impl.AvaliacaoCartaoServiceImpl;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import com.cartoes.api_cartoes.domain.strategy.StrategyAvaliacaoCartao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Avaliação de elegibilidade: tabela de decisão pré-computada versus a cadeia de estratégias
+ * percorrida a cada requisição, além da validação de domínio do cliente.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AvaliacaoCartaoBenchmark {
+
+    private static final int MASCARA = CenarioBenchmark.TAMANHO_MASSA - 1;
+
+    private AvaliacaoCartaoServiceImpl avaliacaoCartaoService;
+    private List<StrategyAvaliacaoCartao> estrategias;
+    private Cliente[] clientes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        RegrasVigentes regras = CenarioBenchmark.regras();
+        estrategias = regras.atual().estrategias();
+        avaliacaoCartaoService = new AvaliacaoCartaoServiceImpl(regras, new CalculadoraIdade(Clock.systemDefaultZone()));
+        clientes = CenarioBenchmark.clientes(CenarioBenchmark.solicitacoes());
+    }
+
+    @Benchmark
+    public List<Cartao> avaliarCartoesDisponiveis() {
+        return avaliacaoCartaoService.avaliarCartoesDisponiveis(proximoCliente());
+    }
+
+    @Benchmark
+    public List<Cartao> cadeiaDeEstrategias() {
+        Cliente cliente = proximoCliente();
+        for (StrategyAvaliacaoCartao estrategia : estrategias) {
+            if (estrategia.seAplica(cliente)) {
+                return estrategia.avaliarCartoes(cliente);
+            }
+        }
+        return List.of();
+    }
+
+    @Benchmark
+    public Cliente validarCliente() {
+        Cliente cliente = proximoCliente();
+        avaliacaoCartaoService.validarCliente(cliente);
+        return cliente;
+    }
+
+    private Cliente proximoCliente() {
+        return clientes[cursor++ & MASCARA];
+    }
+}
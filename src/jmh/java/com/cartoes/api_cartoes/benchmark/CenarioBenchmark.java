@@ -0,0 +1,114 @@
+package com.cartoes.api_cartoes.benchmark;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.util.MoedaUtil;
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.strategy.ParametrosRegras;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Monta os componentes com os mesmos parâmetros do {@code application.yml} e gera uma massa
+ * de solicitações determinística, distribuída entre UFs, faixas de idade e faixas de renda.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CenarioBenchmark {
+
+    /** Potência de dois, permitindo percorrer a massa com uma máscara. */
+    static final int TAMANHO_MASSA = 4096;
+
+    private static final long SEMENTE = 20250313L;
+
+    private static final String[] OUTRAS_UFS = {"RJ", "MG", "RS", "PR", "BA", "SC", "PE", "GO", "CE", "DF"};
+
+    /**
+     * Parâmetros das regras iguais aos do {@code application.yml}.
+     */
+    static ParametrosRegras parametros() {
+        return new ParametrosRegras(
+                new ParametrosRegras.Cliente(18, 25, 25, 30),
+                new ParametrosRegras.Estados("SP"),
+                new ParametrosRegras.Renda(
+                        new BigDecimal("1000.00"), new BigDecimal("3000.00"),
+                        new BigDecimal("3000.00"), new BigDecimal("5000.00"),
+                        new BigDecimal("5000.00")),
+                new ParametrosRegras.Cartoes(
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal("1000.00"), new BigDecimal("1000.00"), new BigDecimal("0.00")),
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal("3000.00"), new BigDecimal("3000.00"), new BigDecimal("20.00")),
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal("5000.00"), new BigDecimal("5000.00"), new BigDecimal("15.00"))));
+    }
+
+    static RegrasVigentes regras() {
+        return new RegrasVigentes(RegrasSnapshot.compilar(1, parametros()));
+    }
+
+    /**
+     * Massa de solicitações válidas: cerca de 25% de SP, idades de 18 a 75 anos concentradas
+     * entre 18 e 45, e renda distribuída entre as faixas abaixo de R$ 1.000, baixa, média e alta.
+     */
+    static ClienteRequest[] solicitacoes() {
+        SplittableRandom random = new SplittableRandom(SEMENTE);
+        LocalDate hoje = LocalDate.now();
+        ClienteRequest[] solicitacoes = new ClienteRequest[TAMANHO_MASSA];
+
+        for (int i = 0; i < TAMANHO_MASSA; i++) {
+            String uf = random.nextInt(100) < 25 ? "SP" : OUTRAS_UFS[random.nextInt(OUTRAS_UFS.length)];
+            int idade = random.nextInt(100) < 70 ? random.nextInt(18, 46) : random.nextInt(46, 76);
+
+            ClienteDTO cliente = ClienteDTO.builder()
+                    .nome("Cliente " + i)
+                    .cpf(String.format("%011d", random.nextLong(100_000_000_000L)))
+                    .idade(idade)
+                    // Aniversário já ocorrido no ano corrente, para que a idade calculada coincida
+                    .dataNascimento(hoje.minusYears(idade).minusDays(1 + random.nextInt(300)))
+                    .uf(uf)
+                    .rendaMensal(renda(random))
+                    .email("cliente" + i + "@teste.com")
+                    .telefoneWhatsapp("119" + String.format("%08d", random.nextInt(100_000_000)))
+                    .build();
+
+            solicitacoes[i] = ClienteRequest.builder().cliente(cliente).build();
+        }
+        return solicitacoes;
+    }
+
+    static Cliente[] clientes(ClienteRequest[] solicitacoes) {
+        Cliente[] clientes = new Cliente[solicitacoes.length];
+        for (int i = 0; i < solicitacoes.length; i++) {
+            ClienteDTO dto = solicitacoes[i].getCliente();
+            clientes[i] = Cliente.builder()
+                    .nome(dto.getNome())
+                    .cpf(dto.getCpf())
+                    .idade(dto.getIdade())
+                    .dataNascimento(dto.getDataNascimento())
+                    .uf(dto.getUf())
+                    .rendaMensalCentavos(MoedaUtil.paraCentavos(dto.getRendaMensal()))
+                    .email(dto.getEmail())
+                    .telefoneWhatsapp(dto.getTelefoneWhatsapp())
+                    .build();
+        }
+        return clientes;
+    }
+
+    private static BigDecimal renda(SplittableRandom random) {
+        int faixa = random.nextInt(100);
+        long centavos;
+        if (faixa < 15) {
+            centavos = random.nextLong(0, 100_000);
+        } else if (faixa < 50) {
+            centavos = random.nextLong(100_000, 300_000);
+        } else if (faixa < 75) {
+            centavos = random.nextLong(300_000, 500_000);
+        } else {
+            centavos = random.nextLong(500_000, 3_000_000);
+        }
+        return MoedaUtil.paraReais(centavos);
+    }
+}
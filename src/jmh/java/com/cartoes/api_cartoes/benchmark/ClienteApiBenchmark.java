@@ -0,0 +1,144 @@
+package com.cartoes.api_cartoes.benchmark;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import com.cartoes.api_cartoes.infrastructure.config.HttpClientConfig;
+import com.cartoes.api_cartoes.infrastructure.repository.ClienteRepositoryImpl;
+import com.cartoes.api_cartoes.infrastructure.resilience.PoliticaHedge;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * Registro de clientes contra o stub WireMock de {@code wiremock/mappings}, com usuários
+ * simultâneos disputando as conexões com a API de cliente.
+ * <p>
+ * {@code padrao} usa o cliente assíncrono com a configuração padrão do HttpClient;
+ * {@code pool} usa o cliente de {@link HttpClientConfig}, cujo pool não limita os usuários a
+ * cinco conexões por rota. Executar a partir da raiz do projeto.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClienteApiBenchmark {
+
+    private static final int TIMEOUT_MS = 2_000;
+
+    @Param({"padrao", "pool"})
+    public String cliente;
+
+    /** Latência de rede simulada pelo stub; com latência zero o benchmark mede apenas CPU. */
+    @Param({"20"})
+    public int latenciaMs;
+
+    private WireMockServer apiCliente;
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private ScheduledExecutorService agendador;
+    private ClienteRepositoryImpl repository;
+    private Cliente[] clientes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        apiCliente = new WireMockServer(wireMockConfig()
+                .dynamicPort()
+                .containerThreads(64)
+                .usingFilesUnderDirectory("wiremock"));
+        apiCliente.start();
+        apiCliente.setGlobalFixedDelay(latenciaMs);
+
+        if ("pool".equals(cliente)) {
+            HttpClientConfig config = new HttpClientConfig();
+            ReflectionTestUtils.setField(config, "connectionTimeout", TIMEOUT_MS);
+            ReflectionTestUtils.setField(config, "readTimeout", TIMEOUT_MS);
+            ReflectionTestUtils.setField(config, "maxConexoes", 200);
+            ReflectionTestUtils.setField(config, "maxConexoesPorRota", 200);
+            ReflectionTestUtils.setField(config, "tempoVidaConexao", Duration.ofMinutes(5));
+            ReflectionTestUtils.setField(config, "tempoOciosoMaximo", Duration.ofSeconds(30));
+            ReflectionTestUtils.setField(config, "validarAposInatividade", Duration.ofSeconds(2));
+            ReflectionTestUtils.setField(config, "versaoHttp", HttpVersionPolicy.FORCE_HTTP_1);
+
+            httpAsyncClient = config.httpAsyncClient(config.poolConexoesAssincronasApiCliente());
+        } else {
+            httpAsyncClient = HttpAsyncClients.createDefault();
+        }
+        httpAsyncClient.start();
+        agendador = Executors.newSingleThreadScheduledExecutor();
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        repository = new ClienteRepositoryImpl(
+                httpAsyncClient,
+                objectMapper,
+                CircuitBreakerRegistry.ofDefaults(),
+                RetryRegistry.ofDefaults(),
+                BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(100).maxWaitDuration(Duration.ZERO).build()),
+                TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(TIMEOUT_MS)).build(),
+                agendador,
+                new GeradorIdentificadorUuidV7(0),
+                (idProvisorio, cliente) -> {
+                },
+                PoliticaHedge.NENHUMA,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(repository, "apiClienteUrl", apiCliente.baseUrl() + "/api/clientes");
+        ReflectionTestUtils.setField(repository, "simulado", false);
+
+        clientes = CenarioBenchmark.clientes(CenarioBenchmark.solicitacoes());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        agendador.shutdownNow();
+        httpAsyncClient.close();
+        apiCliente.stop();
+    }
+
+    @Benchmark
+    public UUID registrarClienteAsync(Cursor cursor) {
+        return repository.registrarClienteAsync(clientes[cursor.proximo()]).join();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int posicao;
+
+        int proximo() {
+            return posicao++ & (CenarioBenchmark.TAMANHO_MASSA - 1);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.cartoes.api_cartoes.benchmark;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.repository.ClienteRepository;
+import com.cartoes.api_cartoes.infrastructure.repository.ClienteRepositoryUnicoPorCpf;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do compartilhamento de registros por CPF sob disputa, com um delegate que responde na
+ * hora para isolar a tabela de registros em andamento. Com {@code cpfs} = 1, todas as threads
+ * disputam a mesma vaga; com 1024, as vagas raramente coincidem. {@code direto} é a referência
+ * sem a camada de compartilhamento. A disputa cresce com o número de núcleos (ajustável com {@code -t}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoalescenciaClienteBenchmark {
+
+    private static final CompletableFuture<UUID> REGISTRO = CompletableFuture.completedFuture(new UUID(0L, 1L));
+
+    @Param({"1", "1024"})
+    public int cpfs;
+
+    private ClienteRepository delegate;
+    private ClienteRepositoryUnicoPorCpf repository;
+    private Cliente[] clientes;
+
+    @Setup
+    public void setUp() {
+        delegate = new ClienteRepository() {
+            @Override
+            public UUID registrarCliente(Cliente cliente) {
+                return REGISTRO.join();
+            }
+
+            @Override
+            public CompletableFuture<UUID> registrarClienteAsync(Cliente cliente) {
+                return REGISTRO;
+            }
+        };
+        repository = new ClienteRepositoryUnicoPorCpf(delegate, 4096, new SimpleMeterRegistry());
+        clientes = new Cliente[cpfs];
+        for (int i = 0; i < cpfs; i++) {
+            clientes[i] = Cliente.builder().cpf(String.format("%011d", i)).build();
+        }
+    }
+
+    @Benchmark
+    public CompletableFuture<UUID> compartilhado(Cursor cursor) {
+        return repository.registrarClienteAsync(clientes[cursor.proximo(cpfs)]);
+    }
+
+    @Benchmark
+    public CompletableFuture<UUID> direto(Cursor cursor) {
+        return delegate.registrarClienteAsync(clientes[cursor.proximo(cpfs)]);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int posicao;
+
+        int proximo(int quantidade) {
+            int atual = posicao;
+            posicao = atual + 1 == quantidade ? 0 : atual + 1;
+            return atual;
+        }
+    }
+}
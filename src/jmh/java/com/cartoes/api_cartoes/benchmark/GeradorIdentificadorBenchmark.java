@@ -0,0 +1,55 @@
+package com.cartoes.api_cartoes.benchmark;
+
+import com.cartoes.api_cartoes.domain.service.GeradorIdentificador;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorAleatorio;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração de identificadores por várias threads ao mesmo tempo: {@code aleatorio} disputa o
+ * {@code SecureRandom} compartilhado de {@link UUID#randomUUID()}; {@code uuid-v7} usa apenas
+ * estado da própria thread. A diferença cresce com o número de núcleos (ajustável com {@code -t}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeradorIdentificadorBenchmark {
+
+    @Param({"aleatorio", "uuid-v7"})
+    public String tipo;
+
+    private GeradorIdentificador gerador;
+
+    @Setup
+    public void setUp() {
+        gerador = "uuid-v7".equals(tipo) ? new GeradorIdentificadorUuidV7(0) : new GeradorIdentificadorAleatorio();
+    }
+
+    @Benchmark
+    public UUID gerar() {
+        return gerador.gerar();
+    }
+
+    @Benchmark
+    public String gerarInstanciaErro() {
+        return "/errors/" + gerador.gerar();
+    }
+}
@@ -0,0 +1,94 @@
+package com.cartoes.api_cartoes.benchmark;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import com.cartoes.api_cartoes.infrastructure.outbox.JournalOutbox;
+import com.cartoes.api_cartoes.infrastructure.outbox.OutboxClientesJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência do fallback do registro de cliente com o outbox: codificação do cliente e gravação no
+ * segmento mapeado em memória. Com {@code aguardarSincronizacao}, cada gravação espera o
+ * {@code fsync} em grupo, o custo de sobreviver também a uma queda do sistema operacional.
+ * <p>
+ * Os registros são confirmados ao fim de cada iteração, como o drenador faria, para que o outbox
+ * não atinja o tamanho máximo.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OutboxBenchmark {
+
+    @Param({"false", "true"})
+    public boolean aguardarSincronizacao;
+
+    private Path diretorio;
+    private JournalOutbox journal;
+    private OutboxClientesJournal outbox;
+    private final GeradorIdentificadorUuidV7 geradorIdentificador = new GeradorIdentificadorUuidV7(0);
+    private Cliente[] clientes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        diretorio = Files.createTempDirectory("outbox-benchmark");
+        journal = new JournalOutbox(diretorio, 64 * 1024 * 1024, 1024L * 1024 * 1024, Duration.ofMillis(10),
+                aguardarSincronizacao);
+        outbox = new OutboxClientesJournal(journal, Clock.systemUTC(), new SimpleMeterRegistry());
+        clientes = CenarioBenchmark.clientes(CenarioBenchmark.solicitacoes());
+    }
+
+    @TearDown(Level.Iteration)
+    public void confirmar() throws IOException {
+        journal.confirmar(journal.posicaoEscrita(), (int) journal.pendentes());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        FileSystemUtils.deleteRecursively(diretorio);
+    }
+
+    @Benchmark
+    public UUID registrar(Cursor cursor) {
+        UUID idProvisorio = geradorIdentificador.gerar();
+        outbox.registrar(idProvisorio, clientes[cursor.proximo()]);
+        return idProvisorio;
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int posicao;
+
+        int proximo() {
+            return posicao++ & (CenarioBenchmark.TAMANHO_MASSA - 1);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.cartoes.api_cartoes.benchmark;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.response.ProblemDetail;
+import com.cartoes.api_cartoes.application.dto.validator.ClienteValidator;
+import com.cartoes.api_cartoes.application.exception.ResolvedorProblemas;
+import com.cartoes.api_cartoes.application.factory.impl.CartaoFactoryImpl;
+import com.cartoes.api_cartoes.application.metrics.MetricasSolicitacao;
+import com.cartoes.api_cartoes.application.service.impl.CartaoApplicationServiceImpl;
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.repository.ClienteRepository;
+import com.cartoes.api_cartoes.domain.service.CalculadoraIdade;
+import com.cartoes.api_cartoes.domain.service.impl.AvaliacaoCartaoServiceImpl;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import com.cartoes.api_cartoes.infrastructure.json.ConversorSolicitacaoResponse;
+import com.cartoes.api_cartoes.infrastructure.resultado.ResultadosSolicitacoesMemoria;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.Level;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho de uma solicitação rejeitada (HTTP 422): validação, exceção, montagem do
+ * {@link ProblemDetail} e serialização. A massa alterna campos obrigatórios ausentes, idade
+ * abaixo da mínima e idade inconsistente com a data de nascimento.
+ * <p>
+ * {@link #rejeitarComPilha()} refaz o mesmo caminho com uma {@link BusinessException} comum,
+ * que captura a pilha e é registrada em ERROR, como toda rejeição era tratada antes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RejeicaoBenchmark {
+
+    private static final int MASCARA = CenarioBenchmark.TAMANHO_MASSA - 1;
+
+    private CartaoApplicationServiceImpl cartaoApplicationService;
+    private ResolvedorProblemas resolvedorProblemas;
+    private ObjectWriter escritorProblema;
+
+    private ClienteRequest[] solicitacoes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        RegrasVigentes regras = CenarioBenchmark.regras();
+        ClienteRepository clienteRepository = new ClienteRepository() {
+            @Override
+            public UUID registrarCliente(Cliente cliente) {
+                throw new IllegalStateException("Solicitações rejeitadas não chegam ao registro");
+            }
+
+            @Override
+            public CompletableFuture<UUID> registrarClienteAsync(Cliente cliente) {
+                return CompletableFuture.failedFuture(
+                        new IllegalStateException("Solicitações rejeitadas não chegam ao registro"));
+            }
+        };
+        AvaliacaoCartaoServiceImpl avaliacaoCartaoService = new AvaliacaoCartaoServiceImpl(
+                regras, new CalculadoraIdade(Clock.systemDefaultZone()));
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MetricasSolicitacao metricasSolicitacao = new MetricasSolicitacao(meterRegistry, false);
+        ResultadosSolicitacoesMemoria resultadosSolicitacoes = new ResultadosSolicitacoesMemoria(
+                new ConversorSolicitacaoResponse(objectMapper, metricasSolicitacao), objectMapper,
+                DataSize.ofMegabytes(64), Duration.ofHours(1), Ticker.systemTicker(), meterRegistry);
+        cartaoApplicationService = new CartaoApplicationServiceImpl(
+                avaliacaoCartaoService, clienteRepository, new CartaoFactoryImpl(regras),
+                new ClienteValidator(avaliacaoCartaoService), metricasSolicitacao, resultadosSolicitacoes,
+                new GeradorIdentificadorUuidV7(0));
+        resolvedorProblemas = new ResolvedorProblemas(new GeradorIdentificadorUuidV7(0), Level.DEBUG);
+        escritorProblema = objectMapper.writerFor(ProblemDetail.class);
+
+        solicitacoes = CenarioBenchmark.solicitacoes();
+        for (int i = 0; i < solicitacoes.length; i++) {
+            rejeitavel(solicitacoes[i].getCliente(), i);
+        }
+    }
+
+    @Benchmark
+    public byte[] rejeitarSolicitacao() throws JsonProcessingException {
+        try {
+            cartaoApplicationService.processarSolicitacao(solicitacoes[proximo()]);
+            throw new IllegalStateException("Solicitação deveria ter sido rejeitada");
+        } catch (BusinessException e) {
+            return escritorProblema.writeValueAsBytes(resolvedorProblemas.resolver(e).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] rejeitarComPilha() throws JsonProcessingException {
+        try {
+            cartaoApplicationService.processarSolicitacao(solicitacoes[proximo()]);
+            throw new IllegalStateException("Solicitação deveria ter sido rejeitada");
+        } catch (BusinessException e) {
+            BusinessException comPilha = new BusinessException(e.getMessage());
+            return escritorProblema.writeValueAsBytes(resolvedorProblemas.resolver(comPilha).getBody());
+        }
+    }
+
+    /**
+     * Torna a solicitação inválida, alternando entre os motivos de rejeição mais comuns.
+     */
+    private static void rejeitavel(ClienteDTO cliente, int indice) {
+        switch (indice & 3) {
+            case 0 -> cliente.setCpf(null);
+            case 1 -> cliente.setTelefoneWhatsapp(" ");
+            case 2 -> {
+                cliente.setDataNascimento(cliente.getDataNascimento().plusYears(cliente.getIdade() - 16L));
+                cliente.setIdade(16);
+            }
+            default -> cliente.setIdade(cliente.getIdade() + 1);
+        }
+    }
+
+    private int proximo() {
+        return cursor++ & MASCARA;
+    }
+}
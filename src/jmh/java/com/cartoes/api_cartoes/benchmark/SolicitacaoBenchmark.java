@@ -0,0 +1,175 @@
+package com.cartoes.api_cartoes.benchmark;
+
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.dto.validator.ClienteValidator;
+import com.cartoes.api_cartoes.application.factory.impl.CartaoFactoryImpl;
+import com.cartoes.api_cartoes.application.metrics.MetricasSolicitacao;
+import com.cartoes.api_cartoes.application.service.impl.CartaoApplicationServiceImpl;
+import com.cartoes.api_cartoes.domain.entity.Cartao;
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.repository.ClienteRepository;
+import com.cartoes.api_cartoes.domain.service.CalculadoraIdade;
+import com.cartoes.api_cartoes.domain.service.impl.AvaliacaoCartaoServiceImpl;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import com.cartoes.api_cartoes.infrastructure.json.ConversorSolicitacaoResponse;
+import com.cartoes.api_cartoes.infrastructure.resultado.ResultadosSolicitacoesMemoria;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeamento e serialização de uma solicitação: validação do DTO, conversão para resposta,
+ * (de)serialização Jackson, a escrita pelo {@link ConversorSolicitacaoResponse} e o ciclo completo
+ * bytes → {@link CartaoApplicationServiceImpl} → bytes, sem a chamada HTTP de registro do cliente.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SolicitacaoBenchmark {
+
+    private static final int MASCARA = CenarioBenchmark.TAMANHO_MASSA - 1;
+    private static final UUID ID_REGISTRO = UUID.fromString("b5d7d8e3-5c8a-4d1b-9c3e-7a8b6f5d4e2c");
+
+    private ClienteValidator clienteValidator;
+    private CartaoFactoryImpl cartaoFactory;
+    private CartaoApplicationServiceImpl cartaoApplicationService;
+    private ObjectReader leitorRequisicao;
+    private ObjectWriter escritorResposta;
+    private ConversorSolicitacaoResponse conversorResposta;
+    // Faz o papel do buffer de saída do servlet, reaproveitado entre as respostas
+    private final ByteArrayOutputStream saida = new ByteArrayOutputStream(4096);
+
+    // Custo dos timers por etapa, publicados com histograma no registro do Prometheus
+    @Param({"false", "true"})
+    private boolean metricasEtapas;
+
+    private ClienteRequest[] solicitacoes;
+    private byte[][] corposRequisicao;
+    private List<Cartao>[] cartoesElegiveis;
+    private SolicitacaoResponse[] respostas;
+    private int cursor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        RegrasVigentes regras = CenarioBenchmark.regras();
+        AvaliacaoCartaoServiceImpl avaliacaoCartaoService = new AvaliacaoCartaoServiceImpl(
+                regras, new CalculadoraIdade(Clock.systemDefaultZone()));
+
+        clienteValidator = new ClienteValidator(avaliacaoCartaoService);
+        cartaoFactory = new CartaoFactoryImpl(regras);
+        ClienteRepository clienteRepository = new ClienteRepository() {
+            @Override
+            public UUID registrarCliente(Cliente cliente) {
+                return ID_REGISTRO;
+            }
+
+            @Override
+            public CompletableFuture<UUID> registrarClienteAsync(Cliente cliente) {
+                return CompletableFuture.completedFuture(ID_REGISTRO);
+            }
+        };
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        MetricasSolicitacao metricasSolicitacao = new MetricasSolicitacao(meterRegistry, metricasEtapas);
+
+        // Mesmas configurações aplicadas pelo Spring Boot ao ObjectMapper da aplicação
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        leitorRequisicao = objectMapper.readerFor(ClienteRequest.class);
+        escritorResposta = objectMapper.writerFor(SolicitacaoResponse.class);
+        conversorResposta = new ConversorSolicitacaoResponse(objectMapper, metricasSolicitacao);
+
+        // Cada solicitação processada também é gravada no armazenamento consultado por GET /cartoes/{numero}
+        ResultadosSolicitacoesMemoria resultadosSolicitacoes = new ResultadosSolicitacoesMemoria(
+                conversorResposta, objectMapper, DataSize.ofMegabytes(64), Duration.ofHours(1), Ticker.systemTicker(),
+                meterRegistry);
+        cartaoApplicationService = new CartaoApplicationServiceImpl(avaliacaoCartaoService, clienteRepository,
+                cartaoFactory, clienteValidator, metricasSolicitacao, resultadosSolicitacoes,
+                new GeradorIdentificadorUuidV7(0));
+
+        solicitacoes = CenarioBenchmark.solicitacoes();
+        Cliente[] clientes = CenarioBenchmark.clientes(solicitacoes);
+        corposRequisicao = new byte[solicitacoes.length][];
+        cartoesElegiveis = new List[solicitacoes.length];
+        respostas = new SolicitacaoResponse[solicitacoes.length];
+
+        for (int i = 0; i < solicitacoes.length; i++) {
+            corposRequisicao[i] = objectMapper.writeValueAsBytes(solicitacoes[i]);
+            cartoesElegiveis[i] = avaliacaoCartaoService.avaliarCartoesDisponiveis(clientes[i]);
+            respostas[i] = cartaoApplicationService.processarSolicitacao(solicitacoes[i]);
+        }
+    }
+
+    @Benchmark
+    public ClienteRequest validarRequisicao() {
+        ClienteRequest solicitacao = solicitacoes[proximo()];
+        clienteValidator.validar(solicitacao);
+        return solicitacao;
+    }
+
+    @Benchmark
+    public List<CartaoResponse> mapearCartoes() {
+        return cartaoFactory.toCartaoResponseList(cartoesElegiveis[proximo()]);
+    }
+
+    @Benchmark
+    public ClienteRequest desserializarRequisicao() throws IOException {
+        return leitorRequisicao.readValue(corposRequisicao[proximo()]);
+    }
+
+    @Benchmark
+    public byte[] serializarResposta() throws IOException {
+        return escritorResposta.writeValueAsBytes(respostas[proximo()]);
+    }
+
+    @Benchmark
+    public int serializarRespostaConversor() throws IOException {
+        return escreverResposta(respostas[proximo()]);
+    }
+
+    @Benchmark
+    public int processarSolicitacaoCompleta() throws IOException {
+        ClienteRequest solicitacao = leitorRequisicao.readValue(corposRequisicao[proximo()]);
+        return escreverResposta(cartaoApplicationService.processarSolicitacao(solicitacao));
+    }
+
+    private int escreverResposta(SolicitacaoResponse resposta) throws IOException {
+        saida.reset();
+        conversorResposta.escrever(resposta, saida);
+        return saida.size();
+    }
+
+    private int proximo() {
+        return cursor++ & MASCARA;
+    }
+}
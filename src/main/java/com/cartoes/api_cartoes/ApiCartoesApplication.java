@@ -1,13 +1,19 @@
 package com.cartoes.api_cartoes;
 
+import com.cartoes.api_cartoes.infrastructure.config.AvaliacaoArquivoConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.retry.annotation.EnableRetry;
 
 @EnableRetry
 @SpringBootApplication
 public class ApiCartoesApplication {
     public static void main(String[] args) {
-        SpringApplication.run(ApiCartoesApplication.class, args);
+        ConfigurableApplicationContext contexto = SpringApplication.run(ApiCartoesApplication.class, args);
+        // A avaliação de arquivo termina com o runner; encerra sem esperar threads de segundo plano
+        if (contexto.getEnvironment().matchesProfiles(AvaliacaoArquivoConfig.PERFIL)) {
+            System.exit(SpringApplication.exit(contexto));
+        }
     }
 }
@@ -0,0 +1,30 @@
+package com.cartoes.api_cartoes.application.dto.request;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Solicitação aceita para processamento assíncrono. Mensagens publicadas diretamente no tópico
+ * por outros sistemas podem ter apenas {@code cliente}, no formato de {@link ClienteRequest};
+ * o número e a data são atribuídos no consumo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SolicitacaoPendente {
+
+    @JsonProperty("numero_solicitacao")
+    private String numeroSolicitacao;
+
+    @JsonProperty("data_solicitacao")
+    private LocalDateTime dataSolicitacao;
+
+    private ClienteDTO cliente;
+}
@@ -0,0 +1,31 @@
+package com.cartoes.api_cartoes.application.dto.response;
+
+import com.cartoes.api_cartoes.domain.exception.Violacao;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado da avaliação de um cliente sem registro na API de cliente, usado na avaliação de
+ * arquivos. Traz os cartões ofertados ou, se a solicitação for rejeitada, as violações encontradas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvaliacaoResponse {
+    private String cpf;
+
+    private String estrategia;
+
+    @JsonProperty("cartoes_ofertados")
+    private List<CartaoResponse> cartoesOfertados;
+
+    private List<Violacao> erros;
+}
@@ -3,26 +3,24 @@ package com.cartoes.api_cartoes.application.dto.response;
 import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
 import com.cartoes.api_cartoes.domain.enums.TipoCartao;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 
-@Data
+@Value
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
+@Jacksonized
 public class CartaoResponse {
     @JsonProperty("tipo_cartao")
-    private TipoCartao tipoCartao;
+    TipoCartao tipoCartao;
 
     @JsonProperty("valor_anuidade_mensal")
-    private BigDecimal valorAnuidadeMensal;
+    BigDecimal valorAnuidadeMensal;
 
     @JsonProperty("valor_limite_disponivel")
-    private BigDecimal valorLimiteDisponivel;
+    BigDecimal valorLimiteDisponivel;
 
-    private CartaoStatus status;
+    CartaoStatus status;
 }
@@ -0,0 +1,25 @@
+package com.cartoes.api_cartoes.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Linha de resposta do processamento em lote.
+ * <p>
+ * O {@code indice} corresponde à posição do cliente no corpo da requisição, já que os
+ * resultados são emitidos na ordem em que ficam prontos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoLoteResponse {
+    private int indice;
+    private int status;
+    private SolicitacaoResponse solicitacao;
+    private ProblemDetail erro;
+}
@@ -19,6 +19,9 @@ public class SolicitacaoResponse {
     @JsonProperty("numero_solicitacao")
     private String numeroSolicitacao;
 
+    @JsonProperty("id_cliente")
+    private String idCliente;
+
     @JsonProperty("data_solicitacao")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
     private LocalDateTime dataSolicitacao;
@@ -2,60 +2,109 @@ package com.cartoes.api_cartoes.application.dto.validator;
 
 import com.cartoes.api_cartoes.application.dto.ClienteDTO;
 import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
-import com.cartoes.api_cartoes.domain.exception.BusinessException;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
+import com.cartoes.api_cartoes.domain.exception.CodigoRejeicao;
+import com.cartoes.api_cartoes.domain.exception.SolicitacaoRejeitadaException;
+import com.cartoes.api_cartoes.domain.exception.Violacao;
+import com.cartoes.api_cartoes.domain.service.AvaliacaoCartaoService;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validação única da solicitação: campos obrigatórios, idade mínima e consistência da idade, em
+ * uma só passagem que reúne todas as violações. Uma solicitação válida não aloca objetos.
+ */
 @Component
 public class ClienteValidator {
 
-    private final Validator validator;
+    private final AvaliacaoCartaoService avaliacaoCartaoService;
 
-    public ClienteValidator() {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        this.validator = factory.getValidator();
+    public ClienteValidator(AvaliacaoCartaoService avaliacaoCartaoService) {
+        this.avaliacaoCartaoService = avaliacaoCartaoService;
     }
 
+    /**
+     * @throws SolicitacaoRejeitadaException com todas as violações encontradas
+     */
     public void validar(ClienteRequest clienteRequest) {
+        validar(avaliacaoCartaoService.regrasVigentes(), clienteRequest);
+    }
+
+    /**
+     * @param regras Snapshot lido no início da solicitação, do qual vem a idade mínima
+     * @throws SolicitacaoRejeitadaException com todas as violações encontradas
+     */
+    public void validar(RegrasSnapshot regras, ClienteRequest clienteRequest) {
+        List<Violacao> violacoes = verificar(regras, clienteRequest);
+        if (violacoes != null) {
+            throw new SolicitacaoRejeitadaException(violacoes);
+        }
+    }
+
+    /**
+     * @return Violações na ordem dos campos da requisição, ou {@code null} se a solicitação for válida
+     */
+    public List<Violacao> verificar(ClienteRequest clienteRequest) {
+        return verificar(avaliacaoCartaoService.regrasVigentes(), clienteRequest);
+    }
+
+    /**
+     * @param regras Snapshot lido no início da solicitação, do qual vem a idade mínima
+     * @return Violações na ordem dos campos da requisição, ou {@code null} se a solicitação for válida
+     */
+    public List<Violacao> verificar(RegrasSnapshot regras, ClienteRequest clienteRequest) {
         if (clienteRequest == null || clienteRequest.getCliente() == null) {
-            throw new BusinessException("Dados do cliente não podem ser nulos");
+            return List.of(CodigoRejeicao.DADOS_CLIENTE_AUSENTES.violacao());
         }
 
         ClienteDTO dto = clienteRequest.getCliente();
+        List<Violacao> violacoes = null;
 
         // Validar campos obrigatórios
-        if (dto.getNome() == null || dto.getNome().isBlank()) {
-            throw new BusinessException("Nome do cliente é obrigatório");
+        if (vazio(dto.getNome())) {
+            violacoes = adicionar(violacoes, CodigoRejeicao.NOME_OBRIGATORIO.violacao());
         }
-
-        if (dto.getCpf() == null || dto.getCpf().isBlank()) {
-            throw new BusinessException("CPF do cliente é obrigatório");
+        if (vazio(dto.getCpf())) {
+            violacoes = adicionar(violacoes, CodigoRejeicao.CPF_OBRIGATORIO.violacao());
         }
-
         if (dto.getIdade() == null) {
-            throw new BusinessException("Idade do cliente é obrigatória");
+            violacoes = adicionar(violacoes, CodigoRejeicao.IDADE_OBRIGATORIA.violacao());
         }
-
         if (dto.getDataNascimento() == null) {
-            throw new BusinessException("Data de nascimento é obrigatória");
+            violacoes = adicionar(violacoes, CodigoRejeicao.DATA_NASCIMENTO_OBRIGATORIA.violacao());
         }
-
-        if (dto.getUf() == null || dto.getUf().isBlank()) {
-            throw new BusinessException("UF do cliente é obrigatória");
+        if (vazio(dto.getUf())) {
+            violacoes = adicionar(violacoes, CodigoRejeicao.UF_OBRIGATORIA.violacao());
         }
-
         if (dto.getRendaMensal() == null) {
-            throw new BusinessException("Renda mensal do cliente é obrigatória");
+            violacoes = adicionar(violacoes, CodigoRejeicao.RENDA_OBRIGATORIA.violacao());
         }
-
-        if (dto.getEmail() == null || dto.getEmail().isBlank()) {
-            throw new BusinessException("Email do cliente é obrigatório");
+        if (vazio(dto.getEmail())) {
+            violacoes = adicionar(violacoes, CodigoRejeicao.EMAIL_OBRIGATORIO.violacao());
+        }
+        if (vazio(dto.getTelefoneWhatsapp())) {
+            violacoes = adicionar(violacoes, CodigoRejeicao.TELEFONE_OBRIGATORIO.violacao());
         }
 
-        if (dto.getTelefoneWhatsapp() == null || dto.getTelefoneWhatsapp().isBlank()) {
-            throw new BusinessException("Telefone/WhatsApp do cliente é obrigatório");
+        // Validar idade mínima e consistência com a data de nascimento, quando ambas foram informadas
+        if (dto.getIdade() != null && dto.getDataNascimento() != null) {
+            Violacao idade = avaliacaoCartaoService.verificarIdade(regras, dto.getIdade(), dto.getDataNascimento());
+            if (idade != null) {
+                violacoes = adicionar(violacoes, idade);
+            }
         }
+        return violacoes;
+    }
+
+    private static boolean vazio(String valor) {
+        return valor == null || valor.isBlank();
+    }
+
+    private static List<Violacao> adicionar(List<Violacao> violacoes, Violacao violacao) {
+        List<Violacao> resultado = violacoes != null ? violacoes : new ArrayList<>(4);
+        resultado.add(violacao);
+        return resultado;
     }
-}
\ No newline at end of file
+}
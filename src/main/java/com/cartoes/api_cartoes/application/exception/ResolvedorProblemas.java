@@ -0,0 +1,189 @@
+package com.cartoes.api_cartoes.application.exception;
+
+import com.cartoes.api_cartoes.application.dto.response.ProblemDetail;
+import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.exception.CodigoRejeicao;
+import com.cartoes.api_cartoes.domain.exception.ResourceNotFoundException;
+import com.cartoes.api_cartoes.domain.exception.ServicoIndisponivelException;
+import com.cartoes.api_cartoes.domain.exception.SolicitacaoRejeitadaException;
+import com.cartoes.api_cartoes.domain.exception.Violacao;
+import com.cartoes.api_cartoes.domain.service.GeradorIdentificador;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converte exceções em respostas {@link ProblemDetail}. Usado pelo {@link ApiExceptionHandler} nas requisições
+ * do Spring MVC e pelos serviços que tratam falhas fora dele, como os itens de um lote e as solicitações da fila,
+ * para que todos respondam com o mesmo corpo de erro.
+ */
+@Slf4j
+@Component
+public class ResolvedorProblemas {
+
+    private static final String APP_NAME = "cartoes-api";
+    private static final String BASE_ERROR_TYPE = "https://api.cartoes.com/problems";
+    private static final String PREFIXO_INSTANCIA = "/errors/";
+
+    private static final ModeloProblema ERRO_INTERNO = new ModeloProblema(HttpStatus.INTERNAL_SERVER_ERROR,
+            "/internal-server-error", "Erro Interno do Servidor", "tipoErro", "SERVICO_INDISPONIVEL",
+            "mensagemInterna", "Tivemos um problema, mas fique tranquilo que nosso time já foi avisado.");
+    private static final ModeloProblema REGRA_NEGOCIO = new ModeloProblema(HttpStatus.UNPROCESSABLE_ENTITY,
+            "/business-rule-violation", "Violação de Regra de Negócio", "tipoErro", "REGRA_NEGOCIO", "codigo", "422");
+    private static final ModeloProblema VALIDACAO = new ModeloProblema(HttpStatus.BAD_REQUEST,
+            "/validation-error", "Erro de Validação", "tipoErro", "VALIDACAO", "codigo", "400");
+    private static final ModeloProblema INDISPONIVEL = new ModeloProblema(HttpStatus.SERVICE_UNAVAILABLE,
+            "/service-unavailable", "Serviço Temporariamente Indisponível", "tipoErro", "CAPACIDADE_ESGOTADA", "codigo", "503");
+    private static final ModeloProblema NAO_ENCONTRADO = new ModeloProblema(HttpStatus.NOT_FOUND,
+            "/resource-not-found", "Recurso Não Encontrado", "tipoErro", "RECURSO_NAO_ENCONTRADO", "codigo", "404");
+
+    // Um modelo por motivo de rejeição, já com o motivo e a violação padrão dele nas extensões
+    private static final Map<CodigoRejeicao, ModeloProblema> REJEICOES = new EnumMap<>(CodigoRejeicao.class);
+
+    static {
+        for (CodigoRejeicao codigo : CodigoRejeicao.values()) {
+            REJEICOES.put(codigo, new ModeloProblema(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "/business-rule-violation", "Violação de Regra de Negócio",
+                    "tipoErro", "REGRA_NEGOCIO", "codigo", "422", "motivo", codigo.name(),
+                    "erros", List.of(codigo.violacao())));
+        }
+    }
+
+    private final GeradorIdentificador geradorIdentificador;
+    private final Level nivelLogRejeicao;
+
+    public ResolvedorProblemas(GeradorIdentificador geradorIdentificador,
+                               @Value("${aplicacao.erros.rejeicao.nivel-log:DEBUG}") Level nivelLogRejeicao) {
+        this.geradorIdentificador = geradorIdentificador;
+        this.nivelLogRejeicao = nivelLogRejeicao;
+    }
+
+    public ResponseEntity<ProblemDetail> resolver(Exception ex) {
+        if (ex instanceof SolicitacaoRejeitadaException rejeicao) {
+            return rejeicao(rejeicao);
+        }
+        if (ex instanceof BusinessException businessException) {
+            return regraNegocio(businessException);
+        }
+        if (ex instanceof ServicoIndisponivelException servicoIndisponivelException) {
+            return servicoIndisponivel(servicoIndisponivelException);
+        }
+        if (ex instanceof ResourceNotFoundException resourceNotFoundException) {
+            return naoEncontrado(resourceNotFoundException);
+        }
+        if (ex instanceof HttpMessageNotReadableException notReadableException) {
+            return requisicaoIlegivel(notReadableException);
+        }
+        return erroInesperado(ex);
+    }
+
+    private ResponseEntity<ProblemDetail> erroInesperado(Exception ex) {
+        log.error("Erro não esperado: ", ex);
+        return responder(ERRO_INTERNO, "Um erro inesperado ocorreu.");
+    }
+
+    /**
+     * Rejeições esperadas não têm pilha de chamadas e são registradas apenas com o motivo, no nível
+     * de {@code aplicacao.erros.rejeicao.nivel-log}. Todas as violações vão em {@code extensions.erros};
+     * o modelo do motivo é usado sem cópia quando há uma única violação com a mensagem padrão.
+     */
+    private ResponseEntity<ProblemDetail> rejeicao(SolicitacaoRejeitadaException ex) {
+        log.atLevel(nivelLogRejeicao).log("Solicitação rejeitada [{}]: {}", ex.getCodigo(), ex.getMessage());
+
+        ModeloProblema modelo = REJEICOES.get(ex.getCodigo());
+        List<Violacao> violacoes = ex.getViolacoes();
+        if (violacoes.size() == 1 && violacoes.get(0) == ex.getCodigo().violacao()) {
+            return responder(modelo, ex.getMessage());
+        }
+
+        Map<String, Object> extensions = new LinkedHashMap<>(modelo.extensions());
+        extensions.put("erros", violacoes);
+        return responder(modelo, ex.getMessage(), Collections.unmodifiableMap(extensions));
+    }
+
+    private ResponseEntity<ProblemDetail> regraNegocio(BusinessException ex) {
+        log.error("Erro de negócio: ", ex);
+        return responder(REGRA_NEGOCIO, ex.getMessage());
+    }
+
+    private ResponseEntity<ProblemDetail> requisicaoIlegivel(HttpMessageNotReadableException ex) {
+        log.error("Erro de leitura da requisição: ", ex);
+        return responder(VALIDACAO, "Corpo da requisição inválido: " + ex.getMessage());
+    }
+
+    /**
+     * Falta de capacidade momentânea: sem pilha no log, que sob sobrecarga receberia uma linha por
+     * requisição recusada, e com {@code Retry-After} em segundos inteiros.
+     */
+    private ResponseEntity<ProblemDetail> servicoIndisponivel(ServicoIndisponivelException ex) {
+        log.debug("Serviço indisponível: {}", ex.getMessage());
+
+        ResponseEntity<ProblemDetail> resposta = responder(INDISPONIVEL, ex.getMessage());
+        if (ex.getTentarNovamenteEm() == null) {
+            return resposta;
+        }
+        long segundos = Math.max(1L, (ex.getTentarNovamenteEm().toMillis() + 999) / 1000);
+        return ResponseEntity.status(resposta.getStatusCode())
+                .headers(resposta.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(segundos))
+                .body(resposta.getBody());
+    }
+
+    private ResponseEntity<ProblemDetail> naoEncontrado(ResourceNotFoundException ex) {
+        // Consultas a solicitações expiradas são esperadas e não merecem a pilha de chamadas
+        log.debug("Recurso não encontrado: {}", ex.getMessage());
+        return responder(NAO_ENCONTRADO, ex.getMessage());
+    }
+
+    private ResponseEntity<ProblemDetail> responder(ModeloProblema modelo, String detail) {
+        return responder(modelo, detail, modelo.extensions());
+    }
+
+    private ResponseEntity<ProblemDetail> responder(ModeloProblema modelo, String detail, Map<String, Object> extensions) {
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(modelo.type())
+                .title(modelo.title())
+                .status(modelo.status().value())
+                .detail(detail)
+                .instance(PREFIXO_INSTANCIA + geradorIdentificador.gerar())
+                .extensions(extensions)
+                .build();
+
+        return ResponseEntity
+                .status(modelo.status())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(problem);
+    }
+
+    /**
+     * Partes fixas de um tipo de problema, montadas uma única vez. As extensões são imutáveis
+     * e compartilhadas por todas as respostas do tipo, mantendo a ordem de declaração.
+     */
+    private record ModeloProblema(HttpStatus status, String type, String title, Map<String, Object> extensions) {
+
+        ModeloProblema(HttpStatus status, String caminho, String title, Object... extensoes) {
+            this(status, BASE_ERROR_TYPE + caminho, title, extensoes(extensoes));
+        }
+
+        private static Map<String, Object> extensoes(Object... chavesValores) {
+            Map<String, Object> extensions = new LinkedHashMap<>();
+            extensions.put("app", APP_NAME);
+            for (int i = 0; i < chavesValores.length; i += 2) {
+                extensions.put((String) chavesValores[i], chavesValores[i + 1]);
+            }
+            return Collections.unmodifiableMap(extensions);
+        }
+    }
+}
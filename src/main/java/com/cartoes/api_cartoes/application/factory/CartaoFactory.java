@@ -2,6 +2,7 @@ package com.cartoes.api_cartoes.application.factory;
 
 import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
 import com.cartoes.api_cartoes.domain.entity.Cartao;
+import com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes;
 
 import java.util.List;
 
@@ -15,4 +16,10 @@ public interface CartaoFactory {
      * Converte uma lista de entidades de domínio Cartao para uma lista de DTOs CartaoResponse
      */
     List<CartaoResponse> toCartaoResponseList(List<Cartao> cartoes);
+
+    /**
+     * Converte os cartões ofertados pelo catálogo do snapshot lido no início da solicitação,
+     * sem consultar novamente as regras em vigor
+     */
+    List<CartaoResponse> toCartaoResponseList(CatalogoCartoes catalogo, List<Cartao> cartoes);
 }
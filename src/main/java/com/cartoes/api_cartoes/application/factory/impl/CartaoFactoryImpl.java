@@ -3,16 +3,71 @@ package com.cartoes.api_cartoes.application.factory.impl;
 import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
 import com.cartoes.api_cartoes.application.factory.CartaoFactory;
 import com.cartoes.api_cartoes.domain.entity.Cartao;
+import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
 public class CartaoFactoryImpl implements CartaoFactory {
 
+    private final RegrasVigentes regrasVigentes;
+
+    // Respostas pré-construídas para as ofertas do catálogo em vigor, refeitas quando as regras são recarregadas
+    private volatile RespostasCatalogo respostasCatalogo;
+
+    public CartaoFactoryImpl(RegrasVigentes regrasVigentes) {
+        this.regrasVigentes = regrasVigentes;
+        this.respostasCatalogo = new RespostasCatalogo(regrasVigentes.atual().catalogo());
+    }
+
     @Override
     public CartaoResponse toCartaoResponse(Cartao cartao) {
+        RespostasCatalogo atual = respostasCatalogo(regrasVigentes.atual().catalogo());
+        if (cartao.getTipoCartao() != null && cartao == atual.catalogo().cartao(cartao.getTipoCartao())) {
+            return atual.respostas().get(cartao.getTipoCartao());
+        }
+        return criarCartaoResponse(cartao);
+    }
+
+    @Override
+    public List<CartaoResponse> toCartaoResponseList(List<Cartao> cartoes) {
+        return toCartaoResponseList(regrasVigentes.atual().catalogo(), cartoes);
+    }
+
+    @Override
+    public List<CartaoResponse> toCartaoResponseList(CatalogoCartoes catalogo, List<Cartao> cartoes) {
+        RespostasCatalogo atual = respostasCatalogo(catalogo);
+        int mascara = CatalogoCartoes.mascara(cartoes);
+        if (cartoes == atual.catalogo().ofertas(mascara)) {
+            return atual.respostasPorOferta().get(mascara);
+        }
+
+        return cartoes.stream()
+                .map(this::toCartaoResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Respostas do catálogo informado, refeitas quando ele muda. Cartões de outro catálogo não
+     * coincidem por identidade e são convertidos individualmente.
+     */
+    private RespostasCatalogo respostasCatalogo(CatalogoCartoes catalogo) {
+        RespostasCatalogo atual = respostasCatalogo;
+        if (atual.catalogo() != catalogo) {
+            atual = new RespostasCatalogo(catalogo);
+            respostasCatalogo = atual;
+        }
+        return atual;
+    }
+
+    private static CartaoResponse criarCartaoResponse(Cartao cartao) {
         return CartaoResponse.builder()
                 .tipoCartao(cartao.getTipoCartao())
                 .valorAnuidadeMensal(cartao.getValorAnuidadeMensal())
@@ -21,10 +76,35 @@ public class CartaoFactoryImpl implements CartaoFactory {
                 .build();
     }
 
-    @Override
-    public List<CartaoResponse> toCartaoResponseList(List<Cartao> cartoes) {
-        return cartoes.stream()
-                .map(this::toCartaoResponse)
-                .collect(Collectors.toList());
+    private record RespostasCatalogo(CatalogoCartoes catalogo,
+                                     Map<TipoCartao, CartaoResponse> respostas,
+                                     List<List<CartaoResponse>> respostasPorOferta) {
+
+        RespostasCatalogo(CatalogoCartoes catalogo) {
+            this(catalogo, criarRespostas(catalogo));
+        }
+
+        private RespostasCatalogo(CatalogoCartoes catalogo, Map<TipoCartao, CartaoResponse> respostas) {
+            this(catalogo, respostas, criarRespostasPorOferta(catalogo, respostas));
+        }
+
+        private static Map<TipoCartao, CartaoResponse> criarRespostas(CatalogoCartoes catalogo) {
+            Map<TipoCartao, CartaoResponse> respostas = new EnumMap<>(TipoCartao.class);
+            for (TipoCartao tipo : TipoCartao.values()) {
+                respostas.put(tipo, criarCartaoResponse(catalogo.cartao(tipo)));
+            }
+            return respostas;
+        }
+
+        private static List<List<CartaoResponse>> criarRespostasPorOferta(CatalogoCartoes catalogo,
+                                                                          Map<TipoCartao, CartaoResponse> respostas) {
+            List<List<CartaoResponse>> combinacoes = new ArrayList<>();
+            for (int mascara = 0; mascara < 1 << TipoCartao.values().length; mascara++) {
+                combinacoes.add(catalogo.ofertas(mascara).stream()
+                        .map(cartao -> respostas.get(cartao.getTipoCartao()))
+                        .toList());
+            }
+            return List.copyOf(combinacoes);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.cartoes.api_cartoes.application.fila;
+
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.domain.exception.ServicoIndisponivelException;
+
+public interface FilaSolicitacoes {
+    /**
+     * Entrega a solicitação aos consumidores. Ao retornar, a solicitação foi aceita pela fila e
+     * será processada, com retentativas em caso de falha temporária.
+     *
+     * @param solicitacao Solicitação já validada, com número e data atribuídos
+     * @throws ServicoIndisponivelException se a fila estiver cheia ou não confirmar a publicação a tempo
+     */
+    void publicar(SolicitacaoPendente solicitacao);
+}
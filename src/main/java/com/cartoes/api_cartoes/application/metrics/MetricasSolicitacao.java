@@ -0,0 +1,205 @@
+package com.cartoes.api_cartoes.application.metrics;
+
+import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempos das etapas do processamento de uma solicitação de cartão, publicados como timers com
+ * histograma de percentis:
+ * <ul>
+ *     <li>{@code cartoes.solicitacao}: tempo total;</li>
+ *     <li>{@code cartoes.solicitacao.etapa}: tempo de cada etapa (tag {@code etapa});</li>
+ *     <li>{@code cartoes.solicitacao.serializacao}: escrita do JSON da resposta.</li>
+ * </ul>
+ * Os dois primeiros têm as tags {@code estrategia}, {@code resultado} e {@code circuito}.
+ * <p>
+ * Os timers de cada combinação de tags são criados uma única vez. Quando desabilitadas, as
+ * medições não leem o relógio nem registram valores.
+ */
+@Component
+public class MetricasSolicitacao {
+
+    public static final String METRICA_TOTAL = "cartoes.solicitacao";
+    public static final String METRICA_ETAPA = "cartoes.solicitacao.etapa";
+    public static final String METRICA_SERIALIZACAO = "cartoes.solicitacao.serializacao";
+
+    static final String SEM_ESTRATEGIA = "nenhuma";
+
+    private static final Etapa[] ETAPAS = Etapa.values();
+    private static final Duration MINIMO_ESPERADO = Duration.ofNanos(10_000);
+    private static final Duration MAXIMO_ESPERADO = Duration.ofSeconds(10);
+
+    private static final Medicao DESABILITADA = new Medicao(null);
+
+    /**
+     * Etapas de {@code processarSolicitacao}. O registro na API de cliente corre em paralelo à
+     * avaliação; {@link #ESPERA_REGISTRO} é o tempo em que a requisição ficou bloqueada por ele.
+     */
+    public enum Etapa {
+        VALIDACAO,
+        REGISTRO,
+        AVALIACAO,
+        ESPERA_REGISTRO,
+        RESPOSTA;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final boolean habilitado;
+    private final Map<Chave, Timer[]> timers = new ConcurrentHashMap<>();
+    private final Timer serializacao;
+
+    public MetricasSolicitacao(MeterRegistry meterRegistry,
+                               @Value("${aplicacao.metricas.etapas.habilitado:true}") boolean habilitado) {
+        this.meterRegistry = meterRegistry;
+        this.habilitado = habilitado;
+        this.serializacao = habilitado ? timer(METRICA_SERIALIZACAO, "Escrita do JSON da resposta da solicitação")
+                .register(meterRegistry) : null;
+    }
+
+    /**
+     * Inicia a medição de uma solicitação.
+     */
+    public Medicao iniciar() {
+        return habilitado ? new Medicao(this) : DESABILITADA;
+    }
+
+    /**
+     * Marca o início de uma operação medida fora de {@link Medicao}.
+     *
+     * @return Instante atual em nanossegundos, ou 0 quando desabilitado
+     */
+    public long agora() {
+        return habilitado ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Registra a duração da serialização de uma resposta iniciada em {@link #agora()}.
+     */
+    public void registrarSerializacao(long inicio) {
+        if (habilitado) {
+            serializacao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void registrar(Medicao medicao, String circuito, Throwable erro) {
+        String resultado = erro == null ? "sucesso" : erro instanceof BusinessException ? "rejeitada" : "erro";
+        Chave chave = new Chave(medicao.estrategia, resultado, circuito != null ? circuito : "desconhecido");
+        Timer[] porEtapa = timers.computeIfAbsent(chave, this::criarTimers);
+
+        for (Etapa etapa : ETAPAS) {
+            long duracao = medicao.duracoes[etapa.ordinal()];
+            if (duracao >= 0) {
+                porEtapa[etapa.ordinal()].record(duracao, TimeUnit.NANOSECONDS);
+            }
+        }
+        porEtapa[ETAPAS.length].record(System.nanoTime() - medicao.inicio, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] criarTimers(Chave chave) {
+        Timer[] porEtapa = new Timer[ETAPAS.length + 1];
+        for (Etapa etapa : ETAPAS) {
+            porEtapa[etapa.ordinal()] = timer(METRICA_ETAPA, "Duração de cada etapa do processamento da solicitação")
+                    .tag("etapa", etapa.tag)
+                    .tags("estrategia", chave.estrategia(), "resultado", chave.resultado(), "circuito", chave.circuito())
+                    .register(meterRegistry);
+        }
+        porEtapa[ETAPAS.length] = timer(METRICA_TOTAL, "Duração total do processamento da solicitação")
+                .tags("estrategia", chave.estrategia(), "resultado", chave.resultado(), "circuito", chave.circuito())
+                .register(meterRegistry);
+        return porEtapa;
+    }
+
+    private static Timer.Builder timer(String nome, String descricao) {
+        return Timer.builder(nome)
+                .description(descricao)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMO_ESPERADO)
+                .maximumExpectedValue(MAXIMO_ESPERADO);
+    }
+
+    private record Chave(String estrategia, String resultado, String circuito) {
+    }
+
+    /**
+     * Medição de uma única solicitação, usada apenas pela thread que a processa.
+     */
+    public static final class Medicao {
+
+        private final MetricasSolicitacao metricas;
+        private final long inicio;
+        private final long[] duracoes;
+        private long marca;
+        private String estrategia = SEM_ESTRATEGIA;
+
+        private Medicao(MetricasSolicitacao metricas) {
+            this.metricas = metricas;
+            if (metricas == null) {
+                this.inicio = 0L;
+                this.duracoes = null;
+                return;
+            }
+            this.inicio = System.nanoTime();
+            this.marca = inicio;
+            this.duracoes = new long[ETAPAS.length];
+            Arrays.fill(duracoes, -1L);
+        }
+
+        /**
+         * Registra a duração da etapa, contada desde o fim da etapa anterior.
+         */
+        public void concluirEtapa(Etapa etapa) {
+            if (metricas == null) {
+                return;
+            }
+            long agora = System.nanoTime();
+            duracoes[etapa.ordinal()] = agora - marca;
+            marca = agora;
+        }
+
+        /**
+         * Mede o registro iniciado ao fim da etapa anterior até a sua conclusão.
+         *
+         * @return Futuro a ser aguardado no lugar do original, concluído após o registro da duração
+         */
+        public <T> CompletableFuture<T> medirRegistro(CompletableFuture<T> registro) {
+            if (metricas == null) {
+                return registro;
+            }
+            long inicioRegistro = marca;
+            marca = System.nanoTime();
+            return registro.whenComplete((resultado, erro) ->
+                    duracoes[Etapa.REGISTRO.ordinal()] = System.nanoTime() - inicioRegistro);
+        }
+
+        public void estrategia(String estrategia) {
+            if (metricas != null && estrategia != null) {
+                this.estrategia = estrategia;
+            }
+        }
+
+        /**
+         * Publica as etapas concluídas e o tempo total.
+         *
+         * @param circuito Estado do circuit breaker da API de cliente
+         * @param erro     Erro que interrompeu o processamento, ou {@code null}
+         */
+        public void finalizar(String circuito, Throwable erro) {
+            if (metricas != null) {
+                metricas.registrar(this, circuito, erro);
+            }
+        }
+    }
+}
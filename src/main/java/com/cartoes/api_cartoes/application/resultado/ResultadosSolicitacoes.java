@@ -0,0 +1,51 @@
+package com.cartoes.api_cartoes.application.resultado;
+
+import com.cartoes.api_cartoes.application.dto.response.ProblemDetail;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+
+import java.util.Optional;
+
+/**
+ * Resultados consultados por {@code GET /cartoes/{numeroSolicitacao}}. As respostas são guardadas sem os
+ * dados do cliente, pois a consulta não exige autenticação.
+ */
+public interface ResultadosSolicitacoes {
+    /**
+     * Guarda uma solicitação aceita pela fila e ainda não processada, consultada com status 202
+     *
+     * @param resposta Resposta do recebimento, com número e data atribuídos
+     */
+    void armazenarPendente(SolicitacaoResponse resposta);
+
+    /**
+     * Guarda o resultado de uma solicitação processada, substituindo a pendência, se houver
+     *
+     * @param resposta Resposta com os cartões ofertados
+     */
+    void armazenar(SolicitacaoResponse resposta);
+
+    /**
+     * Guarda o erro que encerrou uma solicitação assíncrona, consultado com o status do problema
+     *
+     * @param numeroSolicitacao Número atribuído no recebimento
+     * @param problema Corpo de erro, como respondido pelo {@code POST /cartoes}
+     */
+    void armazenarFalha(String numeroSolicitacao, ProblemDetail problema);
+
+    void remover(String numeroSolicitacao);
+
+    /**
+     * @param numeroSolicitacao Número informado na resposta da solicitação
+     * @return Resultado codificado; vazio se a solicitação não existe ou já expirou
+     */
+    Optional<Resultado> buscar(String numeroSolicitacao);
+
+    /**
+     * Resultado já serializado: apenas o status e os bytes do JSON são mantidos em memória.
+     *
+     * @param status Status HTTP da consulta
+     * @param corpo JSON em UTF-8, um {@link ProblemDetail} quando {@code status >= 400}
+     */
+    record Resultado(int status, byte[] corpo) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.cartoes.api_cartoes.application.service;
 
 import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.dto.response.AvaliacaoResponse;
 import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
 
 public interface CartaoApplicationService {
@@ -11,4 +13,22 @@ public interface CartaoApplicationService {
      * @return Resposta com os cartões ofertados ou vazio se não houver cartões disponíveis
      */
     SolicitacaoResponse processarSolicitacao(ClienteRequest clienteRequest);
+
+    /**
+     * Processa uma solicitação aceita anteriormente, mantendo o número e a data atribuídos no
+     * recebimento em vez do ID de registro do cliente
+     *
+     * @param solicitacao Solicitação retirada da fila, com número e data preenchidos
+     * @return Resposta com os cartões ofertados ou vazio se não houver cartões disponíveis
+     */
+    SolicitacaoResponse processarPendente(SolicitacaoPendente solicitacao);
+
+    /**
+     * Avalia a solicitação com as mesmas regras de {@link #processarSolicitacao}, sem registrar o
+     * cliente na API externa, armazenar o resultado ou lançar exceção por rejeição
+     *
+     * @param clienteRequest Dados do cliente solicitante
+     * @return Cartões ofertados e estratégia aplicada, ou as violações se a solicitação for rejeitada
+     */
+    AvaliacaoResponse avaliarSemRegistro(ClienteRequest clienteRequest);
 }
@@ -0,0 +1,31 @@
+package com.cartoes.api_cartoes.application.service;
+
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+
+public interface SolicitacaoAssincronaService {
+    /**
+     * Valida a solicitação, atribui número e data e a publica na fila, sem aguardar a avaliação
+     *
+     * @param clienteRequest Dados do cliente solicitante
+     * @return Resposta com o número e a data atribuídos, ainda sem cartões ofertados
+     */
+    SolicitacaoResponse aceitarSolicitacao(ClienteRequest clienteRequest);
+
+    /**
+     * Processa uma solicitação retirada da fila. Rejeições de negócio encerram o processamento;
+     * as demais falhas são propagadas para que a fila tente novamente.
+     *
+     * @param solicitacao Solicitação publicada por {@link #aceitarSolicitacao} ou diretamente no tópico
+     */
+    void processar(SolicitacaoPendente solicitacao);
+
+    /**
+     * Encerra uma solicitação que esgotou as tentativas, registrando o erro para a consulta pelo número
+     *
+     * @param solicitacao Solicitação abandonada pela fila
+     * @param causa Falha da última tentativa
+     */
+    void descartar(SolicitacaoPendente solicitacao, Exception causa);
+}
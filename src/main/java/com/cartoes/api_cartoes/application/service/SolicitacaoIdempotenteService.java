@@ -0,0 +1,30 @@
+package com.cartoes.api_cartoes.application.service;
+
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+
+public interface SolicitacaoIdempotenteService {
+    /**
+     * Processa a solicitação de cartão de crédito uma única vez por chave de idempotência.
+     * Repetições com a mesma chave recebem a resposta da primeira execução, aguardando-a
+     * se ainda estiver em andamento. A chave vale apenas para o mesmo CPF.
+     *
+     * @param clienteRequest     Dados do cliente solicitante
+     * @param chaveIdempotencia  Valor do header {@code Idempotency-Key}; quando ausente, a chave
+     *                           é derivada do CPF e do conteúdo da solicitação
+     * @return Resposta com os cartões ofertados ou vazio se não houver cartões disponíveis
+     * @throws com.cartoes.api_cartoes.domain.exception.SolicitacaoRejeitadaException se o
+     *         {@code Idempotency-Key} já tiver sido usado pelo mesmo CPF com outro conteúdo
+     */
+    SolicitacaoResponse processarSolicitacao(ClienteRequest clienteRequest, String chaveIdempotencia);
+
+    /**
+     * Aceita a solicitação para processamento assíncrono uma única vez por chave de idempotência.
+     * Repetições recebem o mesmo número de solicitação, sem publicá-la novamente na fila.
+     *
+     * @param clienteRequest     Dados do cliente solicitante
+     * @param chaveIdempotencia  Valor do header {@code Idempotency-Key}, ou {@code null}
+     * @return Resposta com o número e a data atribuídos, ainda sem cartões ofertados
+     */
+    SolicitacaoResponse aceitarSolicitacao(ClienteRequest clienteRequest, String chaveIdempotencia);
+}
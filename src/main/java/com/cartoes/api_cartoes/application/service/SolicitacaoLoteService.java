@@ -0,0 +1,16 @@
+package com.cartoes.api_cartoes.application.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface SolicitacaoLoteService {
+    /**
+     * Processa um lote de solicitações de cartão de crédito
+     *
+     * @param entrada Array JSON ou NDJSON de solicitações de clientes
+     * @param saida   Destino das respostas, uma linha NDJSON por cliente, na ordem de conclusão
+     * @throws IOException se não for possível escrever na saída
+     */
+    void processarLote(InputStream entrada, OutputStream saida) throws IOException;
+}
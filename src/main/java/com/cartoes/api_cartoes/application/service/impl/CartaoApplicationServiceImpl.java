@@ -2,15 +2,23 @@ package com.cartoes.api_cartoes.application.service.impl;
 
 import com.cartoes.api_cartoes.application.dto.ClienteDTO;
 import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.dto.response.AvaliacaoResponse;
 import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
 import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
 import com.cartoes.api_cartoes.application.dto.validator.ClienteValidator;
 import com.cartoes.api_cartoes.application.factory.CartaoFactory;
+import com.cartoes.api_cartoes.application.metrics.MetricasSolicitacao;
+import com.cartoes.api_cartoes.application.resultado.ResultadosSolicitacoes;
 import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
-import com.cartoes.api_cartoes.domain.entity.Cartao;
+import com.cartoes.api_cartoes.application.util.MoedaUtil;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.exception.Violacao;
 import com.cartoes.api_cartoes.domain.repository.ClienteRepository;
 import com.cartoes.api_cartoes.domain.service.AvaliacaoCartaoService;
+import com.cartoes.api_cartoes.domain.service.GeradorIdentificador;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.TabelaDecisaoElegibilidade;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +26,8 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
@@ -28,43 +38,114 @@ public class CartaoApplicationServiceImpl implements CartaoApplicationService {
     private final ClienteRepository clienteRepository;
     private final CartaoFactory cartaoFactory;
     private final ClienteValidator clienteValidator;
+    private final MetricasSolicitacao metricasSolicitacao;
+    private final ResultadosSolicitacoes resultadosSolicitacoes;
+    private final GeradorIdentificador geradorIdentificador;
 
     @Override
     public SolicitacaoResponse processarSolicitacao(ClienteRequest clienteRequest) {
         log.info("Iniciando processamento de solicitação de cartão");
-        long startTime = System.currentTimeMillis();
+        return executar(clienteRequest, null, null);
+    }
+
+    @Override
+    public SolicitacaoResponse processarPendente(SolicitacaoPendente solicitacao) {
+        log.info("Iniciando processamento da solicitação de cartão {}", solicitacao.getNumeroSolicitacao());
+        return executar(new ClienteRequest(solicitacao.getCliente()),
+                solicitacao.getNumeroSolicitacao(), solicitacao.getDataSolicitacao());
+    }
+
+    @Override
+    public AvaliacaoResponse avaliarSemRegistro(ClienteRequest clienteRequest) {
+        // Sem log por solicitação: chamado para cada linha de arquivos com milhões de clientes
+        String cpf = clienteRequest.getCliente() != null ? clienteRequest.getCliente().getCpf() : null;
+        RegrasSnapshot regras = avaliacaoCartaoService.regrasVigentes();
+        List<Violacao> violacoes = clienteValidator.verificar(regras, clienteRequest);
+        if (violacoes != null) {
+            return AvaliacaoResponse.builder()
+                    .cpf(cpf)
+                    .erros(violacoes)
+                    .build();
+        }
+
+        TabelaDecisaoElegibilidade.Decisao decisao =
+                avaliacaoCartaoService.selecionarOfertas(regras, converterParaEntidade(clienteRequest.getCliente()));
+        return AvaliacaoResponse.builder()
+                .cpf(cpf)
+                .estrategia(decisao.estrategia())
+                .cartoesOfertados(cartaoFactory.toCartaoResponseList(regras.catalogo(), decisao.cartoes()))
+                .build();
+    }
 
-        // Validar dados do DTO
-        clienteValidator.validar(clienteRequest);
+    private SolicitacaoResponse executar(ClienteRequest clienteRequest, String numeroSolicitacao, LocalDateTime dataSolicitacao) {
+        MetricasSolicitacao.Medicao medicao = metricasSolicitacao.iniciar();
+
+        try {
+            SolicitacaoResponse response = processar(clienteRequest, numeroSolicitacao, dataSolicitacao, medicao);
+            medicao.finalizar(clienteRepository.estadoCircuito(), null);
+            return response;
+        } catch (RuntimeException e) {
+            medicao.finalizar(clienteRepository.estadoCircuito(), e);
+            throw e;
+        }
+    }
+
+    private SolicitacaoResponse processar(ClienteRequest clienteRequest, String numeroSolicitacao,
+                                          LocalDateTime dataSolicitacao, MetricasSolicitacao.Medicao medicao) {
+        // Uma única leitura das regras: idade mínima, tabela de decisão e catálogo são da mesma versão
+        RegrasSnapshot regras = avaliacaoCartaoService.regrasVigentes();
+
+        // Validar campos obrigatórios e idade em uma única passagem, reunindo todas as violações
+        clienteValidator.validar(regras, clienteRequest);
 
         // Converter ClienteDTO para entidade Cliente
         Cliente cliente = converterParaEntidade(clienteRequest.getCliente());
+        medicao.concluirEtapa(MetricasSolicitacao.Etapa.VALIDACAO);
 
-        // Validações de negócio no domínio
-        avaliacaoCartaoService.validarCliente(cliente);
-
-        // Registrar cliente na API externa
-        UUID idSolicitacao = clienteRepository.registrarCliente(cliente);
-        log.info("Cliente registrado com ID: {}", idSolicitacao);
+        // Registrar cliente na API externa; a avaliação não depende do ID e segue enquanto a chamada está em andamento
+        CompletableFuture<UUID> registro = medicao.medirRegistro(clienteRepository.registrarClienteAsync(cliente));
 
         // Identificar cartões elegíveis usando a estratégia adequada
-        List<Cartao> cartoesElegiveis = avaliacaoCartaoService.avaliarCartoesDisponiveis(cliente);
-        List<CartaoResponse> cartoesOfertados = cartaoFactory.toCartaoResponseList(cartoesElegiveis);
+        TabelaDecisaoElegibilidade.Decisao decisao = avaliacaoCartaoService.selecionarOfertas(regras, cliente);
+        medicao.estrategia(decisao.estrategia());
+        List<CartaoResponse> cartoesOfertados = cartaoFactory.toCartaoResponseList(regras.catalogo(), decisao.cartoes());
+        medicao.concluirEtapa(MetricasSolicitacao.Etapa.AVALIACAO);
 
-        // Preparar resposta
+        UUID idCliente = aguardarRegistro(registro);
+        medicao.concluirEtapa(MetricasSolicitacao.Etapa.ESPERA_REGISTRO);
+        log.info("Cliente registrado com ID: {}", idCliente);
+
+        // Preparar resposta; solicitações aceitas pela fila mantêm o número e a data do recebimento.
+        // O número é próprio da solicitação: o ID do cliente é o mesmo para solicitações simultâneas do mesmo CPF
         SolicitacaoResponse response = SolicitacaoResponse.builder()
-                .numeroSolicitacao(idSolicitacao.toString())
-                .dataSolicitacao(LocalDateTime.now())
+                .numeroSolicitacao(numeroSolicitacao != null ? numeroSolicitacao : geradorIdentificador.gerar().toString())
+                .idCliente(idCliente.toString())
+                .dataSolicitacao(dataSolicitacao != null ? dataSolicitacao : LocalDateTime.now())
                 .cliente(clienteRequest.getCliente())
                 .cartoesOfertados(cartoesOfertados)
                 .build();
-
-        long endTime = System.currentTimeMillis();
-        log.info("Processamento finalizado em {} ms", endTime - startTime);
+        // Mantém o resultado para GET /cartoes/{numeroSolicitacao}, caso o cliente perca a resposta
+        resultadosSolicitacoes.armazenar(response);
+        medicao.concluirEtapa(MetricasSolicitacao.Etapa.RESPOSTA);
 
         return response;
     }
 
+    /**
+     * Aguarda o registro do cliente. O tempo de espera é limitado pelo repositório,
+     * que completa o futuro com o ID de fallback em caso de falha ou timeout.
+     */
+    private UUID aguardarRegistro(CompletableFuture<UUID> registro) {
+        try {
+            return registro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
     private Cliente converterParaEntidade(ClienteDTO dto) {
         return Cliente.builder()
                 .nome(dto.getNome())
@@ -72,7 +153,7 @@ public class CartaoApplicationServiceImpl implements CartaoApplicationService {
                 .idade(dto.getIdade())
                 .dataNascimento(dto.getDataNascimento())
                 .uf(dto.getUf())
-                .rendaMensal(dto.getRendaMensal())
+                .rendaMensalCentavos(MoedaUtil.paraCentavos(dto.getRendaMensal()))
                 .email(dto.getEmail())
                 .telefoneWhatsapp(dto.getTelefoneWhatsapp())
                 .build();
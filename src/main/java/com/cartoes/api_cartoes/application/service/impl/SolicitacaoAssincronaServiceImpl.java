@@ -0,0 +1,96 @@
+package com.cartoes.api_cartoes.application.service.impl;
+
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.dto.response.ProblemDetail;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.dto.validator.ClienteValidator;
+import com.cartoes.api_cartoes.application.exception.ResolvedorProblemas;
+import com.cartoes.api_cartoes.application.fila.FilaSolicitacoes;
+import com.cartoes.api_cartoes.application.resultado.ResultadosSolicitacoes;
+import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
+import com.cartoes.api_cartoes.application.service.SolicitacaoAssincronaService;
+import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.service.GeradorIdentificador;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SolicitacaoAssincronaServiceImpl implements SolicitacaoAssincronaService {
+
+    private final ClienteValidator clienteValidator;
+    private final FilaSolicitacoes filaSolicitacoes;
+    private final CartaoApplicationService cartaoApplicationService;
+    private final GeradorIdentificador geradorIdentificador;
+    private final ResultadosSolicitacoes resultadosSolicitacoes;
+    private final ResolvedorProblemas resolvedorProblemas;
+
+    @Override
+    public SolicitacaoResponse aceitarSolicitacao(ClienteRequest clienteRequest) {
+        // Solicitações inválidas são rejeitadas na hora, sem ocupar a fila
+        clienteValidator.validar(clienteRequest);
+
+        SolicitacaoPendente solicitacao = SolicitacaoPendente.builder()
+                .numeroSolicitacao(geradorIdentificador.gerar().toString())
+                .dataSolicitacao(LocalDateTime.now())
+                .cliente(clienteRequest.getCliente())
+                .build();
+        SolicitacaoResponse response = SolicitacaoResponse.builder()
+                .numeroSolicitacao(solicitacao.getNumeroSolicitacao())
+                .dataSolicitacao(solicitacao.getDataSolicitacao())
+                .cliente(solicitacao.getCliente())
+                .build();
+
+        // A pendência é gravada antes da publicação para não sobrescrever um resultado já processado
+        resultadosSolicitacoes.armazenarPendente(response);
+        try {
+            filaSolicitacoes.publicar(solicitacao);
+        } catch (RuntimeException e) {
+            resultadosSolicitacoes.remover(solicitacao.getNumeroSolicitacao());
+            throw e;
+        }
+        log.info("Solicitação {} aceita para processamento assíncrono", solicitacao.getNumeroSolicitacao());
+
+        return response;
+    }
+
+    @Override
+    public void processar(SolicitacaoPendente solicitacao) {
+        if (solicitacao.getNumeroSolicitacao() == null) {
+            solicitacao.setNumeroSolicitacao(geradorIdentificador.gerar().toString());
+        }
+        if (solicitacao.getDataSolicitacao() == null) {
+            solicitacao.setDataSolicitacao(LocalDateTime.now());
+        }
+
+        try {
+            SolicitacaoResponse response = cartaoApplicationService.processarPendente(solicitacao);
+            int cartoes = response.getCartoesOfertados() != null ? response.getCartoesOfertados().size() : 0;
+            log.info("Solicitação {} processada. Cartões aprovados: {}", solicitacao.getNumeroSolicitacao(), cartoes);
+        } catch (BusinessException e) {
+            // Repetir não muda o resultado de uma rejeição de negócio
+            log.info("Solicitação {} rejeitada: {}", solicitacao.getNumeroSolicitacao(), e.getMessage());
+            registrarFalha(solicitacao, e);
+        }
+    }
+
+    @Override
+    public void descartar(SolicitacaoPendente solicitacao, Exception causa) {
+        if (solicitacao.getNumeroSolicitacao() != null) {
+            registrarFalha(solicitacao, causa);
+        }
+    }
+
+    private void registrarFalha(SolicitacaoPendente solicitacao, Exception causa) {
+        // Mesmo corpo de erro que o POST /cartoes síncrono responderia
+        ProblemDetail problema = resolvedorProblemas.resolver(causa).getBody();
+        if (problema != null) {
+            resultadosSolicitacoes.armazenarFalha(solicitacao.getNumeroSolicitacao(), problema);
+        }
+    }
+}
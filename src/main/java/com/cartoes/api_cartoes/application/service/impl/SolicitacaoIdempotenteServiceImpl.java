@@ -0,0 +1,135 @@
+package com.cartoes.api_cartoes.application.service.impl;
+
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
+import com.cartoes.api_cartoes.application.service.SolicitacaoAssincronaService;
+import com.cartoes.api_cartoes.application.service.SolicitacaoIdempotenteService;
+import com.cartoes.api_cartoes.domain.exception.CodigoRejeicao;
+import com.cartoes.api_cartoes.domain.exception.SolicitacaoRejeitadaException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class SolicitacaoIdempotenteServiceImpl implements SolicitacaoIdempotenteService {
+
+    private final CartaoApplicationService cartaoApplicationService;
+    private final SolicitacaoAssincronaService solicitacaoAssincronaService;
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<String, SolicitacaoResponse> cacheSolicitacoes;
+
+    @Value("${aplicacao.idempotencia.habilitado:true}")
+    private boolean habilitado;
+
+    public SolicitacaoIdempotenteServiceImpl(CartaoApplicationService cartaoApplicationService,
+                                             SolicitacaoAssincronaService solicitacaoAssincronaService,
+                                             ObjectMapper objectMapper,
+                                             @Qualifier("cacheSolicitacoes") AsyncCache<String, SolicitacaoResponse> cacheSolicitacoes) {
+        this.cartaoApplicationService = cartaoApplicationService;
+        this.solicitacaoAssincronaService = solicitacaoAssincronaService;
+        this.objectMapper = objectMapper;
+        this.cacheSolicitacoes = cacheSolicitacoes;
+    }
+
+    @Override
+    public SolicitacaoResponse processarSolicitacao(ClienteRequest clienteRequest, String chaveIdempotencia) {
+        return executarUmaVez(clienteRequest, chaveIdempotencia, cartaoApplicationService::processarSolicitacao);
+    }
+
+    @Override
+    public SolicitacaoResponse aceitarSolicitacao(ClienteRequest clienteRequest, String chaveIdempotencia) {
+        return executarUmaVez(clienteRequest, chaveIdempotencia, solicitacaoAssincronaService::aceitarSolicitacao);
+    }
+
+    private SolicitacaoResponse executarUmaVez(ClienteRequest clienteRequest, String chaveIdempotencia,
+                                               Function<ClienteRequest, SolicitacaoResponse> processamento) {
+        if (!habilitado) {
+            return processamento.apply(clienteRequest);
+        }
+
+        String cpf = clienteRequest.getCliente() != null ? clienteRequest.getCliente().getCpf() : null;
+        String hashConteudo = calcularHash(clienteRequest);
+        String chave = gerarChave(cpf, hashConteudo, chaveIdempotencia);
+
+        // Apenas a primeira requisição com a chave instala o futuro e processa a solicitação;
+        // as concorrentes recebem o mesmo futuro e aguardam o resultado
+        SolicitacaoEmAndamento novo = new SolicitacaoEmAndamento(hashConteudo);
+        CompletableFuture<SolicitacaoResponse> atual = cacheSolicitacoes.get(chave, (k, executor) -> novo);
+
+        if (atual != novo) {
+            if (atual instanceof SolicitacaoEmAndamento anterior && !anterior.hashConteudo.equals(hashConteudo)) {
+                throw new SolicitacaoRejeitadaException(CodigoRejeicao.CHAVE_IDEMPOTENCIA_REUTILIZADA);
+            }
+            log.info("Solicitação repetida, reutilizando o resultado da chave {}", chave);
+            return aguardar(atual);
+        }
+
+        try {
+            novo.complete(processamento.apply(clienteRequest));
+        } catch (Throwable e) {
+            // Futuros concluídos com erro são removidos do cache: a próxima tentativa processa novamente.
+            // Inclui Error: um futuro nunca concluído ficaria no cache e bloquearia as repetições da chave
+            novo.completeExceptionally(e);
+            throw e;
+        }
+        return novo.join();
+    }
+
+    /**
+     * A chave é sempre restrita ao CPF, para que outro cliente com o mesmo {@code Idempotency-Key}
+     * não receba a resposta, com os dados pessoais, da primeira. Sem o header, o SHA-256 da
+     * solicitação serializada identifica repetições do mesmo pedido.
+     */
+    private static String gerarChave(String cpf, String hashConteudo, String chaveIdempotencia) {
+        if (chaveIdempotencia != null && !chaveIdempotencia.isBlank()) {
+            return "chave:" + cpf + ":" + chaveIdempotencia.strip();
+        }
+        return "cpf:" + cpf + ":" + hashConteudo;
+    }
+
+    private String calcularHash(ClienteRequest clienteRequest) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(clienteRequest));
+            return HexFormat.of().formatHex(hash);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Não foi possível gerar a chave de idempotência", e);
+        }
+    }
+
+    private SolicitacaoResponse aguardar(CompletableFuture<SolicitacaoResponse> resultado) {
+        try {
+            return resultado.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Resultado da solicitação com o hash do conteúdo que a originou, para recusar a reutilização
+     * do {@code Idempotency-Key} com outro corpo mesmo antes de o processamento terminar.
+     */
+    private static final class SolicitacaoEmAndamento extends CompletableFuture<SolicitacaoResponse> {
+
+        private final String hashConteudo;
+
+        SolicitacaoEmAndamento(String hashConteudo) {
+            this.hashConteudo = hashConteudo;
+        }
+    }
+}
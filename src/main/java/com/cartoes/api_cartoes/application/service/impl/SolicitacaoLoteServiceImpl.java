@@ -0,0 +1,153 @@
+package com.cartoes.api_cartoes.application.service.impl;
+
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.response.ProblemDetail;
+import com.cartoes.api_cartoes.application.dto.response.ResultadoLoteResponse;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.exception.ResolvedorProblemas;
+import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
+import com.cartoes.api_cartoes.application.service.SolicitacaoLoteService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+@Slf4j
+@Service
+public class SolicitacaoLoteServiceImpl implements SolicitacaoLoteService {
+
+    private static final int SEPARADOR_LINHA = '\n';
+
+    private final CartaoApplicationService cartaoApplicationService;
+    private final ResolvedorProblemas resolvedorProblemas;
+    private final Executor executorLote;
+    private final ObjectReader leitor;
+    private final ObjectWriter escritor;
+    private final int janela;
+
+    public SolicitacaoLoteServiceImpl(CartaoApplicationService cartaoApplicationService,
+                                      ResolvedorProblemas resolvedorProblemas,
+                                      ObjectMapper objectMapper,
+                                      @Qualifier("executorLote") Executor executorLote,
+                                      @Value("${aplicacao.lote.janela:64}") int janela) {
+        if (janela < 1) {
+            throw new IllegalArgumentException("A janela do lote deve ser maior que zero");
+        }
+        this.cartaoApplicationService = cartaoApplicationService;
+        this.resolvedorProblemas = resolvedorProblemas;
+        this.executorLote = executorLote;
+        this.leitor = objectMapper.readerFor(ClienteRequest.class);
+        this.escritor = objectMapper.writerFor(ResultadoLoteResponse.class);
+        this.janela = janela;
+    }
+
+    @Override
+    public void processarLote(InputStream entrada, OutputStream saida) throws IOException {
+        log.info("Iniciando processamento de lote");
+        long startTime = System.currentTimeMillis();
+
+        CompletionService<ResultadoLoteResponse> conclusoes = new ExecutorCompletionService<>(executorLote);
+        Set<Future<ResultadoLoteResponse>> emAndamento = new HashSet<>();
+        boolean leituraAberta = true;
+        int indice = 0;
+
+        // Um array na raiz é desempacotado pelo MappingIterator; NDJSON é lido valor a valor
+        try (MappingIterator<ClienteRequest> solicitacoes = leitor.readValues(entrada)) {
+            while (leituraAberta || !emAndamento.isEmpty()) {
+                // Lê novos clientes apenas enquanto houver espaço na janela, limitando o uso de memória
+                while (leituraAberta && emAndamento.size() < janela) {
+                    int posicao = indice;
+                    try {
+                        if (!solicitacoes.hasNextValue()) {
+                            leituraAberta = false;
+                            break;
+                        }
+                        ClienteRequest solicitacao = solicitacoes.nextValue();
+                        emAndamento.add(conclusoes.submit(() -> processar(posicao, solicitacao)));
+                    } catch (JsonProcessingException | RuntimeJsonMappingException e) {
+                        // Após um erro de leitura não é possível localizar o próximo cliente com segurança
+                        leituraAberta = false;
+                        escrever(saida, erro(posicao, new HttpMessageNotReadableException(
+                                "Não foi possível ler o cliente na posição " + posicao, e, null)));
+                    }
+                    indice++;
+                }
+
+                if (!emAndamento.isEmpty()) {
+                    Future<ResultadoLoteResponse> concluida = conclusoes.take();
+                    emAndamento.remove(concluida);
+                    escrever(saida, concluida.get());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Processamento do lote interrompido", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha inesperada no processamento do lote", e.getCause());
+        } finally {
+            // Cliente desconectado ou falha de escrita: descarta o que ainda está em processamento
+            emAndamento.forEach(pendente -> pendente.cancel(true));
+        }
+
+        long endTime = System.currentTimeMillis();
+        log.info("Lote finalizado em {} ms. Clientes processados: {}", endTime - startTime, indice);
+    }
+
+    private ResultadoLoteResponse processar(int indice, ClienteRequest solicitacao) {
+        try {
+            SolicitacaoResponse response = cartaoApplicationService.processarSolicitacao(solicitacao);
+
+            if (response.getCartoesOfertados() == null || response.getCartoesOfertados().isEmpty()) {
+                return ResultadoLoteResponse.builder()
+                        .indice(indice)
+                        .status(HttpStatus.NO_CONTENT.value())
+                        .build();
+            }
+
+            return ResultadoLoteResponse.builder()
+                    .indice(indice)
+                    .status(HttpStatus.OK.value())
+                    .solicitacao(response)
+                    .build();
+        } catch (Exception e) {
+            return erro(indice, e);
+        }
+    }
+
+    private ResultadoLoteResponse erro(int indice, Exception e) {
+        ResponseEntity<ProblemDetail> problema = resolvedorProblemas.resolver(e);
+
+        return ResultadoLoteResponse.builder()
+                .indice(indice)
+                .status(problema.getStatusCode().value())
+                .erro(problema.getBody())
+                .build();
+    }
+
+    private void escrever(OutputStream saida, ResultadoLoteResponse resultado) throws IOException {
+        // writeValueAsBytes evita que o Jackson feche o stream da resposta
+        saida.write(escritor.writeValueAsBytes(resultado));
+        saida.write(SEPARADOR_LINHA);
+        saida.flush();
+    }
+}
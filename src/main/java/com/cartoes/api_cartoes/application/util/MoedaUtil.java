@@ -0,0 +1,67 @@
+package com.cartoes.api_cartoes.application.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MoedaUtil {
+
+    private static final int CASAS_DECIMAIS = 2;
+    private static final BigDecimal MAXIMO_CENTAVOS = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal MINIMO_CENTAVOS = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    /**
+     * Converte um valor monetário recebido na API para centavos.
+     * <p>
+     * O valor é truncado para baixo (piso), o que preserva o resultado de comparações
+     * {@code >=} e {@code <} contra limites com até duas casas decimais.
+     * Valores fora da faixa de {@code long} são saturados.
+     *
+     * @param valor Valor em reais
+     * @return Valor em centavos
+     */
+    public static long paraCentavos(BigDecimal valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("Valor monetário não pode ser nulo");
+        }
+        BigDecimal centavos = valor.movePointRight(CASAS_DECIMAIS).setScale(0, RoundingMode.FLOOR);
+        if (centavos.compareTo(MAXIMO_CENTAVOS) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (centavos.compareTo(MINIMO_CENTAVOS) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return centavos.longValue();
+    }
+
+    /**
+     * Converte um limite de configuração para centavos, exigindo representação exata.
+     *
+     * @param limite Limite em reais, com no máximo duas casas decimais
+     * @return Limite em centavos
+     * @throws IllegalArgumentException se o limite tiver mais de duas casas decimais significativas
+     */
+    public static long limiteEmCentavos(BigDecimal limite) {
+        if (limite == null) {
+            throw new IllegalArgumentException("Limite monetário não pode ser nulo");
+        }
+        try {
+            return limite.setScale(CASAS_DECIMAIS, RoundingMode.UNNECESSARY).movePointRight(CASAS_DECIMAIS).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Limite monetário inválido: " + limite.toPlainString(), e);
+        }
+    }
+
+    /**
+     * Converte um valor em centavos para reais, com duas casas decimais.
+     *
+     * @param centavos Valor em centavos
+     * @return Valor em reais
+     */
+    public static BigDecimal paraReais(long centavos) {
+        return BigDecimal.valueOf(centavos, CASAS_DECIMAIS);
+    }
+}
@@ -1,10 +1,10 @@
 package com.cartoes.api_cartoes.application.util;
 
+import com.cartoes.api_cartoes.domain.service.CalculadoraIdade;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
-import java.time.Period;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ValidadorUtil {
@@ -19,7 +19,7 @@ public class ValidadorUtil {
         if (dataNascimento == null) {
             throw new IllegalArgumentException("Data de nascimento não pode ser nula");
         }
-        return Period.between(dataNascimento, LocalDate.now()).getYears();
+        return CalculadoraIdade.calcularIdade(dataNascimento, LocalDate.now());
     }
 
     /**
@@ -3,10 +3,8 @@ package com.cartoes.api_cartoes.domain.entity;
 
 import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
 import com.cartoes.api_cartoes.domain.enums.TipoCartao;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.math.BigDecimal;
 
@@ -14,14 +12,15 @@ import java.math.BigDecimal;
  * Representa um cartão de crédito no domínio de negócio.
  * Esta entidade contém todos os dados necessários sobre um cartão
  * e seu status após avaliação.
+ * <p>
+ * É imutável para que as ofertas do {@link com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes}
+ * possam ser compartilhadas entre requisições.
  */
-@Data
+@Value
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
 public class Cartao {
-    private TipoCartao tipoCartao;
-    private BigDecimal valorAnuidadeMensal;
-    private BigDecimal valorLimiteDisponivel;
-    private CartaoStatus status;
+    TipoCartao tipoCartao;
+    BigDecimal valorAnuidadeMensal;
+    BigDecimal valorLimiteDisponivel;
+    CartaoStatus status;
 }
@@ -5,13 +5,14 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 /**
  * Representa um cliente no domínio de negócio.
  * Esta entidade contém todos os dados necessários para analisar
  * a elegibilidade para diferentes tipos de cartões.
+ * <p>
+ * A renda mensal é mantida em centavos; {@link java.math.BigDecimal} fica restrito à fronteira da API.
  */
 @Data
 @Builder
@@ -23,7 +24,7 @@ public class Cliente {
     private Integer idade;
     private LocalDate dataNascimento;
     private String uf;
-    private BigDecimal rendaMensal;
+    private long rendaMensalCentavos;
     private String email;
     private String telefoneWhatsapp;
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.cartoes.api_cartoes.domain.exception;
+
+/**
+ * Motivos conhecidos de rejeição de uma solicitação, cada um com o campo da requisição a que se
+ * refere e a mensagem padrão devolvida ao cliente.
+ */
+public enum CodigoRejeicao {
+
+    DADOS_CLIENTE_AUSENTES("cliente", "Dados do cliente não podem ser nulos"),
+    NOME_OBRIGATORIO("cliente.nome", "Nome do cliente é obrigatório"),
+    CPF_OBRIGATORIO("cliente.cpf", "CPF do cliente é obrigatório"),
+    IDADE_OBRIGATORIA("cliente.idade", "Idade do cliente é obrigatória"),
+    DATA_NASCIMENTO_OBRIGATORIA("cliente.data_nascimento", "Data de nascimento é obrigatória"),
+    UF_OBRIGATORIA("cliente.uf", "UF do cliente é obrigatória"),
+    RENDA_OBRIGATORIA("cliente.renda_mensal", "Renda mensal do cliente é obrigatória"),
+    EMAIL_OBRIGATORIO("cliente.email", "Email do cliente é obrigatório"),
+    TELEFONE_OBRIGATORIO("cliente.telefone_whatsapp", "Telefone/WhatsApp do cliente é obrigatório"),
+    IDADE_MINIMA("cliente.data_nascimento", "Cliente não atinge a idade mínima"),
+    IDADE_INCONSISTENTE("cliente.idade", "Idade informada não corresponde à data de nascimento"),
+    CHAVE_IDEMPOTENCIA_REUTILIZADA("Idempotency-Key", "Idempotency-Key já utilizada com outra solicitação");
+
+    private final String campo;
+    private final String mensagem;
+    private final Violacao violacao;
+
+    CodigoRejeicao(String campo, String mensagem) {
+        this.campo = campo;
+        this.mensagem = mensagem;
+        this.violacao = new Violacao(campo, this, mensagem);
+    }
+
+    public String getCampo() {
+        return campo;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    /**
+     * Violação com a mensagem padrão, compartilhada por todas as rejeições com este motivo.
+     */
+    public Violacao violacao() {
+        return violacao;
+    }
+
+    /**
+     * Violação com uma mensagem específica, como a que informa a idade mínima em vigor.
+     */
+    public Violacao violacao(String mensagem) {
+        return new Violacao(campo, this, mensagem);
+    }
+}
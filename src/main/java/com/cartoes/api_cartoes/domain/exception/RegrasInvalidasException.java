@@ -0,0 +1,17 @@
+package com.cartoes.api_cartoes.domain.exception;
+
+import java.util.List;
+
+public class RegrasInvalidasException extends RuntimeException {
+
+    private final List<String> erros;
+
+    public RegrasInvalidasException(List<String> erros) {
+        super("Regras de elegibilidade inválidas: " + String.join("; ", erros));
+        this.erros = List.copyOf(erros);
+    }
+
+    public List<String> getErros() {
+        return erros;
+    }
+}
@@ -0,0 +1,26 @@
+package com.cartoes.api_cartoes.domain.exception;
+
+import java.time.Duration;
+
+/**
+ * A solicitação não pôde ser aceita agora por falta de capacidade, e pode ser repetida após
+ * {@link #getTentarNovamenteEm()}. Lançada com frequência sob sobrecarga, por isso não captura
+ * a pilha de chamadas.
+ */
+public class ServicoIndisponivelException extends RuntimeException {
+
+    private final Duration tentarNovamenteEm;
+
+    public ServicoIndisponivelException(String message, Duration tentarNovamenteEm) {
+        this(message, tentarNovamenteEm, null);
+    }
+
+    public ServicoIndisponivelException(String message, Duration tentarNovamenteEm, Throwable cause) {
+        super(message, cause, false, false);
+        this.tentarNovamenteEm = tentarNovamenteEm;
+    }
+
+    public Duration getTentarNovamenteEm() {
+        return tentarNovamenteEm;
+    }
+}
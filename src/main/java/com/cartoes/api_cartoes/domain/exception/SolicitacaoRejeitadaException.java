@@ -0,0 +1,57 @@
+package com.cartoes.api_cartoes.domain.exception;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Rejeição esperada de uma solicitação por uma ou mais regras de negócio.
+ * <p>
+ * Faz parte do fluxo normal da API, por isso não captura a pilha de chamadas nem aceita
+ * exceções suprimidas: criá-la custa apenas a alocação do objeto.
+ */
+public class SolicitacaoRejeitadaException extends BusinessException {
+
+    private final List<Violacao> violacoes;
+
+    public SolicitacaoRejeitadaException(CodigoRejeicao codigo) {
+        this(codigo.violacao());
+    }
+
+    public SolicitacaoRejeitadaException(CodigoRejeicao codigo, String mensagem) {
+        this(codigo.violacao(mensagem));
+    }
+
+    public SolicitacaoRejeitadaException(Violacao violacao) {
+        super(violacao.mensagem(), null, false, false);
+        this.violacoes = List.of(violacao);
+    }
+
+    /**
+     * @param violacoes Todas as violações encontradas, na ordem dos campos da requisição
+     */
+    public SolicitacaoRejeitadaException(List<Violacao> violacoes) {
+        super(mensagem(violacoes), null, false, false);
+        this.violacoes = List.copyOf(violacoes);
+    }
+
+    /**
+     * Motivo da primeira violação.
+     */
+    public CodigoRejeicao getCodigo() {
+        return violacoes.get(0).codigo();
+    }
+
+    public List<Violacao> getViolacoes() {
+        return violacoes;
+    }
+
+    private static String mensagem(List<Violacao> violacoes) {
+        if (violacoes.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos uma violação");
+        }
+        if (violacoes.size() == 1) {
+            return violacoes.get(0).mensagem();
+        }
+        return violacoes.stream().map(Violacao::mensagem).collect(Collectors.joining("; "));
+    }
+}
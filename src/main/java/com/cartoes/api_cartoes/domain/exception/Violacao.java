@@ -0,0 +1,11 @@
+package com.cartoes.api_cartoes.domain.exception;
+
+/**
+ * Um problema encontrado nos dados de uma solicitação.
+ *
+ * @param campo    Caminho do campo na requisição, como {@code cliente.cpf}
+ * @param codigo   Motivo da rejeição
+ * @param mensagem Descrição para o cliente
+ */
+public record Violacao(String campo, CodigoRejeicao codigo, String mensagem) {
+}
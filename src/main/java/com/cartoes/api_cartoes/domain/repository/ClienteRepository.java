@@ -3,6 +3,7 @@ package com.cartoes.api_cartoes.domain.repository;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface ClienteRepository {
     /**
@@ -12,4 +13,21 @@ public interface ClienteRepository {
      * @return ID único gerado para o cliente
      */
     UUID registrarCliente(Cliente cliente);
+
+    /**
+     * Registra o cliente em sistema externo sem bloquear a thread chamadora
+     *
+     * @param cliente Dados do cliente a ser registrado
+     * @return Futuro com o ID único gerado para o cliente
+     */
+    CompletableFuture<UUID> registrarClienteAsync(Cliente cliente);
+
+    /**
+     * Estado do circuit breaker das chamadas ao sistema externo, usado como tag das métricas
+     *
+     * @return Estado em letras minúsculas ({@code closed}, {@code open}, {@code half_open}...)
+     */
+    default String estadoCircuito() {
+        return "desconhecido";
+    }
 }
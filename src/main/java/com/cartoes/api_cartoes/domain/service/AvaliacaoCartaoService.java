@@ -2,10 +2,22 @@ package com.cartoes.api_cartoes.domain.service;
 
 import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.exception.Violacao;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.TabelaDecisaoElegibilidade;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AvaliacaoCartaoService {
+    /**
+     * Snapshot das regras em vigor. Uma solicitação deve lê-lo uma única vez e repassá-lo às
+     * demais operações, para que uma recarga não misture versões das regras na mesma avaliação
+     *
+     * @return Regras em vigor no momento da chamada
+     */
+    RegrasSnapshot regrasVigentes();
+
     /**
      * Avalia quais cartões podem ser oferecidos ao cliente
      *
@@ -14,6 +26,23 @@ public interface AvaliacaoCartaoService {
      */
     List<Cartao> avaliarCartoesDisponiveis(Cliente cliente);
 
+    /**
+     * Seleciona a estratégia aplicável ao cliente e os cartões que ela oferece
+     *
+     * @param cliente Cliente a ser avaliado
+     * @return Decisão com o nome da estratégia e os cartões elegíveis
+     */
+    TabelaDecisaoElegibilidade.Decisao selecionarOfertas(Cliente cliente);
+
+    /**
+     * Seleciona a estratégia aplicável ao cliente e os cartões que ela oferece nas regras informadas
+     *
+     * @param regras  Snapshot lido no início da solicitação
+     * @param cliente Cliente a ser avaliado
+     * @return Decisão com o nome da estratégia e os cartões elegíveis
+     */
+    TabelaDecisaoElegibilidade.Decisao selecionarOfertas(RegrasSnapshot regras, Cliente cliente);
+
     /**
      * Valida os dados do cliente
      *
@@ -21,4 +50,24 @@ public interface AvaliacaoCartaoService {
      * @throws com.cartoes.api_cartoes.domain.exception.BusinessException se os dados forem inválidos
      */
     void validarCliente(Cliente cliente);
+
+    /**
+     * Verifica a idade mínima e a consistência entre a idade informada e a data de nascimento,
+     * sem lançar exceção
+     *
+     * @param idadeInformada Idade declarada pelo cliente
+     * @param dataNascimento Data de nascimento
+     * @return Violação encontrada, ou {@code null} se a idade for válida
+     */
+    Violacao verificarIdade(int idadeInformada, LocalDate dataNascimento);
+
+    /**
+     * Verifica a idade com a idade mínima das regras informadas, sem lançar exceção
+     *
+     * @param regras         Snapshot lido no início da solicitação
+     * @param idadeInformada Idade declarada pelo cliente
+     * @param dataNascimento Data de nascimento
+     * @return Violação encontrada, ou {@code null} se a idade for válida
+     */
+    Violacao verificarIdade(RegrasSnapshot regras, int idadeInformada, LocalDate dataNascimento);
 }
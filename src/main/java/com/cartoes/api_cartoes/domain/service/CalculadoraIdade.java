@@ -0,0 +1,96 @@
+package com.cartoes.api_cartoes.domain.service;
+
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Calcula idades em anos completos com a mesma semântica de
+ * {@code Period.between(dataNascimento, hoje).getYears()}, inclusive para nascidos em 29 de
+ * fevereiro (que completam anos em 1º de março nos anos não bissextos) e para datas futuras.
+ * <p>
+ * A data de hoje é obtida do {@link Clock} uma vez por dia e reaproveitada até a meia-noite
+ * no fuso do relógio; cada cálculo apenas compara ano, mês e dia, sem alocar objetos.
+ */
+@Service
+public class CalculadoraIdade {
+
+    private final Clock relogio;
+    private final ZoneId fuso;
+
+    private volatile Hoje hoje;
+
+    public CalculadoraIdade(Clock relogio) {
+        this.relogio = relogio;
+        this.fuso = relogio.getZone();
+        this.hoje = calcularHoje(relogio.millis());
+    }
+
+    /**
+     * Calcula a idade na data atual do relógio
+     *
+     * @param dataNascimento Data de nascimento
+     * @return Idade em anos completos; negativa se a data de nascimento estiver no futuro
+     */
+    public int calcularIdade(LocalDate dataNascimento) {
+        if (dataNascimento == null) {
+            throw new IllegalArgumentException("Data de nascimento não pode ser nula");
+        }
+        Hoje atual = hoje();
+        return idade(dataNascimento.getYear(), mesDia(dataNascimento.getMonthValue(), dataNascimento.getDayOfMonth()),
+                atual.ano(), atual.mesDia());
+    }
+
+    /**
+     * Calcula a idade em uma data de referência
+     *
+     * @param dataNascimento Data de nascimento
+     * @param referencia     Data em que a idade é calculada
+     * @return Idade em anos completos; negativa se a data de nascimento for posterior à referência
+     */
+    public static int calcularIdade(LocalDate dataNascimento, LocalDate referencia) {
+        return idade(dataNascimento.getYear(), mesDia(dataNascimento.getMonthValue(), dataNascimento.getDayOfMonth()),
+                referencia.getYear(), mesDia(referencia.getMonthValue(), referencia.getDayOfMonth()));
+    }
+
+    private static int idade(int anoNascimento, int mesDiaNascimento, int anoReferencia, int mesDiaReferencia) {
+        int anos = anoReferencia - anoNascimento;
+        if (anos > 0 && mesDiaReferencia < mesDiaNascimento) {
+            // Ainda não fez aniversário no ano de referência
+            return anos - 1;
+        }
+        if (anos < 0 && mesDiaReferencia > mesDiaNascimento) {
+            // Nascimento futuro: Period.between conta os anos completos até a data, com sinal negativo
+            return anos + 1;
+        }
+        return anos;
+    }
+
+    private static int mesDia(int mes, int dia) {
+        return (mes << 5) | dia;
+    }
+
+    private Hoje hoje() {
+        long agora = relogio.millis();
+        Hoje atual = hoje;
+        // Fora do intervalo do dia em cache: virada da meia-noite ou relógio ajustado para trás
+        if (agora >= atual.fim() || agora < atual.inicio()) {
+            atual = calcularHoje(agora);
+            hoje = atual;
+        }
+        return atual;
+    }
+
+    private Hoje calcularHoje(long agora) {
+        LocalDate data = LocalDate.ofInstant(Instant.ofEpochMilli(agora), fuso);
+        long inicio = data.atStartOfDay(fuso).toInstant().toEpochMilli();
+        long fim = data.plusDays(1).atStartOfDay(fuso).toInstant().toEpochMilli();
+        return new Hoje(data.getYear(), mesDia(data.getMonthValue(), data.getDayOfMonth()), inicio, fim);
+    }
+
+    private record Hoje(int ano, int mesDia, long inicio, long fim) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.cartoes.api_cartoes.domain.service;
+
+import java.util.UUID;
+
+public interface GeradorIdentificador {
+    /**
+     * Gera um identificador único para solicitações e ocorrências de erro
+     *
+     * @return Novo identificador, nunca repetido nesta ou em outra réplica da aplicação
+     */
+    UUID gerar();
+}
@@ -1,14 +1,17 @@
 package com.cartoes.api_cartoes.domain.service.impl;
 
-import com.cartoes.api_cartoes.application.util.ValidadorUtil;
 import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
 import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.exception.CodigoRejeicao;
+import com.cartoes.api_cartoes.domain.exception.SolicitacaoRejeitadaException;
+import com.cartoes.api_cartoes.domain.exception.Violacao;
 import com.cartoes.api_cartoes.domain.service.AvaliacaoCartaoService;
-import com.cartoes.api_cartoes.domain.strategy.StrategyAvaliacaoCartao;
-import lombok.RequiredArgsConstructor;
+import com.cartoes.api_cartoes.domain.service.CalculadoraIdade;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import com.cartoes.api_cartoes.domain.strategy.TabelaDecisaoElegibilidade;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -16,46 +19,78 @@ import java.util.List;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AvaliacaoCartaoServiceImpl implements AvaliacaoCartaoService {
 
-    private final List<StrategyAvaliacaoCartao> estrategias;
+    private final RegrasVigentes regrasVigentes;
+    private final CalculadoraIdade calculadoraIdade;
 
-    @Value("${aplicacao.cliente.idade-minima}")
-    private int idadeMinima;
+    public AvaliacaoCartaoServiceImpl(RegrasVigentes regrasVigentes, CalculadoraIdade calculadoraIdade) {
+        this.regrasVigentes = regrasVigentes;
+        this.calculadoraIdade = calculadoraIdade;
+    }
+
+    @Override
+    public RegrasSnapshot regrasVigentes() {
+        return regrasVigentes.atual();
+    }
 
     @Override
     public List<Cartao> avaliarCartoesDisponiveis(Cliente cliente) {
+        return selecionarOfertas(cliente).cartoes();
+    }
+
+    @Override
+    public TabelaDecisaoElegibilidade.Decisao selecionarOfertas(Cliente cliente) {
+        return selecionarOfertas(regrasVigentes.atual(), cliente);
+    }
+
+    @Override
+    public TabelaDecisaoElegibilidade.Decisao selecionarOfertas(RegrasSnapshot regras, Cliente cliente) {
         log.debug("Determinando cartões elegíveis para cliente: {}", cliente.getCpf());
 
-        // Encontrar a primeira estratégia aplicável
-        return estrategias.stream()
-                .filter(estrategia -> estrategia.seAplica(cliente))
-                .findFirst()
-                .map(estrategia -> estrategia.avaliarCartoes(cliente))
-                .orElseThrow(() -> new BusinessException("Não foi possível avaliar os cartões elegíveis"));
+        // Consultar a decisão pré-computada da primeira estratégia aplicável no snapshot da solicitação
+        TabelaDecisaoElegibilidade.Decisao decisao = regras.tabela().consultar(
+                cliente.getUf(), cliente.getIdade(), cliente.getRendaMensalCentavos());
+
+        if (decisao == null) {
+            throw new BusinessException("Não foi possível avaliar os cartões elegíveis");
+        }
+
+        log.debug("Estratégia selecionada: {}", decisao.estrategia());
+        return decisao;
     }
 
     @Override
     public void validarCliente(Cliente cliente) {
         log.debug("Validando cliente: {}", cliente.getCpf());
 
+        Violacao violacao = verificarIdade(cliente.getIdade(), cliente.getDataNascimento());
+        if (violacao != null) {
+            throw new SolicitacaoRejeitadaException(violacao);
+        }
+    }
+
+    @Override
+    public Violacao verificarIdade(int idadeInformada, LocalDate dataNascimento) {
+        return verificarIdade(regrasVigentes.atual(), idadeInformada, dataNascimento);
+    }
+
+    @Override
+    public Violacao verificarIdade(RegrasSnapshot regras, int idadeInformada, LocalDate dataNascimento) {
         // Validar idade mínima
-        int idadeCalculada = calcularIdade(cliente.getDataNascimento());
+        int idadeMinima = regras.idadeMinima();
+        int idadeCalculada = calculadoraIdade.calcularIdade(dataNascimento);
 
         if (idadeCalculada < idadeMinima) {
-            log.warn("Cliente com idade inferior a {} anos: {}", idadeMinima, idadeCalculada);
-            throw new BusinessException("Cliente deve ter pelo menos " + idadeMinima + " anos");
+            log.debug("Cliente com idade inferior a {} anos: {}", idadeMinima, idadeCalculada);
+            return CodigoRejeicao.IDADE_MINIMA.violacao(regras.mensagemIdadeMinima());
         }
 
         // Verificar consistência na idade
-        if (cliente.getIdade() != idadeCalculada) {
-            log.warn("Inconsistência na idade do cliente. Informada: {}, Calculada: {}", cliente.getIdade(), idadeCalculada);
-            throw new BusinessException("Idade informada não corresponde à data de nascimento");
+        if (idadeInformada != idadeCalculada) {
+            log.debug("Inconsistência na idade do cliente. Informada: {}, Calculada: {}", idadeInformada, idadeCalculada);
+            return CodigoRejeicao.IDADE_INCONSISTENTE.violacao();
         }
+        return null;
     }
-
-    private int calcularIdade(LocalDate dataNascimento) {
-        return ValidadorUtil.calcularIdade(dataNascimento);
-    }
-}
\ No newline at end of file
+}
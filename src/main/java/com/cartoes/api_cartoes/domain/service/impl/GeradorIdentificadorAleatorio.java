@@ -0,0 +1,17 @@
+package com.cartoes.api_cartoes.domain.service.impl;
+
+import com.cartoes.api_cartoes.domain.service.GeradorIdentificador;
+
+import java.util.UUID;
+
+/**
+ * UUID versão 4 obtido de {@link UUID#randomUUID()}. Todas as threads compartilham o mesmo
+ * {@link java.security.SecureRandom}; mantido para quem precisa de identificadores imprevisíveis.
+ */
+public class GeradorIdentificadorAleatorio implements GeradorIdentificador {
+
+    @Override
+    public UUID gerar() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,48 @@
+package com.cartoes.api_cartoes.domain.service.impl;
+
+import com.cartoes.api_cartoes.domain.service.GeradorIdentificador;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUID versão 7 (RFC 9562): ordenado pelo instante de criação e gerado sem estado compartilhado
+ * entre threads.
+ * <pre>
+ *  48 bits  milissegundos desde a época Unix
+ *   4 bits  versão (7)
+ *  12 bits  aleatórios
+ *   2 bits  variante (10)
+ *  10 bits  nó (réplica da aplicação)
+ *  52 bits  aleatórios
+ * </pre>
+ * Os bits aleatórios vêm do {@link ThreadLocalRandom} de cada thread. Réplicas com nós distintos
+ * nunca geram o mesmo identificador; dentro de uma réplica, uma colisão exige repetir 64 bits
+ * aleatórios no mesmo milissegundo. Os identificadores não são imprevisíveis e não devem servir
+ * como credencial de acesso.
+ */
+public class GeradorIdentificadorUuidV7 implements GeradorIdentificador {
+
+    public static final int NO_MAXIMO = (1 << 10) - 1;
+
+    private static final long VERSAO = 0x7000L;
+    private static final long VARIANTE = 0x8000_0000_0000_0000L;
+
+    private final long no;
+
+    public GeradorIdentificadorUuidV7(int no) {
+        if (no < 0 || no > NO_MAXIMO) {
+            throw new IllegalArgumentException("O nó do gerador de identificadores deve estar entre 0 e " + NO_MAXIMO + ": " + no);
+        }
+        this.no = (long) no << 52;
+    }
+
+    @Override
+    public UUID gerar() {
+        long aleatorio = ThreadLocalRandom.current().nextLong();
+
+        long maisSignificativos = (System.currentTimeMillis() << 16) | VERSAO | (aleatorio >>> 52);
+        long menosSignificativos = VARIANTE | no | (aleatorio & 0x000F_FFFF_FFFF_FFFFL);
+        return new UUID(maisSignificativos, menosSignificativos);
+    }
+}
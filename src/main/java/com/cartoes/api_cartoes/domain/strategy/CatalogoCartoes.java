@@ -0,0 +1,99 @@
+package com.cartoes.api_cartoes.domain.strategy;
+
+import com.cartoes.api_cartoes.domain.entity.Cartao;
+import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
+import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catálogo imutável das ofertas de cartão.
+ * <p>
+ * Existe uma única instância de {@link Cartao} por {@link TipoCartao} e uma única lista
+ * não modificável para cada combinação de ofertas, identificada por uma máscara de bits.
+ * As estratégias devolvem essas instâncias compartilhadas em vez de construir novos objetos
+ * a cada requisição.
+ */
+public class CatalogoCartoes {
+
+    private static final TipoCartao[] TIPOS = TipoCartao.values();
+
+    private final Map<TipoCartao, Cartao> cartoes = new EnumMap<>(TipoCartao.class);
+    private final List<List<Cartao>> ofertas;
+
+    public CatalogoCartoes(
+            BigDecimal limiteSemAnuidade,
+            BigDecimal anuidadeSemAnuidade,
+            BigDecimal limiteParceiros,
+            BigDecimal anuidadeParceiros,
+            BigDecimal limiteCashback,
+            BigDecimal anuidadeCashback) {
+
+        cartoes.put(TipoCartao.CARTAO_SEM_ANUIDADE, criarCartao(TipoCartao.CARTAO_SEM_ANUIDADE, anuidadeSemAnuidade, limiteSemAnuidade));
+        cartoes.put(TipoCartao.CARTAO_DE_PARCEIROS, criarCartao(TipoCartao.CARTAO_DE_PARCEIROS, anuidadeParceiros, limiteParceiros));
+        cartoes.put(TipoCartao.CARTAO_COM_CASHBACK, criarCartao(TipoCartao.CARTAO_COM_CASHBACK, anuidadeCashback, limiteCashback));
+
+        // Uma lista por combinação possível, sempre na ordem de declaração de TipoCartao
+        List<List<Cartao>> combinacoes = new ArrayList<>(1 << TIPOS.length);
+        for (int mascara = 0; mascara < 1 << TIPOS.length; mascara++) {
+            List<Cartao> combinacao = new ArrayList<>(TIPOS.length);
+            for (TipoCartao tipo : TIPOS) {
+                if ((mascara & mascara(tipo)) != 0) {
+                    combinacao.add(cartoes.get(tipo));
+                }
+            }
+            combinacoes.add(List.copyOf(combinacao));
+        }
+        this.ofertas = List.copyOf(combinacoes);
+    }
+
+    /**
+     * Bit que representa o tipo de cartão em uma máscara de ofertas.
+     */
+    public static int mascara(TipoCartao tipoCartao) {
+        return 1 << tipoCartao.ordinal();
+    }
+
+    /**
+     * Calcula a máscara correspondente a uma lista de cartões.
+     */
+    public static int mascara(List<Cartao> cartoes) {
+        int mascara = 0;
+        for (int i = 0; i < cartoes.size(); i++) {
+            TipoCartao tipo = cartoes.get(i).getTipoCartao();
+            if (tipo != null) {
+                mascara |= mascara(tipo);
+            }
+        }
+        return mascara;
+    }
+
+    /**
+     * Instância compartilhada do cartão aprovado para o tipo informado.
+     */
+    public Cartao cartao(TipoCartao tipoCartao) {
+        return cartoes.get(tipoCartao);
+    }
+
+    /**
+     * Lista compartilhada e não modificável com as ofertas presentes na máscara.
+     *
+     * @param mascara Combinação de bits obtidos por {@link #mascara(TipoCartao)}
+     */
+    public List<Cartao> ofertas(int mascara) {
+        return ofertas.get(mascara);
+    }
+
+    private static Cartao criarCartao(TipoCartao tipoCartao, BigDecimal anuidade, BigDecimal limite) {
+        return Cartao.builder()
+                .tipoCartao(tipoCartao)
+                .valorAnuidadeMensal(anuidade)
+                .valorLimiteDisponivel(limite)
+                .status(CartaoStatus.APROVADO)
+                .build();
+    }
+}
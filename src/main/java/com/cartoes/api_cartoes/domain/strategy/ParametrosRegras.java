@@ -0,0 +1,116 @@
+package com.cartoes.api_cartoes.domain.strategy;
+
+import com.cartoes.api_cartoes.application.util.MoedaUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parâmetros de negócio das regras de elegibilidade, na mesma estrutura das propriedades
+ * {@code aplicacao.cliente}, {@code aplicacao.estados}, {@code aplicacao.renda} e
+ * {@code aplicacao.cartoes}.
+ */
+public record ParametrosRegras(Cliente cliente, Estados estados, Renda renda, Cartoes cartoes) {
+
+    public record Cliente(Integer idadeMinima, Integer idadeJovemMaxima,
+                          Integer spJovemAdultoIdadeMin, Integer spJovemAdultoIdadeMax) {
+    }
+
+    public record Estados(String saoPaulo) {
+    }
+
+    public record Renda(BigDecimal faixaBaixaMin, BigDecimal faixaBaixaMax,
+                        BigDecimal faixaMediaMin, BigDecimal faixaMediaMax,
+                        BigDecimal faixaAltaMin) {
+    }
+
+    public record Cartoes(CondicoesCartao semAnuidade, CondicoesCartao parceiros, CondicoesCartao cashback) {
+    }
+
+    public record CondicoesCartao(BigDecimal limite, BigDecimal rendaMinima, BigDecimal anuidade) {
+    }
+
+    /**
+     * Verifica todos os parâmetros e reúne as inconsistências encontradas.
+     *
+     * @return Lista vazia quando os parâmetros são válidos
+     */
+    public List<String> validar() {
+        List<String> erros = new ArrayList<>();
+        if (cliente == null || estados == null || renda == null || cartoes == null) {
+            erros.add("Parâmetros de cliente, estados, renda e cartões são obrigatórios");
+            return erros;
+        }
+
+        validarIdades(erros);
+
+        if (estados.saoPaulo() == null || !estados.saoPaulo().matches("[A-Za-z]{2}")) {
+            erros.add("estados.sao-paulo deve ser uma UF com duas letras");
+        }
+
+        long[] faixas = {
+                centavos(erros, "renda.faixa-baixa-min", renda.faixaBaixaMin()),
+                centavos(erros, "renda.faixa-baixa-max", renda.faixaBaixaMax()),
+                centavos(erros, "renda.faixa-media-min", renda.faixaMediaMin()),
+                centavos(erros, "renda.faixa-media-max", renda.faixaMediaMax()),
+                centavos(erros, "renda.faixa-alta-min", renda.faixaAltaMin())
+        };
+        if (faixas[0] >= 0 && faixas[1] >= 0 && faixas[2] >= 0 && faixas[3] >= 0 && faixas[4] >= 0
+                && !(faixas[0] < faixas[1] && faixas[1] <= faixas[2] && faixas[2] < faixas[3] && faixas[3] <= faixas[4])) {
+            erros.add("As faixas de renda devem ser crescentes e não sobrepostas");
+        }
+
+        validarCartao(erros, "cartoes.sem-anuidade", cartoes.semAnuidade());
+        validarCartao(erros, "cartoes.parceiros", cartoes.parceiros());
+        validarCartao(erros, "cartoes.cashback", cartoes.cashback());
+        return erros;
+    }
+
+    private void validarIdades(List<String> erros) {
+        if (cliente.idadeMinima() == null || cliente.idadeJovemMaxima() == null
+                || cliente.spJovemAdultoIdadeMin() == null || cliente.spJovemAdultoIdadeMax() == null) {
+            erros.add("Todas as idades de cliente são obrigatórias");
+            return;
+        }
+        if (cliente.idadeMinima() < 0) {
+            erros.add("cliente.idade-minima não pode ser negativa");
+        }
+        if (cliente.idadeMinima() >= cliente.idadeJovemMaxima()) {
+            erros.add("cliente.idade-jovem-maxima deve ser maior que cliente.idade-minima");
+        }
+        if (cliente.spJovemAdultoIdadeMin() >= cliente.spJovemAdultoIdadeMax()) {
+            erros.add("cliente.sp-jovem-adulto-idade-max deve ser maior que cliente.sp-jovem-adulto-idade-min");
+        }
+    }
+
+    private static void validarCartao(List<String> erros, String prefixo, CondicoesCartao condicoes) {
+        if (condicoes == null) {
+            erros.add(prefixo + " é obrigatório");
+            return;
+        }
+        centavos(erros, prefixo + ".limite", condicoes.limite());
+        centavos(erros, prefixo + ".renda-minima", condicoes.rendaMinima());
+        centavos(erros, prefixo + ".anuidade", condicoes.anuidade());
+    }
+
+    /**
+     * Converte um valor não negativo para centavos, registrando o erro e devolvendo -1 quando inválido.
+     */
+    private static long centavos(List<String> erros, String propriedade, BigDecimal valor) {
+        if (valor == null) {
+            erros.add(propriedade + " é obrigatório");
+            return -1;
+        }
+        if (valor.signum() < 0) {
+            erros.add(propriedade + " não pode ser negativo");
+            return -1;
+        }
+        try {
+            return MoedaUtil.limiteEmCentavos(valor);
+        } catch (IllegalArgumentException e) {
+            erros.add(propriedade + " deve ter no máximo duas casas decimais");
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.cartoes.api_cartoes.domain.strategy;
+
+import com.cartoes.api_cartoes.domain.exception.RegrasInvalidasException;
+import com.cartoes.api_cartoes.domain.strategy.impl.StrategyClienteJovem;
+import com.cartoes.api_cartoes.domain.strategy.impl.StrategyClienteSPJovemAdulto;
+import com.cartoes.api_cartoes.domain.strategy.impl.StrategyClienteSaoPaulo;
+import com.cartoes.api_cartoes.domain.strategy.impl.StrategyPadrao;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Conjunto imutável e já compilado das regras de elegibilidade: parâmetros, catálogo de ofertas,
+ * estratégias na ordem de prioridade e a tabela de decisão derivada delas.
+ * <p>
+ * Uma requisição lê o snapshot uma única vez e usa apenas os objetos dele, de modo que uma
+ * recarga das regras nunca é observada pela metade.
+ */
+public final class RegrasSnapshot {
+
+    private final long versao;
+    private final Instant carregadoEm;
+    private final ParametrosRegras parametros;
+    private final CatalogoCartoes catalogo;
+    private final List<StrategyAvaliacaoCartao> estrategias;
+    private final TabelaDecisaoElegibilidade tabela;
+    private final String mensagemIdadeMinima;
+
+    private RegrasSnapshot(long versao, Instant carregadoEm, ParametrosRegras parametros,
+                           CatalogoCartoes catalogo, List<StrategyAvaliacaoCartao> estrategias) {
+        this.versao = versao;
+        this.carregadoEm = carregadoEm;
+        this.parametros = parametros;
+        this.catalogo = catalogo;
+        this.estrategias = List.copyOf(estrategias);
+        this.tabela = TabelaDecisaoElegibilidade.compilar(this.estrategias);
+        this.mensagemIdadeMinima = "Cliente deve ter pelo menos " + parametros.cliente().idadeMinima() + " anos";
+    }
+
+    /**
+     * Valida os parâmetros e constrói o catálogo, as estratégias e a tabela de decisão.
+     *
+     * @throws RegrasInvalidasException se algum parâmetro for inconsistente
+     */
+    public static RegrasSnapshot compilar(long versao, ParametrosRegras parametros) {
+        if (parametros == null) {
+            throw new RegrasInvalidasException(List.of("Parâmetros das regras não informados"));
+        }
+        List<String> erros = parametros.validar();
+        if (!erros.isEmpty()) {
+            throw new RegrasInvalidasException(erros);
+        }
+
+        ParametrosRegras.Cliente cliente = parametros.cliente();
+        ParametrosRegras.Renda renda = parametros.renda();
+        ParametrosRegras.Cartoes cartoes = parametros.cartoes();
+        String ufSaoPaulo = parametros.estados().saoPaulo();
+
+        CatalogoCartoes catalogo = new CatalogoCartoes(
+                cartoes.semAnuidade().limite(), cartoes.semAnuidade().anuidade(),
+                cartoes.parceiros().limite(), cartoes.parceiros().anuidade(),
+                cartoes.cashback().limite(), cartoes.cashback().anuidade());
+
+        StrategyPadrao padrao = new StrategyPadrao(catalogo,
+                renda.faixaBaixaMin(), renda.faixaBaixaMax(),
+                renda.faixaMediaMin(), renda.faixaMediaMax(),
+                renda.faixaAltaMin(),
+                cartoes.semAnuidade().rendaMinima(), cartoes.parceiros().rendaMinima(), cartoes.cashback().rendaMinima());
+
+        // Ordem de prioridade: a primeira estratégia que se aplicar é usada e a padrão é sempre a última
+        List<StrategyAvaliacaoCartao> estrategias = List.of(
+                new StrategyClienteJovem(catalogo, cliente.idadeMinima(), cliente.idadeJovemMaxima(),
+                        cartoes.semAnuidade().rendaMinima()),
+                new StrategyClienteSPJovemAdulto(padrao, cliente.spJovemAdultoIdadeMin(),
+                        cliente.spJovemAdultoIdadeMax(), ufSaoPaulo),
+                new StrategyClienteSaoPaulo(catalogo, cliente.spJovemAdultoIdadeMin(), cliente.spJovemAdultoIdadeMax(),
+                        ufSaoPaulo, cartoes.semAnuidade().rendaMinima(), cartoes.cashback().rendaMinima()),
+                padrao);
+
+        return new RegrasSnapshot(versao, Instant.now(), parametros, catalogo, estrategias);
+    }
+
+    /**
+     * Monta um snapshot com estratégias já construídas, sem validar parâmetros.
+     */
+    public static RegrasSnapshot deEstrategias(long versao, ParametrosRegras parametros, CatalogoCartoes catalogo,
+                                               List<StrategyAvaliacaoCartao> estrategias) {
+        return new RegrasSnapshot(versao, Instant.now(), parametros, catalogo, estrategias);
+    }
+
+    public long versao() {
+        return versao;
+    }
+
+    public Instant carregadoEm() {
+        return carregadoEm;
+    }
+
+    public ParametrosRegras parametros() {
+        return parametros;
+    }
+
+    public CatalogoCartoes catalogo() {
+        return catalogo;
+    }
+
+    public List<StrategyAvaliacaoCartao> estrategias() {
+        return estrategias;
+    }
+
+    public TabelaDecisaoElegibilidade tabela() {
+        return tabela;
+    }
+
+    public int idadeMinima() {
+        return parametros.cliente().idadeMinima();
+    }
+
+    /**
+     * Mensagem da rejeição por idade mínima, montada uma única vez por versão das regras.
+     */
+    public String mensagemIdadeMinima() {
+        return mensagemIdadeMinima;
+    }
+}
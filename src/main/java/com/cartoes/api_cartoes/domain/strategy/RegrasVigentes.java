@@ -0,0 +1,37 @@
+package com.cartoes.api_cartoes.domain.strategy;
+
+import com.cartoes.api_cartoes.domain.exception.RegrasInvalidasException;
+
+/**
+ * Referência única para o {@link RegrasSnapshot} em vigor.
+ * <p>
+ * As leituras custam apenas uma leitura volátil. Uma recarga compila o novo snapshot por
+ * completo antes de publicá-lo; se os parâmetros forem inválidos, o snapshot atual é mantido.
+ */
+public class RegrasVigentes {
+
+    private volatile RegrasSnapshot atual;
+
+    public RegrasVigentes(RegrasSnapshot inicial) {
+        this.atual = inicial;
+    }
+
+    /**
+     * Snapshot em vigor. Deve ser lido uma única vez por operação.
+     */
+    public RegrasSnapshot atual() {
+        return atual;
+    }
+
+    /**
+     * Compila os parâmetros em um novo snapshot e o publica atomicamente.
+     *
+     * @return Snapshot publicado
+     * @throws RegrasInvalidasException se os parâmetros forem inválidos; as regras atuais continuam em vigor
+     */
+    public synchronized RegrasSnapshot substituir(ParametrosRegras parametros) {
+        RegrasSnapshot novo = RegrasSnapshot.compilar(atual.versao() + 1, parametros);
+        atual = novo;
+        return novo;
+    }
+}
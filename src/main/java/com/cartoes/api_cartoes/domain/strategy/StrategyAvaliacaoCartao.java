@@ -4,9 +4,33 @@ import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
 
 import java.util.List;
+import java.util.Set;
 
 public interface StrategyAvaliacaoCartao {
     boolean seAplica(Cliente cliente);
 
     List<Cartao> avaliarCartoes(Cliente cliente);
-}
\ No newline at end of file
+
+    /**
+     * Idades a partir das quais o resultado da estratégia pode mudar (limites inclusivos).
+     * Utilizado na compilação da {@link TabelaDecisaoElegibilidade}.
+     */
+    default Set<Integer> pontosCorteIdade() {
+        return Set.of();
+    }
+
+    /**
+     * Rendas, em centavos, a partir das quais o resultado da estratégia pode mudar (limites inclusivos).
+     * Utilizado na compilação da {@link TabelaDecisaoElegibilidade}.
+     */
+    default Set<Long> pontosCorteRenda() {
+        return Set.of();
+    }
+
+    /**
+     * UFs tratadas de forma específica pela estratégia. As demais UFs são consideradas equivalentes.
+     */
+    default Set<String> ufsRelevantes() {
+        return Set.of();
+    }
+}
@@ -0,0 +1,159 @@
+package com.cartoes.api_cartoes.domain.strategy;
+
+import com.cartoes.api_cartoes.domain.entity.Cartao;
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Tabela de decisão pré-computada a partir da cadeia ordenada de estratégias.
+ * <p>
+ * As estratégias dependem apenas de UF, idade e renda, sempre comparadas com limites fixos.
+ * Entre dois pontos de corte consecutivos o resultado é constante, portanto basta avaliar a
+ * cadeia uma vez por célula (UF × faixa de idade × faixa de renda) na inicialização.
+ * Em tempo de requisição a avaliação se resume à localização das faixas e a um acesso ao array.
+ */
+public final class TabelaDecisaoElegibilidade {
+
+    private static final String UF_DEMAIS = "";
+
+    private final String[] ufs;
+    private final int[] cortesIdade;
+    private final long[] cortesRenda;
+    private final Decisao[] decisoes;
+
+    /**
+     * Resultado pré-computado de uma célula da tabela.
+     *
+     * @param estrategia Nome da estratégia selecionada
+     * @param cartoes    Cartões ofertados pela estratégia
+     */
+    public record Decisao(String estrategia, List<Cartao> cartoes) {
+    }
+
+    private TabelaDecisaoElegibilidade(String[] ufs, int[] cortesIdade, long[] cortesRenda) {
+        this.ufs = ufs;
+        this.cortesIdade = cortesIdade;
+        this.cortesRenda = cortesRenda;
+        this.decisoes = new Decisao[(ufs.length + 1) * (cortesIdade.length + 1) * (cortesRenda.length + 1)];
+    }
+
+    /**
+     * Compila a cadeia de estratégias, respeitando a ordem de prioridade informada.
+     *
+     * @param estrategias Estratégias em ordem de prioridade
+     * @return Tabela com uma decisão por célula
+     */
+    public static TabelaDecisaoElegibilidade compilar(List<StrategyAvaliacaoCartao> estrategias) {
+        TreeSet<String> ufs = new TreeSet<>();
+        TreeSet<Integer> cortesIdade = new TreeSet<>();
+        TreeSet<Long> cortesRenda = new TreeSet<>();
+
+        for (StrategyAvaliacaoCartao estrategia : estrategias) {
+            estrategia.ufsRelevantes().forEach(uf -> ufs.add(uf.toUpperCase(Locale.ROOT)));
+            cortesIdade.addAll(estrategia.pontosCorteIdade());
+            cortesRenda.addAll(estrategia.pontosCorteRenda());
+        }
+
+        TabelaDecisaoElegibilidade tabela = new TabelaDecisaoElegibilidade(
+                ufs.toArray(String[]::new),
+                cortesIdade.stream().mapToInt(Integer::intValue).toArray(),
+                cortesRenda.stream().mapToLong(Long::longValue).toArray());
+
+        for (int faixaUf = 0; faixaUf <= tabela.ufs.length; faixaUf++) {
+            String uf = faixaUf < tabela.ufs.length ? tabela.ufs[faixaUf] : UF_DEMAIS;
+
+            for (int faixaIdade = 0; faixaIdade <= tabela.cortesIdade.length; faixaIdade++) {
+                for (int faixaRenda = 0; faixaRenda <= tabela.cortesRenda.length; faixaRenda++) {
+                    Cliente representante = Cliente.builder()
+                            .uf(uf)
+                            .idade(tabela.representanteIdade(faixaIdade))
+                            .rendaMensalCentavos(tabela.representanteRenda(faixaRenda))
+                            .build();
+
+                    tabela.decisoes[tabela.indice(faixaUf, faixaIdade, faixaRenda)] = avaliar(estrategias, representante);
+                }
+            }
+        }
+        return tabela;
+    }
+
+    /**
+     * Consulta a decisão pré-computada para o perfil informado.
+     *
+     * @param rendaMensalCentavos Renda mensal em centavos
+     * @return Decisão da primeira estratégia aplicável ou {@code null} se nenhuma se aplicar
+     */
+    public Decisao consultar(String uf, int idade, long rendaMensalCentavos) {
+        return decisoes[indice(faixaUf(uf), faixaIdade(idade), faixaRenda(rendaMensalCentavos))];
+    }
+
+    /**
+     * Quantidade de células pré-computadas.
+     */
+    public int tamanho() {
+        return decisoes.length;
+    }
+
+    private static Decisao avaliar(List<StrategyAvaliacaoCartao> estrategias, Cliente cliente) {
+        for (StrategyAvaliacaoCartao estrategia : estrategias) {
+            if (estrategia.seAplica(cliente)) {
+                return new Decisao(estrategia.getClass().getSimpleName(), List.copyOf(estrategia.avaliarCartoes(cliente)));
+            }
+        }
+        return null;
+    }
+
+    private int indice(int faixaUf, int faixaIdade, int faixaRenda) {
+        return (faixaUf * (cortesIdade.length + 1) + faixaIdade) * (cortesRenda.length + 1) + faixaRenda;
+    }
+
+    private int faixaUf(String uf) {
+        if (uf != null) {
+            for (int i = 0; i < ufs.length; i++) {
+                if (ufs[i].equalsIgnoreCase(uf)) {
+                    return i;
+                }
+            }
+        }
+        return ufs.length;
+    }
+
+    private int faixaIdade(int idade) {
+        int faixa = 0;
+        while (faixa < cortesIdade.length && idade >= cortesIdade[faixa]) {
+            faixa++;
+        }
+        return faixa;
+    }
+
+    private int faixaRenda(long rendaMensalCentavos) {
+        int inicio = 0;
+        int fim = cortesRenda.length;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (rendaMensalCentavos >= cortesRenda[meio]) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    private int representanteIdade(int faixa) {
+        if (faixa > 0) {
+            return cortesIdade[faixa - 1];
+        }
+        return cortesIdade.length > 0 ? cortesIdade[0] - 1 : 0;
+    }
+
+    private long representanteRenda(int faixa) {
+        if (faixa > 0) {
+            return cortesRenda[faixa - 1];
+        }
+        return cortesRenda.length > 0 ? cortesRenda[0] - 1 : 0;
+    }
+}
@@ -1,36 +1,35 @@
 package com.cartoes.api_cartoes.domain.strategy.impl;
 
+import com.cartoes.api_cartoes.application.util.MoedaUtil;
 import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
-import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
 import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes;
 import com.cartoes.api_cartoes.domain.strategy.StrategyAvaliacaoCartao;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-@Component
-@RequiredArgsConstructor
 public class StrategyClienteJovem implements StrategyAvaliacaoCartao {
 
-    @Value("${aplicacao.cliente.idade-minima:18}")
-    private int idadeMinima;
-
-    @Value("${aplicacao.cliente.idade-jovem-maxima:25}")
-    private int idadeJovemMaxima;
-
-    @Value("${aplicacao.cartoes.sem-anuidade.renda-minima:3500.00}")
-    private BigDecimal rendaMinimaSemAnuidade;
-
-    @Value("${aplicacao.cartoes.sem-anuidade.limite:1000.00}")
-    private BigDecimal limiteSemAnuidade;
-
-    @Value("${aplicacao.cartoes.sem-anuidade.anuidade:0.00}")
-    private BigDecimal anuidadeSemAnuidade;
+    private final CatalogoCartoes catalogoCartoes;
+    private final int idadeMinima;
+    private final int idadeJovemMaxima;
+
+    // Limite de renda em centavos, convertido uma única vez na inicialização
+    private final long rendaMinimaSemAnuidade;
+
+    public StrategyClienteJovem(
+            CatalogoCartoes catalogoCartoes,
+            int idadeMinima,
+            int idadeJovemMaxima,
+            BigDecimal rendaMinimaSemAnuidade) {
+        this.catalogoCartoes = catalogoCartoes;
+        this.idadeMinima = idadeMinima;
+        this.idadeJovemMaxima = idadeJovemMaxima;
+        this.rendaMinimaSemAnuidade = MoedaUtil.limiteEmCentavos(rendaMinimaSemAnuidade);
+    }
 
     @Override
     public boolean seAplica(Cliente cliente) {
@@ -39,16 +38,21 @@ public class StrategyClienteJovem implements StrategyAvaliacaoCartao {
 
     @Override
     public List<Cartao> avaliarCartoes(Cliente cliente) {
-        List<Cartao> cartoes = new ArrayList<>();
+        int ofertas = 0;
         // Verificar renda mínima para o cartão sem anuidade
-        if (cliente.getRendaMensal().compareTo(rendaMinimaSemAnuidade) >= 0) {
-            cartoes.add(Cartao.builder()
-                    .tipoCartao(TipoCartao.CARTAO_SEM_ANUIDADE)
-                    .valorAnuidadeMensal(anuidadeSemAnuidade)
-                    .valorLimiteDisponivel(limiteSemAnuidade)
-                    .status(CartaoStatus.APROVADO)
-                    .build());
+        if (cliente.getRendaMensalCentavos() >= rendaMinimaSemAnuidade) {
+            ofertas |= CatalogoCartoes.mascara(TipoCartao.CARTAO_SEM_ANUIDADE);
         }
-        return cartoes;
+        return catalogoCartoes.ofertas(ofertas);
+    }
+
+    @Override
+    public Set<Integer> pontosCorteIdade() {
+        return Set.copyOf(List.of(idadeMinima, idadeJovemMaxima));
+    }
+
+    @Override
+    public Set<Long> pontosCorteRenda() {
+        return Set.of(rendaMinimaSemAnuidade);
     }
 }
@@ -3,26 +3,27 @@ package com.cartoes.api_cartoes.domain.strategy.impl;
 import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
 import com.cartoes.api_cartoes.domain.strategy.StrategyAvaliacaoCartao;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
 
-@Component
-@RequiredArgsConstructor
 public class StrategyClienteSPJovemAdulto implements StrategyAvaliacaoCartao {
 
     private final StrategyPadrao strategyPadrao;
-
-    @Value("${aplicacao.cliente.sp-jovem-adulto-idade-min:25}")
-    private int idadeJovemAdultoMin;
-
-    @Value("${aplicacao.cliente.sp-jovem-adulto-idade-max:30}")
-    private int idadeJovemAdultoMax;
-
-    @Value("${aplicacao.estados.sao-paulo:SP}")
-    private String ufSaoPaulo;
+    private final int idadeJovemAdultoMin;
+    private final int idadeJovemAdultoMax;
+    private final String ufSaoPaulo;
+
+    public StrategyClienteSPJovemAdulto(
+            StrategyPadrao strategyPadrao,
+            int idadeJovemAdultoMin,
+            int idadeJovemAdultoMax,
+            String ufSaoPaulo) {
+        this.strategyPadrao = strategyPadrao;
+        this.idadeJovemAdultoMin = idadeJovemAdultoMin;
+        this.idadeJovemAdultoMax = idadeJovemAdultoMax;
+        this.ufSaoPaulo = ufSaoPaulo;
+    }
 
     @Override
     public boolean seAplica(Cliente cliente) {
@@ -35,4 +36,19 @@ public class StrategyClienteSPJovemAdulto implements StrategyAvaliacaoCartao {
     public List<Cartao> avaliarCartoes(Cliente cliente) {
         return strategyPadrao.avaliarCartoes(cliente);
     }
+
+    @Override
+    public Set<Integer> pontosCorteIdade() {
+        return Set.copyOf(List.of(idadeJovemAdultoMin, idadeJovemAdultoMax));
+    }
+
+    @Override
+    public Set<Long> pontosCorteRenda() {
+        return strategyPadrao.pontosCorteRenda();
+    }
+
+    @Override
+    public Set<String> ufsRelevantes() {
+        return Set.of(ufSaoPaulo);
+    }
 }
\ No newline at end of file
@@ -1,48 +1,41 @@
 package com.cartoes.api_cartoes.domain.strategy.impl;
 
+import com.cartoes.api_cartoes.application.util.MoedaUtil;
 import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
-import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
 import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes;
 import com.cartoes.api_cartoes.domain.strategy.StrategyAvaliacaoCartao;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-@Component
-@RequiredArgsConstructor
 public class StrategyClienteSaoPaulo implements StrategyAvaliacaoCartao {
 
-    @Value("${aplicacao.cliente.sp-jovem-adulto-idade-min:25}")
-    private int idadeJovemAdultoMin;
-
-    @Value("${aplicacao.cliente.sp-jovem-adulto-idade-max:30}")
-    private int idadeJovemAdultoMax;
-
-    @Value("${aplicacao.estados.sao-paulo:SP}")
-    private String ufSaoPaulo;
-
-    @Value("${aplicacao.cartoes.sem-anuidade.renda-minima:3500.00}")
-    private BigDecimal rendaMinimaSemAnuidade;
-
-    @Value("${aplicacao.cartoes.cashback.renda-minima:7500.00}")
-    private BigDecimal rendaMinimaCashback;
-
-    @Value("${aplicacao.cartoes.sem-anuidade.limite:1000.00}")
-    private BigDecimal limiteSemAnuidade;
-
-    @Value("${aplicacao.cartoes.sem-anuidade.anuidade:0.00}")
-    private BigDecimal anuidadeSemAnuidade;
-
-    @Value("${aplicacao.cartoes.cashback.limite:5000.00}")
-    private BigDecimal limiteCashback;
-
-    @Value("${aplicacao.cartoes.cashback.anuidade:15.00}")
-    private BigDecimal anuidadeCashback;
+    private final CatalogoCartoes catalogoCartoes;
+    private final int idadeJovemAdultoMin;
+    private final int idadeJovemAdultoMax;
+    private final String ufSaoPaulo;
+
+    // Limites de renda em centavos, convertidos uma única vez na inicialização
+    private final long rendaMinimaSemAnuidade;
+    private final long rendaMinimaCashback;
+
+    public StrategyClienteSaoPaulo(
+            CatalogoCartoes catalogoCartoes,
+            int idadeJovemAdultoMin,
+            int idadeJovemAdultoMax,
+            String ufSaoPaulo,
+            BigDecimal rendaMinimaSemAnuidade,
+            BigDecimal rendaMinimaCashback) {
+        this.catalogoCartoes = catalogoCartoes;
+        this.idadeJovemAdultoMin = idadeJovemAdultoMin;
+        this.idadeJovemAdultoMax = idadeJovemAdultoMax;
+        this.ufSaoPaulo = ufSaoPaulo;
+        this.rendaMinimaSemAnuidade = MoedaUtil.limiteEmCentavos(rendaMinimaSemAnuidade);
+        this.rendaMinimaCashback = MoedaUtil.limiteEmCentavos(rendaMinimaCashback);
+    }
 
     @Override
     public boolean seAplica(Cliente cliente) {
@@ -57,26 +50,32 @@ public class StrategyClienteSaoPaulo implements StrategyAvaliacaoCartao {
 
     @Override
     public List<Cartao> avaliarCartoes(Cliente cliente) {
-        List<Cartao> cartoes = new ArrayList<>();
+        int ofertas = 0;
+        long rendaMensal = cliente.getRendaMensalCentavos();
 
-        if (cliente.getRendaMensal().compareTo(rendaMinimaSemAnuidade) >= 0) {
-            cartoes.add(Cartao.builder()
-                    .tipoCartao(TipoCartao.CARTAO_SEM_ANUIDADE)
-                    .valorAnuidadeMensal(anuidadeSemAnuidade)
-                    .valorLimiteDisponivel(limiteSemAnuidade)
-                    .status(CartaoStatus.APROVADO)
-                    .build());
+        if (rendaMensal >= rendaMinimaSemAnuidade) {
+            ofertas |= CatalogoCartoes.mascara(TipoCartao.CARTAO_SEM_ANUIDADE);
         }
 
-        if (cliente.getRendaMensal().compareTo(rendaMinimaCashback) >= 0) {
-            cartoes.add(Cartao.builder()
-                    .tipoCartao(TipoCartao.CARTAO_COM_CASHBACK)
-                    .valorAnuidadeMensal(anuidadeCashback)
-                    .valorLimiteDisponivel(limiteCashback)
-                    .status(CartaoStatus.APROVADO)
-                    .build());
+        if (rendaMensal >= rendaMinimaCashback) {
+            ofertas |= CatalogoCartoes.mascara(TipoCartao.CARTAO_COM_CASHBACK);
         }
 
-        return cartoes;
+        return catalogoCartoes.ofertas(ofertas);
+    }
+
+    @Override
+    public Set<Integer> pontosCorteIdade() {
+        return Set.copyOf(List.of(idadeJovemAdultoMin, idadeJovemAdultoMax));
+    }
+
+    @Override
+    public Set<Long> pontosCorteRenda() {
+        return Set.copyOf(List.of(rendaMinimaSemAnuidade, rendaMinimaCashback));
+    }
+
+    @Override
+    public Set<String> ufsRelevantes() {
+        return Set.of(ufSaoPaulo);
     }
-}
\ No newline at end of file
+}
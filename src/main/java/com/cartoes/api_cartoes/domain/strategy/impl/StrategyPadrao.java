@@ -1,66 +1,57 @@
 package com.cartoes.api_cartoes.domain.strategy.impl;
 
 
+import com.cartoes.api_cartoes.application.util.MoedaUtil;
 import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
-import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
 import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes;
 import com.cartoes.api_cartoes.domain.strategy.StrategyAvaliacaoCartao;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-@Component
-@RequiredArgsConstructor
 public class StrategyPadrao implements StrategyAvaliacaoCartao {
 
-    // Faixas de renda
-    @Value("${aplicacao.renda.faixa-baixa-min:1000.00}")
-    private BigDecimal rendaFaixaBaixaMin;
-
-    @Value("${aplicacao.renda.faixa-baixa-max:3000.00}")
-    private BigDecimal rendaFaixaBaixaMax;
-
-    @Value("${aplicacao.renda.faixa-media-min:3000.00}")
-    private BigDecimal rendaFaixaMediaMin;
-
-    @Value("${aplicacao.renda.faixa-media-max:5000.00}")
-    private BigDecimal rendaFaixaMediaMax;
-
-    @Value("${aplicacao.renda.faixa-alta-min:5000.00}")
-    private BigDecimal rendaFaixaAltaMin;
-
-    // Valores mínimos de renda para cada cartão
-    @Value("${aplicacao.cartoes.sem-anuidade.renda-minima:3500.00}")
-    private BigDecimal rendaMinimaSemAnuidade;
-
-    @Value("${aplicacao.cartoes.parceiros.renda-minima:5500.00}")
-    private BigDecimal rendaMinimaParceiros;
-
-    @Value("${aplicacao.cartoes.cashback.renda-minima:7500.00}")
-    private BigDecimal rendaMinimaCashback;
-
-    @Value("${aplicacao.cartoes.sem-anuidade.limite:1000.00}")
-    private BigDecimal limiteSemAnuidade;
-
-    @Value("${aplicacao.cartoes.sem-anuidade.anuidade:0.00}")
-    private BigDecimal anuidadeSemAnuidade;
-
-    @Value("${aplicacao.cartoes.parceiros.limite:3000.00}")
-    private BigDecimal limiteParceiros;
-
-    @Value("${aplicacao.cartoes.parceiros.anuidade:20.00}")
-    private BigDecimal anuidadeParceiros;
-
-    @Value("${aplicacao.cartoes.cashback.limite:5000.00}")
-    private BigDecimal limiteCashback;
-
-    @Value("${aplicacao.cartoes.cashback.anuidade:15.00}")
-    private BigDecimal anuidadeCashback;
+    private static final int SEM_ANUIDADE = CatalogoCartoes.mascara(TipoCartao.CARTAO_SEM_ANUIDADE);
+    private static final int PARCEIROS = CatalogoCartoes.mascara(TipoCartao.CARTAO_DE_PARCEIROS);
+    private static final int CASHBACK = CatalogoCartoes.mascara(TipoCartao.CARTAO_COM_CASHBACK);
+
+    private final CatalogoCartoes catalogoCartoes;
+
+    // Faixas de renda e rendas mínimas em centavos, convertidas uma única vez na inicialização
+    private final long rendaFaixaBaixaMin;
+    private final long rendaFaixaBaixaMax;
+    private final long rendaFaixaMediaMin;
+    private final long rendaFaixaMediaMax;
+    private final long rendaFaixaAltaMin;
+    private final long rendaMinimaSemAnuidade;
+    private final long rendaMinimaParceiros;
+    private final long rendaMinimaCashback;
+
+    public StrategyPadrao(
+            CatalogoCartoes catalogoCartoes,
+            // Faixas de renda
+            BigDecimal rendaFaixaBaixaMin,
+            BigDecimal rendaFaixaBaixaMax,
+            BigDecimal rendaFaixaMediaMin,
+            BigDecimal rendaFaixaMediaMax,
+            BigDecimal rendaFaixaAltaMin,
+            // Valores mínimos de renda para cada cartão
+            BigDecimal rendaMinimaSemAnuidade,
+            BigDecimal rendaMinimaParceiros,
+            BigDecimal rendaMinimaCashback) {
+        this.catalogoCartoes = catalogoCartoes;
+        this.rendaFaixaBaixaMin = MoedaUtil.limiteEmCentavos(rendaFaixaBaixaMin);
+        this.rendaFaixaBaixaMax = MoedaUtil.limiteEmCentavos(rendaFaixaBaixaMax);
+        this.rendaFaixaMediaMin = MoedaUtil.limiteEmCentavos(rendaFaixaMediaMin);
+        this.rendaFaixaMediaMax = MoedaUtil.limiteEmCentavos(rendaFaixaMediaMax);
+        this.rendaFaixaAltaMin = MoedaUtil.limiteEmCentavos(rendaFaixaAltaMin);
+        this.rendaMinimaSemAnuidade = MoedaUtil.limiteEmCentavos(rendaMinimaSemAnuidade);
+        this.rendaMinimaParceiros = MoedaUtil.limiteEmCentavos(rendaMinimaParceiros);
+        this.rendaMinimaCashback = MoedaUtil.limiteEmCentavos(rendaMinimaCashback);
+    }
 
     @Override
     public boolean seAplica(Cliente cliente) {
@@ -69,66 +60,46 @@ public class StrategyPadrao implements StrategyAvaliacaoCartao {
 
     @Override
     public List<Cartao> avaliarCartoes(Cliente cliente) {
-        List<Cartao> cartoes = new ArrayList<>();
-        BigDecimal rendaMensal = cliente.getRendaMensal();
+        int ofertas = 0;
+        long rendaMensal = cliente.getRendaMensalCentavos();
 
         // Faixa baixa: [1000, 3000)
-        if (rendaMensal.compareTo(rendaFaixaBaixaMin) >= 0 &&
-                rendaMensal.compareTo(rendaFaixaBaixaMax) < 0) {
-            if (rendaMensal.compareTo(rendaMinimaSemAnuidade) >= 0) {
-                cartoes.add(createCartaoSemAnuidade());
+        if (rendaMensal >= rendaFaixaBaixaMin && rendaMensal < rendaFaixaBaixaMax) {
+            if (rendaMensal >= rendaMinimaSemAnuidade) {
+                ofertas |= SEM_ANUIDADE;
             }
         }
         // Faixa média: [3000, 5000)
-        else if (rendaMensal.compareTo(rendaFaixaMediaMin) >= 0 &&
-                rendaMensal.compareTo(rendaFaixaMediaMax) < 0) {
-            if (rendaMensal.compareTo(rendaMinimaSemAnuidade) >= 0) {
-                cartoes.add(createCartaoSemAnuidade());
+        else if (rendaMensal >= rendaFaixaMediaMin && rendaMensal < rendaFaixaMediaMax) {
+            if (rendaMensal >= rendaMinimaSemAnuidade) {
+                ofertas |= SEM_ANUIDADE;
             }
-            if (rendaMensal.compareTo(rendaMinimaParceiros) >= 0) {
-                cartoes.add(createCartaoParceiros());
+            if (rendaMensal >= rendaMinimaParceiros) {
+                ofertas |= PARCEIROS;
             }
         }
         // Faixa alta: [5000, ∞)
-        else if (rendaMensal.compareTo(rendaFaixaAltaMin) >= 0) {
-            if (rendaMensal.compareTo(rendaMinimaSemAnuidade) >= 0) {
-                cartoes.add(createCartaoSemAnuidade());
+        else if (rendaMensal >= rendaFaixaAltaMin) {
+            if (rendaMensal >= rendaMinimaSemAnuidade) {
+                ofertas |= SEM_ANUIDADE;
             }
-            if (rendaMensal.compareTo(rendaMinimaParceiros) >= 0) {
-                cartoes.add(createCartaoParceiros());
+            if (rendaMensal >= rendaMinimaParceiros) {
+                ofertas |= PARCEIROS;
             }
-            if (rendaMensal.compareTo(rendaMinimaCashback) >= 0) {
-                cartoes.add(createCartaoCashback());
+            if (rendaMensal >= rendaMinimaCashback) {
+                ofertas |= CASHBACK;
             }
         }
 
-        return cartoes;
+        return catalogoCartoes.ofertas(ofertas);
     }
 
-    private Cartao createCartaoSemAnuidade() {
-        return Cartao.builder()
-                .tipoCartao(TipoCartao.CARTAO_SEM_ANUIDADE)
-                .valorAnuidadeMensal(anuidadeSemAnuidade)
-                .valorLimiteDisponivel(limiteSemAnuidade)
-                .status(CartaoStatus.APROVADO)
-                .build();
-    }
-
-    private Cartao createCartaoParceiros() {
-        return Cartao.builder()
-                .tipoCartao(TipoCartao.CARTAO_DE_PARCEIROS)
-                .valorAnuidadeMensal(anuidadeParceiros)
-                .valorLimiteDisponivel(limiteParceiros)
-                .status(CartaoStatus.APROVADO)
-                .build();
-    }
-
-    private Cartao createCartaoCashback() {
-        return Cartao.builder()
-                .tipoCartao(TipoCartao.CARTAO_COM_CASHBACK)
-                .valorAnuidadeMensal(anuidadeCashback)
-                .valorLimiteDisponivel(limiteCashback)
-                .status(CartaoStatus.APROVADO)
-                .build();
+    @Override
+    public Set<Long> pontosCorteRenda() {
+        return Set.copyOf(List.of(
+                rendaFaixaBaixaMin, rendaFaixaBaixaMax,
+                rendaFaixaMediaMin, rendaFaixaMediaMax,
+                rendaFaixaAltaMin,
+                rendaMinimaSemAnuidade, rendaMinimaParceiros, rendaMinimaCashback));
     }
 }
\ No newline at end of file
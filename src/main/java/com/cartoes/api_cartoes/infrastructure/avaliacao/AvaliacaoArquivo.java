@@ -0,0 +1,281 @@
+package com.cartoes.api_cartoes.infrastructure.avaliacao;
+
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.response.AvaliacaoResponse;
+import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Avaliação de arquivos de clientes fora do servidor HTTP, com as mesmas regras de
+ * {@code POST /cartoes} e sem registro na API de cliente
+ * ({@link CartaoApplicationService#avaliarSemRegistro}).
+ * <p>
+ * O arquivo é dividido em trechos de até {@code bloco} bytes, com as divisões ajustadas para o
+ * início de uma linha, e os trechos são avaliados em paralelo por um {@link ForkJoinPool} de
+ * {@code paralelismo} threads. Cada trecho é mapeado em memória e lido sem cópia para o heap além
+ * da linha corrente, e o resultado é acrescentado ao arquivo de saída em escritas posicionais, com
+ * o espaço reservado por uma soma atômica. A memória ocupada depende do bloco e do paralelismo, e
+ * não do tamanho do arquivo.
+ * <p>
+ * A saída tem uma linha JSON por linha não vazia da entrada ({@link LinhaAvaliacao}), agrupadas por
+ * trecho na ordem em que cada um termina.
+ */
+public class AvaliacaoArquivo {
+
+    // Saída acumulada por trecho antes de cada escrita no arquivo
+    private static final int LIMITE_SAIDA = 256 * 1024;
+    private static final int TAMANHO_BUSCA_LINHA = 8 * 1024;
+
+    private final CartaoApplicationService cartaoApplicationService;
+    private final ObjectReader leitorJson;
+    private final ObjectWriter escritorJson;
+    private final int paralelismo;
+    private final long tamanhoBloco;
+
+    public AvaliacaoArquivo(CartaoApplicationService cartaoApplicationService,
+                            ObjectMapper objectMapper,
+                            int paralelismo,
+                            DataSize bloco) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("O paralelismo deve ser positivo: " + paralelismo);
+        }
+        if (bloco.toBytes() < 1 || bloco.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("O bloco deve ter entre 1 byte e 2GB: " + bloco);
+        }
+        this.cartaoApplicationService = cartaoApplicationService;
+        this.leitorJson = objectMapper.readerFor(ClienteRequest.class);
+        this.escritorJson = objectMapper.writerFor(LinhaAvaliacao.class);
+        this.paralelismo = paralelismo;
+        this.tamanhoBloco = bloco.toBytes();
+    }
+
+    /**
+     * Avalia cada linha de {@code entrada} e grava os resultados em {@code saida}, substituindo-a.
+     *
+     * @throws UncheckedIOException se a leitura ou a escrita de um trecho falhar
+     */
+    public ResumoAvaliacao avaliar(Path entrada, Path saida, FormatoArquivo formato) throws IOException {
+        long inicio = System.nanoTime();
+        try (FileChannel leitura = FileChannel.open(entrada, StandardOpenOption.READ);
+             FileChannel escrita = FileChannel.open(saida, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            long tamanho = leitura.size();
+            long inicioDados = 0;
+            ColunasCsv colunas = null;
+            if (formato == FormatoArquivo.CSV) {
+                inicioDados = inicioProximaLinha(leitura, 0, tamanho);
+                colunas = ColunasCsv.doCabecalho(lerCabecalho(leitura, inicioDados));
+            }
+
+            Execucao execucao = new Execucao(leitura, escrita, colunas);
+            ForkJoinPool pool = new ForkJoinPool(paralelismo);
+            try {
+                pool.invoke(new Trecho(execucao, inicioDados, tamanho));
+            } finally {
+                pool.shutdown();
+            }
+            return execucao.resumo(Duration.ofNanos(System.nanoTime() - inicio));
+        }
+    }
+
+    /**
+     * @return Posição seguinte à primeira quebra de linha a partir de {@code posicao}, ou {@code fim} se não houver
+     */
+    private static long inicioProximaLinha(FileChannel canal, long posicao, long fim) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUSCA_LINHA);
+        while (posicao < fim) {
+            buffer.clear();
+            int lidos = canal.read(buffer, posicao);
+            if (lidos <= 0) {
+                break;
+            }
+            for (int i = 0; i < lidos; i++) {
+                if (buffer.get(i) == '\n') {
+                    return Math.min(posicao + i + 1, fim);
+                }
+            }
+            posicao += lidos;
+        }
+        return fim;
+    }
+
+    private static String lerCabecalho(FileChannel canal, long fim) throws IOException {
+        if (fim > Integer.MAX_VALUE) {
+            throw new IOException("Cabeçalho CSV sem quebra de linha");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) fim);
+        int lidos;
+        do {
+            lidos = canal.read(buffer, buffer.position());
+        } while (lidos > 0 && buffer.hasRemaining());
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).strip();
+    }
+
+    /**
+     * Estado compartilhado pelos trechos de uma avaliação.
+     */
+    private final class Execucao {
+
+        private final FileChannel leitura;
+        private final FileChannel escrita;
+        private final ColunasCsv colunas;
+        private final AtomicLong posicaoSaida = new AtomicLong();
+
+        private final LongAdder registros = new LongAdder();
+        private final LongAdder comOferta = new LongAdder();
+        private final LongAdder semOferta = new LongAdder();
+        private final LongAdder rejeitados = new LongAdder();
+        private final LongAdder ilegiveis = new LongAdder();
+        private final LongAdder falhas = new LongAdder();
+
+        Execucao(FileChannel leitura, FileChannel escrita, ColunasCsv colunas) {
+            this.leitura = leitura;
+            this.escrita = escrita;
+            this.colunas = colunas;
+        }
+
+        void processar(long inicio, long fim) throws IOException {
+            MappedByteBuffer dados = leitura.map(FileChannel.MapMode.READ_ONLY, inicio, fim - inicio);
+            BufferSaida saida = new BufferSaida();
+            byte[] linha = new byte[1024];
+            int limite = dados.limit();
+            int posicao = 0;
+            while (posicao < limite) {
+                int fimLinha = posicao;
+                while (fimLinha < limite && dados.get(fimLinha) != '\n') {
+                    fimLinha++;
+                }
+                int comprimento = fimLinha - posicao;
+                if (comprimento > 0 && dados.get(fimLinha - 1) == '\r') {
+                    comprimento--;
+                }
+                if (comprimento > 0) {
+                    if (linha.length < comprimento) {
+                        linha = new byte[Math.max(comprimento, linha.length * 2)];
+                    }
+                    dados.get(posicao, linha, 0, comprimento);
+                    escritorJson.writeValue(saida, avaliar(inicio + posicao, linha, comprimento));
+                    saida.write('\n');
+                    if (saida.size() >= LIMITE_SAIDA) {
+                        gravar(saida);
+                    }
+                }
+                posicao = fimLinha + 1;
+            }
+            gravar(saida);
+        }
+
+        private LinhaAvaliacao avaliar(long posicao, byte[] linha, int comprimento) {
+            registros.increment();
+            ClienteRequest solicitacao;
+            try {
+                solicitacao = colunas == null
+                        ? leitorJson.readValue(linha, 0, comprimento)
+                        : colunas.ler(new String(linha, 0, comprimento, StandardCharsets.UTF_8));
+            } catch (JsonProcessingException e) {
+                ilegiveis.increment();
+                return LinhaAvaliacao.erro(posicao, "Registro ilegível: " + e.getOriginalMessage());
+            } catch (IOException | RuntimeException e) {
+                ilegiveis.increment();
+                return LinhaAvaliacao.erro(posicao, "Registro ilegível: " + e.getMessage());
+            }
+
+            try {
+                AvaliacaoResponse avaliacao = cartaoApplicationService.avaliarSemRegistro(solicitacao);
+                if (avaliacao.getErros() != null) {
+                    rejeitados.increment();
+                } else if (avaliacao.getCartoesOfertados().isEmpty()) {
+                    semOferta.increment();
+                } else {
+                    comOferta.increment();
+                }
+                return new LinhaAvaliacao(posicao, avaliacao, null);
+            } catch (RuntimeException e) {
+                falhas.increment();
+                return LinhaAvaliacao.erro(posicao, e.getMessage());
+            }
+        }
+
+        private void gravar(BufferSaida saida) throws IOException {
+            if (saida.size() == 0) {
+                return;
+            }
+            ByteBuffer buffer = saida.conteudo();
+            long posicao = posicaoSaida.getAndAdd(buffer.remaining());
+            while (buffer.hasRemaining()) {
+                posicao += escrita.write(buffer, posicao);
+            }
+            saida.reset();
+        }
+
+        ResumoAvaliacao resumo(Duration duracao) {
+            return new ResumoAvaliacao(registros.sum(), comOferta.sum(), semOferta.sum(), rejeitados.sum(),
+                    ilegiveis.sum(), falhas.sum(), duracao);
+        }
+    }
+
+    /**
+     * Divide o intervalo {@code [inicio, fim)} ao meio, no início da linha seguinte, até caber em um bloco.
+     */
+    private final class Trecho extends RecursiveAction {
+
+        private final Execucao execucao;
+        private final long inicio;
+        private final long fim;
+
+        Trecho(Execucao execucao, long inicio, long fim) {
+            this.execucao = execucao;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                if (fim - inicio > tamanhoBloco) {
+                    long meio = inicioProximaLinha(execucao.leitura, inicio + (fim - inicio) / 2, fim);
+                    if (meio < fim) {
+                        invokeAll(new Trecho(execucao, inicio, meio), new Trecho(execucao, meio, fim));
+                        return;
+                    }
+                }
+                execucao.processar(inicio, fim);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Expõe o conteúdo acumulado sem a cópia de {@link ByteArrayOutputStream#toByteArray()}.
+     */
+    private static final class BufferSaida extends ByteArrayOutputStream {
+
+        BufferSaida() {
+            super(LIMITE_SAIDA + 4 * 1024);
+        }
+
+        ByteBuffer conteudo() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.cartoes.api_cartoes.infrastructure.avaliacao;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Leitura das linhas de um CSV de clientes (separado por vírgula, com aspas duplas como no RFC 4180),
+ * com as colunas identificadas pelo cabeçalho pelos nomes do JSON de {@code POST /cartoes}:
+ * {@code nome}, {@code cpf}, {@code idade}, {@code data_nascimento} ({@code yyyy-MM-dd}), {@code uf},
+ * {@code renda_mensal} (ponto como separador decimal), {@code email} e {@code telefone_whatsapp}.
+ * <p>
+ * Colunas desconhecidas são ignoradas; colunas ausentes e valores vazios ficam nulos, para a
+ * validação apontá-los. Cada registro ocupa uma única linha: quebras de linha entre aspas não são
+ * suportadas.
+ */
+final class ColunasCsv {
+
+    private static final String[] CAMPOS =
+            {"nome", "cpf", "idade", "data_nascimento", "uf", "renda_mensal", "email", "telefone_whatsapp"};
+    private static final int NOME = 0;
+    private static final int CPF = 1;
+    private static final int IDADE = 2;
+    private static final int DATA_NASCIMENTO = 3;
+    private static final int UF = 4;
+    private static final int RENDA_MENSAL = 5;
+    private static final int EMAIL = 6;
+    private static final int TELEFONE_WHATSAPP = 7;
+
+    // Posição de cada campo de CAMPOS nas linhas do arquivo, ou -1 se o cabeçalho não o tiver
+    private final int[] colunas;
+
+    private ColunasCsv(int[] colunas) {
+        this.colunas = colunas;
+    }
+
+    static ColunasCsv doCabecalho(String cabecalho) {
+        // Marca de ordem de bytes (BOM) gravada por algumas planilhas
+        List<String> nomes = separar(cabecalho.startsWith("\uFEFF") ? cabecalho.substring(1) : cabecalho);
+        int[] colunas = new int[CAMPOS.length];
+        for (int campo = 0; campo < CAMPOS.length; campo++) {
+            colunas[campo] = -1;
+            for (int coluna = 0; coluna < nomes.size(); coluna++) {
+                if (CAMPOS[campo].equals(nomes.get(coluna).strip().toLowerCase(Locale.ROOT))) {
+                    colunas[campo] = coluna;
+                    break;
+                }
+            }
+        }
+        return new ColunasCsv(colunas);
+    }
+
+    /**
+     * @throws IllegalArgumentException se a linha tiver aspas não fechadas ou valores em formato inválido
+     */
+    ClienteRequest ler(String linha) {
+        List<String> valores = separar(linha);
+        String idade = valor(valores, IDADE);
+        String dataNascimento = valor(valores, DATA_NASCIMENTO);
+        String rendaMensal = valor(valores, RENDA_MENSAL);
+        try {
+            return new ClienteRequest(ClienteDTO.builder()
+                    .nome(valor(valores, NOME))
+                    .cpf(valor(valores, CPF))
+                    .idade(idade != null ? Integer.valueOf(idade.strip()) : null)
+                    .dataNascimento(dataNascimento != null ? LocalDate.parse(dataNascimento.strip()) : null)
+                    .uf(valor(valores, UF))
+                    .rendaMensal(rendaMensal != null ? new BigDecimal(rendaMensal.strip()) : null)
+                    .email(valor(valores, EMAIL))
+                    .telefoneWhatsapp(valor(valores, TELEFONE_WHATSAPP))
+                    .build());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Valor inválido: " + e.getMessage(), e);
+        }
+    }
+
+    private String valor(List<String> valores, int campo) {
+        int coluna = colunas[campo];
+        if (coluna < 0 || coluna >= valores.size() || valores.get(coluna).isEmpty()) {
+            return null;
+        }
+        return valores.get(coluna);
+    }
+
+    static List<String> separar(String linha) {
+        List<String> valores = new ArrayList<>();
+        StringBuilder valor = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c != '"') {
+                    valor.append(c);
+                } else if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    valor.append('"');
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                valores.add(valor.toString());
+                valor.setLength(0);
+            } else {
+                valor.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("Aspas não fechadas");
+        }
+        valores.add(valor.toString());
+        return valores;
+    }
+}
@@ -0,0 +1,25 @@
+package com.cartoes.api_cartoes.infrastructure.avaliacao;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formatos aceitos pela avaliação de arquivos, um cliente por linha.
+ */
+public enum FormatoArquivo {
+    /**
+     * Um corpo de {@code POST /cartoes} por linha, como o corpus do gerador de carga.
+     */
+    JSONL,
+    /**
+     * Cabeçalho com os nomes dos campos do JSON e uma linha por cliente; ver {@link ColunasCsv}.
+     */
+    CSV;
+
+    /**
+     * @return {@link #CSV} para arquivos {@code .csv} e {@link #JSONL} para os demais
+     */
+    public static FormatoArquivo doArquivo(Path arquivo) {
+        return arquivo.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : JSONL;
+    }
+}
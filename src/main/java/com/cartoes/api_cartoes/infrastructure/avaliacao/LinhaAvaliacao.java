@@ -0,0 +1,20 @@
+package com.cartoes.api_cartoes.infrastructure.avaliacao;
+
+import com.cartoes.api_cartoes.application.dto.response.AvaliacaoResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * Linha do arquivo de saída. A {@code posicao} é o deslocamento, em bytes, da linha correspondente
+ * no arquivo de entrada, já que as linhas são gravadas na ordem em que cada trecho termina.
+ * {@code erro} aparece no lugar da avaliação quando a linha é ilegível ou a avaliação falha.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"posicao"})
+record LinhaAvaliacao(long posicao, @JsonUnwrapped AvaliacaoResponse avaliacao, String erro) {
+
+    static LinhaAvaliacao erro(long posicao, String erro) {
+        return new LinhaAvaliacao(posicao, null, erro);
+    }
+}
@@ -0,0 +1,27 @@
+package com.cartoes.api_cartoes.infrastructure.avaliacao;
+
+import java.time.Duration;
+
+/**
+ * Totais de uma avaliação de arquivo.
+ *
+ * @param registros  Linhas não vazias lidas
+ * @param comOferta  Clientes válidos com ao menos um cartão ofertado
+ * @param semOferta  Clientes válidos sem cartões ofertados
+ * @param rejeitados Clientes rejeitados pela validação, com as violações na saída
+ * @param ilegiveis  Linhas que não puderam ser convertidas em cliente
+ * @param falhas     Clientes cuja avaliação lançou exceção
+ */
+public record ResumoAvaliacao(long registros,
+                              long comOferta,
+                              long semOferta,
+                              long rejeitados,
+                              long ilegiveis,
+                              long falhas,
+                              Duration duracao) {
+
+    public double registrosPorSegundo() {
+        long nanos = duracao.toNanos();
+        return nanos > 0 ? registros * 1e9 / nanos : 0;
+    }
+}
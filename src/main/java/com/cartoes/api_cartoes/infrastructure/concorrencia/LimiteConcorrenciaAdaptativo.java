@@ -0,0 +1,119 @@
+package com.cartoes.api_cartoes.infrastructure.concorrencia;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de requisições simultâneas ajustado pela latência observada (AIMD).
+ * <p>
+ * Cada requisição concluída dentro de {@code latenciaAlvo} aumenta o limite em {@code 1/limite},
+ * ou seja, em uma unidade a cada {@code limite} respostas rápidas, desde que ao menos metade do
+ * limite esteja em uso. Uma resposta mais lenta que o alvo, ou marcada como sobrecarga, multiplica
+ * o limite por {@code fatorReducao}. Respostas de requisições iniciadas antes da última redução
+ * não reduzem o limite de novo: refletem o limite anterior, e sem isso uma única lentidão da API
+ * de cliente derrubaria o limite ao mínimo de uma vez.
+ * <p>
+ * A aquisição é uma única operação atômica; o ajuste do limite acontece na liberação, sob lock.
+ */
+public class LimiteConcorrenciaAdaptativo {
+
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final long latenciaAlvoNanos;
+    private final double fatorReducao;
+
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter rejeitadas;
+
+    // Protegidos por lock; limiteAtual é a parte inteira publicada para a aquisição
+    private double limite;
+    private long ultimaReducaoNanos;
+    private volatile int limiteAtual;
+
+    public LimiteConcorrenciaAdaptativo(int limiteInicial,
+                                        int limiteMinimo,
+                                        int limiteMaximo,
+                                        Duration latenciaAlvo,
+                                        double fatorReducao,
+                                        MeterRegistry meterRegistry) {
+        if (limiteMinimo < 1 || limiteMinimo > limiteInicial || limiteInicial > limiteMaximo) {
+            throw new IllegalArgumentException("Os limites devem satisfazer 1 <= mínimo <= inicial <= máximo");
+        }
+        if (fatorReducao <= 0 || fatorReducao >= 1) {
+            throw new IllegalArgumentException("O fator de redução deve estar entre 0 e 1: " + fatorReducao);
+        }
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.latenciaAlvoNanos = latenciaAlvo.toNanos();
+        this.fatorReducao = fatorReducao;
+        this.limite = limiteInicial;
+        this.limiteAtual = limiteInicial;
+        this.ultimaReducaoNanos = System.nanoTime();
+
+        this.rejeitadas = Counter.builder("cartoes.concorrencia.rejeitadas")
+                .description("Solicitações recusadas com 503 por exceder o limite de concorrência")
+                .register(meterRegistry);
+        Gauge.builder("cartoes.concorrencia.limite", this, LimiteConcorrenciaAdaptativo::limite)
+                .description("Limite atual de solicitações simultâneas")
+                .register(meterRegistry);
+        Gauge.builder("cartoes.concorrencia.em.andamento", emAndamento, AtomicInteger::get)
+                .description("Solicitações em processamento")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return {@code false} se o limite já foi atingido; nesse caso nada precisa ser liberado
+     */
+    public boolean tentarAdquirir() {
+        int atual;
+        do {
+            atual = emAndamento.get();
+            if (atual >= limiteAtual) {
+                rejeitadas.increment();
+                return false;
+            }
+        } while (!emAndamento.compareAndSet(atual, atual + 1));
+        return true;
+    }
+
+    /**
+     * Libera uma aquisição e ajusta o limite pela latência da requisição.
+     *
+     * @param inicioNanos {@link System#nanoTime()} no momento da aquisição
+     * @param fimNanos {@link System#nanoTime()} na conclusão da requisição
+     * @param sobrecarga Se a resposta indicou sobrecarga, independentemente da latência
+     */
+    public void liberar(long inicioNanos, long fimNanos, boolean sobrecarga) {
+        int emUso = emAndamento.getAndDecrement();
+
+        lock.lock();
+        try {
+            if (sobrecarga || fimNanos - inicioNanos > latenciaAlvoNanos) {
+                if (inicioNanos - ultimaReducaoNanos >= 0) {
+                    limite = Math.max(limiteMinimo, limite * fatorReducao);
+                    ultimaReducaoNanos = fimNanos;
+                }
+            } else if (emUso * 2 >= limiteAtual) {
+                // Só cresce quando o limite está sendo usado, para não acumular folga sem carga
+                limite = Math.min(limiteMaximo, limite + 1.0 / limite);
+            }
+            limiteAtual = (int) limite;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int limite() {
+        return limiteAtual;
+    }
+
+    public int emAndamento() {
+        return emAndamento.get();
+    }
+}
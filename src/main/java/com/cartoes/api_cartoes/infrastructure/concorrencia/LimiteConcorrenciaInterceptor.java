@@ -0,0 +1,50 @@
+package com.cartoes.api_cartoes.infrastructure.concorrencia;
+
+import com.cartoes.api_cartoes.domain.exception.ServicoIndisponivelException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Aplica o {@link LimiteConcorrenciaAdaptativo} a {@code POST /cartoes}. Acima do limite, a
+ * requisição é recusada antes de chegar ao controller com 503 e {@code Retry-After}, em vez de
+ * esperar em fila por uma thread do Tomcat enquanto a latência de todas as outras cresce.
+ * <p>
+ * Respostas 503 e 504 contam como sobrecarga para o ajuste do limite.
+ */
+public class LimiteConcorrenciaInterceptor implements HandlerInterceptor {
+
+    private static final String ATRIBUTO_INICIO = LimiteConcorrenciaInterceptor.class.getName() + ".inicio";
+
+    private final LimiteConcorrenciaAdaptativo limite;
+    private final Duration tentarNovamenteEm;
+
+    public LimiteConcorrenciaInterceptor(LimiteConcorrenciaAdaptativo limite, Duration tentarNovamenteEm) {
+        this.limite = limite;
+        this.tentarNovamenteEm = tentarNovamenteEm;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        if (!limite.tentarAdquirir()) {
+            throw new ServicoIndisponivelException("Limite de solicitações simultâneas atingido", tentarNovamenteEm);
+        }
+        request.setAttribute(ATRIBUTO_INICIO, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ATRIBUTO_INICIO) instanceof Long inicio) {
+            int status = response.getStatus();
+            limite.liberar(inicio, System.nanoTime(), status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value());
+        }
+    }
+}
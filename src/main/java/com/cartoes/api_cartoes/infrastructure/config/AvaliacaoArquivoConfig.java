@@ -0,0 +1,71 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
+import com.cartoes.api_cartoes.infrastructure.avaliacao.AvaliacaoArquivo;
+import com.cartoes.api_cartoes.infrastructure.avaliacao.FormatoArquivo;
+import com.cartoes.api_cartoes.infrastructure.avaliacao.ResumoAvaliacao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Avaliação de um arquivo de clientes na inicialização, no perfil {@value #PERFIL}: a aplicação sobe
+ * sem servidor HTTP, avalia {@code aplicacao.avaliacao-arquivo.entrada} e encerra.
+ */
+@Slf4j
+@Configuration
+@Profile(AvaliacaoArquivoConfig.PERFIL)
+public class AvaliacaoArquivoConfig {
+
+    public static final String PERFIL = "avaliacao-arquivo";
+
+    @Value("${aplicacao.avaliacao-arquivo.entrada:}")
+    private String entrada;
+
+    @Value("${aplicacao.avaliacao-arquivo.saida:}")
+    private String saida;
+
+    @Value("${aplicacao.avaliacao-arquivo.formato:}")
+    private String formato;
+
+    @Value("${aplicacao.avaliacao-arquivo.paralelismo:0}")
+    private int paralelismo;
+
+    @Value("${aplicacao.avaliacao-arquivo.bloco:4MB}")
+    private DataSize bloco;
+
+    @Bean
+    public AvaliacaoArquivo avaliacaoArquivo(CartaoApplicationService cartaoApplicationService, ObjectMapper objectMapper) {
+        return new AvaliacaoArquivo(cartaoApplicationService, objectMapper,
+                paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors(), bloco);
+    }
+
+    @Bean
+    public ApplicationRunner avaliacaoArquivoRunner(AvaliacaoArquivo avaliacaoArquivo) {
+        return argumentos -> {
+            if (entrada.isBlank()) {
+                throw new IllegalStateException("Informe o arquivo em aplicacao.avaliacao-arquivo.entrada");
+            }
+            Path arquivoEntrada = Path.of(entrada);
+            Path arquivoSaida = Path.of(saida.isBlank() ? entrada + ".avaliacao.jsonl" : saida);
+            FormatoArquivo formatoEntrada = formato.isBlank()
+                    ? FormatoArquivo.doArquivo(arquivoEntrada)
+                    : FormatoArquivo.valueOf(formato.strip().toUpperCase(Locale.ROOT));
+
+            log.info("Avaliando {} ({}) em {}", arquivoEntrada, formatoEntrada, arquivoSaida);
+            ResumoAvaliacao resumo = avaliacaoArquivo.avaliar(arquivoEntrada, arquivoSaida, formatoEntrada);
+            log.info("Avaliação concluída: {} registros em {} ms ({} registros/s); com oferta: {}, sem oferta: {}, "
+                            + "rejeitados: {}, ilegíveis: {}, falhas: {}",
+                    resumo.registros(), resumo.duracao().toMillis(), Math.round(resumo.registrosPorSegundo()),
+                    resumo.comOferta(), resumo.semOferta(), resumo.rejeitados(), resumo.ilegiveis(), resumo.falhas());
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.domain.repository.ClienteRepository;
+import com.cartoes.api_cartoes.infrastructure.repository.ClienteRepositoryEmLote;
+import com.cartoes.api_cartoes.infrastructure.repository.ClienteRepositoryImpl;
+import com.cartoes.api_cartoes.infrastructure.repository.ClienteRepositoryUnicoPorCpf;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+public class ClienteRepositoryConfig {
+
+    @Value("${api.cliente.coalescencia.habilitado:true}")
+    private boolean coalescenciaHabilitada;
+
+    @Value("${api.cliente.coalescencia.vagas:4096}")
+    private int vagas;
+
+    /**
+     * {@link ClienteRepository} usado pelos serviços: o registro individual ou em lote, precedido
+     * pelo compartilhamento de registros simultâneos do mesmo CPF quando
+     * {@code api.cliente.coalescencia.habilitado}.
+     */
+    @Bean
+    @Primary
+    public ClienteRepository clienteRepository(ClienteRepositoryImpl clienteRepositoryImpl,
+                                               Optional<ClienteRepositoryEmLote> clienteRepositoryEmLote,
+                                               MeterRegistry meterRegistry) {
+        ClienteRepository repository = clienteRepositoryEmLote.<ClienteRepository>map(emLote -> emLote)
+                .orElse(clienteRepositoryImpl);
+        return coalescenciaHabilitada ? new ClienteRepositoryUnicoPorCpf(repository, vagas, meterRegistry) : repository;
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "api.cliente.lote.habilitado", havingValue = "true")
+    static class RegistroEmLoteConfig {
+
+        @Value("${api.cliente.lote.tamanho-maximo:50}")
+        private int tamanhoMaximo;
+
+        @Value("${api.cliente.lote.espera-maxima:5ms}")
+        private Duration esperaMaxima;
+
+        /**
+         * Agendador dos envios de lotes que não completaram o tamanho máximo a tempo.
+         */
+        @Bean(destroyMethod = "shutdownNow")
+        public ScheduledExecutorService agendadorLoteCliente() {
+            return Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("lote-cliente").daemon(true).factory());
+        }
+
+        /**
+         * Substitui o registro individual pelo registro em lote. Ao encerrar, os clientes ainda
+         * pendentes são enviados.
+         */
+        @Bean(destroyMethod = "close")
+        public ClienteRepositoryEmLote clienteRepositoryEmLote(ClienteRepositoryImpl clienteRepositoryImpl,
+                                                               @Qualifier("agendadorLoteCliente") ScheduledExecutorService agendador,
+                                                               MeterRegistry meterRegistry) {
+            return new ClienteRepositoryEmLote(clienteRepositoryImpl, tamanhoMaximo, esperaMaxima, agendador, meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.infrastructure.concorrencia.LimiteConcorrenciaAdaptativo;
+import com.cartoes.api_cartoes.infrastructure.concorrencia.LimiteConcorrenciaInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "aplicacao.concorrencia.habilitado", havingValue = "true", matchIfMissing = true)
+public class ConcorrenciaConfig implements WebMvcConfigurer {
+
+    @Value("${aplicacao.concorrencia.limite-inicial:50}")
+    private int limiteInicial;
+
+    @Value("${aplicacao.concorrencia.limite-minimo:4}")
+    private int limiteMinimo;
+
+    @Value("${aplicacao.concorrencia.limite-maximo:200}")
+    private int limiteMaximo;
+
+    @Value("${aplicacao.concorrencia.latencia-alvo:500ms}")
+    private Duration latenciaAlvo;
+
+    @Value("${aplicacao.concorrencia.fator-reducao:0.9}")
+    private double fatorReducao;
+
+    @Value("${aplicacao.concorrencia.tentar-novamente-em:1s}")
+    private Duration tentarNovamenteEm;
+
+    private final MeterRegistry meterRegistry;
+
+    public ConcorrenciaConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Limite de solicitações simultâneas em {@code POST /cartoes}, ajustado pela latência.
+     */
+    @Bean
+    public LimiteConcorrenciaAdaptativo limiteConcorrenciaSolicitacoes() {
+        return new LimiteConcorrenciaAdaptativo(limiteInicial, limiteMinimo, limiteMaximo, latenciaAlvo, fatorReducao,
+                meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new LimiteConcorrenciaInterceptor(limiteConcorrenciaSolicitacoes(), tentarNovamenteEm))
+                .addPathPatterns("/cartoes");
+    }
+}
@@ -0,0 +1,24 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.metrics.MetricasSolicitacao;
+import com.cartoes.api_cartoes.infrastructure.json.ConversorSolicitacaoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ConversorJsonConfig {
+
+    /**
+     * Conversor dedicado às respostas de solicitação, registrado pelo Spring Boot antes do conversor
+     * JSON padrão, que continua atendendo os demais tipos com o mesmo {@link ObjectMapper}.
+     *
+     * @see SolicitacaoResponse
+     */
+    @Bean
+    public ConversorSolicitacaoResponse conversorSolicitacaoResponse(ObjectMapper objectMapper,
+                                                                     MetricasSolicitacao metricasSolicitacao) {
+        return new ConversorSolicitacaoResponse(objectMapper, metricasSolicitacao);
+    }
+}
@@ -0,0 +1,166 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.service.SolicitacaoAssincronaService;
+import com.cartoes.api_cartoes.infrastructure.fila.ConsumidorSolicitacoesKafka;
+import com.cartoes.api_cartoes.infrastructure.fila.ConsumidorSolicitacoesMemoria;
+import com.cartoes.api_cartoes.infrastructure.fila.FilaSolicitacoesKafka;
+import com.cartoes.api_cartoes.infrastructure.fila.FilaSolicitacoesMemoria;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadFactory;
+
+@Configuration
+public class FilaConfig {
+
+    @Value("${aplicacao.assincrono.retentativas.maximo:3}")
+    private int maximoRetentativas;
+
+    @Value("${aplicacao.assincrono.retentativas.intervalo-inicial:500ms}")
+    private Duration intervaloInicial;
+
+    @Value("${aplicacao.assincrono.retentativas.multiplicador:2.0}")
+    private double multiplicador;
+
+    @Value("${aplicacao.assincrono.retentativas.intervalo-maximo:5s}")
+    private Duration intervaloMaximo;
+
+    /**
+     * Intervalos entre as tentativas de processar uma solicitação retirada da fila, em memória
+     * ou no Kafka. Rejeições de negócio não são repetidas.
+     */
+    @Bean
+    public BackOff backOffSolicitacoes() {
+        ExponentialBackOff backOff = new ExponentialBackOff(intervaloInicial.toMillis(), multiplicador);
+        backOff.setMaxInterval(intervaloMaximo.toMillis());
+        backOff.setMaxAttempts(maximoRetentativas);
+        return backOff;
+    }
+
+    /**
+     * Fila limitada em memória, usada quando {@code aplicacao.assincrono.fila} é {@code memoria}.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "aplicacao.assincrono.fila", havingValue = "memoria", matchIfMissing = true)
+    static class FilaMemoriaConfig {
+
+        @Value("${aplicacao.assincrono.consumidores:4}")
+        private int consumidores;
+
+        @Value("${aplicacao.assincrono.tamanho-lote:50}")
+        private int tamanhoLote;
+
+        @Value("${aplicacao.assincrono.tentar-novamente-em:1s}")
+        private Duration tentarNovamenteEm;
+
+        @Value("${aplicacao.assincrono.memoria.capacidade:1000}")
+        private int capacidade;
+
+        @Value("${aplicacao.assincrono.memoria.espera-encerramento:30s}")
+        private Duration esperaEncerramento;
+
+        @Value("${spring.threads.virtual.enabled:false}")
+        private boolean threadsVirtuais;
+
+        @Bean
+        public FilaSolicitacoesMemoria filaSolicitacoesMemoria(MeterRegistry meterRegistry) {
+            return new FilaSolicitacoesMemoria(capacidade, tentarNovamenteEm, meterRegistry);
+        }
+
+        /**
+         * Consumidores da fila, iniciados apenas com o recebimento assíncrono habilitado e fora da
+         * avaliação de arquivo. Com threads virtuais habilitadas, cada consumidor roda em uma thread virtual.
+         */
+        @Bean(destroyMethod = "close")
+        @ConditionalOnProperty(name = "aplicacao.assincrono.habilitado", havingValue = "true")
+        @Profile("!" + AvaliacaoArquivoConfig.PERFIL)
+        public ConsumidorSolicitacoesMemoria consumidorSolicitacoesMemoria(FilaSolicitacoesMemoria fila,
+                                                                           SolicitacaoAssincronaService solicitacaoAssincronaService,
+                                                                           BackOff backOffSolicitacoes,
+                                                                           MeterRegistry meterRegistry) {
+            ThreadFactory threads = threadsVirtuais
+                    ? Thread.ofVirtual().name("fila-solicitacoes-", 1).factory()
+                    : Thread.ofPlatform().name("fila-solicitacoes-", 1).factory();
+            return new ConsumidorSolicitacoesMemoria(fila, solicitacaoAssincronaService, consumidores, tamanhoLote,
+                    backOffSolicitacoes, esperaEncerramento, threads, meterRegistry);
+        }
+    }
+
+    /**
+     * Publicação e consumo pelo tópico {@code aplicacao.assincrono.kafka.topico}, usados quando
+     * {@code aplicacao.assincrono.fila} é {@code kafka}. O consumidor lê o tópico mesmo com o
+     * recebimento assíncrono desabilitado, atendendo solicitações publicadas por outros sistemas.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "aplicacao.assincrono.fila", havingValue = "kafka")
+    static class FilaKafkaConfig {
+
+        @Value("${aplicacao.assincrono.kafka.topico:cartoes.solicitacoes}")
+        private String topico;
+
+        @Value("${aplicacao.assincrono.kafka.espera-confirmacao:2s}")
+        private Duration esperaConfirmacao;
+
+        @Value("${aplicacao.assincrono.tentar-novamente-em:1s}")
+        private Duration tentarNovamenteEm;
+
+        @Bean
+        public FilaSolicitacoesKafka filaSolicitacoesKafka(KafkaTemplate<String, SolicitacaoPendente> kafkaTemplate,
+                                                           MeterRegistry meterRegistry) {
+            return new FilaSolicitacoesKafka(kafkaTemplate, topico, esperaConfirmacao, tentarNovamenteEm, meterRegistry);
+        }
+
+        /**
+         * Fora da avaliação de arquivo, que não deve consumir as solicitações publicadas no tópico.
+         */
+        @Bean
+        @Profile("!" + AvaliacaoArquivoConfig.PERFIL)
+        public ConsumidorSolicitacoesKafka consumidorSolicitacoesKafka(SolicitacaoAssincronaService solicitacaoAssincronaService,
+                                                                       MeterRegistry meterRegistry) {
+            return new ConsumidorSolicitacoesKafka(solicitacaoAssincronaService, meterRegistry);
+        }
+
+        /**
+         * Repete a solicitação que falhou conforme {@link FilaConfig#backOffSolicitacoes()} e, esgotadas as
+         * tentativas, a publica em {@code <topico>.DLT}. O Spring Boot aplica este tratador ao
+         * container do consumidor.
+         */
+        @Bean
+        public DefaultErrorHandler tratadorErrosSolicitacoes(KafkaTemplate<Object, Object> kafkaTemplate,
+                                                            BackOff backOffSolicitacoes,
+                                                            SolicitacaoAssincronaService solicitacaoAssincronaService,
+                                                            MeterRegistry meterRegistry) {
+            Counter retentativas = Counter.builder("cartoes.fila.retentativas")
+                    .description("Novas tentativas de processar uma solicitação após falha temporária")
+                    .tag("fila", "kafka")
+                    .register(meterRegistry);
+            Counter descartadas = Counter.builder("cartoes.fila.descartadas")
+                    .description("Solicitações enviadas ao tópico .DLT após esgotar as tentativas")
+                    .tag("fila", "kafka")
+                    .register(meterRegistry);
+
+            DeadLetterPublishingRecoverer dlt = new DeadLetterPublishingRecoverer(kafkaTemplate);
+            DefaultErrorHandler tratador = new DefaultErrorHandler((registro, erro) -> {
+                descartadas.increment();
+                dlt.accept(registro, erro);
+                if (registro.value() instanceof SolicitacaoPendente solicitacao) {
+                    solicitacaoAssincronaService.descartar(solicitacao, erro);
+                }
+            }, backOffSolicitacoes);
+            tratador.setRetryListeners((registro, erro, tentativa) -> retentativas.increment());
+            return tratador;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.infrastructure.resilience.HedgeAdaptativo;
+import com.cartoes.api_cartoes.infrastructure.resilience.PoliticaHedge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+public class HedgeConfig {
+
+    private static final String HABILITADO = "api.cliente.hedge.habilitado";
+
+    /**
+     * Registros de cliente mais lentos que o percentil configurado recebem uma segunda tentativa.
+     * Requer que a API de cliente respeite o header {@code Idempotency-Key}.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = HABILITADO, havingValue = "true")
+    static class HedgeAdaptativoConfig {
+
+        @Value("${api.cliente.hedge.percentil:0.95}")
+        private double percentil;
+
+        @Value("${api.cliente.hedge.atraso-minimo:20ms}")
+        private Duration atrasoMinimo;
+
+        @Value("${api.cliente.hedge.atraso-maximo:1s}")
+        private Duration atrasoMaximo;
+
+        @Value("${api.cliente.hedge.amostras:1024}")
+        private int amostras;
+
+        @Value("${api.cliente.hedge.intervalo-atualizacao:1s}")
+        private Duration intervaloAtualizacao;
+
+        @Value("${api.cliente.hedge.orcamento:0.1}")
+        private double orcamento;
+
+        @Value("${api.cliente.hedge.rajada:10}")
+        private int rajada;
+
+        @Bean(initMethod = "iniciar", destroyMethod = "close")
+        public HedgeAdaptativo politicaHedge(@Qualifier("agendadorResiliencia") ScheduledExecutorService agendador,
+                                             MeterRegistry meterRegistry) {
+            return new HedgeAdaptativo(percentil, atrasoMinimo, atrasoMaximo, amostras, intervaloAtualizacao, orcamento,
+                    rajada, agendador, meterRegistry);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = HABILITADO, havingValue = "false", matchIfMissing = true)
+    static class SemHedgeConfig {
+
+        @Bean
+        public PoliticaHedge politicaHedge() {
+            return PoliticaHedge.NENHUMA;
+        }
+    }
+}
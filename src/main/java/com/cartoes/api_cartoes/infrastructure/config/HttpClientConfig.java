@@ -0,0 +1,107 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Cliente HTTP não bloqueante com pool de conexões persistentes (keep-alive) para a API de cliente.
+ * <p>
+ * O pool limita as conexões, o tempo de vida e a expulsão de conexões ociosas; a sua ocupação é
+ * publicada no Micrometer como {@code httpcomponents.httpclient.pool.*}.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${rest-template.connection-timeout:2000}")
+    private int connectionTimeout;
+
+    @Value("${rest-template.read-timeout:2000}")
+    private int readTimeout;
+
+    @Value("${api.cliente.http.max-conexoes:200}")
+    private int maxConexoes;
+
+    @Value("${api.cliente.http.max-conexoes-por-rota:200}")
+    private int maxConexoesPorRota;
+
+    @Value("${api.cliente.http.tempo-vida-conexao:5m}")
+    private Duration tempoVidaConexao;
+
+    @Value("${api.cliente.http.tempo-ocioso-maximo:30s}")
+    private Duration tempoOciosoMaximo;
+
+    @Value("${api.cliente.http.validar-apos-inatividade:2s}")
+    private Duration validarAposInatividade;
+
+    @Value("${api.cliente.http.versao:FORCE_HTTP_1}")
+    private HttpVersionPolicy versaoHttp;
+
+    @Bean(destroyMethod = "close")
+    public PoolingAsyncClientConnectionManager poolConexoesAssincronasApiCliente() {
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConexoes)
+                .setMaxConnPerRoute(maxConexoesPorRota)
+                // LIFO mantém aquecidas as conexões mais recentes e deixa as demais expirarem
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(configuracaoConexao())
+                // NEGOTIATE usa HTTP/2 via ALPN em https; FORCE_HTTP_2 também vale para http (h2c)
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(versaoHttp)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Cliente HTTP não bloqueante usado no registro assíncrono de clientes.
+     * As respostas são tratadas nas threads de I/O do próprio cliente.
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public CloseableHttpAsyncClient httpAsyncClient(PoolingAsyncClientConnectionManager poolConexoesAssincronasApiCliente) {
+        return HttpAsyncClients.custom()
+                .setConnectionManager(poolConexoesAssincronasApiCliente)
+                .setDefaultRequestConfig(configuracaoRequisicao())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(tempoOciosoMaximo))
+                .build();
+    }
+
+    /**
+     * Publica as conexões em uso (leased), aguardando (pending), disponíveis e o máximo
+     * do pool, identificados pela tag {@code httpclient}.
+     */
+    @Bean
+    public MeterBinder metricasPoolApiCliente(PoolingAsyncClientConnectionManager poolConexoesAssincronasApiCliente) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(poolConexoesAssincronasApiCliente, "api-cliente-async");
+    }
+
+    private ConnectionConfig configuracaoConexao() {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectionTimeout))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                .setTimeToLive(TimeValue.of(tempoVidaConexao))
+                .setValidateAfterInactivity(TimeValue.of(validarAposInatividade))
+                .build();
+    }
+
+    private RequestConfig configuracaoRequisicao() {
+        return RequestConfig.custom()
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotenciaConfig {
+
+    private static final String NOME_CACHE = "solicitacoes";
+
+    @Value("${aplicacao.idempotencia.tamanho-maximo:10000}")
+    private long tamanhoMaximo;
+
+    @Value("${aplicacao.idempotencia.ttl:10m}")
+    private Duration ttl;
+
+    /**
+     * Respostas de {@code POST /cartoes} por chave de idempotência, limitadas em quantidade e
+     * expiradas após o TTL contado a partir da conclusão da solicitação.
+     * <p>
+     * As métricas {@code cache.gets}, {@code cache.evictions} e {@code cache.size} são publicadas
+     * com a tag {@code cache=solicitacoes}, além da taxa de acerto em {@code cache.hit.ratio}.
+     */
+    @Bean
+    public AsyncCache<String, SolicitacaoResponse> cacheSolicitacoes(MeterRegistry meterRegistry) {
+        AsyncCache<String, SolicitacaoResponse> cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NOME_CACHE);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+                .description("Fração das consultas ao cache atendidas sem processar a solicitação")
+                .tag("cache", NOME_CACHE)
+                .register(meterRegistry);
+        return cache;
+    }
+}
@@ -0,0 +1,31 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.domain.service.GeradorIdentificador;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorAleatorio;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdentificadorConfig {
+
+    @Value("${aplicacao.identificador.tipo:uuid-v7}")
+    private String tipo;
+
+    @Value("${aplicacao.identificador.no:0}")
+    private int no;
+
+    /**
+     * Gerador dos números de solicitação e das instâncias de erro. Com {@code uuid-v7}, cada
+     * réplica da aplicação deve receber um nó diferente.
+     */
+    @Bean
+    public GeradorIdentificador geradorIdentificador() {
+        return switch (tipo) {
+            case "uuid-v7" -> new GeradorIdentificadorUuidV7(no);
+            case "aleatorio" -> new GeradorIdentificadorAleatorio();
+            default -> throw new IllegalArgumentException("Tipo de identificador desconhecido: " + tipo);
+        };
+    }
+}
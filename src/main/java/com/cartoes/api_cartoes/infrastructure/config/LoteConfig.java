@@ -0,0 +1,43 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class LoteConfig {
+
+    @Value("${aplicacao.lote.paralelismo:8}")
+    private int paralelismo;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean threadsVirtuais;
+
+    /**
+     * Executor dedicado à avaliação dos clientes recebidos em lote, isolando-o das
+     * threads que atendem as requisições individuais.
+     * <p>
+     * Com threads virtuais habilitadas, cada cliente é avaliado em uma thread virtual própria;
+     * a concorrência continua limitada pela janela do lote.
+     */
+    @Bean
+    public AsyncTaskExecutor executorLote() {
+        if (threadsVirtuais) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("lote-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(paralelismo);
+        executor.setMaxPoolSize(paralelismo);
+        executor.setThreadNamePrefix("lote-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
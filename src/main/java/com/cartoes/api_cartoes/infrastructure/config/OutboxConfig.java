@@ -0,0 +1,109 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.infrastructure.outbox.DrenadorOutbox;
+import com.cartoes.api_cartoes.infrastructure.outbox.JournalOutbox;
+import com.cartoes.api_cartoes.infrastructure.outbox.OutboxClientes;
+import com.cartoes.api_cartoes.infrastructure.outbox.OutboxClientesJournal;
+import com.cartoes.api_cartoes.infrastructure.repository.ClienteRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class OutboxConfig {
+
+    // A avaliação de arquivo não registra clientes e não deve reenviar os pendentes gravados pela API
+    private static final String OUTBOX_ATIVO = "${api.cliente.outbox.habilitado:true} and !${api.cliente.simulado:false}"
+            + " and !environment.matchesProfiles('" + AvaliacaoArquivoConfig.PERFIL + "')";
+
+    /**
+     * Clientes cujo registro falhou são gravados em disco e reenviados quando a API de cliente se
+     * recuperar. Usado quando {@code api.cliente.outbox.habilitado} e a API não é simulada, fora do
+     * perfil {@value AvaliacaoArquivoConfig#PERFIL}.
+     */
+    @Configuration
+    @ConditionalOnExpression(OUTBOX_ATIVO)
+    static class OutboxJournalConfig {
+
+        @Value("${api.cliente.outbox.diretorio:./dados/outbox}")
+        private Path diretorio;
+
+        @Value("${api.cliente.outbox.tamanho-segmento:64MB}")
+        private DataSize tamanhoSegmento;
+
+        @Value("${api.cliente.outbox.tamanho-maximo:1GB}")
+        private DataSize tamanhoMaximo;
+
+        @Value("${api.cliente.outbox.intervalo-sincronizacao:10ms}")
+        private Duration intervaloSincronizacao;
+
+        @Value("${api.cliente.outbox.aguardar-sincronizacao:false}")
+        private boolean aguardarSincronizacao;
+
+        @Value("${api.cliente.outbox.lote:50}")
+        private int tamanhoLote;
+
+        @Value("${api.cliente.outbox.taxa-maxima:100}")
+        private int taxaMaxima;
+
+        @Value("${api.cliente.outbox.espera-vazio:500ms}")
+        private Duration esperaVazio;
+
+        @Value("${api.cliente.outbox.espera-maxima-falha:30s}")
+        private Duration esperaMaximaFalha;
+
+        @Value("${api.cliente.outbox.tentativas-lote:3}")
+        private int tentativasLote;
+
+        @Value("${api.cliente.lote.habilitado:false}")
+        private boolean enviarEmLote;
+
+        @Bean(destroyMethod = "close")
+        public JournalOutbox journalOutbox() throws IOException {
+            return new JournalOutbox(diretorio, Math.toIntExact(tamanhoSegmento.toBytes()), tamanhoMaximo.toBytes(),
+                    intervaloSincronizacao, aguardarSincronizacao);
+        }
+
+        @Bean
+        public OutboxClientesJournal outboxClientes(JournalOutbox journalOutbox,
+                                                    Clock relogio,
+                                                    MeterRegistry meterRegistry) {
+            return new OutboxClientesJournal(journalOutbox, relogio, meterRegistry);
+        }
+
+        /**
+         * Reenvio em segundo plano, pelo endpoint de lote quando {@code api.cliente.lote.habilitado}.
+         * Encerrado antes do journal, do qual depende.
+         */
+        @Bean(initMethod = "iniciar", destroyMethod = "close")
+        public DrenadorOutbox drenadorOutbox(OutboxClientesJournal outboxClientes,
+                                             ClienteRepositoryImpl clienteRepositoryImpl,
+                                             Clock relogio,
+                                             MeterRegistry meterRegistry) {
+            return new DrenadorOutbox(outboxClientes, clienteRepositoryImpl, enviarEmLote, tamanhoLote, taxaMaxima,
+                    esperaVazio, esperaMaximaFalha, tentativasLote, relogio, meterRegistry);
+        }
+    }
+
+    /**
+     * Sem outbox, o fallback apenas retorna o ID provisório e o cliente não é registrado posteriormente.
+     */
+    @Configuration
+    @ConditionalOnExpression("!(" + OUTBOX_ATIVO + ")")
+    static class SemOutboxConfig {
+
+        @Bean
+        public OutboxClientes outboxClientes() {
+            return (idProvisorio, cliente) -> {
+            };
+        }
+    }
+}
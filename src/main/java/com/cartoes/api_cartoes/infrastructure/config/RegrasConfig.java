@@ -0,0 +1,43 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import com.cartoes.api_cartoes.infrastructure.regras.CarregadorRegras;
+import com.cartoes.api_cartoes.infrastructure.regras.MonitorArquivoRegras;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class RegrasConfig {
+
+    @Value("${aplicacao.regras.intervalo-verificacao:5s}")
+    private Duration intervaloVerificacao;
+
+    /**
+     * Regras de elegibilidade em vigor. A aplicação não inicia com parâmetros inválidos.
+     */
+    @Bean
+    public RegrasVigentes regrasVigentes(CarregadorRegras carregadorRegras) {
+        RegrasSnapshot snapshot = RegrasSnapshot.compilar(1, carregadorRegras.carregar());
+        log.info("Tabela de decisão de elegibilidade compilada com {} células", snapshot.tabela().tamanho());
+        return new RegrasVigentes(snapshot);
+    }
+
+    /**
+     * Recarrega as regras quando o arquivo muda. Fora da avaliação de arquivo, que avalia todo o
+     * arquivo de clientes com as regras lidas na inicialização.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("!'${aplicacao.regras.arquivo:}'.isBlank()")
+    @Profile("!" + AvaliacaoArquivoConfig.PERFIL)
+    public MonitorArquivoRegras monitorArquivoRegras(CarregadorRegras carregadorRegras, RegrasVigentes regrasVigentes) {
+        return new MonitorArquivoRegras(carregadorRegras.arquivo(), intervaloVerificacao, carregadorRegras, regrasVigentes);
+    }
+}
@@ -0,0 +1,18 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class RelogioConfig {
+
+    /**
+     * Relógio da aplicação, no fuso padrão da JVM. Substituível nos testes por um relógio fixo.
+     */
+    @Bean
+    public Clock relogio() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -1,27 +0,0 @@
-package com.cartoes.api_cartoes.infrastructure.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-
-import java.time.Duration;
-
-@Configuration
-public class RestTemplateConfig {
-
-    @Value("${rest-template.connection-timeout:2000}")
-    private int connectionTimeout;
-
-    @Value("${rest-template.read-timeout:2000}")
-    private int readTimeout;
-
-    @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder
-                .connectTimeout(Duration.ofMillis(connectionTimeout))
-                .readTimeout(Duration.ofMillis(readTimeout))
-                .build();
-    }
-}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import com.cartoes.api_cartoes.infrastructure.json.ConversorSolicitacaoResponse;
+import com.cartoes.api_cartoes.infrastructure.resultado.ResultadosSolicitacoesMemoria;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+public class ResultadosConfig {
+
+    @Value("${aplicacao.resultados.tamanho-maximo:64MB}")
+    private DataSize tamanhoMaximo;
+
+    @Value("${aplicacao.resultados.ttl:1h}")
+    private Duration ttl;
+
+    /**
+     * Resultados consultados por {@code GET /cartoes/{numeroSolicitacao}}, limitados pela memória
+     * estimada e expirados após o TTL.
+     */
+    @Bean
+    public ResultadosSolicitacoesMemoria resultadosSolicitacoes(ConversorSolicitacaoResponse conversorSolicitacaoResponse,
+                                                                ObjectMapper objectMapper,
+                                                                MeterRegistry meterRegistry) {
+        return new ResultadosSolicitacoesMemoria(conversorSolicitacaoResponse, objectMapper, tamanhoMaximo, ttl,
+                Ticker.systemTicker(), meterRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.cartoes.api_cartoes.infrastructure.fila;
+
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.service.SolicitacaoAssincronaService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+
+/**
+ * Consome o tópico de solicitações em lotes de até {@code max-poll-records} mensagens, com
+ * {@code aplicacao.assincrono.consumidores} consumidores no grupo. Os offsets são confirmados uma
+ * vez por lote.
+ * <p>
+ * Se uma solicitação falhar, o lote é interrompido nela: as anteriores são confirmadas e o
+ * tratador de erros repete a partir da que falhou, publicando-a no tópico {@code .DLT} ao
+ * esgotar as tentativas. Mensagens que não puderam ser lidas como solicitação são descartadas.
+ */
+@Slf4j
+public class ConsumidorSolicitacoesKafka {
+
+    private final SolicitacaoAssincronaService solicitacaoAssincronaService;
+    private final Counter invalidas;
+
+    public ConsumidorSolicitacoesKafka(SolicitacaoAssincronaService solicitacaoAssincronaService,
+                                       MeterRegistry meterRegistry) {
+        this.solicitacaoAssincronaService = solicitacaoAssincronaService;
+        this.invalidas = Counter.builder("cartoes.fila.invalidas")
+                .description("Mensagens do tópico que não puderam ser lidas como solicitação")
+                .tag("fila", FilaSolicitacoesKafka.TAG_FILA)
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(id = "consumidor-solicitacoes",
+            topics = "${aplicacao.assincrono.kafka.topico:cartoes.solicitacoes}",
+            concurrency = "${aplicacao.assincrono.consumidores:4}",
+            batch = "true")
+    public void consumir(List<ConsumerRecord<String, SolicitacaoPendente>> registros) {
+        for (int i = 0; i < registros.size(); i++) {
+            ConsumerRecord<String, SolicitacaoPendente> registro = registros.get(i);
+            if (registro.value() == null) {
+                // Falha de desserialização (ErrorHandlingDeserializer) ou tombstone
+                invalidas.increment();
+                log.warn("Mensagem inválida descartada: {}-{}@{}", registro.topic(), registro.partition(), registro.offset());
+                continue;
+            }
+            try {
+                solicitacaoAssincronaService.processar(registro.value());
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("Falha ao processar a solicitação", e, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.cartoes.api_cartoes.infrastructure.fila;
+
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.service.SolicitacaoAssincronaService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consumidores de {@link FilaSolicitacoesMemoria}. Cada consumidor retira até {@code tamanhoLote}
+ * solicitações por vez e as processa em ordem; uma falha temporária é repetida conforme o
+ * {@link BackOff} antes de passar à próxima, o mesmo comportamento do consumidor Kafka.
+ * <p>
+ * Ao encerrar, a fila deixa de aceitar publicações e os consumidores a esvaziam, por no máximo
+ * {@code esperaEncerramento}.
+ */
+@Slf4j
+public class ConsumidorSolicitacoesMemoria implements AutoCloseable {
+
+    private static final Duration ESPERA_RETIRADA = Duration.ofMillis(100);
+
+    private final FilaSolicitacoesMemoria fila;
+    private final SolicitacaoAssincronaService solicitacaoAssincronaService;
+    private final int tamanhoLote;
+    private final BackOff backOff;
+    private final Duration esperaEncerramento;
+    private final ExecutorService executor;
+    private final Counter retentativas;
+    private final Counter descartadas;
+
+    private volatile boolean encerrando;
+
+    public ConsumidorSolicitacoesMemoria(FilaSolicitacoesMemoria fila,
+                                         SolicitacaoAssincronaService solicitacaoAssincronaService,
+                                         int consumidores,
+                                         int tamanhoLote,
+                                         BackOff backOff,
+                                         Duration esperaEncerramento,
+                                         ThreadFactory threads,
+                                         MeterRegistry meterRegistry) {
+        if (consumidores < 1 || tamanhoLote < 1) {
+            throw new IllegalArgumentException("Consumidores e tamanho do lote devem ser positivos");
+        }
+        this.fila = fila;
+        this.solicitacaoAssincronaService = solicitacaoAssincronaService;
+        this.tamanhoLote = tamanhoLote;
+        this.backOff = backOff;
+        this.esperaEncerramento = esperaEncerramento;
+        this.retentativas = Counter.builder("cartoes.fila.retentativas")
+                .description("Novas tentativas de processar uma solicitação após falha temporária")
+                .tag("fila", FilaSolicitacoesMemoria.TAG_FILA)
+                .register(meterRegistry);
+        this.descartadas = Counter.builder("cartoes.fila.descartadas")
+                .description("Solicitações abandonadas após esgotar as tentativas ou no encerramento")
+                .tag("fila", FilaSolicitacoesMemoria.TAG_FILA)
+                .register(meterRegistry);
+
+        this.executor = Executors.newThreadPerTaskExecutor(threads);
+        for (int i = 0; i < consumidores; i++) {
+            executor.execute(this::consumir);
+        }
+        log.info("{} consumidores da fila de solicitações em memória iniciados", consumidores);
+    }
+
+    private void consumir() {
+        while (!encerrando || fila.pendentes() > 0) {
+            List<SolicitacaoPendente> lote;
+            try {
+                lote = fila.retirar(tamanhoLote, ESPERA_RETIRADA);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            for (SolicitacaoPendente solicitacao : lote) {
+                processar(solicitacao);
+            }
+        }
+    }
+
+    void processar(SolicitacaoPendente solicitacao) {
+        BackOffExecution tentativas = backOff.start();
+        while (true) {
+            try {
+                solicitacaoAssincronaService.processar(solicitacao);
+                return;
+            } catch (RuntimeException e) {
+                long espera = tentativas.nextBackOff();
+                if (espera == BackOffExecution.STOP) {
+                    descartadas.increment();
+                    log.error("Solicitação {} descartada após esgotar as tentativas", solicitacao.getNumeroSolicitacao());
+                    solicitacaoAssincronaService.descartar(solicitacao, e);
+                    return;
+                }
+                retentativas.increment();
+                log.warn("Falha ao processar a solicitação {}, nova tentativa em {} ms: {}",
+                        solicitacao.getNumeroSolicitacao(), espera, e.getMessage());
+                try {
+                    Thread.sleep(espera);
+                } catch (InterruptedException interrompido) {
+                    Thread.currentThread().interrupt();
+                    descartadas.increment();
+                    log.error("Solicitação {} descartada no encerramento", solicitacao.getNumeroSolicitacao());
+                    solicitacaoAssincronaService.descartar(solicitacao, e);
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        fila.fechar();
+        encerrando = true;
+        executor.shutdown();
+        if (!executor.awaitTermination(esperaEncerramento.toMillis(), TimeUnit.MILLISECONDS)) {
+            int pendentes = fila.pendentes();
+            descartadas.increment(pendentes);
+            log.warn("Encerramento sem esvaziar a fila: {} solicitações descartadas", pendentes);
+            executor.shutdownNow();
+        }
+    }
+}
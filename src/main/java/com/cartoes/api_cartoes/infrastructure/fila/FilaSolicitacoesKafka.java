@@ -0,0 +1,68 @@
+package com.cartoes.api_cartoes.infrastructure.fila;
+
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.fila.FilaSolicitacoes;
+import com.cartoes.api_cartoes.domain.exception.ServicoIndisponivelException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publica as solicitações em um tópico Kafka, com o CPF como chave para que as solicitações do
+ * mesmo cliente sejam consumidas em ordem. A publicação só é considerada aceita após a
+ * confirmação do broker, aguardada por no máximo {@code esperaConfirmacao}.
+ */
+@Slf4j
+public class FilaSolicitacoesKafka implements FilaSolicitacoes {
+
+    static final String TAG_FILA = "kafka";
+
+    private final KafkaTemplate<String, SolicitacaoPendente> kafkaTemplate;
+    private final String topico;
+    private final Duration esperaConfirmacao;
+    private final Duration tentarNovamenteEm;
+    private final Counter recusadas;
+
+    public FilaSolicitacoesKafka(KafkaTemplate<String, SolicitacaoPendente> kafkaTemplate,
+                                 String topico,
+                                 Duration esperaConfirmacao,
+                                 Duration tentarNovamenteEm,
+                                 MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topico = topico;
+        this.esperaConfirmacao = esperaConfirmacao;
+        this.tentarNovamenteEm = tentarNovamenteEm;
+        this.recusadas = Counter.builder("cartoes.fila.recusadas")
+                .description("Solicitações recusadas porque a fila estava cheia ou indisponível")
+                .tag("fila", TAG_FILA)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publicar(SolicitacaoPendente solicitacao) {
+        try {
+            kafkaTemplate.send(topico, solicitacao.getCliente().getCpf(), solicitacao)
+                    .get(esperaConfirmacao.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw recusar(solicitacao, e);
+        } catch (ExecutionException | TimeoutException | KafkaException | org.apache.kafka.common.KafkaException e) {
+            // O template lança na hora quando o tópico não aparece nos metadados em max.block.ms
+            throw recusar(solicitacao, e);
+        }
+    }
+
+    private ServicoIndisponivelException recusar(SolicitacaoPendente solicitacao, Exception causa) {
+        recusadas.increment();
+        log.warn("Publicação da solicitação {} em {} não confirmada: {}",
+                solicitacao.getNumeroSolicitacao(), topico, causa.toString());
+        return new ServicoIndisponivelException("Fila de solicitações indisponível", tentarNovamenteEm, causa);
+    }
+}
@@ -0,0 +1,83 @@
+package com.cartoes.api_cartoes.infrastructure.fila;
+
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.fila.FilaSolicitacoes;
+import com.cartoes.api_cartoes.domain.exception.ServicoIndisponivelException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fila limitada em memória, consumida por {@link ConsumidorSolicitacoesMemoria}. Quando está cheia,
+ * a publicação falha na hora em vez de aguardar espaço: a sobrecarga chega ao cliente como 503 com
+ * {@code Retry-After}, e as threads do Tomcat não ficam presas esperando a fila.
+ * <p>
+ * As solicitações ainda na fila são perdidas se a aplicação parar sem esvaziá-la; use o Kafka
+ * quando o recebimento precisar sobreviver a reinícios.
+ */
+public class FilaSolicitacoesMemoria implements FilaSolicitacoes {
+
+    static final String TAG_FILA = "memoria";
+
+    private final BlockingQueue<SolicitacaoPendente> fila;
+    private final Duration tentarNovamenteEm;
+    private final Counter recusadas;
+
+    private volatile boolean aberta = true;
+
+    public FilaSolicitacoesMemoria(int capacidade, Duration tentarNovamenteEm, MeterRegistry meterRegistry) {
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+        this.tentarNovamenteEm = tentarNovamenteEm;
+        this.recusadas = Counter.builder("cartoes.fila.recusadas")
+                .description("Solicitações recusadas porque a fila estava cheia ou indisponível")
+                .tag("fila", TAG_FILA)
+                .register(meterRegistry);
+        Gauge.builder("cartoes.fila.pendentes", fila, BlockingQueue::size)
+                .description("Solicitações aguardando um consumidor")
+                .tag("fila", TAG_FILA)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publicar(SolicitacaoPendente solicitacao) {
+        if (!aberta || !fila.offer(solicitacao)) {
+            recusadas.increment();
+            throw new ServicoIndisponivelException(
+                    aberta ? "Fila de solicitações cheia" : "Fila de solicitações encerrada", tentarNovamenteEm);
+        }
+    }
+
+    /**
+     * Retira até {@code maximo} solicitações de uma vez, aguardando no máximo {@code espera} pela primeira.
+     *
+     * @return Solicitações na ordem de publicação; vazia se nenhuma chegou a tempo
+     */
+    List<SolicitacaoPendente> retirar(int maximo, Duration espera) throws InterruptedException {
+        SolicitacaoPendente primeira = fila.poll(espera.toNanos(), TimeUnit.NANOSECONDS);
+        if (primeira == null) {
+            return List.of();
+        }
+        List<SolicitacaoPendente> lote = new ArrayList<>(Math.min(maximo, fila.size() + 1));
+        lote.add(primeira);
+        fila.drainTo(lote, maximo - 1);
+        return lote;
+    }
+
+    /**
+     * Recusa novas publicações; as solicitações já na fila continuam disponíveis para retirada.
+     */
+    void fechar() {
+        aberta = false;
+    }
+
+    int pendentes() {
+        return fila.size();
+    }
+}
@@ -0,0 +1,197 @@
+package com.cartoes.api_cartoes.infrastructure.json;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.metrics.MetricasSolicitacao;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Escreve {@link SolicitacaoResponse} em JSON com o gerador de streaming do Jackson, direto no
+ * buffer da resposta, produzindo os mesmos bytes que a serialização por reflexão (inclusive a
+ * ordem dos campos, em que o Jackson coloca os anotados com {@code @JsonProperty} por último):
+ * <ul>
+ *     <li>nomes de campos em {@link SerializedString}, com os bytes UTF-8 já calculados;</li>
+ *     <li>cada cartão ofertado é serializado pelo {@link ObjectMapper} uma única vez e reaproveitado;</li>
+ *     <li>{@code data_solicitacao} é formatada por {@link FormatadorDataHora}.</li>
+ * </ul>
+ * Se o {@link ObjectMapper} estiver configurado com indentação ou omissão de valores nulos, a
+ * escrita é delegada a ele. A duração da escrita é registrada no timer
+ * {@value MetricasSolicitacao#METRICA_SERIALIZACAO}.
+ */
+public class ConversorSolicitacaoResponse extends AbstractHttpMessageConverter<SolicitacaoResponse> {
+
+    private static final SerializedString NUMERO_SOLICITACAO = new SerializedString("numero_solicitacao");
+    private static final SerializedString ID_CLIENTE = new SerializedString("id_cliente");
+    private static final SerializedString DATA_SOLICITACAO = new SerializedString("data_solicitacao");
+    private static final SerializedString CLIENTE = new SerializedString("cliente");
+    private static final SerializedString CARTOES_OFERTADOS = new SerializedString("cartoes_ofertados");
+
+    private static final SerializedString NOME = new SerializedString("nome");
+    private static final SerializedString CPF = new SerializedString("cpf");
+    private static final SerializedString IDADE = new SerializedString("idade");
+    private static final SerializedString DATA_NASCIMENTO = new SerializedString("data_nascimento");
+    private static final SerializedString UF = new SerializedString("uf");
+    private static final SerializedString RENDA_MENSAL = new SerializedString("renda_mensal");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString TELEFONE_WHATSAPP = new SerializedString("telefone_whatsapp");
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    // Cartões de catálogos anteriores deixam de aparecer após uma recarga das regras
+    private static final int MAXIMO_FRAGMENTOS = 256;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter escritorCartao;
+    private final MetricasSolicitacao metricasSolicitacao;
+    private final boolean compativel;
+    private final FormatadorDataHora formatadorDataHora = new FormatadorDataHora();
+    private final Map<CartaoResponse, SerializableString> fragmentosCartoes = new ConcurrentHashMap<>();
+
+    public ConversorSolicitacaoResponse(ObjectMapper objectMapper, MetricasSolicitacao metricasSolicitacao) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+        this.escritorCartao = objectMapper.writerFor(CartaoResponse.class);
+        this.metricasSolicitacao = metricasSolicitacao;
+        JsonInclude.Include inclusao = objectMapper.getSerializationConfig().getDefaultPropertyInclusion().getValueInclusion();
+        this.compativel = !objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)
+                && (inclusao == JsonInclude.Include.USE_DEFAULTS || inclusao == JsonInclude.Include.ALWAYS);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SolicitacaoResponse.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected SolicitacaoResponse readInternal(Class<? extends SolicitacaoResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("SolicitacaoResponse não é lida por este conversor", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(SolicitacaoResponse resposta, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long inicio = metricasSolicitacao.agora();
+        escrever(resposta, StreamUtils.nonClosing(outputMessage.getBody()));
+        metricasSolicitacao.registrarSerializacao(inicio);
+    }
+
+    /**
+     * Escreve a resposta no stream, sem fechá-lo.
+     */
+    public void escrever(SolicitacaoResponse resposta, OutputStream saida) throws IOException {
+        if (!compativel) {
+            objectMapper.writerFor(SolicitacaoResponse.class).writeValue(saida, resposta);
+            return;
+        }
+
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida, JsonEncoding.UTF8)) {
+            gerador.writeStartObject();
+            gerador.writeFieldName(CLIENTE);
+            escreverCliente(gerador, resposta.getCliente());
+
+            gerador.writeFieldName(NUMERO_SOLICITACAO);
+            gerador.writeString(resposta.getNumeroSolicitacao());
+
+            gerador.writeFieldName(ID_CLIENTE);
+            gerador.writeString(resposta.getIdCliente());
+
+            gerador.writeFieldName(DATA_SOLICITACAO);
+            if (resposta.getDataSolicitacao() == null) {
+                gerador.writeNull();
+            } else {
+                char[] dataHora = formatadorDataHora.formatar(resposta.getDataSolicitacao());
+                gerador.writeRawValue(dataHora, 0, dataHora.length);
+            }
+
+            gerador.writeFieldName(CARTOES_OFERTADOS);
+            escreverCartoes(gerador, resposta.getCartoesOfertados());
+            gerador.writeEndObject();
+        }
+    }
+
+    private static void escreverCliente(JsonGenerator gerador, ClienteDTO cliente) throws IOException {
+        if (cliente == null) {
+            gerador.writeNull();
+            return;
+        }
+        gerador.writeStartObject();
+        gerador.writeFieldName(NOME);
+        gerador.writeString(cliente.getNome());
+        gerador.writeFieldName(CPF);
+        gerador.writeString(cliente.getCpf());
+        gerador.writeFieldName(IDADE);
+        if (cliente.getIdade() == null) {
+            gerador.writeNull();
+        } else {
+            gerador.writeNumber(cliente.getIdade());
+        }
+        gerador.writeFieldName(UF);
+        gerador.writeString(cliente.getUf());
+        gerador.writeFieldName(EMAIL);
+        gerador.writeString(cliente.getEmail());
+        gerador.writeFieldName(DATA_NASCIMENTO);
+        LocalDate dataNascimento = cliente.getDataNascimento();
+        gerador.writeString(dataNascimento != null ? FORMATO_DATA.format(dataNascimento) : null);
+        gerador.writeFieldName(RENDA_MENSAL);
+        gerador.writeNumber(cliente.getRendaMensal());
+        gerador.writeFieldName(TELEFONE_WHATSAPP);
+        gerador.writeString(cliente.getTelefoneWhatsapp());
+        gerador.writeEndObject();
+    }
+
+    private void escreverCartoes(JsonGenerator gerador, List<CartaoResponse> cartoes) throws IOException {
+        if (cartoes == null) {
+            gerador.writeNull();
+            return;
+        }
+        gerador.writeStartArray();
+        for (CartaoResponse cartao : cartoes) {
+            if (cartao == null) {
+                gerador.writeNull();
+            } else {
+                gerador.writeRawValue(fragmento(cartao));
+            }
+        }
+        gerador.writeEndArray();
+    }
+
+    private SerializableString fragmento(CartaoResponse cartao) throws IOException {
+        SerializableString fragmento = fragmentosCartoes.get(cartao);
+        if (fragmento == null) {
+            if (fragmentosCartoes.size() >= MAXIMO_FRAGMENTOS) {
+                fragmentosCartoes.clear();
+            }
+            fragmento = new SerializedString(escritorCartao.writeValueAsString(cartao));
+            fragmentosCartoes.put(cartao, fragmento);
+        }
+        return fragmento;
+    }
+}
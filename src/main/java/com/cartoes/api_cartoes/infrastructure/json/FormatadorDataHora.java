@@ -0,0 +1,78 @@
+package com.cartoes.api_cartoes.infrastructure.json;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * Formata data e hora no padrão {@code yyyy-MM-dd'T'HH:mm:ss.SSS}, já entre aspas, para escrita
+ * direta no JSON.
+ * <p>
+ * O texto até os segundos é montado uma única vez por segundo e compartilhado entre as threads;
+ * cada chamada copia esse prefixo e completa apenas os milissegundos. Anos fora do intervalo de
+ * 1 a 9999 (o padrão usa o ano da era) usam o {@link DateTimeFormatter}.
+ */
+final class FormatadorDataHora {
+
+    static final DateTimeFormatter FORMATO = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    // Aspas, "yyyy-MM-ddTHH:mm:ss." e aspas finais
+    private static final int TAMANHO_PREFIXO = 21;
+    private static final int TAMANHO = TAMANHO_PREFIXO + 4;
+
+    private volatile Segundo ultimo = new Segundo(Long.MIN_VALUE, null);
+
+    /**
+     * @return Texto JSON da data e hora, incluindo as aspas
+     */
+    char[] formatar(LocalDateTime dataHora) {
+        int ano = dataHora.getYear();
+        if (ano < 1 || ano > 9999) {
+            return ('"' + FORMATO.format(dataHora) + '"').toCharArray();
+        }
+
+        long epochSegundo = dataHora.toEpochSecond(ZoneOffset.UTC);
+        Segundo segundo = ultimo;
+        if (segundo.epochSegundo() != epochSegundo) {
+            segundo = new Segundo(epochSegundo, prefixo(dataHora));
+            ultimo = segundo;
+        }
+
+        char[] texto = Arrays.copyOf(segundo.prefixo(), TAMANHO);
+        int milissegundos = dataHora.getNano() / 1_000_000;
+        texto[TAMANHO_PREFIXO] = (char) ('0' + milissegundos / 100);
+        texto[TAMANHO_PREFIXO + 1] = (char) ('0' + milissegundos / 10 % 10);
+        texto[TAMANHO_PREFIXO + 2] = (char) ('0' + milissegundos % 10);
+        texto[TAMANHO_PREFIXO + 3] = '"';
+        return texto;
+    }
+
+    private static char[] prefixo(LocalDateTime dataHora) {
+        char[] prefixo = new char[TAMANHO_PREFIXO];
+        prefixo[0] = '"';
+        digitos(prefixo, 1, dataHora.getYear(), 4);
+        prefixo[5] = '-';
+        digitos(prefixo, 6, dataHora.getMonthValue(), 2);
+        prefixo[8] = '-';
+        digitos(prefixo, 9, dataHora.getDayOfMonth(), 2);
+        prefixo[11] = 'T';
+        digitos(prefixo, 12, dataHora.getHour(), 2);
+        prefixo[14] = ':';
+        digitos(prefixo, 15, dataHora.getMinute(), 2);
+        prefixo[17] = ':';
+        digitos(prefixo, 18, dataHora.getSecond(), 2);
+        prefixo[20] = '.';
+        return prefixo;
+    }
+
+    private static void digitos(char[] destino, int inicio, int valor, int quantidade) {
+        for (int i = inicio + quantidade - 1; i >= inicio; i--) {
+            destino[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+    }
+
+    private record Segundo(long epochSegundo, char[] prefixo) {
+    }
+}
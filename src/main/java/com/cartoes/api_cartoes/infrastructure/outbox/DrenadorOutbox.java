@@ -0,0 +1,211 @@
+package com.cartoes.api_cartoes.infrastructure.outbox;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.infrastructure.repository.ClienteRepositoryImpl;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reenvia à API externa os clientes gravados no {@link OutboxClientesJournal}, em uma thread própria.
+ * <p>
+ * Enquanto o circuito da API de cliente estiver aberto, inclusive forçado, nada é enviado. Fechado ou meio aberto, os
+ * pendentes são lidos em lotes de até {@code tamanhoLote} e enviados ao endpoint de lote ou em
+ * chamadas individuais concorrentes, respeitando {@code taxaMaxima} clientes por segundo para não
+ * sobrecarregar a API que acabou de se recuperar. Os clientes enviados com sucesso são confirmados
+ * no log, que apaga os segmentos já consumidos.
+ * <p>
+ * Falhas aumentam a espera até a próxima tentativa, até {@code esperaMaximaFalha}. Após
+ * {@code tentativasLote} falhas seguidas, os clientes passam a ser enviados um a um; se o primeiro
+ * continuar falhando, ele é movido para o final do log para não bloquear os demais. A entrega é
+ * pelo menos uma vez: um cliente pode ser reenviado se a aplicação parar entre o envio e a confirmação,
+ * ou se um envio seguinte ao primeiro que falhou já tiver sido aceito. Todo reenvio leva o ID provisório
+ * como chave de idempotência, a mesma da tentativa original, para que a API externa não o registre duas vezes.
+ */
+@Slf4j
+public class DrenadorOutbox implements AutoCloseable {
+
+    // Estados em que o circuit breaker recusaria o reenvio sem chamar a API
+    private static final Set<CircuitBreaker.State> CIRCUITO_ABERTO =
+            EnumSet.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.FORCED_OPEN);
+    private static final int MAXIMO_DESLOCAMENTO_ESPERA = 16;
+
+    private final OutboxClientesJournal outbox;
+    private final ClienteRepositoryImpl clienteRepository;
+    private final boolean enviarEmLote;
+    private final int tamanhoLote;
+    private final long intervaloPorClienteNanos;
+    private final long esperaVazioNanos;
+    private final long esperaMaximaFalhaNanos;
+    private final int tentativasLote;
+    private final Clock relogio;
+
+    private final Counter reenviados;
+    private final Counter falhas;
+    private final Timer atraso;
+    private final Thread thread;
+
+    private volatile boolean ativo = true;
+    private long proximoEnvio = System.nanoTime();
+    private int falhasSeguidas;
+
+    public DrenadorOutbox(OutboxClientesJournal outbox,
+                          ClienteRepositoryImpl clienteRepository,
+                          boolean enviarEmLote,
+                          int tamanhoLote,
+                          int taxaMaxima,
+                          Duration esperaVazio,
+                          Duration esperaMaximaFalha,
+                          int tentativasLote,
+                          Clock relogio,
+                          MeterRegistry meterRegistry) {
+        if (tamanhoLote < 1 || taxaMaxima < 1 || tentativasLote < 1) {
+            throw new IllegalArgumentException("Lote, taxa máxima e tentativas do outbox devem ser positivos");
+        }
+        this.outbox = outbox;
+        this.clienteRepository = clienteRepository;
+        this.enviarEmLote = enviarEmLote;
+        this.tamanhoLote = tamanhoLote;
+        this.intervaloPorClienteNanos = TimeUnit.SECONDS.toNanos(1) / taxaMaxima;
+        this.esperaVazioNanos = esperaVazio.toNanos();
+        this.esperaMaximaFalhaNanos = esperaMaximaFalha.toNanos();
+        this.tentativasLote = tentativasLote;
+        this.relogio = relogio;
+
+        this.reenviados = Counter.builder("api.cliente.outbox.reenviados")
+                .description("Clientes do outbox registrados na API externa")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("api.cliente.outbox.falhas")
+                .description("Envios de clientes do outbox que falharam e serão repetidos")
+                .register(meterRegistry);
+        this.atraso = Timer.builder("api.cliente.outbox.atraso")
+                .description("Tempo entre o fallback e o registro do cliente na API externa")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(100))
+                .maximumExpectedValue(Duration.ofHours(1))
+                .register(meterRegistry);
+        this.thread = Thread.ofPlatform().name("outbox-drenador").daemon(true).unstarted(this::drenarContinuamente);
+    }
+
+    public void iniciar() {
+        thread.start();
+    }
+
+    private void drenarContinuamente() {
+        while (ativo) {
+            long espera;
+            try {
+                espera = drenar();
+            } catch (IOException | RuntimeException e) {
+                log.error("Falha ao ler ou confirmar o outbox de clientes", e);
+                espera = esperaMaximaFalhaNanos;
+            }
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+        }
+    }
+
+    /**
+     * Executa um ciclo de reenvio.
+     *
+     * @return Espera em nanossegundos até o próximo ciclo
+     */
+    long drenar() throws IOException {
+        if (CIRCUITO_ABERTO.contains(clienteRepository.circuitBreaker().getState())) {
+            return esperaVazioNanos;
+        }
+        int maximo = falhasSeguidas >= tentativasLote ? 1 : tamanhoLote;
+        List<OutboxClientesJournal.Pendente> pendentes = outbox.pendentes(maximo);
+        if (pendentes.isEmpty()) {
+            return esperaVazioNanos;
+        }
+
+        long agora = System.nanoTime();
+        if (proximoEnvio - agora > 0) {
+            return proximoEnvio - agora;
+        }
+        proximoEnvio = agora + pendentes.size() * intervaloPorClienteNanos;
+
+        List<UUID> ids = enviar(pendentes);
+        List<OutboxClientesJournal.Pendente> enviados = pendentes.subList(0, ids.size());
+        outbox.confirmar(enviados);
+        for (int i = 0; i < enviados.size(); i++) {
+            OutboxClientesJournal.Pendente pendente = enviados.get(i);
+            atraso.record(Math.max(0, relogio.millis() - pendente.registradoEm().toEpochMilli()), TimeUnit.MILLISECONDS);
+            log.info("Cliente {} registrado pelo outbox com ID {} (ID provisório {})",
+                    pendente.cliente().getCpf(), ids.get(i), pendente.idProvisorio());
+        }
+        reenviados.increment(enviados.size());
+
+        if (enviados.size() == pendentes.size()) {
+            falhasSeguidas = 0;
+            return 0;
+        }
+
+        falhas.increment(pendentes.size() - enviados.size());
+        falhasSeguidas++;
+        if (falhasSeguidas >= 2 * tentativasLote && enviados.isEmpty()) {
+            outbox.reposicionar(pendentes.getFirst());
+            falhasSeguidas = tentativasLote;
+        }
+        return Math.min(esperaVazioNanos << Math.min(falhasSeguidas, MAXIMO_DESLOCAMENTO_ESPERA), esperaMaximaFalhaNanos);
+    }
+
+    /**
+     * Envia os pendentes e retorna os IDs definitivos do maior prefixo registrado com sucesso.
+     */
+    private List<UUID> enviar(List<OutboxClientesJournal.Pendente> pendentes) {
+        List<Cliente> clientes = pendentes.stream().map(OutboxClientesJournal.Pendente::cliente).toList();
+        List<UUID> chaves = pendentes.stream().map(OutboxClientesJournal.Pendente::idProvisorio).toList();
+        if (enviarEmLote && clientes.size() > 1) {
+            try {
+                return clienteRepository.enviarClientesAsync(clientes, chaves).join();
+            } catch (CompletionException | CancellationException e) {
+                log.warn("Reenvio de lote de {} clientes do outbox falhou: {}", clientes.size(), e.getMessage());
+                return List.of();
+            }
+        }
+
+        List<CompletableFuture<UUID>> envios = new ArrayList<>(clientes.size());
+        for (int i = 0; i < clientes.size(); i++) {
+            envios.add(clienteRepository.enviarClienteAsync(clientes.get(i), chaves.get(i)));
+        }
+        List<UUID> ids = new ArrayList<>(envios.size());
+        for (CompletableFuture<UUID> envio : envios) {
+            try {
+                ids.add(envio.join());
+            } catch (CompletionException | CancellationException e) {
+                log.warn("Reenvio de cliente do outbox falhou: {}", e.getMessage());
+                // Os seguintes já enviados serão repetidos junto com este
+                break;
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        ativo = false;
+        LockSupport.unpark(thread);
+        if (thread.isAlive()) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+}
@@ -0,0 +1,556 @@
+package com.cartoes.api_cartoes.infrastructure.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Log de registros somente de acréscimo, em segmentos de tamanho fixo mapeados em memória.
+ * <p>
+ * Cada registro é gravado como {@code [tamanho][crc32c][dados]}; a posição de um registro é global
+ * ({@code indiceSegmento * tamanhoSegmento + deslocamento}), de modo que a confirmação do que já foi
+ * consumido é um único número, persistido no arquivo {@value #ARQUIVO_CONFIRMACAO}. Segmentos
+ * inteiramente confirmados são apagados.
+ * <p>
+ * A gravação copia os bytes para o mapeamento e retorna: a partir daí o registro sobrevive a uma
+ * queda do processo. A sincronização com o disco é feita em grupo por uma thread própria a cada
+ * {@code intervaloSincronizacao}, cobrindo todos os registros gravados no intervalo com um único
+ * {@code force}. Com {@code aguardarSincronizacao}, a gravação só retorna após essa sincronização.
+ * <p>
+ * A mesma thread cria e mapeia o próximo segmento quando o atual passa da metade, para que a troca
+ * de segmento não crie arquivos nas threads que gravam. Um segmento preparado e não usado é apagado
+ * no fechamento.
+ * <p>
+ * Na abertura, os registros são percorridos a partir da última confirmação até o primeiro com
+ * tamanho zero ou CRC inválido, descartando uma gravação interrompida no final do log. Os bytes
+ * descartados são zerados, para que não sejam lidos como registro depois que a gravação passar ao
+ * próximo segmento.
+ * <p>
+ * O diretório é de uso exclusivo: a abertura trava o arquivo {@value #ARQUIVO_TRAVA} e falha se
+ * outra instância, neste ou em outro processo, já o tiver travado.
+ */
+@Slf4j
+public class JournalOutbox implements AutoCloseable {
+
+    static final String ARQUIVO_CONFIRMACAO = "confirmado.chk";
+    static final String ARQUIVO_TRAVA = "outbox.lock";
+    private static final String PREFIXO_SEGMENTO = "outbox-";
+    private static final String SUFIXO_SEGMENTO = ".seg";
+    private static final int CABECALHO = 2 * Integer.BYTES;
+
+    private final Path diretorio;
+    private final int tamanhoSegmento;
+    private final long tamanhoMaximo;
+    private final long intervaloSincronizacaoNanos;
+    private final boolean aguardarSincronizacao;
+
+    private final ConcurrentNavigableMap<Long, MappedByteBuffer> segmentos = new ConcurrentSkipListMap<>();
+    private final FileChannel trava;
+    private final FileChannel confirmacao;
+    private final ReentrantLock lockEscrita = new ReentrantLock();
+    // Criação de segmentos, pela gravação ou pela preparação antecipada
+    private final ReentrantLock lockSegmentos = new ReentrantLock();
+    private final ReentrantLock lockSincronizacao = new ReentrantLock();
+    private final Condition sincronizou = lockSincronizacao.newCondition();
+    private final AtomicLong pendentes = new AtomicLong();
+    private final Thread sincronizador;
+
+    // Escrita protegida por lockEscrita; leitura livre pelo drenador e pelo sincronizador
+    private volatile long posicaoEscrita;
+    private volatile long posicaoSincronizada;
+    private volatile long posicaoConfirmada;
+    private volatile boolean aberto = true;
+
+    public JournalOutbox(Path diretorio,
+                         int tamanhoSegmento,
+                         long tamanhoMaximo,
+                         Duration intervaloSincronizacao,
+                         boolean aguardarSincronizacao) throws IOException {
+        if (tamanhoSegmento <= CABECALHO || tamanhoMaximo < tamanhoSegmento) {
+            throw new IllegalArgumentException("O tamanho máximo do outbox deve comportar ao menos um segmento");
+        }
+        this.diretorio = Files.createDirectories(diretorio);
+        this.tamanhoSegmento = tamanhoSegmento;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.intervaloSincronizacaoNanos = intervaloSincronizacao.toNanos();
+        this.aguardarSincronizacao = aguardarSincronizacao;
+        this.trava = travar(diretorio);
+        try {
+            this.confirmacao = FileChannel.open(diretorio.resolve(ARQUIVO_CONFIRMACAO),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException | RuntimeException e) {
+            trava.close();
+            throw e;
+        }
+
+        try {
+            recuperar();
+        } catch (IOException | RuntimeException e) {
+            confirmacao.close();
+            trava.close();
+            throw e;
+        }
+
+        this.sincronizador = Thread.ofPlatform().name("outbox-sincronizacao").daemon(true).start(this::sincronizarPeriodicamente);
+    }
+
+    /**
+     * Acrescenta um registro ao final do log.
+     *
+     * @return Posição seguinte ao registro, usada para confirmá-lo
+     * @throws IOException se o log atingiu o tamanho máximo ou não pôde criar um novo segmento
+     */
+    public long anexar(byte[] dados) throws IOException {
+        if (CABECALHO + dados.length > tamanhoSegmento) {
+            throw new IllegalArgumentException("Registro maior que o segmento do outbox: " + dados.length + " bytes");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(dados);
+
+        long fim;
+        lockEscrita.lock();
+        try {
+            if (!aberto) {
+                throw new IOException("Outbox encerrado");
+            }
+            long posicao = posicaoEscrita;
+            int deslocamento = deslocamento(posicao);
+            if (deslocamento + CABECALHO + dados.length > tamanhoSegmento) {
+                // O restante do segmento fica zerado, o que a leitura interpreta como fim do segmento
+                posicao = criarSegmento(indice(posicao) + 1);
+                deslocamento = 0;
+            } else if (deslocamento == 0 && !segmentos.containsKey(indice(posicao))) {
+                // O registro anterior terminou exatamente no fim do segmento
+                posicao = criarSegmento(indice(posicao));
+            }
+            MappedByteBuffer segmento = segmentos.get(indice(posicao));
+            segmento.putInt(deslocamento + Integer.BYTES, (int) crc.getValue());
+            segmento.put(deslocamento + CABECALHO, dados);
+            segmento.putInt(deslocamento, dados.length);
+
+            fim = posicao + CABECALHO + dados.length;
+            posicaoEscrita = fim;
+            pendentes.incrementAndGet();
+        } finally {
+            lockEscrita.unlock();
+        }
+
+        if (aguardarSincronizacao) {
+            aguardarSincronizacao(fim);
+        }
+        return fim;
+    }
+
+    /**
+     * Lê até {@code maximo} registros a partir da posição informada, sem consumi-los.
+     *
+     * @param desde Posição de um registro ou a retornada por {@link #posicaoConfirmada()}
+     */
+    public List<Registro> ler(long desde, int maximo) {
+        long limite = posicaoEscrita;
+        List<Registro> registros = new ArrayList<>(Math.min(maximo, 64));
+        long posicao = avancar(desde, limite);
+        while (registros.size() < maximo && posicao < limite) {
+            MappedByteBuffer segmento = segmentos.get(indice(posicao));
+            int deslocamento = deslocamento(posicao);
+            int tamanho = segmento.getInt(deslocamento);
+            byte[] dados = new byte[tamanho];
+            segmento.get(deslocamento + CABECALHO, dados);
+            long proxima = posicao + CABECALHO + tamanho;
+            registros.add(new Registro(posicao, proxima, dados));
+            posicao = avancar(proxima, limite);
+        }
+        return registros;
+    }
+
+    /**
+     * Marca como consumidos os registros anteriores a {@code ate} e apaga os segmentos que ficaram
+     * inteiramente confirmados.
+     *
+     * @param ate Posição seguinte ao último registro consumido ({@link Registro#proxima()})
+     * @param quantidade Número de registros consumidos desde a confirmação anterior
+     */
+    public void confirmar(long ate, int quantidade) throws IOException {
+        ate = avancar(ate, posicaoEscrita);
+        if (ate <= posicaoConfirmada) {
+            return;
+        }
+        ByteBuffer conteudo = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+        conteudo.putLong(ate).putInt((int) crc(ate)).flip();
+        confirmacao.write(conteudo, 0);
+        confirmacao.force(false);
+        posicaoConfirmada = ate;
+        pendentes.addAndGet(-quantidade);
+
+        for (Long indice : segmentos.keySet()) {
+            if ((indice + 1) * tamanhoSegmento > ate || indice >= indice(posicaoEscrita)) {
+                break;
+            }
+            segmentos.remove(indice);
+            Files.deleteIfExists(arquivoSegmento(indice));
+            log.debug("Segmento {} do outbox compactado", indice);
+        }
+    }
+
+    public long posicaoConfirmada() {
+        return posicaoConfirmada;
+    }
+
+    /**
+     * Posição seguinte ao último registro gravado.
+     */
+    public long posicaoEscrita() {
+        return posicaoEscrita;
+    }
+
+    public long pendentes() {
+        return pendentes.get();
+    }
+
+    /**
+     * Espaço ocupado pelos segmentos ainda não apagados, incluindo registros já confirmados.
+     */
+    public long bytesOcupados() {
+        long inicio = segmentos.keySet().stream().findFirst().orElse(indice(posicaoEscrita)) * tamanhoSegmento;
+        return posicaoEscrita - inicio;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lockEscrita.lock();
+        try {
+            aberto = false;
+        } finally {
+            lockEscrita.unlock();
+        }
+        // Sem prazo: a thread só espera o intervalo de sincronização, e a sincronização final não pode
+        // correr junto com a dela nem fechar os canais durante um force
+        sincronizador.interrupt();
+        boolean interrompido = false;
+        while (sincronizador.isAlive()) {
+            try {
+                sincronizador.join();
+            } catch (InterruptedException e) {
+                interrompido = true;
+            }
+        }
+        if (interrompido) {
+            Thread.currentThread().interrupt();
+        }
+        sincronizar();
+        for (Long indice : segmentos.tailMap(indice(posicaoEscrita), false).keySet()) {
+            // Na reabertura, o segmento vazio no final encerraria o log e o restante do atual ficaria sem uso
+            segmentos.remove(indice);
+            Files.deleteIfExists(arquivoSegmento(indice));
+        }
+        confirmacao.close();
+        // Fechar o canal libera a trava do diretório
+        trava.close();
+    }
+
+    /**
+     * Pula o final não utilizado de um segmento, que a gravação deixa zerado ao passar para o próximo.
+     */
+    private long avancar(long posicao, long limite) {
+        while (posicao < limite) {
+            int deslocamento = deslocamento(posicao);
+            if (deslocamento + CABECALHO <= tamanhoSegmento && segmentos.get(indice(posicao)).getInt(deslocamento) != 0) {
+                break;
+            }
+            posicao = (indice(posicao) + 1) * tamanhoSegmento;
+        }
+        return posicao;
+    }
+
+    /**
+     * Trava o diretório para esta instância. Dois processos gravando no mesmo log corromperiam os
+     * registros um do outro e reenviariam os mesmos clientes.
+     *
+     * @return Canal do arquivo de trava, mantido aberto enquanto o outbox estiver aberto
+     * @throws IOException se o diretório já estiver travado
+     */
+    private static FileChannel travar(Path diretorio) throws IOException {
+        FileChannel canal = FileChannel.open(diretorio.resolve(ARQUIVO_TRAVA),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock trava;
+        try {
+            trava = canal.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Travado por outra instância na mesma JVM
+            trava = null;
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+        if (trava == null) {
+            canal.close();
+            throw new IOException("Outbox em " + diretorio + " já está em uso por outra instância");
+        }
+        return canal;
+    }
+
+    private void recuperar() throws IOException {
+        List<Long> indices;
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            indices = arquivos.map(arquivo -> arquivo.getFileName().toString())
+                    .filter(nome -> nome.startsWith(PREFIXO_SEGMENTO) && nome.endsWith(SUFIXO_SEGMENTO))
+                    .map(nome -> Long.parseLong(nome.substring(PREFIXO_SEGMENTO.length(), nome.length() - SUFIXO_SEGMENTO.length())))
+                    .sorted()
+                    .toList();
+        }
+        if (indices.isEmpty()) {
+            // Começa depois da última confirmação, que não pode ficar à frente dos novos registros
+            posicaoEscrita = criarSegmento(Math.ceilDiv(lerConfirmacao(), tamanhoSegmento));
+            posicaoConfirmada = posicaoEscrita;
+            posicaoSincronizada = posicaoEscrita;
+            return;
+        }
+        for (long indice : indices) {
+            mapear(indice, false);
+        }
+
+        // Sem confirmação válida, os registros são reenviados desde o início do segmento mais antigo
+        long inicio = indices.getFirst() * tamanhoSegmento;
+        long confirmada = Math.max(lerConfirmacao(), inicio);
+        long ultimo = indices.getLast();
+
+        long posicao = confirmada;
+        long quantidade = 0;
+        while (true) {
+            long indice = indice(posicao);
+            MappedByteBuffer segmento = segmentos.get(indice);
+            int deslocamento = deslocamento(posicao);
+            int tamanho = segmento != null && deslocamento + CABECALHO <= tamanhoSegmento ? segmento.getInt(deslocamento) : 0;
+            boolean valido = tamanho > 0 && deslocamento + CABECALHO + tamanho <= tamanhoSegmento
+                    && crcValido(segmento, deslocamento, tamanho);
+            if (valido) {
+                posicao += CABECALHO + tamanho;
+                quantidade++;
+                continue;
+            }
+            if (segmento != null) {
+                zerarRestante(indice, segmento, deslocamento);
+            }
+            if (indice < ultimo) {
+                posicao = (indice + 1) * tamanhoSegmento;
+            } else {
+                break;
+            }
+        }
+
+        posicaoConfirmada = confirmada;
+        posicaoEscrita = posicao;
+        posicaoSincronizada = posicao;
+        pendentes.set(quantidade);
+        if (quantidade > 0) {
+            log.info("Outbox recuperado com {} registros pendentes", quantidade);
+        }
+    }
+
+    /**
+     * Zera o segmento a partir do deslocamento, onde pode ter sobrado parte de uma gravação
+     * interrompida: a leitura trata como registro qualquer tamanho diferente de zero. Apenas os
+     * trechos não zerados são escritos, e então sincronizados com o disco.
+     */
+    private void zerarRestante(long indice, MappedByteBuffer segmento, int deslocamento) {
+        boolean zerado = false;
+        int posicao = deslocamento;
+        for (; posicao + Long.BYTES <= tamanhoSegmento; posicao += Long.BYTES) {
+            if (segmento.getLong(posicao) != 0) {
+                segmento.putLong(posicao, 0);
+                zerado = true;
+            }
+        }
+        for (; posicao < tamanhoSegmento; posicao++) {
+            if (segmento.get(posicao) != 0) {
+                segmento.put(posicao, (byte) 0);
+                zerado = true;
+            }
+        }
+        if (zerado) {
+            segmento.force(deslocamento, tamanhoSegmento - deslocamento);
+            log.warn("Gravação interrompida descartada do segmento {} do outbox, a partir do byte {}", indice, deslocamento);
+        }
+    }
+
+    private boolean crcValido(MappedByteBuffer segmento, int deslocamento, int tamanho) {
+        byte[] dados = new byte[tamanho];
+        segmento.get(deslocamento + CABECALHO, dados);
+        CRC32C crc = new CRC32C();
+        crc.update(dados);
+        return (int) crc.getValue() == segmento.getInt(deslocamento + Integer.BYTES);
+    }
+
+    private long lerConfirmacao() throws IOException {
+        ByteBuffer conteudo = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+        if (confirmacao.read(conteudo, 0) < conteudo.capacity()) {
+            return 0;
+        }
+        conteudo.flip();
+        long posicao = conteudo.getLong();
+        return conteudo.getInt() == (int) crc(posicao) ? posicao : 0;
+    }
+
+    /**
+     * Garante o segmento do índice, em geral já preparado pela thread de sincronização.
+     *
+     * @return Posição inicial do segmento
+     */
+    private long criarSegmento(long indice) throws IOException {
+        if (!segmentos.containsKey(indice)) {
+            lockSegmentos.lock();
+            try {
+                if (!segmentos.containsKey(indice)) {
+                    long ocupado = ocupadoAte(indice);
+                    if (ocupado + tamanhoSegmento > tamanhoMaximo) {
+                        throw new IOException("Outbox cheio: " + ocupado + " bytes pendentes");
+                    }
+                    mapear(indice, true);
+                }
+            } finally {
+                lockSegmentos.unlock();
+            }
+        }
+        return indice * tamanhoSegmento;
+    }
+
+    /**
+     * Cria o segmento seguinte ao da gravação quando o atual passa da metade, se couber no tamanho máximo.
+     * Uma falha apenas é registrada: a gravação cria o segmento quando chegar a ele.
+     */
+    private void prepararProximoSegmento() {
+        long posicao = posicaoEscrita;
+        long proximo = indice(posicao) + 1;
+        if (deslocamento(posicao) < tamanhoSegmento / 2 || segmentos.containsKey(proximo)) {
+            return;
+        }
+        lockSegmentos.lock();
+        try {
+            // A gravação pode ter criado o segmento, ou passado dele, enquanto o lock era aguardado
+            if (segmentos.containsKey(proximo) || proximo <= indice(posicaoEscrita)
+                    || ocupadoAte(proximo) + tamanhoSegmento > tamanhoMaximo) {
+                return;
+            }
+            mapear(proximo, true);
+        } catch (IOException e) {
+            log.warn("Falha ao preparar o segmento {} do outbox: {}", proximo, e.getMessage());
+        } finally {
+            lockSegmentos.unlock();
+        }
+    }
+
+    private long ocupadoAte(long indice) {
+        return segmentos.isEmpty() ? 0 : (indice - segmentos.firstKey()) * tamanhoSegmento;
+    }
+
+    private void mapear(long indice, boolean novo) throws IOException {
+        StandardOpenOption criacao = novo ? StandardOpenOption.CREATE_NEW : StandardOpenOption.READ;
+        // O mapeamento continua válido depois que o canal é fechado
+        try (FileChannel canal = FileChannel.open(arquivoSegmento(indice), criacao, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segmentos.put(indice, canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanhoSegmento));
+        }
+    }
+
+    private void sincronizarPeriodicamente() {
+        while (aberto) {
+            LockSupport.parkNanos(intervaloSincronizacaoNanos);
+            sincronizar();
+            prepararProximoSegmento();
+        }
+    }
+
+    /**
+     * Força para o disco tudo o que foi gravado desde a última sincronização, com um {@code force}
+     * por segmento alterado, e libera as gravações que aguardam essa confirmação.
+     */
+    private void sincronizar() {
+        long desde = posicaoSincronizada;
+        long ate = posicaoEscrita;
+        if (ate == desde) {
+            return;
+        }
+        for (long indice = indice(desde); indice <= indice(ate); indice++) {
+            MappedByteBuffer segmento = segmentos.get(indice);
+            if (segmento == null) {
+                continue;
+            }
+            int inicio = indice == indice(desde) ? deslocamento(desde) : 0;
+            int fim = indice == indice(ate) ? deslocamento(ate) : tamanhoSegmento;
+            if (fim > inicio) {
+                segmento.force(inicio, fim - inicio);
+            }
+        }
+
+        lockSincronizacao.lock();
+        try {
+            posicaoSincronizada = ate;
+            sincronizou.signalAll();
+        } finally {
+            lockSincronizacao.unlock();
+        }
+    }
+
+    private void aguardarSincronizacao(long posicao) throws IOException {
+        LockSupport.unpark(sincronizador);
+        lockSincronizacao.lock();
+        try {
+            while (posicaoSincronizada < posicao) {
+                if (!aberto) {
+                    throw new IOException("Outbox encerrado antes da sincronização");
+                }
+                sincronizou.await(intervaloSincronizacaoNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrompido aguardando a sincronização do outbox", e);
+        } finally {
+            lockSincronizacao.unlock();
+        }
+    }
+
+    private Path arquivoSegmento(long indice) {
+        return diretorio.resolve(String.format("%s%016d%s", PREFIXO_SEGMENTO, indice, SUFIXO_SEGMENTO));
+    }
+
+    private long indice(long posicao) {
+        return posicao / tamanhoSegmento;
+    }
+
+    private int deslocamento(long posicao) {
+        return (int) (posicao % tamanhoSegmento);
+    }
+
+    private static long crc(long posicao) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, posicao));
+        return crc.getValue();
+    }
+
+    /**
+     * @param posicao Posição do registro no log
+     * @param proxima Posição seguinte, a ser informada em {@link #confirmar(long, int)}
+     * @param dados Conteúdo gravado
+     */
+    public record Registro(long posicao, long proxima, byte[] dados) {
+    }
+}
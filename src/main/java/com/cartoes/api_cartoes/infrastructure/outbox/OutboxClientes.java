@@ -0,0 +1,22 @@
+package com.cartoes.api_cartoes.infrastructure.outbox;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+
+import java.util.UUID;
+
+/**
+ * Destino dos clientes cujo registro na API externa falhou, usado pelo fallback de
+ * {@link com.cartoes.api_cartoes.infrastructure.repository.ClienteRepositoryImpl}.
+ */
+@FunctionalInterface
+public interface OutboxClientes {
+
+    /**
+     * Guarda o cliente para registro posterior, sem bloquear na API externa.
+     *
+     * @param idProvisorio ID devolvido na resposta da solicitação, já enviado como {@code Idempotency-Key}
+     *                     na tentativa original e repetido em cada reenvio
+     * @param cliente Cliente não registrado
+     */
+    void registrar(UUID idProvisorio, Cliente cliente);
+}
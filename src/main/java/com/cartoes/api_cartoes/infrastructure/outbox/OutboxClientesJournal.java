@@ -0,0 +1,228 @@
+package com.cartoes.api_cartoes.infrastructure.outbox;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox de clientes sobre um {@link JournalOutbox}: o fallback grava o cliente e o ID provisório
+ * no log e retorna, e o {@link DrenadorOutbox} reenvia os pendentes à API externa.
+ * <p>
+ * O registro nunca falha a solicitação: se o log estiver cheio ou não puder ser gravado, o cliente
+ * é contado em {@code api.cliente.outbox.recusados} e o ID provisório é retornado mesmo assim,
+ * o mesmo resultado do fallback sem outbox.
+ * <p>
+ * Cada registro é gravado em um formato binário compacto e versionado:
+ * ID provisório, instante do registro, campos do cliente e a renda em centavos. O ID provisório é
+ * também a {@code Idempotency-Key} do registro, enviada pelo {@link DrenadorOutbox} em cada reenvio.
+ */
+@Slf4j
+public class OutboxClientesJournal implements OutboxClientes {
+
+    private static final byte VERSAO = 1;
+    private static final int NULO = -1;
+
+    private final JournalOutbox journal;
+    private final Clock relogio;
+
+    private final Timer anexacao;
+    private final Counter recusados;
+    private final Counter invalidos;
+    private final Counter reposicionados;
+
+    public OutboxClientesJournal(JournalOutbox journal,
+                                 Clock relogio,
+                                 MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.relogio = relogio;
+
+        this.anexacao = Timer.builder("api.cliente.outbox.anexacao")
+                .description("Tempo para gravar um cliente no outbox durante o fallback")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(500))
+                .maximumExpectedValue(Duration.ofMillis(50))
+                .register(meterRegistry);
+        this.recusados = Counter.builder("api.cliente.outbox.recusados")
+                .description("Clientes não gravados no outbox por estar cheio ou indisponível")
+                .register(meterRegistry);
+        this.invalidos = Counter.builder("api.cliente.outbox.invalidos")
+                .description("Registros do outbox descartados por não poderem ser lidos")
+                .register(meterRegistry);
+        this.reposicionados = Counter.builder("api.cliente.outbox.reposicionados")
+                .description("Clientes movidos para o final do outbox após falhas sucessivas de reenvio")
+                .register(meterRegistry);
+        Gauge.builder("api.cliente.outbox.pendentes", journal, JournalOutbox::pendentes)
+                .description("Clientes aguardando reenvio à API externa")
+                .register(meterRegistry);
+        Gauge.builder("api.cliente.outbox.bytes", journal, JournalOutbox::bytesOcupados)
+                .description("Espaço ocupado pelos segmentos do outbox")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void registrar(UUID idProvisorio, Cliente cliente) {
+        long inicio = System.nanoTime();
+        try {
+            journal.anexar(codificar(idProvisorio, relogio.millis(), cliente));
+            anexacao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        } catch (IOException | RuntimeException e) {
+            recusados.increment();
+            log.error("Cliente {} não gravado no outbox, ID provisório {} não será reenviado: {}",
+                    cliente.getCpf(), idProvisorio, e.getMessage());
+        }
+    }
+
+    /**
+     * Lê até {@code maximo} clientes a partir do primeiro não confirmado, sem consumi-los.
+     * Registros ilegíveis no início do log são descartados.
+     */
+    List<Pendente> pendentes(int maximo) throws IOException {
+        List<Pendente> pendentes = new ArrayList<>(Math.min(maximo, 64));
+        for (JournalOutbox.Registro registro : journal.ler(journal.posicaoConfirmada(), maximo)) {
+            Pendente pendente;
+            try {
+                pendente = decodificar(registro);
+            } catch (IllegalArgumentException | BufferUnderflowException e) {
+                if (!pendentes.isEmpty()) {
+                    // Descartado na próxima leitura, depois que os anteriores forem confirmados
+                    break;
+                }
+                invalidos.increment();
+                log.error("Registro do outbox na posição {} descartado: {}", registro.posicao(), e.toString());
+                journal.confirmar(registro.proxima(), 1);
+                continue;
+            }
+            pendentes.add(pendente);
+        }
+        return pendentes;
+    }
+
+    /**
+     * Confirma os clientes reenviados, que deixam de ser pendentes.
+     *
+     * @param enviados Prefixo da lista retornada por {@link #pendentes(int)}
+     */
+    void confirmar(List<Pendente> enviados) throws IOException {
+        if (!enviados.isEmpty()) {
+            journal.confirmar(enviados.getLast().proxima(), enviados.size());
+        }
+    }
+
+    /**
+     * Move o primeiro pendente para o final do log, liberando os seguintes quando ele falha repetidamente.
+     */
+    void reposicionar(Pendente pendente) throws IOException {
+        journal.anexar(pendente.dados());
+        journal.confirmar(pendente.proxima(), 1);
+        reposicionados.increment();
+        log.warn("Cliente {} (ID provisório {}) movido para o final do outbox após falhas sucessivas",
+                pendente.cliente().getCpf(), pendente.idProvisorio());
+    }
+
+    static byte[] codificar(UUID idProvisorio, long registradoEm, Cliente cliente) {
+        byte[] nome = texto(cliente.getNome());
+        byte[] cpf = texto(cliente.getCpf());
+        byte[] uf = texto(cliente.getUf());
+        byte[] email = texto(cliente.getEmail());
+        byte[] telefone = texto(cliente.getTelefoneWhatsapp());
+
+        int tamanho = 1 + 2 * Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES
+                + 5 * Integer.BYTES + tamanho(nome) + tamanho(cpf) + tamanho(uf) + tamanho(email) + tamanho(telefone);
+        ByteBuffer buffer = ByteBuffer.allocate(tamanho)
+                .put(VERSAO)
+                .putLong(idProvisorio.getMostSignificantBits())
+                .putLong(idProvisorio.getLeastSignificantBits())
+                .putLong(registradoEm)
+                .putInt(cliente.getIdade() != null ? cliente.getIdade() : Integer.MIN_VALUE)
+                .putLong(cliente.getDataNascimento() != null ? cliente.getDataNascimento().toEpochDay() : Long.MIN_VALUE)
+                .putLong(cliente.getRendaMensalCentavos());
+        escrever(buffer, nome);
+        escrever(buffer, cpf);
+        escrever(buffer, uf);
+        escrever(buffer, email);
+        escrever(buffer, telefone);
+        return buffer.array();
+    }
+
+    static Pendente decodificar(JournalOutbox.Registro registro) {
+        ByteBuffer buffer = ByteBuffer.wrap(registro.dados());
+        byte versao = buffer.get();
+        if (versao != VERSAO) {
+            throw new IllegalArgumentException("Versão de registro desconhecida: " + versao);
+        }
+        UUID idProvisorio = new UUID(buffer.getLong(), buffer.getLong());
+        long registradoEm = buffer.getLong();
+        int idade = buffer.getInt();
+        long dataNascimento = buffer.getLong();
+        long renda = buffer.getLong();
+
+        Cliente cliente = Cliente.builder()
+                .idade(idade != Integer.MIN_VALUE ? idade : null)
+                .dataNascimento(dataNascimento != Long.MIN_VALUE ? LocalDate.ofEpochDay(dataNascimento) : null)
+                .rendaMensalCentavos(renda)
+                .nome(ler(buffer))
+                .cpf(ler(buffer))
+                .uf(ler(buffer))
+                .email(ler(buffer))
+                .telefoneWhatsapp(ler(buffer))
+                .build();
+        return new Pendente(idProvisorio, Instant.ofEpochMilli(registradoEm), cliente, registro.proxima(), registro.dados());
+    }
+
+    private static byte[] texto(String valor) {
+        return valor != null ? valor.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int tamanho(byte[] valor) {
+        return valor != null ? valor.length : 0;
+    }
+
+    private static void escrever(ByteBuffer buffer, byte[] valor) {
+        if (valor == null) {
+            buffer.putInt(NULO);
+        } else {
+            buffer.putInt(valor.length).put(valor);
+        }
+    }
+
+    private static String ler(ByteBuffer buffer) {
+        int tamanho = buffer.getInt();
+        if (tamanho == NULO) {
+            return null;
+        }
+        if (tamanho < 0 || tamanho > buffer.remaining()) {
+            throw new IllegalArgumentException("Tamanho de campo inválido: " + tamanho);
+        }
+        String valor = new String(buffer.array(), buffer.position(), tamanho, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + tamanho);
+        return valor;
+    }
+
+    /**
+     * Cliente lido do outbox.
+     *
+     * @param idProvisorio ID retornado na solicitação original
+     * @param registradoEm Instante em que o fallback gravou o cliente
+     * @param proxima Posição a confirmar após o reenvio
+     * @param dados Registro gravado, reutilizado ao reposicioná-lo
+     */
+    record Pendente(UUID idProvisorio, Instant registradoEm, Cliente cliente, long proxima, byte[] dados) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.cartoes.api_cartoes.infrastructure.regras;
+
+import com.cartoes.api_cartoes.domain.exception.RegrasInvalidasException;
+import com.cartoes.api_cartoes.domain.strategy.ParametrosRegras;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê os parâmetros das regras de elegibilidade a partir das propriedades {@code aplicacao.*}.
+ * <p>
+ * Quando {@code aplicacao.regras.arquivo} é informado, o YAML do arquivo (com a mesma estrutura
+ * do {@code application.yml}) tem precedência sobre as demais fontes de configuração, permitindo
+ * alterar apenas os valores desejados sem reiniciar a aplicação.
+ */
+@Slf4j
+@Component
+public class CarregadorRegras {
+
+    private static final String PREFIXO = "aplicacao";
+
+    private final ConfigurableEnvironment environment;
+    private final Path arquivo;
+
+    public CarregadorRegras(ConfigurableEnvironment environment,
+                            @Value("${aplicacao.regras.arquivo:}") String arquivo) {
+        this.environment = environment;
+        this.arquivo = arquivo.isBlank() ? null : Path.of(arquivo.strip());
+    }
+
+    /**
+     * Arquivo de regras monitorado, ou {@code null} quando não configurado.
+     */
+    public Path arquivo() {
+        return arquivo;
+    }
+
+    /**
+     * Lê o arquivo de regras (se existir) e as propriedades da aplicação.
+     *
+     * @throws RegrasInvalidasException se o arquivo não puder ser lido ou algum valor não puder ser convertido
+     */
+    public ParametrosRegras carregar() {
+        List<ConfigurationPropertySource> fontes = new ArrayList<>();
+        if (arquivo != null) {
+            if (Files.isRegularFile(arquivo)) {
+                lerArquivo().forEach(fonte -> fontes.add(ConfigurationPropertySource.from(fonte)));
+            } else {
+                log.warn("Arquivo de regras {} não encontrado; usando apenas as propriedades da aplicação", arquivo);
+            }
+        }
+        ConfigurationPropertySources.get(environment).forEach(fontes::add);
+
+        try {
+            return new Binder(fontes).bind(PREFIXO, Bindable.of(ParametrosRegras.class)).orElse(null);
+        } catch (BindException e) {
+            String causa = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            throw new RegrasInvalidasException(List.of(e.getName() + ": " + causa));
+        }
+    }
+
+    private List<PropertySource<?>> lerArquivo() {
+        try {
+            return new YamlPropertySourceLoader().load("regras:" + arquivo, new FileSystemResource(arquivo));
+        } catch (IOException | RuntimeException e) {
+            throw new RegrasInvalidasException(List.of("Não foi possível ler " + arquivo + ": " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.cartoes.api_cartoes.infrastructure.regras;
+
+import com.cartoes.api_cartoes.domain.exception.RegrasInvalidasException;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifica periodicamente o arquivo de regras e recarrega as regras quando a data de
+ * modificação ou o tamanho mudam.
+ * <p>
+ * A verificação por intervalo é usada em vez de {@code WatchService} porque funciona também
+ * com volumes montados e com a troca de links simbólicos usada por ConfigMaps do Kubernetes.
+ */
+@Slf4j
+public class MonitorArquivoRegras implements AutoCloseable {
+
+    private final Path arquivo;
+    private final CarregadorRegras carregadorRegras;
+    private final RegrasVigentes regrasVigentes;
+    private final ScheduledExecutorService agendador;
+
+    private Versao ultimaVersao;
+
+    public MonitorArquivoRegras(Path arquivo, Duration intervalo,
+                                CarregadorRegras carregadorRegras, RegrasVigentes regrasVigentes) {
+        this.arquivo = arquivo;
+        this.carregadorRegras = carregadorRegras;
+        this.regrasVigentes = regrasVigentes;
+        this.ultimaVersao = versaoAtual();
+        this.agendador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("monitor-regras").daemon(true).factory());
+        agendador.scheduleWithFixedDelay(this::verificar, intervalo.toMillis(), intervalo.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Monitorando o arquivo de regras {} a cada {}", arquivo, intervalo);
+    }
+
+    /**
+     * Recarrega as regras se o arquivo mudou desde a última verificação.
+     *
+     * @return {@code true} se uma mudança foi detectada
+     */
+    boolean verificar() {
+        Versao versao = versaoAtual();
+        if (Objects.equals(versao, ultimaVersao)) {
+            return false;
+        }
+        // Registrada antes da recarga para que um arquivo inválido não seja reprocessado a cada verificação
+        ultimaVersao = versao;
+
+        try {
+            RegrasSnapshot snapshot = regrasVigentes.substituir(carregadorRegras.carregar());
+            log.info("Regras recarregadas de {}: versão {}", arquivo, snapshot.versao());
+        } catch (RegrasInvalidasException e) {
+            log.error("Alteração em {} ignorada, regras da versão {} mantidas: {}",
+                    arquivo, regrasVigentes.atual().versao(), e.getErros());
+        } catch (RuntimeException e) {
+            log.error("Falha ao recarregar as regras de {}", arquivo, e);
+        }
+        return true;
+    }
+
+    private Versao versaoAtual() {
+        try {
+            BasicFileAttributes atributos = Files.readAttributes(arquivo, BasicFileAttributes.class);
+            return new Versao(atributos.lastModifiedTime().toMillis(), atributos.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Não foi possível verificar o arquivo de regras {}: {}", arquivo, e.getMessage());
+            return ultimaVersao;
+        }
+    }
+
+    @Override
+    public void close() {
+        agendador.shutdownNow();
+    }
+
+    private record Versao(long modificadoEm, long tamanho) {
+    }
+}
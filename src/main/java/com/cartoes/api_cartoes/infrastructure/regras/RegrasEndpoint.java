@@ -0,0 +1,60 @@
+package com.cartoes.api_cartoes.infrastructure.regras;
+
+import com.cartoes.api_cartoes.domain.exception.RegrasInvalidasException;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint {@code /actuator/regras}: GET devolve as regras em vigor e POST as recarrega do
+ * arquivo de regras e das propriedades da aplicação.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "regras")
+@RequiredArgsConstructor
+public class RegrasEndpoint {
+
+    private final CarregadorRegras carregadorRegras;
+    private final RegrasVigentes regrasVigentes;
+
+    @ReadOperation
+    public Map<String, Object> regras() {
+        return descrever(regrasVigentes.atual());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> recarregar() {
+        try {
+            RegrasSnapshot snapshot = regrasVigentes.substituir(carregadorRegras.carregar());
+            log.info("Regras recarregadas pelo actuator: versão {}", snapshot.versao());
+            return new WebEndpointResponse<>(descrever(snapshot), WebEndpointResponse.STATUS_OK);
+        } catch (RegrasInvalidasException e) {
+            log.warn("Recarga das regras rejeitada: {}", e.getErros());
+            Map<String, Object> corpo = new LinkedHashMap<>();
+            corpo.put("versao", regrasVigentes.atual().versao());
+            corpo.put("erros", e.getErros());
+            return new WebEndpointResponse<>(corpo, WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+
+    private Map<String, Object> descrever(RegrasSnapshot snapshot) {
+        Map<String, Object> descricao = new LinkedHashMap<>();
+        descricao.put("versao", snapshot.versao());
+        descricao.put("carregadoEm", snapshot.carregadoEm().toString());
+        descricao.put("arquivo", carregadorRegras.arquivo() != null ? carregadorRegras.arquivo().toString() : null);
+        descricao.put("celulasTabelaDecisao", snapshot.tabela().tamanho());
+        descricao.put("parametros", snapshot.parametros());
+        return descricao;
+    }
+}
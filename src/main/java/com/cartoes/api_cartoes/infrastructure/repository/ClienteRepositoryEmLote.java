@@ -0,0 +1,177 @@
+package com.cartoes.api_cartoes.infrastructure.repository;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.repository.ClienteRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Agrupa registros de clientes concorrentes em chamadas ao endpoint de lote da API externa.
+ * <p>
+ * Um lote é enviado ao atingir {@code tamanhoMaximo} clientes ou quando o primeiro cliente
+ * pendente completa {@code esperaMaxima} na fila, o que ocorrer antes. Cada chamador recebe o ID
+ * correspondente ao seu cliente; circuit breaker, retry, timeout e fallback são os de
+ * {@link ClienteRepositoryImpl#registrarClientesAsync(List)}.
+ */
+@Slf4j
+public class ClienteRepositoryEmLote implements ClienteRepository, AutoCloseable {
+
+    private final ClienteRepositoryImpl delegate;
+    private final int tamanhoMaximo;
+    private final long esperaMaximaNanos;
+    private final ScheduledExecutorService agendador;
+
+    private final DistributionSummary tamanhoLote;
+    private final Timer esperaLote;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Pendente> pendentes;
+    private ScheduledFuture<?> envioAgendado;
+
+    public ClienteRepositoryEmLote(ClienteRepositoryImpl delegate,
+                                   int tamanhoMaximo,
+                                   Duration esperaMaxima,
+                                   ScheduledExecutorService agendador,
+                                   MeterRegistry meterRegistry) {
+        if (tamanhoMaximo < 1) {
+            throw new IllegalArgumentException("O tamanho máximo do lote deve ser positivo: " + tamanhoMaximo);
+        }
+        this.delegate = delegate;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+        this.agendador = agendador;
+        this.pendentes = new ArrayList<>(tamanhoMaximo);
+
+        this.tamanhoLote = DistributionSummary.builder("api.cliente.lote.tamanho")
+                .description("Clientes por chamada ao endpoint de lote da API de cliente")
+                .baseUnit("clientes")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) tamanhoMaximo)
+                .register(meterRegistry);
+        this.esperaLote = Timer.builder("api.cliente.lote.espera")
+                .description("Tempo de cada cliente na fila até o envio do lote")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(esperaMaxima.multipliedBy(2))
+                .register(meterRegistry);
+    }
+
+    @Override
+    public UUID registrarCliente(Cliente cliente) {
+        return registrarClienteAsync(cliente).join();
+    }
+
+    @Override
+    public CompletableFuture<UUID> registrarClienteAsync(Cliente cliente) {
+        Pendente pendente = new Pendente(cliente, new CompletableFuture<>(), System.nanoTime());
+        List<Pendente> lote = null;
+
+        lock.lock();
+        try {
+            pendentes.add(pendente);
+            if (pendentes.size() >= tamanhoMaximo) {
+                lote = retirarPendentes();
+            } else if (pendentes.size() == 1) {
+                envioAgendado = agendador.schedule(this::enviarPorTempo, esperaMaximaNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // O envio acontece fora do lock para não bloquear quem está enfileirando
+        if (lote != null) {
+            enviar(lote);
+        }
+        return pendente.resultado();
+    }
+
+    @Override
+    public String estadoCircuito() {
+        return delegate.estadoCircuito();
+    }
+
+    /**
+     * Envia os clientes ainda pendentes, sem aguardar o lote completar.
+     */
+    @Override
+    public void close() {
+        List<Pendente> lote;
+        lock.lock();
+        try {
+            lote = retirarPendentes();
+        } finally {
+            lock.unlock();
+        }
+        if (!lote.isEmpty()) {
+            enviar(lote);
+        }
+    }
+
+    private void enviarPorTempo() {
+        List<Pendente> lote;
+        lock.lock();
+        try {
+            lote = retirarPendentes();
+        } finally {
+            lock.unlock();
+        }
+        // Vazio quando o lote foi completado por tamanho depois do agendamento
+        if (!lote.isEmpty()) {
+            enviar(lote);
+        }
+    }
+
+    private List<Pendente> retirarPendentes() {
+        List<Pendente> lote = pendentes;
+        pendentes = new ArrayList<>(tamanhoMaximo);
+        if (envioAgendado != null) {
+            envioAgendado.cancel(false);
+            envioAgendado = null;
+        }
+        return lote;
+    }
+
+    private void enviar(List<Pendente> lote) {
+        long agora = System.nanoTime();
+        List<Cliente> clientes = new ArrayList<>(lote.size());
+        for (Pendente pendente : lote) {
+            esperaLote.record(agora - pendente.enfileiradoEm(), TimeUnit.NANOSECONDS);
+            clientes.add(pendente.cliente());
+        }
+        tamanhoLote.record(lote.size());
+        log.debug("Enviando lote de {} clientes", lote.size());
+
+        CompletableFuture<List<UUID>> registro;
+        try {
+            registro = delegate.registrarClientesAsync(clientes);
+        } catch (RuntimeException e) {
+            registro = CompletableFuture.failedFuture(e);
+        }
+
+        registro.whenComplete((ids, erro) -> {
+            for (int i = 0; i < lote.size(); i++) {
+                if (erro != null) {
+                    lote.get(i).resultado().completeExceptionally(erro);
+                } else {
+                    lote.get(i).resultado().complete(ids.get(i));
+                }
+            }
+        });
+    }
+
+    private record Pendente(Cliente cliente, CompletableFuture<UUID> resultado, long enfileiradoEm) {
+    }
+}
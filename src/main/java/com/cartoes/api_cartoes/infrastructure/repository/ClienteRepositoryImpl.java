@@ -1,64 +1,383 @@
 package com.cartoes.api_cartoes.infrastructure.repository;
 
+import com.cartoes.api_cartoes.application.util.MoedaUtil;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.exception.BusinessException;
 import com.cartoes.api_cartoes.domain.repository.ClienteRepository;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
+import com.cartoes.api_cartoes.domain.service.GeradorIdentificador;
+import com.cartoes.api_cartoes.infrastructure.outbox.OutboxClientes;
+import com.cartoes.api_cartoes.infrastructure.resilience.PoliticaHedge;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class ClienteRepositoryImpl implements ClienteRepository {
 
-    private final RestTemplate restTemplate;
+    private static final String INSTANCIA_RESILIENCIA = "clienteService";
+    private static final String CABECALHO_IDEMPOTENCIA = "Idempotency-Key";
+    private static final String CAMPO_IDEMPOTENCIA = "chave_idempotencia";
+
+    // Nomes dos estados do circuito usados como tag de métricas, sem alocar a cada consulta
+    private static final Map<CircuitBreaker.State, String> ESTADOS_CIRCUITO =
+            new EnumMap<>(CircuitBreaker.State.class);
+
+    static {
+        for (var estado : CircuitBreaker.State.values()) {
+            ESTADOS_CIRCUITO.put(estado, estado.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private final CloseableHttpAsyncClient httpAsyncClient;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService agendadorResiliencia;
+    private final GeradorIdentificador geradorIdentificador;
+    private final OutboxClientes outboxClientes;
+    private final PoliticaHedge politicaHedge;
+
+    // Instâncias configuradas em resilience4j.*.instances.clienteService
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final Bulkhead bulkhead;
+    private final TimeLimiter timeLimiter;
 
     @Value("${api.cliente.url}")
     private String apiClienteUrl;
 
+    @Value("${api.cliente.lote.url:${api.cliente.url}/lote}")
+    private String apiClienteLoteUrl;
+
+    // Quando habilitado (perfil local), o registro não chama a API externa nem grava no outbox: o ID é gerado localmente
+    @Value("${api.cliente.simulado:false}")
+    private boolean simulado;
+
+    public ClienteRepositoryImpl(CloseableHttpAsyncClient httpAsyncClient,
+                                 ObjectMapper objectMapper,
+                                 CircuitBreakerRegistry circuitBreakerRegistry,
+                                 RetryRegistry retryRegistry,
+                                 BulkheadRegistry bulkheadRegistry,
+                                 TimeLimiterConfig timeLimiterConfig,
+                                 @Qualifier("agendadorResiliencia") ScheduledExecutorService agendadorResiliencia,
+                                 GeradorIdentificador geradorIdentificador,
+                                 OutboxClientes outboxClientes,
+                                 PoliticaHedge politicaHedge,
+                                 MeterRegistry meterRegistry) {
+        this.httpAsyncClient = httpAsyncClient;
+        this.objectMapper = objectMapper;
+        this.agendadorResiliencia = agendadorResiliencia;
+        this.geradorIdentificador = geradorIdentificador;
+        this.outboxClientes = outboxClientes;
+        this.politicaHedge = politicaHedge;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCIA_RESILIENCIA);
+        this.retry = retryRegistry.retry(INSTANCIA_RESILIENCIA);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCIA_RESILIENCIA);
+        this.timeLimiter = TimeLimiter.of(INSTANCIA_RESILIENCIA, timeLimiterConfig);
+
+        // O bulkhead exporta apenas a ocupação; as recusas, que vão para o fallback, são contadas aqui
+        Counter rejeitadas = Counter.builder("api.cliente.bulkhead.rejeitadas")
+                .description("Registros de cliente enviados ao fallback por exceder as chamadas simultâneas do bulkhead")
+                .register(meterRegistry);
+        bulkhead.getEventPublisher().onCallRejected(evento -> rejeitadas.increment());
+    }
+
     @Override
-    @CircuitBreaker(name = "clienteService", fallbackMethod = "registrarClienteFallback")
-    @Retry(name = "clienteService")
     public UUID registrarCliente(Cliente cliente) {
-        log.info("Simulando registro de cliente: {}", cliente.getCpf());
-        return registrarClienteFallback(cliente, new RuntimeException("Simulação"));
-//        log.info("Registrando cliente na API externa: {}", cliente.getCpf());
-//
-//        HttpHeaders headers = new HttpHeaders();
-//        headers.setContentType(MediaType.APPLICATION_JSON);
-//
-//        Map<String, Object> requestMap = new HashMap<>();
-//        requestMap.put("cliente", cliente);
-//
-//        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestMap, headers);
-//
-//        try {
-//            ResponseEntity<Map> response = restTemplate.postForEntity(apiClienteUrl, request, Map.class);
-//
-//            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-//                String idCliente = (String) response.getBody().get("id_cliente");
-//                log.info("Cliente registrado com sucesso. ID: {}", idCliente);
-//                return UUID.fromString(idCliente);
-//            } else {
-//                log.error("Falha ao registrar cliente. Resposta: {}", response);
-//                throw new BusinessException("Falha ao registrar cliente na API externa");
-//            }
-//        } catch (Exception e) {
-//            log.error("Erro ao registrar cliente na API externa", e);
-//            throw new BusinessException("Erro ao comunicar com a API de clientes: " + e.getMessage());
-//        }
-    }
-
-    private UUID registrarClienteFallback(Cliente cliente, Exception e) {
-        log.warn("Utilizando fallback para registro de cliente devido a: {}", e.getMessage());
-        UUID fallbackId = UUID.randomUUID();
-        log.info("ID fallback gerado: {}", fallbackId);
-        return fallbackId;
+        return registrarClienteAsync(cliente).join();
+    }
+
+    @Override
+    public CompletableFuture<UUID> registrarClienteAsync(Cliente cliente) {
+        if (simulado) {
+            log.info("Simulando registro de cliente: {}", cliente.getCpf());
+            return CompletableFuture.completedFuture(geradorIdentificador.gerar());
+        }
+
+        log.info("Registrando cliente na API externa de forma assíncrona: {}", cliente.getCpf());
+
+        // Gerada antes da primeira tentativa: se o registro expirar, o outbox reenvia com a mesma chave
+        UUID chaveIdempotencia = geradorIdentificador.gerar();
+        return enviarClienteAsync(cliente, chaveIdempotencia)
+                .exceptionally(e -> gravarNoOutbox(cliente, chaveIdempotencia, e));
+    }
+
+    @Override
+    public String estadoCircuito() {
+        return simulado ? "simulado" : ESTADOS_CIRCUITO.get(circuitBreaker.getState());
+    }
+
+    /**
+     * Circuit breaker das chamadas à API de cliente, consultado pelo reenvio do outbox antes de cada ciclo.
+     */
+    public CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Registra vários clientes em uma única chamada ao endpoint de lote da API externa.
+     * <p>
+     * O lote passa pelo mesmo circuit breaker, retry e time limiter do registro individual,
+     * contando como uma única chamada; em caso de falha, cada cliente vai para o outbox e recebe um ID provisório.
+     *
+     * @param clientes Clientes a serem registrados
+     * @return Futuro com os IDs na mesma ordem dos clientes informados
+     */
+    public CompletableFuture<List<UUID>> registrarClientesAsync(List<Cliente> clientes) {
+        if (simulado) {
+            log.info("Simulando registro de {} clientes", clientes.size());
+            return CompletableFuture.completedFuture(clientes.stream().map(cliente -> geradorIdentificador.gerar()).toList());
+        }
+
+        log.info("Registrando lote de {} clientes na API externa", clientes.size());
+
+        List<UUID> chavesIdempotencia = clientes.stream().map(cliente -> geradorIdentificador.gerar()).toList();
+        return enviarClientesAsync(clientes, chavesIdempotencia)
+                .exceptionally(e -> registrarClientesFallback(clientes, chavesIdempotencia, e));
+    }
+
+    /**
+     * Registra o cliente com circuit breaker, retry e time limiter, mas sem fallback: a falha chega
+     * ao chamador. Usado pelo reenvio do outbox, que já guarda o cliente e repete mais tarde.
+     * <p>
+     * Cada tentativa passa pela {@link PoliticaHedge}, dentro do circuit breaker: o hedge e a
+     * tentativa original contam como uma única chamada. Todas as tentativas do registro, inclusive
+     * as do retry, levam o mesmo header {@code Idempotency-Key}, para que a API de cliente não
+     * registre o cliente duas vezes.
+     *
+     * @param chaveIdempotencia Chave do registro; o ID provisório, quando reenviado pelo outbox
+     */
+    public CompletableFuture<UUID> enviarClienteAsync(Cliente cliente, UUID chaveIdempotencia) {
+        Map<String, Object> corpo = Map.of("cliente", criarPayload(cliente));
+        String chave = chaveIdempotencia.toString();
+        return executarComResiliencia(() -> politicaHedge.executar(
+                () -> enviar(apiClienteUrl, corpo, chave, this::lerIdCliente)));
+    }
+
+    /**
+     * Variante de {@link #enviarClienteAsync(Cliente, UUID)} para o endpoint de lote. Como o lote
+     * não tem um header por cliente, a chave de cada um vai no campo {@code chave_idempotencia}.
+     */
+    public CompletableFuture<List<UUID>> enviarClientesAsync(List<Cliente> clientes, List<UUID> chavesIdempotencia) {
+        List<Map<String, Object>> payloads = new ArrayList<>(clientes.size());
+        for (int i = 0; i < clientes.size(); i++) {
+            Map<String, Object> payload = criarPayload(clientes.get(i));
+            payload.put(CAMPO_IDEMPOTENCIA, chavesIdempotencia.get(i).toString());
+            payloads.add(payload);
+        }
+        Map<String, Object> corpo = Map.of("clientes", payloads);
+        return executarComResiliencia(() -> enviar(apiClienteLoteUrl, corpo, null, response -> lerIdsClientes(response, clientes.size())));
+    }
+
+    /**
+     * Retry envolvendo o circuit breaker de cada tentativa, com o
+     * time limiter dentro do circuit breaker. Cada tentativa tem o seu próprio prazo, cancelada ao
+     * expirar, e o timeout conta como falha para o circuito; assim as esperas do retry não consomem
+     * o prazo das tentativas seguintes. O bulkhead limita os registros simultâneos, contando as
+     * tentativas de cada um como uma única chamada, e recusa na hora quando não há vaga.
+     * <p>
+     * Se o futuro retornado for concluído antes, por exemplo cancelado pelo chamador, nenhuma nova
+     * tentativa é enviada: o retry é encerrado e a vaga do bulkhead, liberada.
+     */
+    private <T> CompletableFuture<T> executarComResiliencia(Supplier<CompletionStage<T>> chamada) {
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+
+        Supplier<CompletionStage<T>> comPrazo = () -> timeLimiter.executeCompletionStage(agendadorResiliencia, chamada);
+        Supplier<CompletionStage<T>> tentativa = CircuitBreaker
+                .decorateCompletionStage(circuitBreaker, comPrazo);
+        // Um resultado vazio encerra o retry sem registrar falha no circuito; o valor é descartado
+        Supplier<CompletionStage<T>> enquantoAguardado = () -> resultado.isDone()
+                ? CompletableFuture.completedFuture(null)
+                : tentativa.get();
+        Supplier<CompletionStage<T>> comRetry = Retry
+                .decorateCompletionStage(retry, agendadorResiliencia, enquantoAguardado);
+        Supplier<CompletionStage<T>> comBulkhead = Bulkhead
+                .decorateCompletionStage(bulkhead, comRetry);
+
+        comBulkhead.get().whenComplete((valor, erro) -> {
+            if (erro != null) {
+                resultado.completeExceptionally(erro);
+            } else {
+                resultado.complete(valor);
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Cancelar o futuro retornado, como faz o hedge com a tentativa mais lenta, cancela a requisição HTTP.
+     */
+    private <T> CompletableFuture<T> enviar(String url, Object corpo, String chaveIdempotencia, LeitorResposta<T> leitor) {
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+
+        SimpleHttpRequest request;
+        try {
+            SimpleRequestBuilder builder = SimpleRequestBuilder.post(url)
+                    .setBody(objectMapper.writeValueAsBytes(corpo), ContentType.APPLICATION_JSON);
+            if (chaveIdempotencia != null) {
+                builder.setHeader(CABECALHO_IDEMPOTENCIA, chaveIdempotencia);
+            }
+            request = builder.build();
+        } catch (JsonProcessingException e) {
+            resultado.completeExceptionally(e);
+            return resultado;
+        }
+
+        Future<SimpleHttpResponse> execucao = httpAsyncClient.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                try {
+                    resultado.complete(leitor.ler(response));
+                } catch (Exception e) {
+                    resultado.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                // Cada tentativa, inclusive as do retry e do hedge; a falha final é registrada no fallback.
+                // Tentativas já canceladas pelo time limiter ou pelo hedge não são registradas
+                if (!resultado.isDone()) {
+                    log.warn("Tentativa de registro na API de clientes falhou: {}", e.toString());
+                }
+                resultado.completeExceptionally(new BusinessException("Erro ao comunicar com a API de clientes: " + e.getMessage()));
+            }
+
+            @Override
+            public void cancelled() {
+                resultado.cancel(false);
+            }
+        });
+        resultado.whenComplete((valor, erro) -> {
+            if (erro instanceof CancellationException) {
+                execucao.cancel(true);
+            }
+        });
+        return resultado;
+    }
+
+    private UUID lerIdCliente(SimpleHttpResponse response) throws IOException {
+        if (sucesso(response)) {
+            JsonNode idCliente = objectMapper.readTree(response.getBodyBytes()).get("id_cliente");
+            if (idCliente != null && idCliente.isTextual()) {
+                log.info("Cliente registrado com sucesso. ID: {}", idCliente.asText());
+                return UUID.fromString(idCliente.asText());
+            }
+        }
+        log.warn("Tentativa de registro de cliente recusada. Resposta: {}", response);
+        throw new BusinessException("Falha ao registrar cliente na API externa");
+    }
+
+    /**
+     * Lê a resposta do endpoint de lote: {@code {"clientes": [{"id_cliente": "..."}, ...]}},
+     * na mesma ordem do envio.
+     */
+    private List<UUID> lerIdsClientes(SimpleHttpResponse response, int quantidade) throws IOException {
+        if (sucesso(response)) {
+            JsonNode clientes = objectMapper.readTree(response.getBodyBytes()).get("clientes");
+            if (clientes != null && clientes.isArray() && clientes.size() == quantidade) {
+                List<UUID> ids = new ArrayList<>(quantidade);
+                for (JsonNode cliente : clientes) {
+                    JsonNode idCliente = cliente.get("id_cliente");
+                    if (idCliente == null || !idCliente.isTextual()) {
+                        break;
+                    }
+                    ids.add(UUID.fromString(idCliente.asText()));
+                }
+                if (ids.size() == quantidade) {
+                    log.info("Lote de {} clientes registrado com sucesso", quantidade);
+                    return ids;
+                }
+            }
+        }
+        log.warn("Tentativa de registro de lote de clientes recusada. Resposta: {}", response);
+        throw new BusinessException("Falha ao registrar lote de clientes na API externa");
+    }
+
+    private boolean sucesso(SimpleHttpResponse response) {
+        return response.getCode() >= 200 && response.getCode() < 300 && response.getBodyBytes() != null;
+    }
+
+    /**
+     * Monta o cliente no mesmo formato JSON recebido pela API, com a renda convertida de volta para reais.
+     */
+    private Map<String, Object> criarPayload(Cliente cliente) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("nome", cliente.getNome());
+        payload.put("cpf", cliente.getCpf());
+        payload.put("idade", cliente.getIdade());
+        payload.put("data_nascimento", cliente.getDataNascimento() != null ? cliente.getDataNascimento().toString() : null);
+        payload.put("uf", cliente.getUf());
+        payload.put("renda_mensal", MoedaUtil.paraReais(cliente.getRendaMensalCentavos()));
+        payload.put("email", cliente.getEmail());
+        payload.put("telefone_whatsapp", cliente.getTelefoneWhatsapp());
+        return payload;
+    }
+
+    /**
+     * Grava o cliente no outbox para registro posterior e retorna o ID provisório, sem aguardar a API externa.
+     * O ID provisório é a chave de idempotência da tentativa original, que pode ter sido aceita pela API
+     * mesmo após o time limiter desistir dela.
+     * <p>
+     * Único registro em ERROR da falha, depois de esgotadas as tentativas, que são registradas em WARN.
+     */
+    private UUID gravarNoOutbox(Cliente cliente, UUID idProvisorio, Throwable e) {
+        log.error("Falha ao registrar cliente na API externa; gravado no outbox com o ID provisório {}: {}",
+                idProvisorio, causa(e).toString());
+        outboxClientes.registrar(idProvisorio, cliente);
+        return idProvisorio;
+    }
+
+    private List<UUID> registrarClientesFallback(List<Cliente> clientes, List<UUID> idsProvisorios, Throwable e) {
+        log.error("Falha ao registrar lote de {} clientes na API externa; gravados no outbox com IDs provisórios: {}",
+                clientes.size(), causa(e).toString());
+        for (int i = 0; i < clientes.size(); i++) {
+            outboxClientes.registrar(idsProvisorios.get(i), clientes.get(i));
+        }
+        return idsProvisorios;
+    }
+
+    private static Throwable causa(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    @FunctionalInterface
+    private interface LeitorResposta<T> {
+        T ler(SimpleHttpResponse response) throws IOException;
     }
 }
@@ -0,0 +1,109 @@
+package com.cartoes.api_cartoes.infrastructure.repository;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.repository.ClienteRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Compartilha um único registro entre chamadas simultâneas para o mesmo CPF, como as geradas por
+ * cliques duplos e repetições do cliente: a primeira chamada registra e as demais, enquanto ela
+ * estiver em andamento, recebem o mesmo ID. Concluído o registro, a próxima chamada registra de novo.
+ * <p>
+ * Os registros em andamento ficam em uma tabela de {@code vagas} posições, escolhidas pelo hash do
+ * CPF e ocupadas por compare-and-set, sem lock e com memória fixa. Cada posição guarda um único
+ * CPF: enquanto ela estiver ocupada por outro, o registro segue direto para o delegate, sem
+ * compartilhamento ({@code api.cliente.coalescencia.colisoes}).
+ */
+public class ClienteRepositoryUnicoPorCpf implements ClienteRepository {
+
+    private final ClienteRepository delegate;
+    private final AtomicReferenceArray<EmAndamento> vagas;
+    private final int mascara;
+
+    private final Counter compartilhados;
+    private final Counter colisoes;
+
+    /**
+     * @param vagas Tamanho da tabela, arredondado para a próxima potência de 2
+     */
+    public ClienteRepositoryUnicoPorCpf(ClienteRepository delegate, int vagas, MeterRegistry meterRegistry) {
+        if (vagas < 1 || vagas > 1 << 30) {
+            throw new IllegalArgumentException("O número de vagas deve estar entre 1 e 2^30: " + vagas);
+        }
+        int tamanho = Integer.highestOneBit(vagas) == vagas ? vagas : Integer.highestOneBit(vagas) << 1;
+        this.delegate = delegate;
+        this.vagas = new AtomicReferenceArray<>(tamanho);
+        this.mascara = tamanho - 1;
+
+        this.compartilhados = Counter.builder("api.cliente.coalescencia.compartilhados")
+                .description("Registros de cliente atendidos pelo registro já em andamento para o mesmo CPF")
+                .register(meterRegistry);
+        this.colisoes = Counter.builder("api.cliente.coalescencia.colisoes")
+                .description("Registros enviados sem compartilhamento por vaga ocupada por outro CPF")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public UUID registrarCliente(Cliente cliente) {
+        return registrarClienteAsync(cliente).join();
+    }
+
+    @Override
+    public CompletableFuture<UUID> registrarClienteAsync(Cliente cliente) {
+        String cpf = cliente.getCpf();
+        if (cpf == null) {
+            return delegate.registrarClienteAsync(cliente);
+        }
+
+        int indice = indice(cpf);
+        EmAndamento novo = new EmAndamento(cpf, new CompletableFuture<>());
+        EmAndamento atual;
+        do {
+            atual = vagas.get(indice);
+            if (atual != null && !atual.resultado().isDone()) {
+                if (atual.cpf().equals(cpf)) {
+                    compartilhados.increment();
+                    return atual.resultado().copy();
+                }
+                colisoes.increment();
+                return delegate.registrarClienteAsync(cliente);
+            }
+        } while (!vagas.compareAndSet(indice, atual, novo));
+
+        CompletableFuture<UUID> registro;
+        try {
+            registro = delegate.registrarClienteAsync(cliente);
+        } catch (RuntimeException e) {
+            registro = CompletableFuture.failedFuture(e);
+        }
+        registro.whenComplete((id, erro) -> {
+            // Libera a vaga antes de completar: quem chegar a partir daqui inicia um novo registro
+            vagas.compareAndSet(indice, novo, null);
+            if (erro == null) {
+                novo.resultado().complete(id);
+            } else {
+                novo.resultado().completeExceptionally(erro);
+            }
+        });
+        // Cópia, para que o cancelamento por um chamador não afete os demais
+        return novo.resultado().copy();
+    }
+
+    @Override
+    public String estadoCircuito() {
+        return delegate.estadoCircuito();
+    }
+
+    private int indice(String cpf) {
+        int hash = cpf.hashCode();
+        return (hash ^ (hash >>> 16)) & mascara;
+    }
+
+    private record EmAndamento(String cpf, CompletableFuture<UUID> resultado) {
+    }
+}
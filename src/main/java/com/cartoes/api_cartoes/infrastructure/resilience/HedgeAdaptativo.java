@@ -0,0 +1,285 @@
+package com.cartoes.api_cartoes.infrastructure.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Hedge com atraso adaptativo: se a tentativa não responder em {@link #atraso()}, uma segunda é
+ * enviada e vale a primeira resposta bem-sucedida; a outra é cancelada. Uma falha da primeira
+ * tentativa antes do atraso chega ao chamador sem hedge, para o retry tratar.
+ * <p>
+ * O atraso é o {@code percentil} das latências recentes da primeira tentativa, recalculado a cada
+ * {@code intervaloAtualizacao} e limitado a {@code atrasoMinimo} e {@code atrasoMaximo}; até haver
+ * amostras suficientes vale {@code atrasoMaximo}. Com o percentil 0,95, só a cauda recebe hedge.
+ * <p>
+ * Um orçamento impede que uma lentidão generalizada da API dobre a carga sobre ela: cada chamada
+ * deposita {@code orcamento} fichas, até {@code rajada}, e cada hedge consome uma. Com orçamento
+ * 0,1, no máximo cerca de 10% das chamadas recebem hedge.
+ */
+public class HedgeAdaptativo implements PoliticaHedge, AutoCloseable {
+
+    private static final int AMOSTRAS_MINIMAS = 20;
+
+    // Saldo do orçamento em milésimos de ficha, atualizado com uma única operação atômica
+    private static final long FICHA = 1000;
+
+    private final double percentil;
+    private final long atrasoMinimoNanos;
+    private final long atrasoMaximoNanos;
+    private final long intervaloAtualizacaoNanos;
+    private final long deposito;
+    private final long saldoMaximo;
+    private final ScheduledExecutorService agendador;
+
+    // Buffer circular das latências da primeira tentativa, em nanossegundos
+    private final AtomicLongArray amostras;
+    private final AtomicLong totalAmostras = new AtomicLong();
+    private final AtomicLong saldo;
+    private volatile long atrasoNanos;
+    private volatile ScheduledFuture<?> atualizacao;
+
+    private final Counter chamadas;
+    private final Counter enviados;
+    private final Counter vencedores;
+    private final Counter semOrcamento;
+
+    public HedgeAdaptativo(double percentil,
+                           Duration atrasoMinimo,
+                           Duration atrasoMaximo,
+                           int amostras,
+                           Duration intervaloAtualizacao,
+                           double orcamento,
+                           int rajada,
+                           ScheduledExecutorService agendador,
+                           MeterRegistry meterRegistry) {
+        if (percentil <= 0 || percentil >= 1) {
+            throw new IllegalArgumentException("O percentil deve estar entre 0 e 1: " + percentil);
+        }
+        if (atrasoMinimo.isNegative() || atrasoMinimo.compareTo(atrasoMaximo) > 0) {
+            throw new IllegalArgumentException("Os atrasos devem satisfazer 0 <= mínimo <= máximo");
+        }
+        if (amostras < AMOSTRAS_MINIMAS) {
+            throw new IllegalArgumentException("São necessárias ao menos " + AMOSTRAS_MINIMAS + " amostras: " + amostras);
+        }
+        if (orcamento < 0 || orcamento > 1 || rajada < 1) {
+            throw new IllegalArgumentException("O orçamento deve estar entre 0 e 1 e a rajada ser positiva");
+        }
+        this.percentil = percentil;
+        this.atrasoMinimoNanos = atrasoMinimo.toNanos();
+        this.atrasoMaximoNanos = atrasoMaximo.toNanos();
+        this.intervaloAtualizacaoNanos = intervaloAtualizacao.toNanos();
+        this.deposito = Math.round(orcamento * FICHA);
+        this.saldoMaximo = rajada * FICHA;
+        this.agendador = agendador;
+        this.amostras = new AtomicLongArray(amostras);
+        this.saldo = new AtomicLong(saldoMaximo);
+        this.atrasoNanos = atrasoMaximoNanos;
+
+        this.chamadas = Counter.builder("api.cliente.hedge.chamadas")
+                .description("Chamadas sujeitas a hedge")
+                .register(meterRegistry);
+        this.enviados = Counter.builder("api.cliente.hedge.enviados")
+                .description("Segundas tentativas enviadas após o atraso")
+                .register(meterRegistry);
+        this.vencedores = Counter.builder("api.cliente.hedge.vencedores")
+                .description("Segundas tentativas que responderam antes da primeira")
+                .register(meterRegistry);
+        this.semOrcamento = Counter.builder("api.cliente.hedge.sem.orcamento")
+                .description("Segundas tentativas não enviadas por falta de orçamento")
+                .register(meterRegistry);
+        Gauge.builder("api.cliente.hedge.atraso", this, hedge -> hedge.atrasoNanos / 1e9)
+                .description("Espera pela primeira tentativa antes do hedge")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Agenda o recálculo periódico do atraso.
+     */
+    public void iniciar() {
+        atualizacao = agendador.scheduleWithFixedDelay(this::atualizarAtraso, intervaloAtualizacaoNanos,
+                intervaloAtualizacaoNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executar(Supplier<CompletableFuture<T>> tentativa) {
+        chamadas.increment();
+        depositar();
+
+        long inicio = System.nanoTime();
+        CompletableFuture<T> primaria = tentativa.get();
+        if (primaria.isDone()) {
+            if (!primaria.isCompletedExceptionally()) {
+                registrarAmostra(System.nanoTime() - inicio);
+            }
+            return primaria;
+        }
+
+        ChamadaHedge<T> chamada = new ChamadaHedge<>(tentativa, primaria, inicio);
+        chamada.iniciar();
+        return chamada.resultado;
+    }
+
+    public Duration atraso() {
+        return Duration.ofNanos(atrasoNanos);
+    }
+
+    /**
+     * Recalcula o atraso pelo percentil das amostras atuais. Chamado periodicamente após {@link #iniciar()}.
+     */
+    void atualizarAtraso() {
+        int quantidade = (int) Math.min(totalAmostras.get(), amostras.length());
+        if (quantidade < AMOSTRAS_MINIMAS) {
+            return;
+        }
+        long[] ordenadas = new long[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            ordenadas[i] = amostras.get(i);
+        }
+        Arrays.sort(ordenadas);
+        long valor = ordenadas[(int) Math.ceil(percentil * quantidade) - 1];
+        atrasoNanos = Math.clamp(valor, atrasoMinimoNanos, atrasoMaximoNanos);
+    }
+
+    @Override
+    public void close() {
+        ScheduledFuture<?> agendada = atualizacao;
+        if (agendada != null) {
+            agendada.cancel(false);
+        }
+    }
+
+    private void registrarAmostra(long nanos) {
+        amostras.set((int) (totalAmostras.getAndIncrement() % amostras.length()), nanos);
+    }
+
+    private void depositar() {
+        long atual;
+        do {
+            atual = saldo.get();
+            if (atual >= saldoMaximo) {
+                return;
+            }
+        } while (!saldo.compareAndSet(atual, Math.min(saldoMaximo, atual + deposito)));
+    }
+
+    private boolean retirarFicha() {
+        long atual;
+        do {
+            atual = saldo.get();
+            if (atual < FICHA) {
+                return false;
+            }
+        } while (!saldo.compareAndSet(atual, atual - FICHA));
+        return true;
+    }
+
+    /**
+     * Uma chamada com a primeira tentativa em andamento e, possivelmente, o hedge.
+     */
+    private final class ChamadaHedge<T> {
+
+        private final CompletableFuture<T> resultado = new CompletableFuture<>();
+        private final Supplier<CompletableFuture<T>> tentativa;
+        private final CompletableFuture<T> primaria;
+        private final long inicio;
+
+        // Tentativas em andamento; o hedge só é enviado enquanto a primeira estiver sozinha
+        private final AtomicInteger pendentes = new AtomicInteger(1);
+        private final AtomicBoolean respondida = new AtomicBoolean();
+        private volatile ScheduledFuture<?> agendamento;
+        private volatile CompletableFuture<T> hedge;
+
+        ChamadaHedge(Supplier<CompletableFuture<T>> tentativa, CompletableFuture<T> primaria, long inicio) {
+            this.tentativa = tentativa;
+            this.primaria = primaria;
+            this.inicio = inicio;
+        }
+
+        void iniciar() {
+            agendamento = agendador.schedule(this::enviarHedge, atrasoNanos, TimeUnit.NANOSECONDS);
+            primaria.whenComplete(this::concluirPrimaria);
+            resultado.whenComplete((valor, erro) -> {
+                if (resultado.isCancelled()) {
+                    cancelarTentativas();
+                }
+            });
+        }
+
+        private void enviarHedge() {
+            if (pendentes.get() != 1) {
+                return;
+            }
+            if (!retirarFicha()) {
+                semOrcamento.increment();
+                return;
+            }
+            if (!pendentes.compareAndSet(1, 2)) {
+                saldo.addAndGet(FICHA);
+                return;
+            }
+            enviados.increment();
+
+            CompletableFuture<T> segunda;
+            try {
+                segunda = tentativa.get();
+            } catch (RuntimeException e) {
+                segunda = CompletableFuture.failedFuture(e);
+            }
+            hedge = segunda;
+            segunda.whenComplete((valor, erro) -> concluir(valor, erro, true));
+            // A primeira pode ter respondido antes de o hedge ser publicado para cancelamento
+            if (resultado.isDone()) {
+                segunda.cancel(true);
+            }
+        }
+
+        private void concluirPrimaria(T valor, Throwable erro) {
+            // Cancelada quando o hedge vence: o tempo até ali é um limite inferior da latência
+            if (erro == null || erro instanceof CancellationException) {
+                registrarAmostra(System.nanoTime() - inicio);
+            }
+            concluir(valor, erro, false);
+        }
+
+        private void concluir(T valor, Throwable erro, boolean segunda) {
+            int restantes = pendentes.decrementAndGet();
+            if (erro == null) {
+                // A vitória é decidida antes de completar o resultado, que executa os dependentes na hora
+                if (respondida.compareAndSet(false, true)) {
+                    if (segunda) {
+                        vencedores.increment();
+                    }
+                    resultado.complete(valor);
+                    cancelarTentativas();
+                }
+            } else if (restantes == 0) {
+                agendamento.cancel(false);
+                resultado.completeExceptionally(erro);
+            }
+        }
+
+        private void cancelarTentativas() {
+            agendamento.cancel(false);
+            primaria.cancel(true);
+            CompletableFuture<T> segunda = hedge;
+            if (segunda != null) {
+                segunda.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.cartoes.api_cartoes.infrastructure.resilience;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Decide se uma chamada lenta recebe uma segunda tentativa em paralelo (hedge), usada no
+ * registro de cliente por {@link com.cartoes.api_cartoes.infrastructure.repository.ClienteRepositoryImpl}.
+ */
+public interface PoliticaHedge {
+
+    /**
+     * Executa uma única tentativa, sem hedge.
+     */
+    PoliticaHedge NENHUMA = new PoliticaHedge() {
+        @Override
+        public <T> CompletableFuture<T> executar(Supplier<CompletableFuture<T>> tentativa) {
+            return tentativa.get();
+        }
+    };
+
+    /**
+     * @param tentativa Inicia uma tentativa da chamada; deve ser idempotente, pois pode ser executada duas vezes
+     * @return Futuro com a primeira resposta bem-sucedida, ou com a falha quando nenhuma tentativa for bem-sucedida
+     */
+    <T> CompletableFuture<T> executar(Supplier<CompletableFuture<T>> tentativa);
+}
@@ -6,6 +6,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Configuration
 public class ResilienceConfig {
@@ -25,4 +27,12 @@ public class ResilienceConfig {
                 .timeoutDuration(Duration.ofSeconds(3))
                 .build();
     }
+
+    /**
+     * Agendador das esperas de retry e dos timeouts das chamadas assíncronas.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService agendadorResiliencia() {
+        return Executors.newScheduledThreadPool(2, Thread.ofPlatform().name("resiliencia-", 0).daemon(true).factory());
+    }
 }
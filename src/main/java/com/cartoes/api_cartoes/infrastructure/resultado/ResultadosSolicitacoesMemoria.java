@@ -0,0 +1,138 @@
+package com.cartoes.api_cartoes.infrastructure.resultado;
+
+import com.cartoes.api_cartoes.application.dto.response.ProblemDetail;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.resultado.ResultadosSolicitacoes;
+import com.cartoes.api_cartoes.infrastructure.json.ConversorSolicitacaoResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Resultados das solicitações em memória, já serializados em JSON: cada entrada guarda apenas o
+ * status e os bytes da resposta, em vez do grafo de objetos de {@link SolicitacaoResponse}.
+ * <p>
+ * Os dados do cliente não são guardados: a consulta não exige autenticação e basta conhecer o número
+ * da solicitação para obtê-la, então o resultado traz apenas o número, a data e os cartões ofertados.
+ * <p>
+ * O limite é em bytes ({@code tamanhoMaximo}), estimados pelo tamanho do JSON mais
+ * {@value #CUSTO_ENTRADA} bytes por entrada; ao atingi-lo, o Caffeine remove as entradas menos
+ * consultadas. As entradas expiram após o {@code ttl}, contado a partir da última gravação pelo
+ * {@code ticker} (substituível nos testes).
+ * <p>
+ * As métricas {@code cache.gets} (acertos e faltas), {@code cache.evictions} e {@code cache.size}
+ * têm a tag {@code cache=resultados}; a ocupação estimada fica em {@code cartoes.resultados.bytes}.
+ */
+@Slf4j
+public class ResultadosSolicitacoesMemoria implements ResultadosSolicitacoes {
+
+    static final String NOME_CACHE = "resultados";
+
+    // Nó do Caffeine, chave de 36 caracteres, registro e cabeçalho do array
+    static final int CUSTO_ENTRADA = 200;
+
+    private static final int TAMANHO_INICIAL_JSON = 1024;
+
+    private final ConversorSolicitacaoResponse conversorResposta;
+    private final ObjectWriter escritorProblema;
+    private final Cache<String, Resultado> resultados;
+
+    public ResultadosSolicitacoesMemoria(ConversorSolicitacaoResponse conversorResposta,
+                                         ObjectMapper objectMapper,
+                                         DataSize tamanhoMaximo,
+                                         Duration ttl,
+                                         Ticker ticker,
+                                         MeterRegistry meterRegistry) {
+        this.conversorResposta = conversorResposta;
+        this.escritorProblema = objectMapper.writerFor(ProblemDetail.class);
+        this.resultados = Caffeine.newBuilder()
+                .maximumWeight(tamanhoMaximo.toBytes())
+                .weigher((String numero, Resultado resultado) -> CUSTO_ENTRADA + resultado.corpo().length)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, resultados, NOME_CACHE);
+        Gauge.builder("cache.hit.ratio", resultados, c -> c.stats().hitRate())
+                .description("Fração das consultas atendidas com o resultado da solicitação")
+                .tag("cache", NOME_CACHE)
+                .register(meterRegistry);
+        Gauge.builder("cartoes.resultados.bytes", this, ResultadosSolicitacoesMemoria::bytesOcupados)
+                .description("Memória estimada ocupada pelos resultados das solicitações")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void armazenarPendente(SolicitacaoResponse resposta) {
+        guardar(resposta, HttpStatus.ACCEPTED);
+    }
+
+    @Override
+    public void armazenar(SolicitacaoResponse resposta) {
+        guardar(resposta, HttpStatus.OK);
+    }
+
+    @Override
+    public void armazenarFalha(String numeroSolicitacao, ProblemDetail problema) {
+        try {
+            resultados.put(numeroSolicitacao, new Resultado(problema.getStatus(), escritorProblema.writeValueAsBytes(problema)));
+        } catch (JsonProcessingException e) {
+            log.warn("Falha da solicitação {} não armazenada: {}", numeroSolicitacao, e.getMessage());
+        }
+    }
+
+    @Override
+    public void remover(String numeroSolicitacao) {
+        resultados.invalidate(numeroSolicitacao);
+    }
+
+    @Override
+    public Optional<Resultado> buscar(String numeroSolicitacao) {
+        return Optional.ofNullable(resultados.getIfPresent(numeroSolicitacao));
+    }
+
+    /**
+     * Conclui as remoções pendentes, feitas em segundo plano pelo Caffeine, e retorna a memória estimada.
+     */
+    long bytesOcupados() {
+        resultados.cleanUp();
+        return resultados.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    private void guardar(SolicitacaoResponse resposta, HttpStatus status) {
+        // A consulta é um recurso acessório: um erro de serialização não deve falhar a solicitação
+        ByteArrayOutputStream json = new ByteArrayOutputStream(TAMANHO_INICIAL_JSON);
+        try {
+            conversorResposta.escrever(semCliente(resposta), json);
+        } catch (IOException e) {
+            log.warn("Resultado da solicitação {} não armazenado: {}", resposta.getNumeroSolicitacao(), e.getMessage());
+            return;
+        }
+        resultados.put(resposta.getNumeroSolicitacao(), new Resultado(status.value(), json.toByteArray()));
+    }
+
+    private static SolicitacaoResponse semCliente(SolicitacaoResponse resposta) {
+        return SolicitacaoResponse.builder()
+                .numeroSolicitacao(resposta.getNumeroSolicitacao())
+                .idCliente(resposta.getIdCliente())
+                .dataSolicitacao(resposta.getDataSolicitacao())
+                .cartoesOfertados(resposta.getCartoesOfertados())
+                .build();
+    }
+}
@@ -1,46 +1,90 @@
 package com.cartoes.api_cartoes.presentation.controller;
 
 import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.response.ResultadoLoteResponse;
+import com.cartoes.api_cartoes.application.dto.response.ProblemDetail;
 import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
-import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
+import com.cartoes.api_cartoes.application.resultado.ResultadosSolicitacoes;
+import com.cartoes.api_cartoes.application.service.SolicitacaoIdempotenteService;
+import com.cartoes.api_cartoes.application.service.SolicitacaoLoteService;
+import com.cartoes.api_cartoes.domain.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.InputStream;
 
 @Slf4j
 @RestController
 @RequestMapping("/cartoes")
-@RequiredArgsConstructor
 @Tag(name = "Cartão Controller", description = "API para gerenciamento de solicitações de cartões de crédito")
 public class CartaoController {
 
-    private final CartaoApplicationService cartaoApplicationService;
+    private final SolicitacaoIdempotenteService solicitacaoIdempotenteService;
+    private final SolicitacaoLoteService solicitacaoLoteService;
+    private final ResultadosSolicitacoes resultadosSolicitacoes;
+    private final boolean assincrono;
+
+    public CartaoController(SolicitacaoIdempotenteService solicitacaoIdempotenteService,
+                            SolicitacaoLoteService solicitacaoLoteService,
+                            ResultadosSolicitacoes resultadosSolicitacoes,
+                            @Value("${aplicacao.assincrono.habilitado:false}") boolean assincrono) {
+        this.solicitacaoIdempotenteService = solicitacaoIdempotenteService;
+        this.solicitacaoLoteService = solicitacaoLoteService;
+        this.resultadosSolicitacoes = resultadosSolicitacoes;
+        this.assincrono = assincrono;
+    }
 
     @PostMapping
-    @Operation(summary = "Solicitar cartão de crédito", description = "Recebe dados do cliente e retorna cartões disponíveis")
+    @Operation(summary = "Solicitar cartão de crédito",
+            description = "Recebe dados do cliente e retorna cartões disponíveis. Com aplicacao.assincrono.habilitado, "
+                    + "valida a solicitação, coloca-a na fila e responde 202 com o número atribuído")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Solicitação processada com sucesso e pelo menos um cartão aprovado",
                     content = @Content(schema = @Schema(implementation = SolicitacaoResponse.class))),
+            @ApiResponse(responseCode = "202", description = "Solicitação aceita para processamento assíncrono, ainda sem cartões ofertados. "
+                    + "O header Location aponta para a consulta do resultado",
+                    content = @Content(schema = @Schema(implementation = SolicitacaoResponse.class))),
             @ApiResponse(responseCode = "204", description = "Solicitação processada com sucesso, mas nenhum cartão aprovado"),
             @ApiResponse(responseCode = "400", description = "Dados do cliente inválidos"),
             @ApiResponse(responseCode = "422", description = "Solicitação não atende aos critérios de negócio"),
-            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor"),
+            @ApiResponse(responseCode = "503", description = "Fila de solicitações cheia ou indisponível; repetir após Retry-After")
     })
-    public ResponseEntity<SolicitacaoResponse> solicitarCartao(@Valid @RequestBody ClienteRequest clienteRequest) {
+    public ResponseEntity<SolicitacaoResponse> solicitarCartao(
+            @RequestBody ClienteRequest clienteRequest,
+            @Parameter(description = "Identifica repetições da mesma solicitação; quando ausente, são identificadas pelo CPF e pelo conteúdo")
+            @RequestHeader(name = "Idempotency-Key", required = false) String chaveIdempotencia) {
         log.info("Recebida solicitação de cartão");
 
-        SolicitacaoResponse response = cartaoApplicationService.processarSolicitacao(clienteRequest);
+        if (assincrono) {
+            SolicitacaoResponse aceita = solicitacaoIdempotenteService.aceitarSolicitacao(clienteRequest, chaveIdempotencia);
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                            .path("/{numeroSolicitacao}")
+                            .buildAndExpand(aceita.getNumeroSolicitacao())
+                            .toUri())
+                    .body(aceita);
+        }
+
+        SolicitacaoResponse response = solicitacaoIdempotenteService.processarSolicitacao(clienteRequest, chaveIdempotencia);
 
         if (response.getCartoesOfertados() == null || response.getCartoesOfertados().isEmpty()) {
             log.info("Nenhum cartão aprovado para o cliente");
@@ -50,4 +94,48 @@ public class CartaoController {
         log.info("Solicitação processada com sucesso. Cartões aprovados: {}", response.getCartoesOfertados().size());
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{numeroSolicitacao}")
+    @Operation(summary = "Consultar solicitação de cartão",
+            description = "Retorna o resultado de uma solicitação já respondida ou aceita pela fila, enquanto ele estiver "
+                    + "mantido em memória (aplicacao.resultados.ttl). Os dados do cliente não são retornados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Solicitação processada, com os cartões ofertados e sem os dados do cliente",
+                    content = @Content(schema = @Schema(implementation = SolicitacaoResponse.class))),
+            @ApiResponse(responseCode = "202", description = "Solicitação na fila, ainda não processada",
+                    content = @Content(schema = @Schema(implementation = SolicitacaoResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Solicitação inexistente ou com resultado expirado"),
+            @ApiResponse(responseCode = "422", description = "Solicitação assíncrona rejeitada pelos critérios de negócio",
+                    content = @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                            schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public ResponseEntity<byte[]> consultarSolicitacao(@PathVariable String numeroSolicitacao) {
+        ResultadosSolicitacoes.Resultado resultado = resultadosSolicitacoes.buscar(numeroSolicitacao)
+                .orElseThrow(() -> new ResourceNotFoundException("Solicitação " + numeroSolicitacao + " não encontrada"));
+
+        // O corpo já está serializado; é copiado para a resposta sem passar pelo Jackson
+        return ResponseEntity.status(resultado.status())
+                .contentType(resultado.status() >= 400 ? MediaType.APPLICATION_PROBLEM_JSON : MediaType.APPLICATION_JSON)
+                .body(resultado.corpo());
+    }
+
+    @PostMapping(path = "/lote",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Solicitar cartões de crédito em lote",
+            description = "Recebe um array JSON ou NDJSON de clientes e retorna uma linha NDJSON por cliente, na ordem em que cada avaliação é concluída")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote aceito. O status de cada cliente é informado na respectiva linha",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ResultadoLoteResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> solicitarCartoesEmLote(InputStream corpo) {
+        log.info("Recebida solicitação de cartões em lote");
+
+        StreamingResponseBody resultados = saida -> solicitacaoLoteService.processarLote(corpo, saida);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(resultados);
+    }
+}
@@ -1,11 +1,27 @@
 package com.cartoes.api_cartoes;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 
 @SpringBootTest
+@DirtiesContext
 class ApiCartoesApplicationTests {
 
+    /** Mantém o journal do outbox fora da árvore de trabalho (o padrão é ./dados/outbox). */
+    @TempDir
+    static Path diretorioOutbox;
+
+    @DynamicPropertySource
+    static void configurarOutbox(DynamicPropertyRegistry registry) {
+        registry.add("api.cliente.outbox.diretorio", () -> diretorioOutbox.toString());
+    }
+
     @Test
     void contextLoads() {
     }
@@ -0,0 +1,185 @@
+package com.cartoes.api_cartoes;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara a vazão da API com threads de plataforma e com threads virtuais quando a API de
+ * cliente responde lentamente. Executado apenas com o perfil {@code carga}.
+ * <p>
+ * As configurações vão como argumentos de linha de comando, que têm precedência sobre o
+ * {@code application.yml}. Cada solicitação precisa chegar à API de cliente: o cache de
+ * idempotência, a coalescência por CPF, o limite de concorrência e o bulkhead são desabilitados
+ * ou ampliados, para que nenhuma resposta rápida de cache ou de fallback entre na vazão.
+ */
+@Slf4j
+@Tag("carga")
+class CargaThreadsVirtuaisTest {
+
+    private static final Duration LATENCIA_API_CLIENTE = Duration.ofSeconds(1);
+    private static final int USUARIOS_SIMULTANEOS = 200;
+    // Threads de plataforma do Tomcat: limitam a vazão a THREADS_TOMCAT / LATENCIA_API_CLIENTE, enquanto
+    // as threads virtuais atendem todos os usuários; a carga total cabe em uma única CPU
+    private static final int THREADS_TOMCAT = 50;
+    private static final Duration AQUECIMENTO = Duration.ofSeconds(5);
+    private static final Duration MEDICAO = Duration.ofSeconds(15);
+
+    private static HttpServer apiCliente;
+    private static final LongAdder chamadasApiCliente = new LongAdder();
+
+    @BeforeAll
+    static void iniciarApiCliente() throws IOException {
+        // API de cliente lenta, atendendo cada requisição em uma thread virtual. A fila de conexões e as
+        // conexões ociosas mantidas comportam todos os usuários: recusas abririam o circuito, e o fallback
+        // responderia sem chamar a API
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(USUARIOS_SIMULTANEOS));
+        apiCliente = HttpServer.create(new InetSocketAddress("localhost", 0), USUARIOS_SIMULTANEOS);
+        apiCliente.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        apiCliente.createContext("/api/clientes", troca -> {
+            try (troca) {
+                chamadasApiCliente.increment();
+                troca.getRequestBody().readAllBytes();
+                Thread.sleep(LATENCIA_API_CLIENTE);
+
+                byte[] resposta = ("{\"id_cliente\":\"" + UUID.randomUUID() + "\"}").getBytes(StandardCharsets.UTF_8);
+                troca.getResponseHeaders().add("Content-Type", "application/json");
+                troca.sendResponseHeaders(200, resposta.length);
+                try (OutputStream corpo = troca.getResponseBody()) {
+                    corpo.write(resposta);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        apiCliente.start();
+    }
+
+    @AfterAll
+    static void pararApiCliente() {
+        apiCliente.stop(0);
+    }
+
+    @Test
+    @DisplayName("Threads virtuais devem aumentar a vazão quando a API de cliente é lenta")
+    void deveAumentarVazaoComThreadsVirtuais() throws InterruptedException {
+        // Quando
+        double vazaoPlataforma = medirVazao(false);
+        double vazaoVirtual = medirVazao(true);
+
+        log.info("Vazão com threads de plataforma: {} req/s", String.format("%.1f", vazaoPlataforma));
+        log.info("Vazão com threads virtuais: {} req/s", String.format("%.1f", vazaoVirtual));
+
+        // Então
+        assertTrue(vazaoVirtual > vazaoPlataforma * 1.5,
+                "vazão virtual " + vazaoVirtual + " req/s, plataforma " + vazaoPlataforma + " req/s");
+    }
+
+    private double medirVazao(boolean threadsVirtuais) throws InterruptedException {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(ApiCartoesApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + threadsVirtuais,
+                        "--server.tomcat.threads.max=" + THREADS_TOMCAT,
+                        "--api.cliente.simulado=false",
+                        "--api.cliente.url=http://localhost:" + apiCliente.getAddress().getPort() + "/api/clientes",
+                        // Sem outbox: os reenvios disputariam o bulkhead com as solicitações medidas
+                        "--api.cliente.outbox.habilitado=false",
+                        // Todas as requisições são iguais e seriam atendidas pelo cache de idempotência...
+                        "--aplicacao.idempotencia.habilitado=false",
+                        // ...ou compartilhariam o registro do mesmo CPF
+                        "--api.cliente.coalescencia.habilitado=false",
+                        // O limite de concorrência e o bulkhead recusariam parte dos usuários simultâneos
+                        "--aplicacao.concorrencia.habilitado=false",
+                        "--resilience4j.bulkhead.instances.clienteService.maxConcurrentCalls=" + USUARIOS_SIMULTANEOS,
+                        "--api.cliente.http.max-conexoes=" + USUARIOS_SIMULTANEOS,
+                        "--api.cliente.http.max-conexoes-por-rota=" + USUARIOS_SIMULTANEOS,
+                        "--logging.level.com.cartoes.api_cartoes=WARN",
+                        "--logging.level.com.cartoes.api_cartoes.CargaThreadsVirtuaisTest=INFO")) {
+
+            TomcatWebServer servidor = (TomcatWebServer) ((WebServerApplicationContext) contexto).getWebServer();
+            assertEquals(threadsVirtuais, servidor.getTomcat().getConnector().getProtocolHandler().getExecutor()
+                    instanceof VirtualThreadExecutor, "requisições em threads virtuais");
+
+            gerarCarga(servidor.getPort(), AQUECIMENTO);
+            long chamadasAntes = chamadasApiCliente.sum();
+            long sucessos = gerarCarga(servidor.getPort(), MEDICAO);
+            long chamadas = chamadasApiCliente.sum() - chamadasAntes;
+
+            // Cada solicitação atendida registrou o cliente na API lenta, sem fallback
+            assertTrue(chamadas >= sucessos, chamadas + " chamadas à API de cliente para " + sucessos + " solicitações");
+            return sucessos / (double) MEDICAO.toSeconds();
+        }
+    }
+
+    private long gerarCarga(int porta, Duration duracao) throws InterruptedException {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/api/cartoes"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpoSolicitacao()))
+                .build();
+
+        LongAdder sucessos = new LongAdder();
+        long fim = System.nanoTime() + duracao.toNanos();
+
+        try (HttpClient cliente = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService usuarios = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < USUARIOS_SIMULTANEOS; i++) {
+                usuarios.submit(() -> {
+                    while (System.nanoTime() < fim) {
+                        HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                        if (resposta.statusCode() == 200) {
+                            sucessos.increment();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return sucessos.sum();
+    }
+
+    private String corpoSolicitacao() {
+        LocalDate dataNascimento = LocalDate.now().minusYears(35).minusDays(10);
+        return """
+                {
+                  "cliente": {
+                    "nome": "Cliente Carga",
+                    "cpf": "123.456.789-10",
+                    "idade": 35,
+                    "data_nascimento": "%s",
+                    "uf": "RJ",
+                    "renda_mensal": 4000,
+                    "email": "carga@teste.com",
+                    "telefone_whatsapp": "11999992020"
+                  }
+                }
+                """.formatted(dataNascimento);
+    }
+}
@@ -0,0 +1,111 @@
+package com.cartoes.api_cartoes.application.dto.validator;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.domain.exception.CodigoRejeicao;
+import com.cartoes.api_cartoes.domain.exception.SolicitacaoRejeitadaException;
+import com.cartoes.api_cartoes.domain.exception.Violacao;
+import com.cartoes.api_cartoes.domain.service.CalculadoraIdade;
+import com.cartoes.api_cartoes.domain.service.impl.AvaliacaoCartaoServiceImpl;
+import com.cartoes.api_cartoes.domain.strategy.ParametrosRegras;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClienteValidatorTest {
+
+    private static final ZoneId SAO_PAULO = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDate HOJE = LocalDate.of(2026, 10, 18);
+
+    private final ClienteValidator validator = new ClienteValidator(new AvaliacaoCartaoServiceImpl(
+            new RegrasVigentes(RegrasSnapshot.deEstrategias(1,
+                    new ParametrosRegras(new ParametrosRegras.Cliente(18, 25, 25, 30), null, null, null), null, List.of())),
+            new CalculadoraIdade(Clock.fixed(HOJE.atTime(12, 0).atZone(SAO_PAULO).toInstant(), SAO_PAULO))));
+
+    @Test
+    @DisplayName("Não deve apontar violações para uma solicitação válida")
+    void naoDeveApontarViolacoesParaSolicitacaoValida() {
+        // Dado
+        ClienteRequest solicitacao = solicitacao(clienteValido().build());
+
+        // Quando/Então
+        assertNull(validator.verificar(solicitacao));
+        assertDoesNotThrow(() -> validator.validar(solicitacao));
+    }
+
+    @Test
+    @DisplayName("Deve reunir todas as violações em uma única passagem, na ordem dos campos")
+    void deveReunirTodasAsViolacoes() {
+        // Dado
+        ClienteRequest solicitacao = solicitacao(clienteValido()
+                .nome(" ")
+                .cpf(null)
+                .uf("")
+                .telefoneWhatsapp(null)
+                .idade(16)
+                .dataNascimento(HOJE.minusYears(16))
+                .build());
+
+        // Quando
+        SolicitacaoRejeitadaException exception = assertThrows(SolicitacaoRejeitadaException.class,
+                () -> validator.validar(solicitacao));
+
+        // Então
+        assertEquals(List.of(
+                CodigoRejeicao.NOME_OBRIGATORIO.violacao(),
+                CodigoRejeicao.CPF_OBRIGATORIO.violacao(),
+                CodigoRejeicao.UF_OBRIGATORIA.violacao(),
+                CodigoRejeicao.TELEFONE_OBRIGATORIO.violacao(),
+                new Violacao("cliente.data_nascimento", CodigoRejeicao.IDADE_MINIMA, "Cliente deve ter pelo menos 18 anos")),
+                exception.getViolacoes());
+        assertEquals(CodigoRejeicao.NOME_OBRIGATORIO, exception.getCodigo());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    @DisplayName("Deve verificar a consistência da idade apenas quando idade e data de nascimento forem informadas")
+    void deveVerificarIdadeApenasComIdadeEDataInformadas() {
+        // Dado
+        ClienteRequest semData = solicitacao(clienteValido().dataNascimento(null).idade(40).build());
+        ClienteRequest inconsistente = solicitacao(clienteValido().idade(31).build());
+
+        // Quando/Então
+        assertEquals(List.of(CodigoRejeicao.DATA_NASCIMENTO_OBRIGATORIA.violacao()), validator.verificar(semData));
+        assertEquals(List.of(CodigoRejeicao.IDADE_INCONSISTENTE.violacao()), validator.verificar(inconsistente));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar solicitação sem dados do cliente")
+    void deveRejeitarSolicitacaoSemCliente() {
+        SolicitacaoRejeitadaException exception = assertThrows(SolicitacaoRejeitadaException.class,
+                () -> validator.validar(new ClienteRequest()));
+
+        assertEquals("Dados do cliente não podem ser nulos", exception.getMessage());
+        assertEquals(List.of(CodigoRejeicao.DADOS_CLIENTE_AUSENTES.violacao()), validator.verificar(null));
+    }
+
+    private static ClienteRequest solicitacao(ClienteDTO cliente) {
+        return ClienteRequest.builder().cliente(cliente).build();
+    }
+
+    private static ClienteDTO.ClienteDTOBuilder clienteValido() {
+        return ClienteDTO.builder()
+                .nome("Cliente Teste")
+                .cpf("123.456.789-10")
+                .idade(30)
+                .dataNascimento(HOJE.minusYears(30))
+                .uf("SP")
+                .rendaMensal(new BigDecimal("4000.00"))
+                .email("cliente@teste.com")
+                .telefoneWhatsapp("11999992020");
+    }
+}
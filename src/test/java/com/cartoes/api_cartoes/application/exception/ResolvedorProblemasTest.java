@@ -0,0 +1,128 @@
+package com.cartoes.api_cartoes.application.exception;
+
+import com.cartoes.api_cartoes.application.dto.response.ProblemDetail;
+import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.exception.CodigoRejeicao;
+import com.cartoes.api_cartoes.domain.exception.ServicoIndisponivelException;
+import com.cartoes.api_cartoes.domain.exception.SolicitacaoRejeitadaException;
+import com.cartoes.api_cartoes.domain.exception.Violacao;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResolvedorProblemasTest {
+
+    private final ResolvedorProblemas resolvedor = new ResolvedorProblemas(new GeradorIdentificadorUuidV7(0), Level.DEBUG);
+
+    @Test
+    @DisplayName("Rejeições devem ser criadas sem pilha de chamadas e sem exceções suprimidas")
+    void rejeicoesNaoDevemCapturarPilha() {
+        // Dado
+        SolicitacaoRejeitadaException rejeicao = new SolicitacaoRejeitadaException(CodigoRejeicao.CPF_OBRIGATORIO);
+
+        // Quando
+        rejeicao.addSuppressed(new IllegalStateException("ignorada"));
+
+        // Então
+        assertEquals(0, rejeicao.getStackTrace().length);
+        assertEquals(0, rejeicao.getSuppressed().length);
+        assertEquals("CPF do cliente é obrigatório", rejeicao.getMessage());
+        assertInstanceOf(BusinessException.class, rejeicao);
+    }
+
+    @Test
+    @DisplayName("Deve responder rejeições com o modelo pré-montado do motivo")
+    void deveResponderRejeicaoComModeloDoMotivo() {
+        // Dado
+        SolicitacaoRejeitadaException rejeicao = new SolicitacaoRejeitadaException(CodigoRejeicao.CPF_OBRIGATORIO);
+
+        // Quando
+        ResponseEntity<ProblemDetail> primeira = resolvedor.resolver(rejeicao);
+        ResponseEntity<ProblemDetail> segunda = resolvedor.resolver(rejeicao);
+
+        // Então
+        ProblemDetail problema = primeira.getBody();
+        assertNotNull(problema);
+        assertEquals(422, primeira.getStatusCode().value());
+        assertEquals(MediaType.APPLICATION_PROBLEM_JSON, primeira.getHeaders().getContentType());
+        assertEquals("https://api.cartoes.com/problems/business-rule-violation", problema.getType());
+        assertEquals("Violação de Regra de Negócio", problema.getTitle());
+        assertEquals("CPF do cliente é obrigatório", problema.getDetail());
+        assertEquals(List.of("app", "tipoErro", "codigo", "motivo", "erros"), List.copyOf(problema.getExtensions().keySet()));
+        assertEquals(Map.of("app", "cartoes-api", "tipoErro", "REGRA_NEGOCIO", "codigo", "422", "motivo", "CPF_OBRIGATORIO",
+                        "erros", List.of(new Violacao("cliente.cpf", CodigoRejeicao.CPF_OBRIGATORIO, "CPF do cliente é obrigatório"))),
+                problema.getExtensions());
+        assertThrows(UnsupportedOperationException.class, () -> problema.getExtensions().put("outro", "valor"));
+
+        // As partes fixas são compartilhadas; apenas a instância muda a cada resposta
+        assertSame(problema.getExtensions(), segunda.getBody().getExtensions());
+        assertTrue(problema.getInstance().startsWith("/errors/"));
+        assertNotEquals(problema.getInstance(), segunda.getBody().getInstance());
+    }
+
+    @Test
+    @DisplayName("Deve listar todas as violações de uma rejeição em extensions.erros")
+    void deveListarTodasAsViolacoes() {
+        // Dado
+        List<Violacao> violacoes = List.of(
+                CodigoRejeicao.NOME_OBRIGATORIO.violacao(),
+                CodigoRejeicao.IDADE_MINIMA.violacao("Cliente deve ter pelo menos 18 anos"));
+
+        // Quando
+        ResponseEntity<ProblemDetail> resposta = resolvedor.resolver(new SolicitacaoRejeitadaException(violacoes));
+
+        // Então
+        ProblemDetail problema = resposta.getBody();
+        assertEquals(422, resposta.getStatusCode().value());
+        assertEquals("Nome do cliente é obrigatório; Cliente deve ter pelo menos 18 anos", problema.getDetail());
+        assertEquals("NOME_OBRIGATORIO", problema.getExtensions().get("motivo"));
+        assertEquals(violacoes, problema.getExtensions().get("erros"));
+        assertEquals(List.of(CodigoRejeicao.NOME_OBRIGATORIO.violacao()),
+                resolvedor.resolver(new SolicitacaoRejeitadaException(CodigoRejeicao.NOME_OBRIGATORIO))
+                        .getBody().getExtensions().get("erros"));
+    }
+
+    @Test
+    @DisplayName("Demais erros de negócio devem manter a resposta sem motivo de rejeição")
+    void deveManterRespostaDeErroDeNegocioGenerico() {
+        // Dado
+        BusinessException erro = new BusinessException("Falha ao registrar cliente na API externa");
+
+        // Quando
+        ResponseEntity<ProblemDetail> resposta = resolvedor.resolver(erro);
+
+        // Então
+        assertTrue(erro.getStackTrace().length > 0);
+        assertEquals(422, resposta.getStatusCode().value());
+        assertEquals("Falha ao registrar cliente na API externa", resposta.getBody().getDetail());
+        assertEquals(Map.of("app", "cartoes-api", "tipoErro", "REGRA_NEGOCIO", "codigo", "422"),
+                resposta.getBody().getExtensions());
+    }
+
+    @Test
+    @DisplayName("Fila cheia deve responder 503 com Retry-After em segundos inteiros")
+    void deveResponderServicoIndisponivelComRetryAfter() {
+        // Dado
+        ServicoIndisponivelException erro = new ServicoIndisponivelException("Fila de solicitações cheia", Duration.ofMillis(1500));
+
+        // Quando
+        ResponseEntity<ProblemDetail> resposta = resolvedor.resolver(erro);
+
+        // Então
+        assertEquals(0, erro.getStackTrace().length);
+        assertEquals(503, resposta.getStatusCode().value());
+        assertEquals("2", resposta.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Fila de solicitações cheia", resposta.getBody().getDetail());
+        assertEquals("CAPACIDADE_ESGOTADA", resposta.getBody().getExtensions().get("tipoErro"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.cartoes.api_cartoes.application.factory.impl;
+
+import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
+import com.cartoes.api_cartoes.domain.entity.Cartao;
+import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
+import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes;
+import com.cartoes.api_cartoes.domain.strategy.ParametrosRegras;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CartaoFactoryImplTest {
+
+    private RegrasVigentes regras;
+    private CatalogoCartoes catalogo;
+    private CartaoFactoryImpl factory;
+
+    @BeforeEach
+    void setUp() {
+        regras = new RegrasVigentes(RegrasSnapshot.compilar(1, parametros("5000.00")));
+        catalogo = regras.atual().catalogo();
+        factory = new CartaoFactoryImpl(regras);
+    }
+
+    @Test
+    @DisplayName("Deve retornar a mesma lista de respostas para as ofertas compartilhadas do catálogo")
+    void deveRetornarListaCompartilhadaParaOfertasDoCatalogo() {
+        // Dado
+        int mascara = CatalogoCartoes.mascara(TipoCartao.CARTAO_SEM_ANUIDADE)
+                | CatalogoCartoes.mascara(TipoCartao.CARTAO_COM_CASHBACK);
+        List<Cartao> ofertas = catalogo.ofertas(mascara);
+
+        // Quando
+        List<CartaoResponse> primeira = factory.toCartaoResponseList(ofertas);
+        List<CartaoResponse> segunda = factory.toCartaoResponseList(catalogo.ofertas(mascara));
+
+        // Então
+        assertSame(primeira, segunda);
+        assertEquals(2, primeira.size());
+        assertEquals(TipoCartao.CARTAO_SEM_ANUIDADE, primeira.get(0).getTipoCartao());
+        assertEquals(TipoCartao.CARTAO_COM_CASHBACK, primeira.get(1).getTipoCartao());
+        assertEquals(new BigDecimal("15.00"), primeira.get(1).getValorAnuidadeMensal());
+        assertEquals(new BigDecimal("5000.00"), primeira.get(1).getValorLimiteDisponivel());
+        assertEquals(CartaoStatus.APROVADO, primeira.get(1).getStatus());
+        assertThrows(UnsupportedOperationException.class, () -> primeira.add(primeira.get(0)));
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a resposta pré-construída para cartões do catálogo")
+    void deveReutilizarRespostaParaCartaoDoCatalogo() {
+        // Dado
+        Cartao cartao = catalogo.cartao(TipoCartao.CARTAO_DE_PARCEIROS);
+
+        // Quando/Então
+        assertSame(factory.toCartaoResponse(cartao), factory.toCartaoResponse(cartao));
+    }
+
+    @Test
+    @DisplayName("Deve converter cartões que não pertencem ao catálogo")
+    void deveConverterCartoesForaDoCatalogo() {
+        // Dado
+        Cartao cartao = Cartao.builder()
+                .tipoCartao(TipoCartao.CARTAO_DE_PARCEIROS)
+                .valorAnuidadeMensal(new BigDecimal("9.90"))
+                .valorLimiteDisponivel(new BigDecimal("800.00"))
+                .status(CartaoStatus.NEGADO)
+                .build();
+
+        // Quando
+        List<CartaoResponse> respostas = factory.toCartaoResponseList(List.of(cartao));
+
+        // Então
+        assertEquals(1, respostas.size());
+        assertEquals(new BigDecimal("9.90"), respostas.getFirst().getValorAnuidadeMensal());
+        assertEquals(new BigDecimal("800.00"), respostas.getFirst().getValorLimiteDisponivel());
+        assertEquals(CartaoStatus.NEGADO, respostas.getFirst().getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia compartilhada quando não houver ofertas")
+    void deveRetornarListaVaziaCompartilhada() {
+        // Quando
+        List<CartaoResponse> respostas = factory.toCartaoResponseList(catalogo.ofertas(0));
+
+        // Então
+        assertTrue(respostas.isEmpty());
+        assertSame(respostas, factory.toCartaoResponseList(catalogo.ofertas(0)));
+    }
+
+    @Test
+    @DisplayName("Deve usar as respostas do novo catálogo após a recarga das regras")
+    void deveUsarNovoCatalogoAposRecarga() {
+        // Dado
+        int mascara = CatalogoCartoes.mascara(TipoCartao.CARTAO_COM_CASHBACK);
+        List<Cartao> ofertasAnteriores = catalogo.ofertas(mascara);
+        List<CartaoResponse> respostasAnteriores = factory.toCartaoResponseList(ofertasAnteriores);
+
+        // Quando
+        CatalogoCartoes novoCatalogo = regras.substituir(parametros("8000.00")).catalogo();
+        List<CartaoResponse> novasRespostas = factory.toCartaoResponseList(novoCatalogo.ofertas(mascara));
+
+        // Então
+        assertEquals(new BigDecimal("8000.00"), novasRespostas.getFirst().getValorLimiteDisponivel());
+        assertSame(novasRespostas, factory.toCartaoResponseList(novoCatalogo.ofertas(mascara)));
+        // Ofertas avaliadas antes da recarga continuam convertidas com os valores originais
+        assertEquals(respostasAnteriores, factory.toCartaoResponseList(ofertasAnteriores));
+        assertEquals(new BigDecimal("5000.00"),
+                factory.toCartaoResponseList(ofertasAnteriores).getFirst().getValorLimiteDisponivel());
+    }
+
+    private static ParametrosRegras parametros(String limiteCashback) {
+        return new ParametrosRegras(
+                new ParametrosRegras.Cliente(18, 25, 25, 30),
+                new ParametrosRegras.Estados("SP"),
+                new ParametrosRegras.Renda(
+                        new BigDecimal("1000.00"), new BigDecimal("3000.00"),
+                        new BigDecimal("3000.00"), new BigDecimal("5000.00"),
+                        new BigDecimal("5000.00")),
+                new ParametrosRegras.Cartoes(
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal("1000.00"), new BigDecimal("1000.00"), new BigDecimal("0.00")),
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal("3000.00"), new BigDecimal("3000.00"), new BigDecimal("20.00")),
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal(limiteCashback), new BigDecimal("5000.00"), new BigDecimal("15.00"))));
+    }
+}
@@ -2,39 +2,58 @@ package com.cartoes.api_cartoes.application.service.impl;
 
 import com.cartoes.api_cartoes.application.dto.ClienteDTO;
 import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.dto.response.AvaliacaoResponse;
 import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
 import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
 import com.cartoes.api_cartoes.application.dto.validator.ClienteValidator;
 import com.cartoes.api_cartoes.application.factory.CartaoFactory;
+import com.cartoes.api_cartoes.application.metrics.MetricasSolicitacao;
+import com.cartoes.api_cartoes.application.resultado.ResultadosSolicitacoes;
 import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
 import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
 import com.cartoes.api_cartoes.domain.enums.TipoCartao;
 import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.exception.CodigoRejeicao;
+import com.cartoes.api_cartoes.domain.exception.SolicitacaoRejeitadaException;
+import com.cartoes.api_cartoes.domain.exception.Violacao;
 import com.cartoes.api_cartoes.domain.repository.ClienteRepository;
 import com.cartoes.api_cartoes.domain.service.AvaliacaoCartaoService;
+import com.cartoes.api_cartoes.domain.service.GeradorIdentificador;
+import com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.TabelaDecisaoElegibilidade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CartaoApplicationServiceImplTest {
 
+    private static final UUID NUMERO_GERADO = new UUID(0L, 1L);
+
     @Mock
     private AvaliacaoCartaoService avaliacaoCartaoService;
 
@@ -47,18 +66,28 @@ class CartaoApplicationServiceImplTest {
     @Mock
     private ClienteValidator clienteValidator;
 
-    @InjectMocks
+    @Mock
+    private ResultadosSolicitacoes resultadosSolicitacoes;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong numerosGerados = new AtomicLong();
+    private final GeradorIdentificador geradorIdentificador = () -> new UUID(0L, numerosGerados.incrementAndGet());
     private CartaoApplicationServiceImpl cartaoApplicationService;
 
     private ClienteDTO clienteDTO;
     private ClienteRequest clienteRequest;
     private Cliente cliente;
-    private UUID idSolicitacao;
+    private UUID idCliente;
     private List<Cartao> cartoesDominio;
     private List<CartaoResponse> cartoesResponse;
+    private RegrasSnapshot regras;
 
     @BeforeEach
     void setUp() {
+        cartaoApplicationService = new CartaoApplicationServiceImpl(avaliacaoCartaoService, clienteRepository,
+                cartaoFactory, clienteValidator, new MetricasSolicitacao(meterRegistry, true), resultadosSolicitacoes,
+                geradorIdentificador);
+
         // Configurar dados de teste
         clienteDTO = criarClienteDTO();
         clienteRequest = new ClienteRequest();
@@ -66,38 +95,83 @@ class CartaoApplicationServiceImplTest {
 
         cliente = criarCliente();
 
-        idSolicitacao = UUID.randomUUID();
+        idCliente = UUID.randomUUID();
 
         cartoesDominio = criarCartoesDominio();
         cartoesResponse = criarCartoesResponse();
+
+        regras = mock(RegrasSnapshot.class);
+        lenient().when(avaliacaoCartaoService.regrasVigentes()).thenReturn(regras);
     }
 
     @Test
     @DisplayName("Deve processar solicitação com sucesso e retornar cartões")
     void deveProcessarSolicitacaoComSucessoERetornarCartoes() {
         // Configurar mocks
-        doNothing().when(clienteValidator).validar(any(ClienteRequest.class));
-        doNothing().when(avaliacaoCartaoService).validarCliente(any(Cliente.class));
-        when(clienteRepository.registrarCliente(any(Cliente.class))).thenReturn(idSolicitacao);
-        when(avaliacaoCartaoService.avaliarCartoesDisponiveis(any(Cliente.class))).thenReturn(cartoesDominio);
-        when(cartaoFactory.toCartaoResponseList(cartoesDominio)).thenReturn(cartoesResponse);
+        doNothing().when(clienteValidator).validar(any(), any(ClienteRequest.class));
+        when(clienteRepository.registrarClienteAsync(any(Cliente.class))).thenReturn(CompletableFuture.completedFuture(idCliente));
+        when(avaliacaoCartaoService.selecionarOfertas(any(), any(Cliente.class))).thenReturn(decisao(cartoesDominio));
+        when(cartaoFactory.toCartaoResponseList(any(), eq(cartoesDominio))).thenReturn(cartoesResponse);
 
         // Executar
         SolicitacaoResponse response = cartaoApplicationService.processarSolicitacao(clienteRequest);
 
         // Verificar
         assertNotNull(response);
-        assertEquals(idSolicitacao.toString(), response.getNumeroSolicitacao());
+        assertEquals(NUMERO_GERADO.toString(), response.getNumeroSolicitacao());
         assertNotNull(response.getDataSolicitacao());
         assertEquals(clienteDTO, response.getCliente());
         assertEquals(cartoesResponse, response.getCartoesOfertados());
 
         // Verificar chamadas aos mocks
-        verify(clienteValidator).validar(clienteRequest);
-        verify(avaliacaoCartaoService).validarCliente(any(Cliente.class));
-        verify(clienteRepository).registrarCliente(any(Cliente.class));
-        verify(avaliacaoCartaoService).avaliarCartoesDisponiveis(any(Cliente.class));
-        verify(cartaoFactory).toCartaoResponseList(cartoesDominio);
+        verify(clienteValidator).validar(any(), eq(clienteRequest));
+        verify(clienteRepository).registrarClienteAsync(any(Cliente.class));
+        verify(avaliacaoCartaoService).selecionarOfertas(any(), any(Cliente.class));
+        verify(cartaoFactory).toCartaoResponseList(any(), eq(cartoesDominio));
+        verify(resultadosSolicitacoes).armazenar(response);
+    }
+
+    @Test
+    @DisplayName("Deve ler as regras uma única vez e usar o mesmo snapshot na validação, na decisão e no catálogo")
+    void deveUsarUmUnicoSnapshotDasRegras() {
+        // Dado
+        CatalogoCartoes catalogo = mock(CatalogoCartoes.class);
+        when(regras.catalogo()).thenReturn(catalogo);
+        when(clienteRepository.registrarClienteAsync(any(Cliente.class))).thenReturn(CompletableFuture.completedFuture(idCliente));
+        when(avaliacaoCartaoService.selecionarOfertas(same(regras), any(Cliente.class))).thenReturn(decisao(cartoesDominio));
+        when(cartaoFactory.toCartaoResponseList(same(catalogo), eq(cartoesDominio))).thenReturn(cartoesResponse);
+
+        // Quando
+        SolicitacaoResponse response = cartaoApplicationService.processarSolicitacao(clienteRequest);
+
+        // Então
+        assertEquals(cartoesResponse, response.getCartoesOfertados());
+        verify(avaliacaoCartaoService, times(1)).regrasVigentes();
+        verify(clienteValidator).validar(same(regras), eq(clienteRequest));
+    }
+
+    @Test
+    @DisplayName("Deve manter o número e a data atribuídos no recebimento de uma solicitação pendente")
+    void deveManterNumeroEDataDaSolicitacaoPendente() {
+        // Dado
+        LocalDateTime recebidaEm = LocalDateTime.of(2025, 3, 10, 14, 30);
+        SolicitacaoPendente pendente = SolicitacaoPendente.builder()
+                .numeroSolicitacao("solicitacao-recebida")
+                .dataSolicitacao(recebidaEm)
+                .cliente(clienteDTO)
+                .build();
+        when(clienteRepository.registrarClienteAsync(any(Cliente.class))).thenReturn(CompletableFuture.completedFuture(idCliente));
+        when(avaliacaoCartaoService.selecionarOfertas(any(), any(Cliente.class))).thenReturn(decisao(cartoesDominio));
+        when(cartaoFactory.toCartaoResponseList(any(), eq(cartoesDominio))).thenReturn(cartoesResponse);
+
+        // Quando
+        SolicitacaoResponse response = cartaoApplicationService.processarPendente(pendente);
+
+        // Então
+        assertEquals("solicitacao-recebida", response.getNumeroSolicitacao());
+        assertEquals(recebidaEm, response.getDataSolicitacao());
+        assertEquals(cartoesResponse, response.getCartoesOfertados());
+        verify(clienteValidator).validar(any(), any(ClienteRequest.class));
     }
 
     @Test
@@ -105,7 +179,7 @@ class CartaoApplicationServiceImplTest {
     void devePropagaExcecaoDeValidacaoDoCliente() {
         // Configurar mocks
         doThrow(new BusinessException("Dados do cliente inválidos"))
-                .when(clienteValidator).validar(any(ClienteRequest.class));
+                .when(clienteValidator).validar(any(), any(ClienteRequest.class));
 
         // Executar/Verificar
         BusinessException exception = assertThrows(BusinessException.class, () -> cartaoApplicationService.processarSolicitacao(clienteRequest));
@@ -113,19 +187,19 @@ class CartaoApplicationServiceImplTest {
         assertEquals("Dados do cliente inválidos", exception.getMessage());
 
         // Verificar que não chamou os outros serviços
-        verify(avaliacaoCartaoService, never()).validarCliente(any(Cliente.class));
-        verify(clienteRepository, never()).registrarCliente(any(Cliente.class));
+        verify(clienteRepository, never()).registrarClienteAsync(any(Cliente.class));
+        verify(avaliacaoCartaoService, never()).selecionarOfertas(any(), any(Cliente.class));
+        verifyNoInteractions(resultadosSolicitacoes);
     }
 
     @Test
     @DisplayName("Deve processar solicitação e retornar lista vazia quando não houver cartões disponíveis")
     void deveProcessarSolicitacaoERetornarListaVaziaQuandoNaoHouverCartoes() {
         // Configurar mocks
-        doNothing().when(clienteValidator).validar(any(ClienteRequest.class));
-        doNothing().when(avaliacaoCartaoService).validarCliente(any(Cliente.class));
-        when(clienteRepository.registrarCliente(any(Cliente.class))).thenReturn(idSolicitacao);
-        when(avaliacaoCartaoService.avaliarCartoesDisponiveis(any(Cliente.class))).thenReturn(Collections.emptyList());
-        when(cartaoFactory.toCartaoResponseList(Collections.emptyList())).thenReturn(Collections.emptyList());
+        doNothing().when(clienteValidator).validar(any(), any(ClienteRequest.class));
+        when(clienteRepository.registrarClienteAsync(any(Cliente.class))).thenReturn(CompletableFuture.completedFuture(idCliente));
+        when(avaliacaoCartaoService.selecionarOfertas(any(), any(Cliente.class))).thenReturn(decisao(Collections.emptyList()));
+        when(cartaoFactory.toCartaoResponseList(any(), eq(Collections.emptyList()))).thenReturn(Collections.emptyList());
 
         // Executar
         SolicitacaoResponse response = cartaoApplicationService.processarSolicitacao(clienteRequest);
@@ -135,6 +209,167 @@ class CartaoApplicationServiceImplTest {
         assertTrue(response.getCartoesOfertados().isEmpty());
     }
 
+    @Test
+    @DisplayName("Deve gerar um número próprio para cada solicitação e devolver o ID de cliente compartilhado")
+    void deveGerarNumeroProprioParaCadaSolicitacao() {
+        // Dado: solicitações simultâneas do mesmo CPF recebem o mesmo ID de cliente
+        when(clienteRepository.registrarClienteAsync(any(Cliente.class))).thenReturn(CompletableFuture.completedFuture(idCliente));
+        when(avaliacaoCartaoService.selecionarOfertas(any(), any(Cliente.class))).thenReturn(decisao(cartoesDominio));
+        when(cartaoFactory.toCartaoResponseList(any(), eq(cartoesDominio))).thenReturn(cartoesResponse);
+
+        // Quando
+        SolicitacaoResponse primeira = cartaoApplicationService.processarSolicitacao(clienteRequest);
+        SolicitacaoResponse segunda = cartaoApplicationService.processarSolicitacao(clienteRequest);
+
+        // Então
+        assertNotEquals(primeira.getNumeroSolicitacao(), segunda.getNumeroSolicitacao());
+        assertNotEquals(idCliente.toString(), primeira.getNumeroSolicitacao());
+        assertEquals(idCliente.toString(), primeira.getIdCliente());
+        assertEquals(idCliente.toString(), segunda.getIdCliente());
+        verify(resultadosSolicitacoes).armazenar(primeira);
+        verify(resultadosSolicitacoes).armazenar(segunda);
+    }
+
+    @Test
+    @DisplayName("Deve avaliar os cartões enquanto o registro do cliente está em andamento")
+    void deveAvaliarCartoesEnquantoRegistroEstaEmAndamento() {
+        // Configurar mocks: o registro só é concluído durante a avaliação dos cartões
+        CompletableFuture<UUID> registro = new CompletableFuture<>();
+        when(clienteRepository.registrarClienteAsync(any(Cliente.class))).thenReturn(registro);
+        when(avaliacaoCartaoService.selecionarOfertas(any(), any(Cliente.class))).thenAnswer(invocacao -> {
+            assertFalse(registro.isDone());
+            registro.complete(idCliente);
+            return decisao(cartoesDominio);
+        });
+        when(cartaoFactory.toCartaoResponseList(any(), eq(cartoesDominio))).thenReturn(cartoesResponse);
+
+        // Executar
+        SolicitacaoResponse response = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> cartaoApplicationService.processarSolicitacao(clienteRequest));
+
+        // Verificar
+        assertEquals(NUMERO_GERADO.toString(), response.getNumeroSolicitacao());
+        verify(clienteRepository, never()).registrarCliente(any(Cliente.class));
+    }
+
+    @Test
+    @DisplayName("Deve propagar exceção de negócio do registro do cliente")
+    void devePropagarExcecaoDoRegistroDoCliente() {
+        // Configurar mocks
+        when(clienteRepository.registrarClienteAsync(any(Cliente.class)))
+                .thenReturn(CompletableFuture.failedFuture(new BusinessException("Falha ao registrar cliente na API externa")));
+        when(avaliacaoCartaoService.selecionarOfertas(any(), any(Cliente.class))).thenReturn(decisao(cartoesDominio));
+        when(cartaoFactory.toCartaoResponseList(any(), eq(cartoesDominio))).thenReturn(cartoesResponse);
+
+        // Executar/Verificar
+        BusinessException exception = assertThrows(BusinessException.class, () -> cartaoApplicationService.processarSolicitacao(clienteRequest));
+        assertEquals("Falha ao registrar cliente na API externa", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tempo de cada etapa com a estratégia, o resultado e o estado do circuito")
+    void deveRegistrarTempoDeCadaEtapa() {
+        // Dado
+        when(clienteRepository.registrarClienteAsync(any(Cliente.class))).thenReturn(CompletableFuture.completedFuture(idCliente));
+        when(clienteRepository.estadoCircuito()).thenReturn("closed");
+        when(avaliacaoCartaoService.selecionarOfertas(any(), any(Cliente.class))).thenReturn(decisao(cartoesDominio));
+        when(cartaoFactory.toCartaoResponseList(any(), eq(cartoesDominio))).thenReturn(cartoesResponse);
+
+        // Quando
+        cartaoApplicationService.processarSolicitacao(clienteRequest);
+        cartaoApplicationService.processarSolicitacao(clienteRequest);
+
+        // Então
+        for (String etapa : List.of("validacao", "registro", "avaliacao", "espera_registro", "resposta")) {
+            assertEquals(2, meterRegistry.get(MetricasSolicitacao.METRICA_ETAPA)
+                    .tags("etapa", etapa, "estrategia", "StrategyPadrao", "resultado", "sucesso", "circuito", "closed")
+                    .timer().count(), etapa);
+        }
+        assertEquals(2, meterRegistry.get(MetricasSolicitacao.METRICA_TOTAL)
+                .tags("estrategia", "StrategyPadrao", "resultado", "sucesso", "circuito", "closed")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve registrar apenas as etapas concluídas de uma solicitação rejeitada")
+    void deveRegistrarEtapasConcluidasDeSolicitacaoRejeitada() {
+        // Dado
+        when(clienteRepository.estadoCircuito()).thenReturn("open");
+        doThrow(new SolicitacaoRejeitadaException(CodigoRejeicao.IDADE_MINIMA, "Cliente deve ter pelo menos 18 anos"))
+                .when(clienteValidator).validar(any(), any(ClienteRequest.class));
+
+        // Quando
+        assertThrows(BusinessException.class, () -> cartaoApplicationService.processarSolicitacao(clienteRequest));
+
+        // Então
+        assertEquals(1, meterRegistry.get(MetricasSolicitacao.METRICA_TOTAL)
+                .tags("estrategia", "nenhuma", "resultado", "rejeitada", "circuito", "open")
+                .timer().count());
+        assertEquals(0, meterRegistry.get(MetricasSolicitacao.METRICA_ETAPA)
+                .tags("etapa", "validacao", "resultado", "rejeitada")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Não deve registrar métricas quando desabilitadas")
+    void naoDeveRegistrarMetricasQuandoDesabilitadas() {
+        // Dado
+        SimpleMeterRegistry registro = new SimpleMeterRegistry();
+        CartaoApplicationServiceImpl servico = new CartaoApplicationServiceImpl(avaliacaoCartaoService, clienteRepository,
+                cartaoFactory, clienteValidator, new MetricasSolicitacao(registro, false), resultadosSolicitacoes,
+                geradorIdentificador);
+        when(clienteRepository.registrarClienteAsync(any(Cliente.class))).thenReturn(CompletableFuture.completedFuture(idCliente));
+        when(avaliacaoCartaoService.selecionarOfertas(any(), any(Cliente.class))).thenReturn(decisao(cartoesDominio));
+        when(cartaoFactory.toCartaoResponseList(any(), eq(cartoesDominio))).thenReturn(cartoesResponse);
+
+        // Quando
+        servico.processarSolicitacao(clienteRequest);
+
+        // Então
+        assertTrue(registro.getMeters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve avaliar sem registrar o cliente nem armazenar o resultado")
+    void deveAvaliarSemRegistro() {
+        // Dado
+        when(clienteValidator.verificar(any(), eq(clienteRequest))).thenReturn(null);
+        when(avaliacaoCartaoService.selecionarOfertas(any(), any(Cliente.class))).thenReturn(decisao(cartoesDominio));
+        when(cartaoFactory.toCartaoResponseList(any(), eq(cartoesDominio))).thenReturn(cartoesResponse);
+
+        // Quando
+        AvaliacaoResponse avaliacao = cartaoApplicationService.avaliarSemRegistro(clienteRequest);
+
+        // Então
+        assertEquals(clienteDTO.getCpf(), avaliacao.getCpf());
+        assertEquals("StrategyPadrao", avaliacao.getEstrategia());
+        assertEquals(cartoesResponse, avaliacao.getCartoesOfertados());
+        assertNull(avaliacao.getErros());
+        verifyNoInteractions(clienteRepository, resultadosSolicitacoes);
+        assertNull(meterRegistry.find("cartoes.solicitacao").timer());
+    }
+
+    @Test
+    @DisplayName("Deve devolver as violações sem lançar exceção quando a avaliação sem registro for rejeitada")
+    void deveDevolverViolacoesNaAvaliacaoSemRegistro() {
+        // Dado
+        List<Violacao> violacoes = List.of(CodigoRejeicao.IDADE_MINIMA.violacao());
+        when(clienteValidator.verificar(any(), eq(clienteRequest))).thenReturn(violacoes);
+
+        // Quando
+        AvaliacaoResponse avaliacao = cartaoApplicationService.avaliarSemRegistro(clienteRequest);
+
+        // Então
+        assertEquals(violacoes, avaliacao.getErros());
+        assertNull(avaliacao.getCartoesOfertados());
+        verify(avaliacaoCartaoService, never()).selecionarOfertas(any(), any(Cliente.class));
+        verifyNoInteractions(clienteRepository);
+    }
+
+    private static TabelaDecisaoElegibilidade.Decisao decisao(List<Cartao> cartoes) {
+        return new TabelaDecisaoElegibilidade.Decisao("StrategyPadrao", cartoes);
+    }
+
     private ClienteDTO criarClienteDTO() {
         return ClienteDTO.builder()
                 .nome("Cliente Teste")
@@ -155,7 +390,7 @@ class CartaoApplicationServiceImplTest {
                 .idade(25)
                 .dataNascimento(LocalDate.of(2000, 1, 1))
                 .uf("SP")
-                .rendaMensal(new BigDecimal("4000.00"))
+                .rendaMensalCentavos(400_000L)
                 .email("cliente@teste.com")
                 .telefoneWhatsapp("11999992020")
                 .build();
@@ -0,0 +1,188 @@
+package com.cartoes.api_cartoes.application.service.impl;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.dto.response.ProblemDetail;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.dto.validator.ClienteValidator;
+import com.cartoes.api_cartoes.application.exception.ResolvedorProblemas;
+import com.cartoes.api_cartoes.application.fila.FilaSolicitacoes;
+import com.cartoes.api_cartoes.application.resultado.ResultadosSolicitacoes;
+import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
+import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.exception.ServicoIndisponivelException;
+import com.cartoes.api_cartoes.domain.service.GeradorIdentificador;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.event.Level;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SolicitacaoAssincronaServiceImplTest {
+
+    @Mock
+    private ClienteValidator clienteValidator;
+
+    @Mock
+    private FilaSolicitacoes filaSolicitacoes;
+
+    @Mock
+    private CartaoApplicationService cartaoApplicationService;
+
+    @Mock
+    private GeradorIdentificador geradorIdentificador;
+
+    @Mock
+    private ResultadosSolicitacoes resultadosSolicitacoes;
+
+    private SolicitacaoAssincronaServiceImpl service;
+    private ClienteRequest clienteRequest;
+    private final UUID numero = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new SolicitacaoAssincronaServiceImpl(clienteValidator, filaSolicitacoes,
+                cartaoApplicationService, geradorIdentificador, resultadosSolicitacoes,
+                new ResolvedorProblemas(new GeradorIdentificadorUuidV7(0), Level.DEBUG));
+        clienteRequest = new ClienteRequest(ClienteDTO.builder()
+                .nome("Cliente Teste")
+                .cpf("123.456.789-10")
+                .idade(30)
+                .dataNascimento(LocalDate.of(1995, 1, 1))
+                .uf("SP")
+                .rendaMensal(new BigDecimal("4000.00"))
+                .email("cliente@teste.com")
+                .telefoneWhatsapp("11999992020")
+                .build());
+    }
+
+    @Test
+    @DisplayName("Deve validar, publicar na fila e responder com o número da solicitação, sem cartões")
+    void deveAceitarSolicitacaoValida() {
+        // Dado
+        when(geradorIdentificador.gerar()).thenReturn(numero);
+
+        // Quando
+        SolicitacaoResponse response = service.aceitarSolicitacao(clienteRequest);
+
+        // Então
+        ArgumentCaptor<SolicitacaoPendente> publicada = ArgumentCaptor.forClass(SolicitacaoPendente.class);
+        verify(clienteValidator).validar(clienteRequest);
+        verify(filaSolicitacoes).publicar(publicada.capture());
+        assertEquals(numero.toString(), publicada.getValue().getNumeroSolicitacao());
+        assertEquals(numero.toString(), response.getNumeroSolicitacao());
+        assertEquals(publicada.getValue().getDataSolicitacao(), response.getDataSolicitacao());
+        assertEquals(clienteRequest.getCliente(), response.getCliente());
+        assertNull(response.getCartoesOfertados());
+        verifyNoInteractions(cartaoApplicationService);
+
+        // A pendência é gravada antes que um consumidor possa gravar o resultado final
+        InOrder ordem = inOrder(resultadosSolicitacoes, filaSolicitacoes);
+        ordem.verify(resultadosSolicitacoes).armazenarPendente(response);
+        ordem.verify(filaSolicitacoes).publicar(any());
+    }
+
+    @Test
+    @DisplayName("Não deve publicar solicitações inválidas")
+    void naoDevePublicarSolicitacaoInvalida() {
+        // Dado
+        doThrow(new BusinessException("Dados do cliente inválidos")).when(clienteValidator).validar(clienteRequest);
+
+        // Quando / Então
+        assertThrows(BusinessException.class, () -> service.aceitarSolicitacao(clienteRequest));
+        verifyNoInteractions(filaSolicitacoes);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a recusa da fila cheia")
+    void devePropagarRecusaDaFila() {
+        // Dado
+        when(geradorIdentificador.gerar()).thenReturn(numero);
+        doThrow(new ServicoIndisponivelException("Fila de solicitações cheia", Duration.ofSeconds(1)))
+                .when(filaSolicitacoes).publicar(any());
+
+        // Quando / Então
+        assertThrows(ServicoIndisponivelException.class, () -> service.aceitarSolicitacao(clienteRequest));
+        verify(resultadosSolicitacoes).remover(numero.toString());
+    }
+
+    @Test
+    @DisplayName("Deve encerrar sem erro as solicitações rejeitadas pelas regras de negócio")
+    void deveEncerrarSolicitacaoRejeitada() {
+        // Dado
+        SolicitacaoPendente pendente = new SolicitacaoPendente(numero.toString(), null, clienteRequest.getCliente());
+        when(cartaoApplicationService.processarPendente(pendente)).thenThrow(new BusinessException("Renda insuficiente"));
+
+        // Quando
+        assertDoesNotThrow(() -> service.processar(pendente));
+
+        // Então
+        ArgumentCaptor<ProblemDetail> problema = ArgumentCaptor.forClass(ProblemDetail.class);
+        assertNotNull(pendente.getDataSolicitacao());
+        verifyNoInteractions(geradorIdentificador);
+        verify(resultadosSolicitacoes).armazenarFalha(eq(numero.toString()), problema.capture());
+        assertEquals(422, problema.getValue().getStatus());
+        assertEquals("Renda insuficiente", problema.getValue().getDetail());
+    }
+
+    @Test
+    @DisplayName("Deve registrar como erro interno a solicitação descartada pela fila")
+    void deveRegistrarSolicitacaoDescartada() {
+        // Dado
+        SolicitacaoPendente pendente = new SolicitacaoPendente(numero.toString(), null, clienteRequest.getCliente());
+
+        // Quando
+        service.descartar(pendente, new IllegalStateException("Cadastro indisponível"));
+
+        // Então
+        ArgumentCaptor<ProblemDetail> problema = ArgumentCaptor.forClass(ProblemDetail.class);
+        verify(resultadosSolicitacoes).armazenarFalha(eq(numero.toString()), problema.capture());
+        assertEquals(500, problema.getValue().getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve propagar falhas temporárias para que a fila repita a solicitação")
+    void devePropagarFalhaTemporaria() {
+        // Dado
+        SolicitacaoPendente pendente = new SolicitacaoPendente(null, null, clienteRequest.getCliente());
+        when(geradorIdentificador.gerar()).thenReturn(numero);
+        when(cartaoApplicationService.processarPendente(pendente)).thenThrow(new IllegalStateException("Timeout"));
+
+        // Quando / Então
+        assertThrows(IllegalStateException.class, () -> service.processar(pendente));
+        assertEquals(numero.toString(), pendente.getNumeroSolicitacao());
+    }
+
+    @Test
+    @DisplayName("Deve processar a solicitação pendente com o serviço de aplicação")
+    void deveProcessarSolicitacaoPendente() {
+        // Dado
+        SolicitacaoPendente pendente = new SolicitacaoPendente(numero.toString(), null, clienteRequest.getCliente());
+        when(cartaoApplicationService.processarPendente(pendente))
+                .thenReturn(SolicitacaoResponse.builder().cartoesOfertados(List.of()).build());
+
+        // Quando
+        service.processar(pendente);
+
+        // Então
+        verify(cartaoApplicationService).processarPendente(pendente);
+    }
+}
@@ -0,0 +1,262 @@
+package com.cartoes.api_cartoes.application.service.impl;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
+import com.cartoes.api_cartoes.application.service.SolicitacaoAssincronaService;
+import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.exception.CodigoRejeicao;
+import com.cartoes.api_cartoes.domain.exception.SolicitacaoRejeitadaException;
+import com.cartoes.api_cartoes.infrastructure.config.IdempotenciaConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SolicitacaoIdempotenteServiceImplTest {
+
+    @Mock
+    private CartaoApplicationService cartaoApplicationService;
+
+    @Mock
+    private SolicitacaoAssincronaService solicitacaoAssincronaService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SolicitacaoIdempotenteServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        IdempotenciaConfig config = new IdempotenciaConfig();
+        ReflectionTestUtils.setField(config, "tamanhoMaximo", 100L);
+        ReflectionTestUtils.setField(config, "ttl", Duration.ofMinutes(10));
+
+        service = new SolicitacaoIdempotenteServiceImpl(
+                cartaoApplicationService,
+                solicitacaoAssincronaService,
+                Jackson2ObjectMapperBuilder.json().build(),
+                config.cacheSolicitacoes(meterRegistry));
+        ReflectionTestUtils.setField(service, "habilitado", true);
+    }
+
+    @Test
+    @DisplayName("Deve processar apenas uma vez as solicitações com o mesmo Idempotency-Key")
+    void deveProcessarUmaVezPorChaveIdempotencia() {
+        // Dado
+        when(cartaoApplicationService.processarSolicitacao(any())).thenAnswer(invocacao -> criarResposta());
+
+        // Quando
+        SolicitacaoResponse primeira = service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave-1");
+        SolicitacaoResponse repetida = service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave-1");
+        SolicitacaoResponse outraChave = service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave-2");
+
+        // Então
+        assertSame(primeira, repetida);
+        assertNotEquals(primeira.getNumeroSolicitacao(), outraChave.getNumeroSolicitacao());
+        verify(cartaoApplicationService, times(2)).processarSolicitacao(any());
+    }
+
+    @Test
+    @DisplayName("Não deve devolver a resposta de outro CPF que usou o mesmo Idempotency-Key")
+    void naoDeveCompartilharChaveEntreCpfs() {
+        // Dado
+        when(cartaoApplicationService.processarSolicitacao(any())).thenAnswer(invocacao -> criarResposta());
+
+        // Quando
+        SolicitacaoResponse primeira = service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave-1");
+        SolicitacaoResponse outroCpf = service.processarSolicitacao(criarRequest("987.654.321-00", "4000.00"), "chave-1");
+
+        // Então
+        assertNotSame(primeira, outroCpf);
+        verify(cartaoApplicationService, times(2)).processarSolicitacao(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o mesmo Idempotency-Key reutilizado com outro conteúdo")
+    void deveRejeitarChaveReutilizadaComOutroConteudo() {
+        // Dado
+        when(cartaoApplicationService.processarSolicitacao(any())).thenAnswer(invocacao -> criarResposta());
+        service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave-1");
+
+        // Quando
+        SolicitacaoRejeitadaException exception = assertThrows(SolicitacaoRejeitadaException.class,
+                () -> service.processarSolicitacao(criarRequest("123.456.789-10", "4500.00"), "chave-1"));
+
+        // Então
+        assertEquals(CodigoRejeicao.CHAVE_IDEMPOTENCIA_REUTILIZADA, exception.getCodigo());
+        verify(cartaoApplicationService, times(1)).processarSolicitacao(any());
+    }
+
+    @Test
+    @DisplayName("Sem Idempotency-Key, deve identificar repetições pelo CPF e pelo conteúdo da solicitação")
+    void deveIdentificarRepeticoesPeloConteudo() {
+        // Dado
+        when(cartaoApplicationService.processarSolicitacao(any())).thenAnswer(invocacao -> criarResposta());
+
+        // Quando
+        SolicitacaoResponse primeira = service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), null);
+        SolicitacaoResponse repetida = service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), " ");
+        SolicitacaoResponse outraRenda = service.processarSolicitacao(criarRequest("123.456.789-10", "4500.00"), null);
+
+        // Então
+        assertSame(primeira, repetida);
+        assertNotSame(primeira, outraRenda);
+        verify(cartaoApplicationService, times(2)).processarSolicitacao(any());
+    }
+
+    @Test
+    @DisplayName("Requisições duplicadas concorrentes devem aguardar o processamento da primeira")
+    void duplicadasConcorrentesDevemAguardarPrimeira() throws Exception {
+        // Dado
+        CountDownLatch processando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(cartaoApplicationService.processarSolicitacao(any())).thenAnswer(invocacao -> {
+            processando.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return criarResposta();
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Quando
+            CompletableFuture<SolicitacaoResponse> primeira = CompletableFuture.supplyAsync(
+                    () -> service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave"), executor);
+            assertTrue(processando.await(5, TimeUnit.SECONDS));
+            CompletableFuture<SolicitacaoResponse> duplicada = CompletableFuture.supplyAsync(
+                    () -> service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave"), executor);
+
+            Thread.sleep(50);
+            assertFalse(duplicada.isDone());
+            liberar.countDown();
+
+            // Então
+            assertSame(primeira.get(5, TimeUnit.SECONDS), duplicada.get(5, TimeUnit.SECONDS));
+        }
+        verify(cartaoApplicationService, times(1)).processarSolicitacao(any());
+    }
+
+    @Test
+    @DisplayName("Não deve bloquear as repetições quando o processamento lançar um Error")
+    void naoDeveBloquearRepeticoesAposError() {
+        // Dado
+        when(cartaoApplicationService.processarSolicitacao(any()))
+                .thenThrow(new StackOverflowError())
+                .thenAnswer(invocacao -> criarResposta());
+
+        // Quando
+        assertThrows(StackOverflowError.class,
+                () -> service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave"));
+        SolicitacaoResponse novaTentativa = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave"));
+
+        // Então
+        assertNotNull(novaTentativa);
+        verify(cartaoApplicationService, times(2)).processarSolicitacao(any());
+    }
+
+    @Test
+    @DisplayName("Não deve reaproveitar solicitações que terminaram com erro")
+    void naoDeveReaproveitarErros() {
+        // Dado
+        when(cartaoApplicationService.processarSolicitacao(any()))
+                .thenThrow(new BusinessException("Cliente inválido"))
+                .thenAnswer(invocacao -> criarResposta());
+
+        // Quando
+        assertThrows(BusinessException.class,
+                () -> service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave"));
+        SolicitacaoResponse novaTentativa = service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave");
+
+        // Então
+        assertNotNull(novaTentativa);
+        verify(cartaoApplicationService, times(2)).processarSolicitacao(any());
+    }
+
+    @Test
+    @DisplayName("Deve processar todas as solicitações quando a idempotência estiver desabilitada")
+    void deveProcessarTodasQuandoDesabilitado() {
+        // Dado
+        ReflectionTestUtils.setField(service, "habilitado", false);
+        when(cartaoApplicationService.processarSolicitacao(any())).thenAnswer(invocacao -> criarResposta());
+
+        // Quando
+        service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave");
+        service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave");
+
+        // Então
+        verify(cartaoApplicationService, times(2)).processarSolicitacao(any());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar apenas uma vez as solicitações assíncronas com o mesmo Idempotency-Key")
+    void deveAceitarUmaVezPorChaveIdempotencia() {
+        // Dado
+        when(solicitacaoAssincronaService.aceitarSolicitacao(any())).thenAnswer(invocacao -> criarResposta());
+
+        // Quando
+        SolicitacaoResponse primeira = service.aceitarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave-1");
+        SolicitacaoResponse repetida = service.aceitarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave-1");
+
+        // Então
+        assertEquals(primeira.getNumeroSolicitacao(), repetida.getNumeroSolicitacao());
+        verify(solicitacaoAssincronaService).aceitarSolicitacao(any());
+        verifyNoInteractions(cartaoApplicationService);
+    }
+
+    @Test
+    @DisplayName("Deve publicar a taxa de acerto do cache no Micrometer")
+    void devePublicarTaxaDeAcerto() {
+        // Dado
+        when(cartaoApplicationService.processarSolicitacao(any())).thenAnswer(invocacao -> criarResposta());
+
+        // Quando
+        for (int i = 0; i < 4; i++) {
+            service.processarSolicitacao(criarRequest("123.456.789-10", "4000.00"), "chave");
+        }
+
+        // Então
+        assertEquals(0.75, meterRegistry.get("cache.hit.ratio").tag("cache", "solicitacoes").gauge().value());
+        assertEquals(3.0, meterRegistry.get("cache.gets").tag("cache", "solicitacoes").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    private ClienteRequest criarRequest(String cpf, String renda) {
+        return ClienteRequest.builder()
+                .cliente(ClienteDTO.builder()
+                        .nome("Cliente Teste")
+                        .cpf(cpf)
+                        .idade(30)
+                        .dataNascimento(LocalDate.of(1995, 1, 1))
+                        .uf("RJ")
+                        .rendaMensal(new BigDecimal(renda))
+                        .email("cliente@teste.com")
+                        .telefoneWhatsapp("11999992020")
+                        .build())
+                .build();
+    }
+
+    private SolicitacaoResponse criarResposta() {
+        return SolicitacaoResponse.builder()
+                .numeroSolicitacao(UUID.randomUUID().toString())
+                .build();
+    }
+}
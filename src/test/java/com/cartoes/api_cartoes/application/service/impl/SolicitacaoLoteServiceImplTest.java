@@ -0,0 +1,209 @@
+package com.cartoes.api_cartoes.application.service.impl;
+
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.exception.ResolvedorProblemas;
+import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
+import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
+import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.exception.CodigoRejeicao;
+import com.cartoes.api_cartoes.domain.exception.SolicitacaoRejeitadaException;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.event.Level;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SolicitacaoLoteServiceImplTest {
+
+    private static final String CLIENTE_APROVADO = "{\"cliente\":{\"nome\":\"Aprovado\",\"renda_mensal\":4000.00}}";
+    private static final String CLIENTE_SEM_CARTOES = "{\"cliente\":{\"nome\":\"Sem cartoes\",\"renda_mensal\":500.00}}";
+    private static final String CLIENTE_INVALIDO = "{\"cliente\":{\"nome\":\"Invalido\"}}";
+
+    @Mock
+    private CartaoApplicationService cartaoApplicationService;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve processar array JSON e emitir uma linha por cliente")
+    void deveProcessarArrayJson() throws IOException {
+        // Dado
+        configurarRespostas();
+        String corpo = "[" + CLIENTE_APROVADO + "," + CLIENTE_SEM_CARTOES + "," + CLIENTE_INVALIDO + "]";
+
+        // Quando
+        List<JsonNode> linhas = processar(criarServico(64), corpo);
+
+        // Então
+        assertResultadosEsperados(linhas);
+    }
+
+    @Test
+    @DisplayName("Deve processar NDJSON e emitir uma linha por cliente")
+    void deveProcessarNdjson() throws IOException {
+        // Dado
+        configurarRespostas();
+        String corpo = CLIENTE_APROVADO + "\n" + CLIENTE_SEM_CARTOES + "\n" + CLIENTE_INVALIDO + "\n";
+
+        // Quando
+        List<JsonNode> linhas = processar(criarServico(64), corpo);
+
+        // Então
+        assertResultadosEsperados(linhas);
+    }
+
+    @Test
+    @DisplayName("Deve emitir erro de leitura e encerrar o lote quando o corpo estiver malformado")
+    void deveEncerrarLoteQuandoCorpoMalformado() throws IOException {
+        // Dado
+        when(cartaoApplicationService.processarSolicitacao(any(ClienteRequest.class)))
+                .thenReturn(criarSolicitacao(true));
+        String corpo = CLIENTE_APROVADO + "\n{\"cliente\": {\"nome\": }\n" + CLIENTE_APROVADO;
+
+        // Quando
+        List<JsonNode> linhas = new ArrayList<>(processar(criarServico(64), corpo));
+        linhas.sort(Comparator.comparingInt(linha -> linha.get("indice").asInt()));
+
+        // Então
+        assertEquals(2, linhas.size());
+        assertEquals(200, linhas.get(0).get("status").asInt());
+        assertEquals(0, linhas.get(0).get("indice").asInt());
+        assertEquals(400, linhas.get(1).get("status").asInt());
+        assertEquals(1, linhas.get(1).get("indice").asInt());
+        verify(cartaoApplicationService, times(1)).processarSolicitacao(any(ClienteRequest.class));
+    }
+
+    @Test
+    @DisplayName("Não deve manter mais clientes em processamento do que o tamanho da janela")
+    void deveRespeitarJanelaDeProcessamento() throws IOException {
+        // Dado
+        AtomicInteger emProcessamento = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        when(cartaoApplicationService.processarSolicitacao(any(ClienteRequest.class))).thenAnswer(invocacao -> {
+            maximo.accumulateAndGet(emProcessamento.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            emProcessamento.decrementAndGet();
+            return criarSolicitacao(true);
+        });
+        String corpo = String.join("\n", Collections.nCopies(40, CLIENTE_APROVADO));
+
+        // Quando
+        List<JsonNode> linhas = processar(criarServico(2), corpo);
+
+        // Então
+        assertEquals(40, linhas.size());
+        assertTrue(maximo.get() <= 2, "máximo em processamento: " + maximo.get());
+        assertEquals(40, linhas.stream().map(linha -> linha.get("indice").asInt()).distinct().count());
+    }
+
+    @Test
+    @DisplayName("Não deve emitir linhas para corpo vazio")
+    void naoDeveEmitirLinhasParaCorpoVazio() throws IOException {
+        // Quando
+        List<JsonNode> linhas = processar(criarServico(64), "");
+
+        // Então
+        assertTrue(linhas.isEmpty());
+        verifyNoInteractions(cartaoApplicationService);
+    }
+
+    private SolicitacaoLoteServiceImpl criarServico(int janela) {
+        return new SolicitacaoLoteServiceImpl(cartaoApplicationService, new ResolvedorProblemas(new GeradorIdentificadorUuidV7(0), Level.DEBUG), objectMapper, executor, janela);
+    }
+
+    private void configurarRespostas() {
+        when(cartaoApplicationService.processarSolicitacao(argThat(req -> req != null && "Aprovado".equals(req.getCliente().getNome()))))
+                .thenReturn(criarSolicitacao(true));
+        when(cartaoApplicationService.processarSolicitacao(argThat(req -> req != null && "Sem cartoes".equals(req.getCliente().getNome()))))
+                .thenReturn(criarSolicitacao(false));
+        when(cartaoApplicationService.processarSolicitacao(argThat(req -> req != null && "Invalido".equals(req.getCliente().getNome()))))
+                .thenThrow(new SolicitacaoRejeitadaException(CodigoRejeicao.RENDA_OBRIGATORIA));
+    }
+
+    private void assertResultadosEsperados(List<JsonNode> linhas) {
+        List<JsonNode> ordenadas = new ArrayList<>(linhas);
+        ordenadas.sort(Comparator.comparingInt(linha -> linha.get("indice").asInt()));
+
+        assertEquals(3, ordenadas.size());
+
+        assertEquals(200, ordenadas.get(0).get("status").asInt());
+        assertEquals(1, ordenadas.get(0).get("solicitacao").get("cartoes_ofertados").size());
+        assertFalse(ordenadas.get(0).has("erro"));
+
+        assertEquals(204, ordenadas.get(1).get("status").asInt());
+        assertFalse(ordenadas.get(1).has("solicitacao"));
+
+        assertEquals(422, ordenadas.get(2).get("status").asInt());
+        assertEquals("Renda mensal do cliente é obrigatória", ordenadas.get(2).get("erro").get("detail").asText());
+        assertEquals("RENDA_OBRIGATORIA", ordenadas.get(2).get("erro").get("extensions").get("motivo").asText());
+    }
+
+    private List<JsonNode> processar(SolicitacaoLoteServiceImpl servico, String corpo) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        servico.processarLote(new ByteArrayInputStream(corpo.getBytes(StandardCharsets.UTF_8)), saida);
+
+        List<JsonNode> linhas = new ArrayList<>();
+        for (String linha : saida.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!linha.isBlank()) {
+                linhas.add(objectMapper.readTree(linha));
+            }
+        }
+        return linhas;
+    }
+
+    private SolicitacaoResponse criarSolicitacao(boolean comCartoes) {
+        List<CartaoResponse> cartoes = comCartoes
+                ? List.of(CartaoResponse.builder()
+                        .tipoCartao(TipoCartao.CARTAO_SEM_ANUIDADE)
+                        .valorAnuidadeMensal(BigDecimal.ZERO)
+                        .valorLimiteDisponivel(new BigDecimal("1000.00"))
+                        .status(CartaoStatus.APROVADO)
+                        .build())
+                : List.of();
+
+        return SolicitacaoResponse.builder()
+                .numeroSolicitacao(UUID.randomUUID().toString())
+                .cartoesOfertados(cartoes)
+                .build();
+    }
+}
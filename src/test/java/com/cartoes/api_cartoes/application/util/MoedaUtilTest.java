@@ -0,0 +1,76 @@
+package com.cartoes.api_cartoes.application.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoedaUtilTest {
+
+    private static final List<BigDecimal> LIMITES = List.of(
+            new BigDecimal("1000.00"), new BigDecimal("3000"), new BigDecimal("5000.0"),
+            new BigDecimal("0.01"), new BigDecimal("-0.50"), BigDecimal.ZERO);
+
+    @ParameterizedTest
+    @CsvSource({
+            "1000.00, 100000",
+            "1000, 100000",
+            "999.999, 99999",
+            "0.009, 0",
+            "-0.001, -1",
+            "-10.50, -1050"
+    })
+    @DisplayName("Deve converter valores para centavos arredondando para baixo")
+    void deveConverterParaCentavos(String valor, long esperado) {
+        assertEquals(esperado, MoedaUtil.paraCentavos(new BigDecimal(valor)));
+    }
+
+    @Test
+    @DisplayName("Deve saturar valores fora da faixa de long")
+    void deveSaturarValoresForaDaFaixa() {
+        assertEquals(Long.MAX_VALUE, MoedaUtil.paraCentavos(new BigDecimal("1e30")));
+        assertEquals(Long.MIN_VALUE, MoedaUtil.paraCentavos(new BigDecimal("-1e30")));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limites com mais de duas casas decimais")
+    void deveRejeitarLimiteInexato() {
+        assertEquals(100_000L, MoedaUtil.limiteEmCentavos(new BigDecimal("1000.000")));
+        assertThrows(IllegalArgumentException.class, () -> MoedaUtil.limiteEmCentavos(new BigDecimal("1000.005")));
+        assertThrows(IllegalArgumentException.class, () -> MoedaUtil.limiteEmCentavos(null));
+        assertThrows(IllegalArgumentException.class, () -> MoedaUtil.paraCentavos(null));
+    }
+
+    @Test
+    @DisplayName("Deve converter centavos para reais com duas casas decimais")
+    void deveConverterParaReais() {
+        assertEquals(new BigDecimal("4999.99"), MoedaUtil.paraReais(499_999L));
+        assertEquals(new BigDecimal("-0.01"), MoedaUtil.paraReais(-1L));
+    }
+
+    @Test
+    @DisplayName("Comparação em centavos deve ser equivalente à comparação com BigDecimal")
+    void deveManterResultadoDasComparacoes() {
+        // Dado
+        Random random = new Random(20240601L);
+
+        // Quando/Então
+        for (int i = 0; i < 200_000; i++) {
+            BigDecimal renda = BigDecimal.valueOf(random.nextLong(-1_000_000_000L, 1_000_000_000L), random.nextInt(5));
+            long rendaCentavos = MoedaUtil.paraCentavos(renda);
+
+            for (BigDecimal limite : LIMITES) {
+                long limiteCentavos = MoedaUtil.limiteEmCentavos(limite);
+                assertEquals(renda.compareTo(limite) >= 0, rendaCentavos >= limiteCentavos, renda + " >= " + limite);
+                assertEquals(renda.compareTo(limite) < 0, rendaCentavos < limiteCentavos, renda + " < " + limite);
+            }
+        }
+    }
+}
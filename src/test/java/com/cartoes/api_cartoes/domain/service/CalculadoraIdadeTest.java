@@ -0,0 +1,178 @@
+package com.cartoes.api_cartoes.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalculadoraIdadeTest {
+
+    private static final ZoneId SAO_PAULO = ZoneId.of("America/Sao_Paulo");
+
+    @Test
+    @DisplayName("Deve completar anos exatamente na virada da meia-noite do aniversário")
+    void deveCompletarAnosNaMeiaNoite() {
+        // Dado
+        RelogioFalso relogio = new RelogioFalso(LocalDateTime.of(2026, 10, 17, 23, 59, 59));
+        CalculadoraIdade calculadora = new CalculadoraIdade(relogio);
+        LocalDate dataNascimento = LocalDate.of(2008, 10, 18);
+
+        // Quando
+        int vespera = calculadora.calcularIdade(dataNascimento);
+        relogio.avancar(Duration.ofSeconds(1));
+        int aniversario = calculadora.calcularIdade(dataNascimento);
+
+        // Então
+        assertEquals(17, vespera);
+        assertEquals(18, aniversario);
+    }
+
+    @Test
+    @DisplayName("Deve recalcular a data quando o relógio for ajustado para trás")
+    void deveRecalcularQuandoRelogioVoltar() {
+        // Dado
+        RelogioFalso relogio = new RelogioFalso(LocalDateTime.of(2026, 10, 18, 0, 0, 1));
+        CalculadoraIdade calculadora = new CalculadoraIdade(relogio);
+        LocalDate dataNascimento = LocalDate.of(2008, 10, 18);
+        assertEquals(18, calculadora.calcularIdade(dataNascimento));
+
+        // Quando
+        relogio.avancar(Duration.ofSeconds(-2));
+
+        // Então
+        assertEquals(17, calculadora.calcularIdade(dataNascimento));
+    }
+
+    @ParameterizedTest(name = "nascido em 2000-02-29, em {0}: {1} anos")
+    @CsvSource({
+            "2001-02-28, 0",
+            "2001-03-01, 1",
+            "2003-02-28, 2",
+            "2003-03-01, 3",
+            "2004-02-28, 3",
+            "2004-02-29, 4",
+            "2004-03-01, 4",
+            "2100-02-28, 99",
+            "2100-03-01, 100"
+    })
+    @DisplayName("Nascidos em 29 de fevereiro completam anos em 1º de março nos anos não bissextos")
+    void deveTratarNascidosEm29DeFevereiro(LocalDate hoje, int idadeEsperada) {
+        // Dado
+        CalculadoraIdade calculadora = new CalculadoraIdade(new RelogioFalso(hoje.atTime(12, 0)));
+
+        // Quando
+        int idade = calculadora.calcularIdade(LocalDate.of(2000, 2, 29));
+
+        // Então
+        assertEquals(idadeEsperada, idade);
+        assertEquals(Period.between(LocalDate.of(2000, 2, 29), hoje).getYears(), idade);
+    }
+
+    @Test
+    @DisplayName("Deve virar de 28 de fevereiro para 1º de março em ano não bissexto")
+    void deveVirarParaMarcoEmAnoNaoBissexto() {
+        // Dado
+        RelogioFalso relogio = new RelogioFalso(LocalDateTime.of(2027, 2, 28, 23, 59, 59));
+        CalculadoraIdade calculadora = new CalculadoraIdade(relogio);
+        LocalDate dataNascimento = LocalDate.of(2008, 2, 29);
+
+        // Quando
+        int emFevereiro = calculadora.calcularIdade(dataNascimento);
+        relogio.avancar(Duration.ofSeconds(1));
+        int emMarco = calculadora.calcularIdade(dataNascimento);
+
+        // Então
+        assertEquals(18, emFevereiro);
+        assertEquals(19, emMarco);
+    }
+
+    @ParameterizedTest(name = "nascido em {0}: {1} anos")
+    @CsvSource({
+            "2026-10-18, 0",
+            "2026-12-01, 0",
+            "2027-10-18, -1",
+            "2027-10-19, -1",
+            "2027-03-01, 0",
+            "2030-05-01, -3"
+    })
+    @DisplayName("Datas de nascimento futuras devem seguir Period.between")
+    void deveTratarDatasFuturas(LocalDate dataNascimento, int idadeEsperada) {
+        // Dado
+        LocalDate hoje = LocalDate.of(2026, 10, 18);
+        CalculadoraIdade calculadora = new CalculadoraIdade(new RelogioFalso(hoje.atTime(8, 0)));
+
+        // Quando
+        int idade = calculadora.calcularIdade(dataNascimento);
+
+        // Então
+        assertEquals(idadeEsperada, idade);
+        assertEquals(Period.between(dataNascimento, hoje).getYears(), idade);
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com Period.between para datas aleatórias")
+    void deveCoincidirComPeriodBetween() {
+        SplittableRandom random = new SplittableRandom(42);
+        long inicio = LocalDate.of(1900, 1, 1).toEpochDay();
+        long fim = LocalDate.of(2100, 12, 31).toEpochDay();
+
+        for (int i = 0; i < 200_000; i++) {
+            LocalDate dataNascimento = LocalDate.ofEpochDay(random.nextLong(inicio, fim));
+            LocalDate referencia = LocalDate.ofEpochDay(random.nextLong(inicio, fim));
+
+            assertEquals(Period.between(dataNascimento, referencia).getYears(),
+                    CalculadoraIdade.calcularIdade(dataNascimento, referencia),
+                    () -> dataNascimento + " em " + referencia);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando a data de nascimento for nula")
+    void deveLancarExcecaoQuandoDataNula() {
+        CalculadoraIdade calculadora = new CalculadoraIdade(new RelogioFalso(LocalDateTime.of(2026, 10, 18, 12, 0)));
+
+        assertThrows(IllegalArgumentException.class, () -> calculadora.calcularIdade(null));
+    }
+
+    /**
+     * Relógio ajustável manualmente, no fuso de São Paulo.
+     */
+    private static class RelogioFalso extends Clock {
+
+        private Instant agora;
+
+        RelogioFalso(LocalDateTime agora) {
+            this.agora = agora.atZone(SAO_PAULO).toInstant();
+        }
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return SAO_PAULO;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
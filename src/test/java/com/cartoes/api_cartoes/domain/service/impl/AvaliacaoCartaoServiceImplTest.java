@@ -4,18 +4,20 @@ import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
 import com.cartoes.api_cartoes.domain.enums.TipoCartao;
 import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.service.CalculadoraIdade;
+import com.cartoes.api_cartoes.domain.strategy.ParametrosRegras;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
 import com.cartoes.api_cartoes.domain.strategy.StrategyAvaliacaoCartao;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.test.util.ReflectionTestUtils;
 
-import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,9 +38,7 @@ class AvaliacaoCartaoServiceImplTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
-        List<StrategyAvaliacaoCartao> estrategias = Arrays.asList(strategy1, strategy2);
-        avaliacaoCartaoService = new AvaliacaoCartaoServiceImpl(estrategias);
-        ReflectionTestUtils.setField(avaliacaoCartaoService, "idadeMinima", 18);
+        avaliacaoCartaoService = criarServico();
     }
 
     @Test
@@ -46,25 +46,44 @@ class AvaliacaoCartaoServiceImplTest {
     void deveEscolherPrimeiraEstrategiaAplicavel() {
         // Dado
         Cliente cliente = criarClienteValido();
-        List<Cartao> cartoesEsperados = Collections.singletonList(
+        List<Cartao> cartoesEsperados = List.of(
                 Cartao.builder().tipoCartao(TipoCartao.CARTAO_SEM_ANUIDADE).build()
         );
 
-        when(strategy1.seAplica(cliente)).thenReturn(false);
-        when(strategy2.seAplica(cliente)).thenReturn(true);
-        when(strategy2.avaliarCartoes(cliente)).thenReturn(cartoesEsperados);
+        when(strategy1.seAplica(any(Cliente.class))).thenReturn(false);
+        when(strategy2.seAplica(any(Cliente.class))).thenReturn(true);
+        when(strategy2.avaliarCartoes(any(Cliente.class))).thenReturn(cartoesEsperados);
+
+        // A cadeia é compilada na construção do serviço
+        avaliacaoCartaoService = criarServico();
 
         // Quando
         List<Cartao> cartoes = avaliacaoCartaoService.avaliarCartoesDisponiveis(cliente);
 
         // Então
         assertSame(cartoesEsperados, cartoes);
-        verify(strategy1).seAplica(cliente);
-        verify(strategy2).seAplica(cliente);
-        verify(strategy2).avaliarCartoes(cliente);
+        verify(strategy1, atLeastOnce()).seAplica(any(Cliente.class));
+        verify(strategy2, atLeastOnce()).seAplica(any(Cliente.class));
+        verify(strategy2, atLeastOnce()).avaliarCartoes(any(Cliente.class));
         verify(strategy1, never()).avaliarCartoes(any());
     }
 
+    @Test
+    @DisplayName("Não deve consultar as estratégias por requisição após a compilação")
+    void naoDeveConsultarEstrategiasPorRequisicao() {
+        // Dado
+        when(strategy1.seAplica(any(Cliente.class))).thenReturn(true);
+        when(strategy1.avaliarCartoes(any(Cliente.class))).thenReturn(List.of());
+        avaliacaoCartaoService = criarServico();
+        clearInvocations(strategy1, strategy2);
+
+        // Quando
+        avaliacaoCartaoService.avaliarCartoesDisponiveis(criarClienteValido());
+
+        // Então
+        verifyNoInteractions(strategy1, strategy2);
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando nenhuma estratégia se aplica")
     void deveLancarExcecaoQuandoNenhumaEstrategiaSeAplica() {
@@ -124,6 +143,13 @@ class AvaliacaoCartaoServiceImplTest {
         assertTrue(exception.getMessage().contains("Idade informada não corresponde à data de nascimento"));
     }
 
+    private AvaliacaoCartaoServiceImpl criarServico() {
+        List<StrategyAvaliacaoCartao> estrategias = Arrays.asList(strategy1, strategy2);
+        ParametrosRegras parametros = new ParametrosRegras(new ParametrosRegras.Cliente(18, 25, 25, 30), null, null, null);
+        RegrasVigentes regras = new RegrasVigentes(RegrasSnapshot.deEstrategias(1, parametros, null, estrategias));
+        return new AvaliacaoCartaoServiceImpl(regras, new CalculadoraIdade(Clock.systemDefaultZone()));
+    }
+
     private Cliente criarClienteValido() {
         return Cliente.builder()
                 .nome("Cliente Teste")
@@ -131,7 +157,7 @@ class AvaliacaoCartaoServiceImplTest {
                 .idade(25)
                 .dataNascimento(LocalDate.now().minusYears(25))
                 .uf("SP")
-                .rendaMensal(new BigDecimal("4000.00"))
+                .rendaMensalCentavos(400_000L)
                 .email("cliente@teste.com")
                 .telefoneWhatsapp("11999992020")
                 .build();
@@ -0,0 +1,104 @@
+package com.cartoes.api_cartoes.domain.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeradorIdentificadorUuidV7Test {
+
+    @Test
+    @DisplayName("Deve gerar UUIDs versão 7 com a variante da RFC 9562 e o instante de criação")
+    void deveGerarUuidVersao7() {
+        // Dado
+        GeradorIdentificadorUuidV7 gerador = new GeradorIdentificadorUuidV7(5);
+        long antes = System.currentTimeMillis();
+
+        // Quando
+        UUID id = gerador.gerar();
+
+        // Então
+        long depois = System.currentTimeMillis();
+        long instante = id.getMostSignificantBits() >>> 16;
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(instante >= antes && instante <= depois);
+    }
+
+    @Test
+    @DisplayName("Deve gravar o nó da réplica nos bits reservados")
+    void deveGravarNo() {
+        // Dado
+        GeradorIdentificadorUuidV7 gerador = new GeradorIdentificadorUuidV7(GeradorIdentificadorUuidV7.NO_MAXIMO);
+
+        // Quando
+        UUID id = gerador.gerar();
+
+        // Então
+        assertEquals(GeradorIdentificadorUuidV7.NO_MAXIMO, (id.getLeastSignificantBits() >>> 52) & 0x3FF);
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    @DisplayName("Identificadores de réplicas diferentes nunca devem coincidir")
+    void identificadoresDeNosDiferentesNaoCoincidem() {
+        // Dado
+        GeradorIdentificadorUuidV7 no1 = new GeradorIdentificadorUuidV7(1);
+        GeradorIdentificadorUuidV7 no2 = new GeradorIdentificadorUuidV7(2);
+
+        // Quando / Então
+        for (int i = 0; i < 10_000; i++) {
+            assertNotEquals(no1.gerar().getLeastSignificantBits() >>> 52, no2.gerar().getLeastSignificantBits() >>> 52);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar os identificadores pelo milissegundo de criação")
+    void deveOrdenarPeloInstante() throws InterruptedException {
+        // Dado
+        GeradorIdentificadorUuidV7 gerador = new GeradorIdentificadorUuidV7(0);
+
+        // Quando
+        UUID primeiro = gerador.gerar();
+        Thread.sleep(2);
+        UUID segundo = gerador.gerar();
+
+        // Então
+        assertTrue(primeiro.toString().compareTo(segundo.toString()) < 0);
+    }
+
+    @Test
+    @DisplayName("Não deve repetir identificadores gerados concorrentemente")
+    void naoDeveRepetirIdentificadoresConcorrentes() {
+        // Dado
+        GeradorIdentificadorUuidV7 gerador = new GeradorIdentificadorUuidV7(0);
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        // Quando
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        ids.add(gerador.gerar());
+                    }
+                });
+            }
+        }
+
+        // Então
+        assertEquals(400_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar nós fora do intervalo de 10 bits")
+    void deveRejeitarNoInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> new GeradorIdentificadorUuidV7(-1));
+        assertThrows(IllegalArgumentException.class, () -> new GeradorIdentificadorUuidV7(1024));
+    }
+}
@@ -0,0 +1,147 @@
+package com.cartoes.api_cartoes.domain.strategy;
+
+import com.cartoes.api_cartoes.domain.entity.Cartao;
+import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.exception.RegrasInvalidasException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegrasVigentesTest {
+
+    @Test
+    @DisplayName("Deve publicar um novo snapshot compilado com a versão seguinte")
+    void devePublicarNovoSnapshot() {
+        // Dado
+        RegrasVigentes regras = new RegrasVigentes(RegrasSnapshot.compilar(1, parametros("5000.00", "5000.00")));
+        RegrasSnapshot anterior = regras.atual();
+
+        // Quando
+        RegrasSnapshot novo = regras.substituir(parametros("7000.00", "8000.00"));
+
+        // Então
+        assertSame(novo, regras.atual());
+        assertEquals(2, novo.versao());
+        assertNotSame(anterior.catalogo(), novo.catalogo());
+        assertEquals(new BigDecimal("8000.00"),
+                novo.catalogo().cartao(TipoCartao.CARTAO_COM_CASHBACK).getValorLimiteDisponivel());
+        // Renda de R$ 6.000 deixou de receber o cashback com a nova renda mínima
+        assertEquals(List.of(anterior.catalogo().cartao(TipoCartao.CARTAO_SEM_ANUIDADE),
+                        anterior.catalogo().cartao(TipoCartao.CARTAO_DE_PARCEIROS),
+                        anterior.catalogo().cartao(TipoCartao.CARTAO_COM_CASHBACK)),
+                anterior.tabela().consultar("RJ", 40, 600_000L).cartoes());
+        assertEquals(List.of(novo.catalogo().cartao(TipoCartao.CARTAO_SEM_ANUIDADE),
+                        novo.catalogo().cartao(TipoCartao.CARTAO_DE_PARCEIROS)),
+                novo.tabela().consultar("RJ", 40, 600_000L).cartoes());
+    }
+
+    @Test
+    @DisplayName("Deve manter as regras atuais e reunir todos os erros quando os parâmetros forem inválidos")
+    void deveManterRegrasAtuaisQuandoParametrosInvalidos() {
+        // Dado
+        RegrasVigentes regras = new RegrasVigentes(RegrasSnapshot.compilar(1, parametros("5000.00", "5000.00")));
+        RegrasSnapshot atual = regras.atual();
+        ParametrosRegras invalidos = new ParametrosRegras(
+                new ParametrosRegras.Cliente(30, 25, 25, 30),
+                new ParametrosRegras.Estados("São Paulo"),
+                parametros("5000.00", "5000.00").renda(),
+                new ParametrosRegras.Cartoes(
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal("1000.00"), new BigDecimal("-1.00"), BigDecimal.ZERO),
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal("3000.00"), new BigDecimal("3000.00"), new BigDecimal("20.001")),
+                        null));
+
+        // Quando
+        RegrasInvalidasException exception = assertThrows(RegrasInvalidasException.class, () -> regras.substituir(invalidos));
+
+        // Então
+        assertSame(atual, regras.atual());
+        assertEquals(List.of(
+                "cliente.idade-jovem-maxima deve ser maior que cliente.idade-minima",
+                "estados.sao-paulo deve ser uma UF com duas letras",
+                "cartoes.sem-anuidade.renda-minima não pode ser negativo",
+                "cartoes.parceiros.anuidade deve ter no máximo duas casas decimais",
+                "cartoes.cashback é obrigatório"), exception.getErros());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar faixas de renda sobrepostas")
+    void deveRejeitarFaixasDeRendaSobrepostas() {
+        // Dado
+        ParametrosRegras validos = parametros("5000.00", "5000.00");
+        ParametrosRegras sobrepostos = new ParametrosRegras(validos.cliente(), validos.estados(),
+                new ParametrosRegras.Renda(
+                        new BigDecimal("1000.00"), new BigDecimal("3500.00"),
+                        new BigDecimal("3000.00"), new BigDecimal("5000.00"),
+                        new BigDecimal("5000.00")),
+                validos.cartoes());
+
+        // Quando/Então
+        RegrasInvalidasException exception = assertThrows(RegrasInvalidasException.class,
+                () -> RegrasSnapshot.compilar(1, sobrepostos));
+        assertEquals(List.of("As faixas de renda devem ser crescentes e não sobrepostas"), exception.getErros());
+    }
+
+    @Test
+    @DisplayName("Leitores concorrentes nunca devem observar um conjunto de regras aplicado pela metade")
+    void leitoresNuncaDevemObservarRegrasPelaMetade() throws Exception {
+        // Dado
+        RegrasVigentes regras = new RegrasVigentes(RegrasSnapshot.compilar(1, parametros("5000.00", "5000.00")));
+        AtomicBoolean executando = new AtomicBoolean(true);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // Quando: o limite do cashback e a renda mínima mudam juntos a cada recarga
+            CompletableFuture<Void> recargas = CompletableFuture.runAsync(() -> {
+                for (int i = 1; i <= 500; i++) {
+                    String valor = (5000 + i) + ".00";
+                    regras.substituir(parametros(valor, valor));
+                }
+                executando.set(false);
+            }, executor);
+
+            CompletableFuture<Integer> leituras = CompletableFuture.supplyAsync(() -> {
+                int inconsistencias = 0;
+                while (executando.get()) {
+                    RegrasSnapshot snapshot = regras.atual();
+                    long rendaMinima = snapshot.parametros().cartoes().cashback().rendaMinima().movePointRight(2).longValueExact();
+                    Cartao cashback = snapshot.catalogo().cartao(TipoCartao.CARTAO_COM_CASHBACK);
+                    List<Cartao> ofertas = snapshot.tabela().consultar("RJ", 40, rendaMinima).cartoes();
+
+                    if (!ofertas.contains(cashback)
+                            || cashback.getValorLimiteDisponivel().compareTo(snapshot.parametros().cartoes().cashback().limite()) != 0) {
+                        inconsistencias++;
+                    }
+                }
+                return inconsistencias;
+            }, executor);
+
+            recargas.get(30, TimeUnit.SECONDS);
+
+            // Então
+            assertEquals(0, leituras.get(30, TimeUnit.SECONDS));
+            assertEquals(501, regras.atual().versao());
+        }
+    }
+
+    private static ParametrosRegras parametros(String rendaMinimaCashback, String limiteCashback) {
+        return new ParametrosRegras(
+                new ParametrosRegras.Cliente(18, 25, 25, 30),
+                new ParametrosRegras.Estados("SP"),
+                new ParametrosRegras.Renda(
+                        new BigDecimal("1000.00"), new BigDecimal("3000.00"),
+                        new BigDecimal("3000.00"), new BigDecimal("5000.00"),
+                        new BigDecimal("5000.00")),
+                new ParametrosRegras.Cartoes(
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal("1000.00"), new BigDecimal("1000.00"), new BigDecimal("0.00")),
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal("3000.00"), new BigDecimal("3000.00"), new BigDecimal("20.00")),
+                        new ParametrosRegras.CondicoesCartao(new BigDecimal(limiteCashback), new BigDecimal(rendaMinimaCashback), new BigDecimal("15.00"))));
+    }
+}
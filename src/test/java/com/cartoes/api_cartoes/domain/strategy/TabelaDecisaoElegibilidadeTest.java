@@ -0,0 +1,129 @@
+package com.cartoes.api_cartoes.domain.strategy;
+
+import com.cartoes.api_cartoes.domain.entity.Cartao;
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.strategy.impl.StrategyClienteJovem;
+import com.cartoes.api_cartoes.domain.strategy.impl.StrategyClienteSPJovemAdulto;
+import com.cartoes.api_cartoes.domain.strategy.impl.StrategyClienteSaoPaulo;
+import com.cartoes.api_cartoes.domain.strategy.impl.StrategyPadrao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabelaDecisaoElegibilidadeTest {
+
+    private static final List<String> UFS = Arrays.asList("SP", "sp", "RJ", "MG", "", null);
+
+    private List<StrategyAvaliacaoCartao> estrategias;
+
+    @BeforeEach
+    void setUp() {
+        CatalogoCartoes catalogo = new CatalogoCartoes(
+                new BigDecimal("1000.00"), new BigDecimal("0.00"),
+                new BigDecimal("3000.00"), new BigDecimal("20.00"),
+                new BigDecimal("5000.00"), new BigDecimal("15.00"));
+
+        StrategyPadrao padrao = new StrategyPadrao(catalogo,
+                new BigDecimal("1000.00"), new BigDecimal("3000.00"),
+                new BigDecimal("3000.00"), new BigDecimal("5000.00"),
+                new BigDecimal("5000.00"),
+                new BigDecimal("1000.00"), new BigDecimal("3000.00"), new BigDecimal("5000.00"));
+
+        StrategyClienteJovem jovem = new StrategyClienteJovem(catalogo, 18, 25, new BigDecimal("1000.00"));
+
+        StrategyClienteSPJovemAdulto spJovemAdulto = new StrategyClienteSPJovemAdulto(padrao, 25, 30, "SP");
+
+        StrategyClienteSaoPaulo saoPaulo = new StrategyClienteSaoPaulo(catalogo, 25, 30, "SP",
+                new BigDecimal("1000.00"), new BigDecimal("5000.00"));
+
+        // Mesma ordem de prioridade definida em RegrasSnapshot.compilar
+        estrategias = List.of(jovem, spJovemAdulto, saoPaulo, padrao);
+    }
+
+    @Test
+    @DisplayName("Tabela compilada deve ser equivalente à cadeia de estratégias em todo o espaço de entrada")
+    void deveSerEquivalenteACadeiaDeEstrategias() {
+        // Dado
+        TabelaDecisaoElegibilidade tabela = TabelaDecisaoElegibilidade.compilar(estrategias);
+        List<Long> rendas = rendasAvaliadas();
+
+        // Quando/Então
+        for (String uf : UFS) {
+            for (int idade = -1; idade <= 130; idade++) {
+                for (long renda : rendas) {
+                    Cliente cliente = Cliente.builder().uf(uf).idade(idade).rendaMensalCentavos(renda).build();
+
+                    TabelaDecisaoElegibilidade.Decisao decisao = tabela.consultar(uf, idade, renda);
+                    StrategyAvaliacaoCartao esperada = primeiraAplicavel(cliente);
+
+                    String contexto = "uf=" + uf + ", idade=" + idade + ", renda=" + renda;
+                    assertNotNull(decisao, contexto);
+                    assertEquals(esperada.getClass().getSimpleName(), decisao.estrategia(), contexto);
+                    assertEquals(esperada.avaliarCartoes(cliente), decisao.cartoes(), contexto);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar nulo quando nenhuma estratégia se aplica")
+    void deveRetornarNuloQuandoNenhumaEstrategiaSeAplica() {
+        // Dado
+        TabelaDecisaoElegibilidade tabela = TabelaDecisaoElegibilidade.compilar(estrategias.subList(0, 1));
+
+        // Quando/Então
+        assertNull(tabela.consultar("SP", 40, 400_000L));
+        assertNotNull(tabela.consultar("SP", 20, 400_000L));
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a mesma lista de cartões para perfis da mesma célula")
+    void deveReutilizarListaDeCartoesDaMesmaCelula() {
+        // Dado
+        TabelaDecisaoElegibilidade tabela = TabelaDecisaoElegibilidade.compilar(estrategias);
+
+        // Quando
+        List<Cartao> primeira = tabela.consultar("RJ", 40, 310_000L).cartoes();
+        List<Cartao> segunda = tabela.consultar("MG", 55, 499_999L).cartoes();
+
+        // Então
+        assertSame(primeira, segunda);
+        assertThrows(UnsupportedOperationException.class, () -> primeira.add(Cartao.builder().build()));
+    }
+
+    private StrategyAvaliacaoCartao primeiraAplicavel(Cliente cliente) {
+        return estrategias.stream()
+                .filter(estrategia -> estrategia.seAplica(cliente))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private List<Long> rendasAvaliadas() {
+        List<Long> rendas = new ArrayList<>();
+        for (long valor = -10_000; valor <= 1_000_000; valor += 5_000) {
+            rendas.add(valor);
+        }
+
+        // Vizinhança imediata de cada ponto de corte declarado pelas estratégias
+        Set<Long> cortes = new HashSet<>();
+        estrategias.forEach(estrategia -> cortes.addAll(estrategia.pontosCorteRenda()));
+        for (long corte : cortes) {
+            rendas.add(corte - 1);
+            rendas.add(corte);
+            rendas.add(corte + 1);
+        }
+
+        rendas.add(99_999_999_999L);
+        rendas.add(Long.MAX_VALUE);
+        return rendas;
+    }
+}
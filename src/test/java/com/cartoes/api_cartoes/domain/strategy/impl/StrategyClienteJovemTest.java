@@ -4,12 +4,12 @@ import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
 import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
 import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -23,12 +23,12 @@ class StrategyClienteJovemTest {
 
     @BeforeEach
     void setUp() {
-        strategy = new StrategyClienteJovem();
-        ReflectionTestUtils.setField(strategy, "idadeMinima", 18);
-        ReflectionTestUtils.setField(strategy, "idadeJovemMaxima", 25);
-        ReflectionTestUtils.setField(strategy, "rendaMinimaSemAnuidade", new BigDecimal("1000.00"));
-        ReflectionTestUtils.setField(strategy, "limiteSemAnuidade", new BigDecimal("1000.00"));
-        ReflectionTestUtils.setField(strategy, "anuidadeSemAnuidade", new BigDecimal("0.00"));
+        strategy = new StrategyClienteJovem(
+                new CatalogoCartoes(
+                        new BigDecimal("1000.00"), new BigDecimal("0.00"),
+                        new BigDecimal("3000.00"), new BigDecimal("20.00"),
+                        new BigDecimal("5000.00"), new BigDecimal("15.00")),
+                18, 25, new BigDecimal("1000.00"));
     }
 
     @ParameterizedTest
@@ -60,7 +60,7 @@ class StrategyClienteJovemTest {
         // Dado
         Cliente cliente = Cliente.builder()
                 .idade(20)
-                .rendaMensal(new BigDecimal("1500.00"))
+                .rendaMensalCentavos(150_000L)
                 .build();
 
         // Quando
@@ -81,7 +81,7 @@ class StrategyClienteJovemTest {
         // Dado
         Cliente cliente = Cliente.builder()
                 .idade(20)
-                .rendaMensal(new BigDecimal("500.00")) // Abaixo da renda mínima
+                .rendaMensalCentavos(50_000L) // Abaixo da renda mínima
                 .build();
 
         // Quando
@@ -10,9 +10,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.test.util.ReflectionTestUtils;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 
@@ -31,11 +29,7 @@ class StrategyClienteSPJovemAdultoTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        strategy = new StrategyClienteSPJovemAdulto(strategyPadrao);
-
-        ReflectionTestUtils.setField(strategy, "idadeJovemAdultoMin", 25);
-        ReflectionTestUtils.setField(strategy, "idadeJovemAdultoMax", 30);
-        ReflectionTestUtils.setField(strategy, "ufSaoPaulo", "SP");
+        strategy = new StrategyClienteSPJovemAdulto(strategyPadrao, 25, 30, "SP");
     }
 
     @ParameterizedTest
@@ -70,7 +64,7 @@ class StrategyClienteSPJovemAdultoTest {
         Cliente cliente = Cliente.builder()
                 .uf("SP")
                 .idade(27)
-                .rendaMensal(new BigDecimal("4000.00"))
+                .rendaMensalCentavos(400_000L)
                 .build();
 
         List<Cartao> cartoesEsperados = Arrays.asList(
@@ -95,7 +89,7 @@ class StrategyClienteSPJovemAdultoTest {
         Cliente cliente = Cliente.builder()
                 .uf("SP")
                 .idade(25)
-                .rendaMensal(new BigDecimal("4000.00"))
+                .rendaMensalCentavos(400_000L)
                 .build();
 
         // Quando
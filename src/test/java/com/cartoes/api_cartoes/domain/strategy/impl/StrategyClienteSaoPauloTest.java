@@ -3,12 +3,12 @@ package com.cartoes.api_cartoes.domain.strategy.impl;
 import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
 import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -22,16 +22,13 @@ class StrategyClienteSaoPauloTest {
 
     @BeforeEach
     void setUp() {
-        strategy = new StrategyClienteSaoPaulo();
-        ReflectionTestUtils.setField(strategy, "idadeJovemAdultoMin", 25);
-        ReflectionTestUtils.setField(strategy, "idadeJovemAdultoMax", 30);
-        ReflectionTestUtils.setField(strategy, "ufSaoPaulo", "SP");
-        ReflectionTestUtils.setField(strategy, "rendaMinimaSemAnuidade", new BigDecimal("1000.00"));
-        ReflectionTestUtils.setField(strategy, "rendaMinimaCashback", new BigDecimal("5000.00"));
-        ReflectionTestUtils.setField(strategy, "limiteSemAnuidade", new BigDecimal("1000.00"));
-        ReflectionTestUtils.setField(strategy, "anuidadeSemAnuidade", new BigDecimal("0.00"));
-        ReflectionTestUtils.setField(strategy, "limiteCashback", new BigDecimal("5000.00"));
-        ReflectionTestUtils.setField(strategy, "anuidadeCashback", new BigDecimal("15.00"));
+        strategy = new StrategyClienteSaoPaulo(
+                new CatalogoCartoes(
+                        new BigDecimal("1000.00"), new BigDecimal("0.00"),
+                        new BigDecimal("3000.00"), new BigDecimal("20.00"),
+                        new BigDecimal("5000.00"), new BigDecimal("15.00")),
+                25, 30, "SP",
+                new BigDecimal("1000.00"), new BigDecimal("5000.00"));
     }
 
     @ParameterizedTest
@@ -65,7 +62,7 @@ class StrategyClienteSaoPauloTest {
         Cliente cliente = Cliente.builder()
                 .uf("SP")
                 .idade(20)
-                .rendaMensal(new BigDecimal("2000.00"))
+                .rendaMensalCentavos(200_000L)
                 .build();
 
         // Quando
@@ -84,7 +81,7 @@ class StrategyClienteSaoPauloTest {
         Cliente cliente = Cliente.builder()
                 .uf("SP")
                 .idade(20)
-                .rendaMensal(new BigDecimal("6000.00"))
+                .rendaMensalCentavos(600_000L)
                 .build();
 
         // Quando
@@ -103,7 +100,7 @@ class StrategyClienteSaoPauloTest {
         Cliente cliente = Cliente.builder()
                 .uf("SP")
                 .idade(20)
-                .rendaMensal(new BigDecimal("500.00"))
+                .rendaMensalCentavos(50_000L)
                 .build();
 
         // Quando
@@ -3,15 +3,16 @@ package com.cartoes.api_cartoes.domain.strategy.impl;
 import com.cartoes.api_cartoes.domain.entity.Cartao;
 import com.cartoes.api_cartoes.domain.entity.Cliente;
 import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.strategy.CatalogoCartoes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StrategyPadraoTest {
@@ -20,27 +21,17 @@ class StrategyPadraoTest {
 
     @BeforeEach
     void setUp() {
-        strategy = new StrategyPadrao();
-
-        // Faixas de renda
-        ReflectionTestUtils.setField(strategy, "rendaFaixaBaixaMin", new BigDecimal("1000.00"));
-        ReflectionTestUtils.setField(strategy, "rendaFaixaBaixaMax", new BigDecimal("3000.00"));
-        ReflectionTestUtils.setField(strategy, "rendaFaixaMediaMin", new BigDecimal("3000.00"));
-        ReflectionTestUtils.setField(strategy, "rendaFaixaMediaMax", new BigDecimal("5000.00"));
-        ReflectionTestUtils.setField(strategy, "rendaFaixaAltaMin", new BigDecimal("5000.00"));
-
-        // Valores mínimos de renda para cada cartão
-        ReflectionTestUtils.setField(strategy, "rendaMinimaSemAnuidade", new BigDecimal("1000.00"));
-        ReflectionTestUtils.setField(strategy, "rendaMinimaParceiros", new BigDecimal("3000.00"));
-        ReflectionTestUtils.setField(strategy, "rendaMinimaCashback", new BigDecimal("5000.00"));
-
-        // Valores dos cartões
-        ReflectionTestUtils.setField(strategy, "limiteSemAnuidade", new BigDecimal("1000.00"));
-        ReflectionTestUtils.setField(strategy, "anuidadeSemAnuidade", new BigDecimal("0.00"));
-        ReflectionTestUtils.setField(strategy, "limiteParceiros", new BigDecimal("3000.00"));
-        ReflectionTestUtils.setField(strategy, "anuidadeParceiros", new BigDecimal("20.00"));
-        ReflectionTestUtils.setField(strategy, "limiteCashback", new BigDecimal("5000.00"));
-        ReflectionTestUtils.setField(strategy, "anuidadeCashback", new BigDecimal("15.00"));
+        strategy = new StrategyPadrao(
+                new CatalogoCartoes(
+                        new BigDecimal("1000.00"), new BigDecimal("0.00"),
+                        new BigDecimal("3000.00"), new BigDecimal("20.00"),
+                        new BigDecimal("5000.00"), new BigDecimal("15.00")),
+                // Faixas de renda
+                new BigDecimal("1000.00"), new BigDecimal("3000.00"),
+                new BigDecimal("3000.00"), new BigDecimal("5000.00"),
+                new BigDecimal("5000.00"),
+                // Valores mínimos de renda para cada cartão
+                new BigDecimal("1000.00"), new BigDecimal("3000.00"), new BigDecimal("5000.00"));
     }
 
     @Test
@@ -61,7 +52,7 @@ class StrategyPadraoTest {
     void deveOferecerApenasCartaoSemAnuidadeParaClienteComRendaBaixa() {
         // Dado
         Cliente cliente = Cliente.builder()
-                .rendaMensal(new BigDecimal("2000.00"))
+                .rendaMensalCentavos(200_000L)
                 .build();
 
         // Quando
@@ -77,7 +68,7 @@ class StrategyPadraoTest {
     void deveOferecerDoisCartoesParaClienteComRendaMedia() {
         // Dado
         Cliente cliente = Cliente.builder()
-                .rendaMensal(new BigDecimal("4000.00"))
+                .rendaMensalCentavos(400_000L)
                 .build();
 
         // Quando
@@ -94,7 +85,7 @@ class StrategyPadraoTest {
     void deveOferecerTodosCartoesParaClienteComRendaAlta() {
         // Dado
         Cliente cliente = Cliente.builder()
-                .rendaMensal(new BigDecimal("6000.00"))
+                .rendaMensalCentavos(600_000L)
                 .build();
 
         // Quando
@@ -112,7 +103,7 @@ class StrategyPadraoTest {
     void naoDeveOferecerCartoesParaClienteComRendaInsuficiente() {
         // Dado
         Cliente cliente = Cliente.builder()
-                .rendaMensal(new BigDecimal("500.00"))
+                .rendaMensalCentavos(50_000L)
                 .build();
 
         // Quando
@@ -127,7 +118,7 @@ class StrategyPadraoTest {
     void deveVerificarCasoLimiteInferiorFaixaMedia() {
         // Dado
         Cliente cliente = Cliente.builder()
-                .rendaMensal(new BigDecimal("3000.00"))
+                .rendaMensalCentavos(300_000L)
                 .build();
 
         // Quando
@@ -144,7 +135,7 @@ class StrategyPadraoTest {
     void deveVerificarCasoLimiteInferiorFaixaAlta() {
         // Dado
         Cliente cliente = Cliente.builder()
-                .rendaMensal(new BigDecimal("5000.00"))
+                .rendaMensalCentavos(500_000L)
                 .build();
 
         // Quando
@@ -153,4 +144,19 @@ class StrategyPadraoTest {
         // Então
         assertEquals(3, cartoes.size());
     }
+
+    @Test
+    @DisplayName("Deve retornar a mesma lista de ofertas para clientes da mesma faixa")
+    void deveRetornarMesmaListaParaClientesDaMesmaFaixa() {
+        // Dado
+        Cliente primeiro = Cliente.builder()
+                .rendaMensalCentavos(310_000L)
+                .build();
+        Cliente segundo = Cliente.builder()
+                .rendaMensalCentavos(490_000L)
+                .build();
+
+        // Quando/Então
+        assertSame(strategy.avaliarCartoes(primeiro), strategy.avaliarCartoes(segundo));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.cartoes.api_cartoes.infrastructure.avaliacao;
+
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.response.AvaliacaoResponse;
+import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
+import com.cartoes.api_cartoes.application.service.CartaoApplicationService;
+import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
+import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.exception.CodigoRejeicao;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvaliacaoArquivoTest {
+
+    private static final CartaoResponse CARTAO = CartaoResponse.builder()
+            .tipoCartao(TipoCartao.CARTAO_SEM_ANUIDADE)
+            .valorAnuidadeMensal(BigDecimal.ZERO)
+            .valorLimiteDisponivel(new BigDecimal("1000.00"))
+            .status(CartaoStatus.APROVADO)
+            .build();
+
+    @Mock
+    private CartaoApplicationService cartaoApplicationService;
+
+    @TempDir
+    private Path diretorio;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    @DisplayName("Deve avaliar todas as linhas de um JSONL dividido em vários trechos, indicando a posição de cada uma")
+    void deveAvaliarJsonlEmVariosTrechos() throws IOException {
+        // Dado: blocos de 256 bytes, menores que o arquivo, forçam a divisão em trechos paralelos
+        when(cartaoApplicationService.avaliarSemRegistro(any())).thenAnswer(invocacao -> ofertar(invocacao.getArgument(0)));
+        StringBuilder conteudo = new StringBuilder();
+        Map<Long, String> cpfPorPosicao = new TreeMap<>();
+        for (int i = 0; i < 200; i++) {
+            String cpf = String.format("%011d", i);
+            cpfPorPosicao.put((long) conteudo.toString().getBytes(StandardCharsets.UTF_8).length, cpf);
+            conteudo.append("{\"cliente\":{\"nome\":\"Cliente Ç ").append(i).append("\",\"cpf\":\"").append(cpf)
+                    .append("\",\"idade\":26,\"data_nascimento\":\"2000-01-01\",\"uf\":\"SP\",\"renda_mensal\":4000}}\n");
+        }
+        Path entrada = escrever("clientes.jsonl", conteudo.toString());
+        Path saida = diretorio.resolve("saida.jsonl");
+
+        // Quando
+        ResumoAvaliacao resumo = criarAvaliacao(4, DataSize.ofBytes(256)).avaliar(entrada, saida, FormatoArquivo.JSONL);
+
+        // Então
+        List<JsonNode> linhas = ler(saida);
+        assertEquals(200, linhas.size());
+        Map<Long, String> cpfPorPosicaoSaida = new TreeMap<>();
+        for (JsonNode linha : linhas) {
+            cpfPorPosicaoSaida.put(linha.get("posicao").asLong(), linha.get("cpf").asText());
+            assertEquals("CARTAO_SEM_ANUIDADE", linha.get("cartoes_ofertados").get(0).get("tipo_cartao").asText());
+        }
+        assertEquals(cpfPorPosicao, cpfPorPosicaoSaida);
+        assertEquals(200, resumo.registros());
+        assertEquals(200, resumo.comOferta());
+        assertTrue(resumo.registrosPorSegundo() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve ler o CSV pelas colunas do cabeçalho, com aspas, CRLF e linhas em branco")
+    void deveLerCsvPeloCabecalho() throws IOException {
+        // Dado
+        List<ClienteRequest> recebidos = new ArrayList<>();
+        when(cartaoApplicationService.avaliarSemRegistro(any())).thenAnswer(invocacao -> {
+            synchronized (recebidos) {
+                recebidos.add(invocacao.getArgument(0));
+            }
+            return ofertar(invocacao.getArgument(0));
+        });
+        Path entrada = escrever("clientes.csv", "\uFEFFcpf,Nome,uf,renda_mensal,idade,data_nascimento,observacao\r\n"
+                + "123.456.789-10,\"Souza, Ana \"\"Aninha\"\"\",SP,4000.50,26,2000-01-01,\r\n"
+                + "\r\n"
+                + "987.654.321-00,Bruno,RJ,,40,1985-06-15,qualquer\r\n");
+
+        // Quando
+        ResumoAvaliacao resumo = criarAvaliacao(2, DataSize.ofMegabytes(1))
+                .avaliar(entrada, diretorio.resolve("saida.jsonl"), FormatoArquivo.CSV);
+
+        // Então
+        assertEquals(2, resumo.registros());
+        recebidos.sort((a, b) -> a.getCliente().getCpf().compareTo(b.getCliente().getCpf()));
+        ClienteRequest ana = recebidos.get(0);
+        assertEquals("Souza, Ana \"Aninha\"", ana.getCliente().getNome());
+        assertEquals(new BigDecimal("4000.50"), ana.getCliente().getRendaMensal());
+        assertEquals(26, ana.getCliente().getIdade());
+        assertEquals(LocalDate.of(2000, 1, 1), ana.getCliente().getDataNascimento());
+        assertNull(ana.getCliente().getEmail());
+        assertNull(recebidos.get(1).getCliente().getRendaMensal());
+    }
+
+    @Test
+    @DisplayName("Deve registrar linhas ilegíveis, rejeições e falhas sem interromper a avaliação")
+    void deveRegistrarErrosSemInterromper() throws IOException {
+        // Dado
+        when(cartaoApplicationService.avaliarSemRegistro(any())).thenAnswer(invocacao -> {
+            ClienteRequest solicitacao = invocacao.getArgument(0);
+            return switch (solicitacao.getCliente().getCpf()) {
+                case "rejeitado" -> AvaliacaoResponse.builder()
+                        .cpf("rejeitado")
+                        .erros(List.of(CodigoRejeicao.IDADE_MINIMA.violacao()))
+                        .build();
+                case "falha" -> throw new BusinessException("Não foi possível avaliar os cartões elegíveis");
+                default -> AvaliacaoResponse.builder().cpf("sem-oferta").cartoesOfertados(List.of()).build();
+            };
+        });
+        Path entrada = escrever("clientes.jsonl", """
+                {"cliente":{"cpf":"rejeitado"}}
+                {"cliente":{"cpf":
+                {"cliente":{"cpf":"falha"}}
+                {"cliente":{"cpf":"sem-oferta"}}""");
+        Path saida = diretorio.resolve("saida.jsonl");
+
+        // Quando
+        ResumoAvaliacao resumo = criarAvaliacao(1, DataSize.ofMegabytes(1)).avaliar(entrada, saida, FormatoArquivo.JSONL);
+
+        // Então
+        assertEquals(new ResumoAvaliacao(4, 0, 1, 1, 1, 1, resumo.duracao()), resumo);
+        List<JsonNode> linhas = ler(saida);
+        assertEquals("IDADE_MINIMA", linhas.get(0).get("erros").get(0).get("codigo").asText());
+        assertEquals(32, linhas.get(1).get("posicao").asLong());
+        assertTrue(linhas.get(1).get("erro").asText().startsWith("Registro ilegível"));
+        assertEquals("Não foi possível avaliar os cartões elegíveis", linhas.get(2).get("erro").asText());
+        assertFalse(linhas.get(2).has("cpf"));
+        assertEquals(0, linhas.get(3).get("cartoes_ofertados").size());
+    }
+
+    @Test
+    @DisplayName("Deve identificar o formato pela extensão do arquivo")
+    void deveIdentificarFormatoPelaExtensao() {
+        assertEquals(FormatoArquivo.CSV, FormatoArquivo.doArquivo(Path.of("dados/clientes.CSV")));
+        assertEquals(FormatoArquivo.JSONL, FormatoArquivo.doArquivo(Path.of("dados/clientes.jsonl")));
+    }
+
+    private AvaliacaoArquivo criarAvaliacao(int paralelismo, DataSize bloco) {
+        return new AvaliacaoArquivo(cartaoApplicationService, objectMapper, paralelismo, bloco);
+    }
+
+    private static AvaliacaoResponse ofertar(ClienteRequest solicitacao) {
+        return AvaliacaoResponse.builder()
+                .cpf(solicitacao.getCliente().getCpf())
+                .estrategia("StrategyPadrao")
+                .cartoesOfertados(List.of(CARTAO))
+                .build();
+    }
+
+    private Path escrever(String nome, String conteudo) throws IOException {
+        return Files.writeString(diretorio.resolve(nome), conteudo);
+    }
+
+    private List<JsonNode> ler(Path saida) throws IOException {
+        List<JsonNode> linhas = new ArrayList<>();
+        for (String linha : Files.readAllLines(saida)) {
+            linhas.add(objectMapper.readTree(linha));
+        }
+        return linhas;
+    }
+}
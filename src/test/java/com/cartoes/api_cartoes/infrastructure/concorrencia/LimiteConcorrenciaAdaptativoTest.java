@@ -0,0 +1,115 @@
+package com.cartoes.api_cartoes.infrastructure.concorrencia;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LimiteConcorrenciaAdaptativoTest {
+
+    private static final Duration LATENCIA_ALVO = Duration.ofMillis(100);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve recusar aquisições acima do limite e aceitá-las novamente após a liberação")
+    void deveRecusarAcimaDoLimite() {
+        // Dado
+        LimiteConcorrenciaAdaptativo limite = criarLimite(2, 1, 10);
+        long inicio = System.nanoTime();
+        assertTrue(limite.tentarAdquirir());
+        assertTrue(limite.tentarAdquirir());
+
+        // Quando
+        boolean excedente = limite.tentarAdquirir();
+        limite.liberar(inicio, System.nanoTime(), false);
+
+        // Então
+        assertFalse(excedente);
+        assertTrue(limite.tentarAdquirir());
+        assertEquals(1.0, meterRegistry.get("cartoes.concorrencia.rejeitadas").counter().count());
+        assertEquals(2.0, meterRegistry.get("cartoes.concorrencia.em.andamento").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite em uma unidade a cada limite de respostas rápidas com o limite em uso")
+    void deveAumentarLimiteComRespostasRapidas() {
+        // Dado
+        LimiteConcorrenciaAdaptativo limite = criarLimite(4, 1, 10);
+
+        // Quando: 4 ciclos de 4 requisições simultâneas concluídas dentro do alvo
+        for (int ciclo = 0; ciclo < 4; ciclo++) {
+            long inicio = System.nanoTime();
+            for (int i = 0; i < 4; i++) {
+                assertTrue(limite.tentarAdquirir());
+            }
+            for (int i = 0; i < 4; i++) {
+                limite.liberar(inicio, System.nanoTime(), false);
+            }
+        }
+
+        // Então: metade de cada ciclo tem o limite em uso
+        assertEquals(5, limite.limite());
+        assertEquals(5.0, meterRegistry.get("cartoes.concorrencia.limite").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Não deve aumentar o limite sem carga")
+    void naoDeveAumentarLimiteSemCarga() {
+        // Dado
+        LimiteConcorrenciaAdaptativo limite = criarLimite(4, 1, 10);
+
+        // Quando
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limite.tentarAdquirir());
+            limite.liberar(System.nanoTime(), System.nanoTime(), false);
+        }
+
+        // Então
+        assertEquals(4, limite.limite());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite uma vez pelas respostas lentas iniciadas antes da redução")
+    void deveReduzirLimiteUmaVezPorJanela() {
+        // Dado
+        LimiteConcorrenciaAdaptativo limite = criarLimite(20, 1, 40);
+        long inicio = System.nanoTime();
+        long fim = inicio + LATENCIA_ALVO.multipliedBy(2).toNanos();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limite.tentarAdquirir());
+        }
+
+        // Quando: três respostas lentas, iniciadas antes da primeira redução
+        limite.liberar(inicio, fim, false);
+        limite.liberar(inicio, fim, false);
+        limite.liberar(inicio, fim, false);
+
+        // Então
+        assertEquals(18, limite.limite());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite a cada sobrecarga de requisições iniciadas após a redução anterior, até o mínimo")
+    void deveReduzirLimiteAteOMinimo() {
+        // Dado
+        LimiteConcorrenciaAdaptativo limite = criarLimite(10, 3, 40);
+
+        // Quando
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limite.tentarAdquirir());
+            limite.liberar(System.nanoTime(), System.nanoTime(), true);
+        }
+
+        // Então
+        assertEquals(3, limite.limite());
+        assertEquals(0, limite.emAndamento());
+    }
+
+    private LimiteConcorrenciaAdaptativo criarLimite(int inicial, int minimo, int maximo) {
+        return new LimiteConcorrenciaAdaptativo(inicial, minimo, maximo, LATENCIA_ALVO, 0.9, meterRegistry);
+    }
+}
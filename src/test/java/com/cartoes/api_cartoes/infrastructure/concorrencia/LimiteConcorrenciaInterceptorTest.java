@@ -0,0 +1,74 @@
+package com.cartoes.api_cartoes.infrastructure.concorrencia;
+
+import com.cartoes.api_cartoes.domain.exception.ServicoIndisponivelException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LimiteConcorrenciaInterceptorTest {
+
+    private final LimiteConcorrenciaAdaptativo limite = new LimiteConcorrenciaAdaptativo(2, 1, 10,
+            Duration.ofSeconds(10), 0.5, new SimpleMeterRegistry());
+    private final LimiteConcorrenciaInterceptor interceptor = new LimiteConcorrenciaInterceptor(limite,
+            Duration.ofSeconds(3));
+
+    @Test
+    @DisplayName("Deve recusar solicitações acima do limite com ServicoIndisponivelException")
+    void deveRecusarSolicitacoesAcimaDoLimite() {
+        // Dado
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(post(), response, null));
+        assertTrue(interceptor.preHandle(post(), response, null));
+
+        // Quando
+        ServicoIndisponivelException exception = assertThrows(ServicoIndisponivelException.class,
+                () -> interceptor.preHandle(post(), response, null));
+
+        // Então
+        assertEquals(Duration.ofSeconds(3), exception.getTentarNovamenteEm());
+        assertEquals(2, limite.emAndamento());
+    }
+
+    @Test
+    @DisplayName("Não deve limitar requisições que não sejam POST")
+    void naoDeveLimitarOutrosMetodos() {
+        // Dado
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cartoes");
+
+        // Quando
+        for (int i = 0; i < 5; i++) {
+            assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        }
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        // Então
+        assertEquals(0, limite.emAndamento());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a aquisição na conclusão e tratar 503 como sobrecarga")
+    void deveLiberarNaConclusaoETratar503ComoSobrecarga() {
+        // Dado
+        MockHttpServletRequest request = post();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        response.setStatus(503);
+
+        // Quando
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Então
+        assertEquals(0, limite.emAndamento());
+        assertEquals(1, limite.limite());
+    }
+
+    private MockHttpServletRequest post() {
+        return new MockHttpServletRequest("POST", "/cartoes");
+    }
+}
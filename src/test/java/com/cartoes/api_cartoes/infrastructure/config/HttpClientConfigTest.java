@@ -0,0 +1,74 @@
+package com.cartoes.api_cartoes.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HttpClientConfigTest {
+
+    private final HttpClientConfig config = new HttpClientConfig();
+
+    private PoolingAsyncClientConnectionManager poolAssincrono;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(config, "connectionTimeout", 2000);
+        ReflectionTestUtils.setField(config, "readTimeout", 2000);
+        ReflectionTestUtils.setField(config, "maxConexoes", 50);
+        ReflectionTestUtils.setField(config, "maxConexoesPorRota", 20);
+        ReflectionTestUtils.setField(config, "tempoVidaConexao", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(config, "tempoOciosoMaximo", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(config, "validarAposInatividade", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(config, "versaoHttp", HttpVersionPolicy.NEGOTIATE);
+
+        poolAssincrono = config.poolConexoesAssincronasApiCliente();
+    }
+
+    @AfterEach
+    void tearDown() {
+        poolAssincrono.close();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os limites configurados ao pool de conexões")
+    void deveAplicarLimitesAoPool() {
+        // Então
+        assertEquals(50, poolAssincrono.getMaxTotal());
+        assertEquals(20, poolAssincrono.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    @DisplayName("Deve publicar a ocupação do pool no Micrometer")
+    void devePublicarMetricasDoPool() {
+        // Dado
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // Quando
+        config.metricasPoolApiCliente(poolAssincrono).bindTo(registry);
+
+        // Então
+        assertEquals(50.0, gauge(registry, "httpcomponents.httpclient.pool.total.max"));
+        assertEquals(0.0, gauge(registry, "httpcomponents.httpclient.pool.total.pending"));
+        assertEquals(0.0, gauge(registry, "httpcomponents.httpclient.pool.total.connections", "leased"));
+        assertEquals(0.0, gauge(registry, "httpcomponents.httpclient.pool.total.connections", "available"));
+    }
+
+    private double gauge(SimpleMeterRegistry registry, String nome, String... estado) {
+        var busca = registry.get(nome).tag("httpclient", "api-cliente-async");
+        if (estado.length > 0) {
+            busca = busca.tag("state", estado[0]);
+        }
+        Gauge gauge = busca.gauge();
+        return gauge.value();
+    }
+}
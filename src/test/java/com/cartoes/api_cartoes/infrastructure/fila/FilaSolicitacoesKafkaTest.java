@@ -0,0 +1,134 @@
+package com.cartoes.api_cartoes.infrastructure.fila;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.service.SolicitacaoAssincronaService;
+import com.cartoes.api_cartoes.domain.exception.ServicoIndisponivelException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FilaSolicitacoesKafkaTest {
+
+    @Mock
+    private KafkaTemplate<String, SolicitacaoPendente> kafkaTemplate;
+
+    @Mock
+    private SolicitacaoAssincronaService solicitacaoAssincronaService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve publicar com o CPF como chave e aguardar a confirmação do broker")
+    void devePublicarComCpfComoChave() {
+        // Dado
+        FilaSolicitacoesKafka fila = fila();
+        SolicitacaoPendente solicitacao = solicitacao("1");
+        @SuppressWarnings("unchecked")
+        SendResult<String, SolicitacaoPendente> resultado = mock(SendResult.class);
+        when(kafkaTemplate.send("cartoes.solicitacoes", "123.456.789-10", solicitacao))
+                .thenReturn(CompletableFuture.completedFuture(resultado));
+
+        // Quando
+        fila.publicar(solicitacao);
+
+        // Então
+        verify(kafkaTemplate).send("cartoes.solicitacoes", "123.456.789-10", solicitacao);
+        assertEquals(0.0, meterRegistry.get("cartoes.fila.recusadas").tag("fila", "kafka").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 503 quando o broker não confirmar a publicação")
+    void deveRecusarQuandoBrokerNaoConfirmar() {
+        // Dado
+        FilaSolicitacoesKafka fila = fila();
+        when(kafkaTemplate.send(any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("Broker indisponível")));
+
+        // Quando
+        ServicoIndisponivelException exception = assertThrows(ServicoIndisponivelException.class,
+                () -> fila.publicar(solicitacao("1")));
+
+        // Então
+        assertEquals(Duration.ofSeconds(1), exception.getTentarNovamenteEm());
+        assertEquals(1.0, meterRegistry.get("cartoes.fila.recusadas").tag("fila", "kafka").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 503 quando o produtor não obtiver os metadados do tópico")
+    void deveRecusarQuandoProdutorNaoObtiverMetadados() {
+        // Dado
+        FilaSolicitacoesKafka fila = fila();
+        when(kafkaTemplate.send(any(), any(), any()))
+                .thenThrow(new KafkaException("Send failed", new TimeoutException("Topic not present in metadata")));
+
+        // Quando / Então
+        assertThrows(ServicoIndisponivelException.class, () -> fila.publicar(solicitacao("1")));
+        assertEquals(1.0, meterRegistry.get("cartoes.fila.recusadas").tag("fila", "kafka").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve interromper o lote na solicitação que falhou, informando sua posição")
+    void deveInterromperLoteNaSolicitacaoQueFalhou() {
+        // Dado
+        ConsumidorSolicitacoesKafka consumidor = new ConsumidorSolicitacoesKafka(solicitacaoAssincronaService, meterRegistry);
+        doNothing().doThrow(new IllegalStateException("Cadastro indisponível"))
+                .when(solicitacaoAssincronaService).processar(any());
+
+        // Quando
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> consumidor.consumir(List.of(registro(0, solicitacao("1")), registro(1, solicitacao("2")), registro(2, solicitacao("3")))));
+
+        // Então
+        assertEquals(1, exception.getIndex());
+        verify(solicitacaoAssincronaService, times(2)).processar(any());
+    }
+
+    @Test
+    @DisplayName("Deve descartar mensagens que não puderam ser lidas como solicitação")
+    void deveDescartarMensagensInvalidas() {
+        // Dado
+        ConsumidorSolicitacoesKafka consumidor = new ConsumidorSolicitacoesKafka(solicitacaoAssincronaService, meterRegistry);
+
+        // Quando
+        consumidor.consumir(List.of(registro(0, null), registro(1, solicitacao("2"))));
+
+        // Então
+        verify(solicitacaoAssincronaService).processar(any());
+        assertEquals(1.0, meterRegistry.get("cartoes.fila.invalidas").counter().count());
+    }
+
+    private FilaSolicitacoesKafka fila() {
+        return new FilaSolicitacoesKafka(kafkaTemplate, "cartoes.solicitacoes", Duration.ofSeconds(2),
+                Duration.ofSeconds(1), meterRegistry);
+    }
+
+    private ConsumerRecord<String, SolicitacaoPendente> registro(long offset, SolicitacaoPendente solicitacao) {
+        return new ConsumerRecord<>("cartoes.solicitacoes", 0, offset, "123.456.789-10", solicitacao);
+    }
+
+    private SolicitacaoPendente solicitacao(String numero) {
+        return SolicitacaoPendente.builder()
+                .numeroSolicitacao(numero)
+                .cliente(ClienteDTO.builder().cpf("123.456.789-10").build())
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.cartoes.api_cartoes.infrastructure.fila;
+
+import com.cartoes.api_cartoes.application.dto.request.ClienteRequest;
+import com.cartoes.api_cartoes.application.dto.request.SolicitacaoPendente;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.service.SolicitacaoAssincronaService;
+import com.cartoes.api_cartoes.domain.exception.ServicoIndisponivelException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilaSolicitacoesMemoriaTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> descartes = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("Deve recusar com 503 e Retry-After quando a fila estiver cheia")
+    void deveRecusarQuandoCheia() {
+        // Dado
+        FilaSolicitacoesMemoria fila = new FilaSolicitacoesMemoria(2, Duration.ofSeconds(3), meterRegistry);
+        fila.publicar(solicitacao("1"));
+        fila.publicar(solicitacao("2"));
+
+        // Quando
+        ServicoIndisponivelException exception = assertThrows(ServicoIndisponivelException.class,
+                () -> fila.publicar(solicitacao("3")));
+
+        // Então
+        assertEquals(Duration.ofSeconds(3), exception.getTentarNovamenteEm());
+        assertEquals(1.0, meterRegistry.get("cartoes.fila.recusadas").tag("fila", "memoria").counter().count());
+        assertEquals(2.0, meterRegistry.get("cartoes.fila.pendentes").tag("fila", "memoria").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve retirar as solicitações em lotes, na ordem de publicação")
+    void deveRetirarEmLotes() throws InterruptedException {
+        // Dado
+        FilaSolicitacoesMemoria fila = new FilaSolicitacoesMemoria(10, Duration.ofSeconds(1), meterRegistry);
+        for (int i = 1; i <= 5; i++) {
+            fila.publicar(solicitacao(String.valueOf(i)));
+        }
+
+        // Quando
+        List<SolicitacaoPendente> primeiro = fila.retirar(3, Duration.ZERO);
+        List<SolicitacaoPendente> segundo = fila.retirar(3, Duration.ZERO);
+        List<SolicitacaoPendente> vazio = fila.retirar(3, Duration.ZERO);
+
+        // Então
+        assertEquals(List.of("1", "2", "3"), primeiro.stream().map(SolicitacaoPendente::getNumeroSolicitacao).toList());
+        assertEquals(List.of("4", "5"), segundo.stream().map(SolicitacaoPendente::getNumeroSolicitacao).toList());
+        assertTrue(vazio.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve repetir a solicitação após falha temporária")
+    void deveRepetirAposFalhaTemporaria() throws InterruptedException {
+        // Dado
+        AtomicInteger chamadas = new AtomicInteger();
+        SolicitacaoAssincronaService servico = servico(s -> {
+            if (chamadas.incrementAndGet() < 3) {
+                throw new IllegalStateException("Cadastro indisponível");
+            }
+        });
+        try (ConsumidorSolicitacoesMemoria consumidor = consumidor(new FilaSolicitacoesMemoria(1, Duration.ofSeconds(1), meterRegistry), servico)) {
+            // Quando
+            consumidor.processar(solicitacao("1"));
+        }
+
+        // Então
+        assertEquals(3, chamadas.get());
+        assertEquals(2.0, meterRegistry.get("cartoes.fila.retentativas").counter().count());
+        assertEquals(0.0, meterRegistry.get("cartoes.fila.descartadas").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a solicitação ao esgotar as tentativas")
+    void deveDescartarAoEsgotarTentativas() throws InterruptedException {
+        // Dado
+        AtomicInteger chamadas = new AtomicInteger();
+        SolicitacaoAssincronaService servico = servico(s -> {
+            chamadas.incrementAndGet();
+            throw new IllegalStateException("Cadastro indisponível");
+        });
+        try (ConsumidorSolicitacoesMemoria consumidor = consumidor(new FilaSolicitacoesMemoria(1, Duration.ofSeconds(1), meterRegistry), servico)) {
+            // Quando
+            consumidor.processar(solicitacao("1"));
+        }
+
+        // Então
+        assertEquals(3, chamadas.get());
+        assertEquals(1.0, meterRegistry.get("cartoes.fila.descartadas").counter().count());
+        assertEquals(List.of("1"), descartes);
+    }
+
+    @Test
+    @DisplayName("Deve processar as solicitações publicadas e esvaziar a fila no encerramento")
+    void deveEsvaziarFilaNoEncerramento() throws InterruptedException {
+        // Dado
+        FilaSolicitacoesMemoria fila = new FilaSolicitacoesMemoria(100, Duration.ofSeconds(1), meterRegistry);
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<String> processadas = new CopyOnWriteArrayList<>();
+        ConsumidorSolicitacoesMemoria consumidor = consumidor(fila, servico(s -> {
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            processadas.add(s.getNumeroSolicitacao());
+        }));
+        for (int i = 0; i < 20; i++) {
+            fila.publicar(solicitacao(String.valueOf(i)));
+        }
+
+        // Quando
+        liberar.countDown();
+        consumidor.close();
+
+        // Então
+        assertEquals(20, processadas.size());
+        assertEquals(0, fila.pendentes());
+        assertThrows(ServicoIndisponivelException.class, () -> fila.publicar(solicitacao("tarde")));
+    }
+
+    private ConsumidorSolicitacoesMemoria consumidor(FilaSolicitacoesMemoria fila, SolicitacaoAssincronaService servico) {
+        return new ConsumidorSolicitacoesMemoria(fila, servico, 2, 5, new FixedBackOff(1, 2),
+                Duration.ofSeconds(5), Thread.ofVirtual().factory(), meterRegistry);
+    }
+
+    private SolicitacaoAssincronaService servico(Consumer<SolicitacaoPendente> processamento) {
+        return new SolicitacaoAssincronaService() {
+            @Override
+            public SolicitacaoResponse aceitarSolicitacao(ClienteRequest clienteRequest) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void processar(SolicitacaoPendente solicitacao) {
+                processamento.accept(solicitacao);
+            }
+
+            @Override
+            public void descartar(SolicitacaoPendente solicitacao, Exception causa) {
+                descartes.add(solicitacao.getNumeroSolicitacao());
+            }
+        };
+    }
+
+    private SolicitacaoPendente solicitacao(String numero) {
+        return SolicitacaoPendente.builder().numeroSolicitacao(numero).build();
+    }
+}
@@ -0,0 +1,204 @@
+package com.cartoes.api_cartoes.infrastructure.json;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.metrics.MetricasSolicitacao;
+import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
+import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversorSolicitacaoResponseTest {
+
+    // Mesmas configurações aplicadas pelo Spring Boot ao ObjectMapper da aplicação
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConversorSolicitacaoResponse conversor = new ConversorSolicitacaoResponse(
+            objectMapper, new MetricasSolicitacao(meterRegistry, true));
+
+    static Stream<Arguments> respostas() {
+        return Stream.of(
+                Arguments.of("solicitacao-tres-cartoes.json", tresCartoes()),
+                Arguments.of("solicitacao-caracteres-especiais.json", caracteresEspeciais()),
+                Arguments.of("solicitacao-campos-nulos.json", camposNulos()),
+                Arguments.of("solicitacao-sem-cliente.json", SolicitacaoResponse.builder()
+                        .numeroSolicitacao("018f3a6e-0000-7000-8000-000000000000")
+                        .dataSolicitacao(LocalDateTime.of(2026, 1, 1, 0, 0))
+                        .build()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("respostas")
+    @DisplayName("Deve produzir exatamente os bytes do arquivo de referência, iguais aos da serialização do Jackson")
+    void deveProduzirBytesDoArquivoDeReferencia(String arquivo, SolicitacaoResponse resposta) throws IOException {
+        // Dado
+        byte[] esperado = referencia(arquivo);
+
+        // Quando
+        MockHttpOutputMessage mensagem = new MockHttpOutputMessage();
+        conversor.write(resposta, MediaType.APPLICATION_JSON, mensagem);
+
+        // Então
+        assertArrayEquals(esperado, mensagem.getBodyAsBytes(), () -> mensagem.getBodyAsString());
+        assertArrayEquals(esperado, objectMapper.writeValueAsBytes(resposta), "arquivo de referência difere do Jackson");
+        assertEquals(MediaType.APPLICATION_JSON, mensagem.getHeaders().getContentType());
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar os fragmentos dos cartões entre respostas e registrar a serialização")
+    void deveReaproveitarFragmentosDosCartoes() throws IOException {
+        // Dado
+        SolicitacaoResponse primeira = tresCartoes();
+        SolicitacaoResponse segunda = tresCartoes();
+        segunda.setCartoesOfertados(List.of(segunda.getCartoesOfertados().get(2), segunda.getCartoesOfertados().get(0)));
+
+        // Quando
+        conversor.write(primeira, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+        MockHttpOutputMessage mensagem = new MockHttpOutputMessage();
+        conversor.write(segunda, MediaType.APPLICATION_JSON, mensagem);
+
+        // Então
+        assertArrayEquals(objectMapper.writeValueAsBytes(segunda), mensagem.getBodyAsBytes());
+        assertEquals(2, meterRegistry.get(MetricasSolicitacao.METRICA_SERIALIZACAO).timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve formatar data e hora como o Jackson para instantes aleatórios, inclusive no mesmo segundo")
+    void deveFormatarDataHoraComoJackson() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        FormatadorDataHora formatador = new FormatadorDataHora();
+        List<LocalDateTime> instantes = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2026, 10, 18, 23, 59, 59);
+        for (int i = 0; i < 1_000; i++) {
+            instantes.add(base.plusNanos(random.nextLong(2_000_000_000L)));
+            instantes.add(LocalDateTime.of(random.nextInt(0, 10_000), random.nextInt(1, 13), random.nextInt(1, 29),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000)));
+        }
+        instantes.add(LocalDateTime.of(10_000, 1, 1, 0, 0));
+        instantes.add(LocalDateTime.of(-1, 12, 31, 23, 59, 59, 999_999_999));
+
+        for (LocalDateTime instante : instantes) {
+            String esperado = objectMapper.readTree(objectMapper.writeValueAsBytes(
+                    SolicitacaoResponse.builder().dataSolicitacao(instante).build())).get("data_solicitacao").toString();
+
+            assertEquals(esperado, new String(formatador.formatar(instante)), instante::toString);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve delegar ao ObjectMapper quando ele omitir valores nulos")
+    void deveDelegarQuandoObjectMapperOmitirNulos() throws IOException {
+        // Dado
+        ObjectMapper semNulos = Jackson2ObjectMapperBuilder.json().serializationInclusion(JsonInclude.Include.NON_NULL).build();
+        ConversorSolicitacaoResponse conversorSemNulos = new ConversorSolicitacaoResponse(
+                semNulos, new MetricasSolicitacao(new SimpleMeterRegistry(), false));
+        SolicitacaoResponse resposta = camposNulos();
+
+        // Quando
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        conversorSemNulos.escrever(resposta, saida);
+
+        // Então
+        assertArrayEquals(semNulos.writeValueAsBytes(resposta), saida.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Deve atender apenas a escrita de SolicitacaoResponse em JSON")
+    void deveAtenderApenasEscritaDeSolicitacaoResponse() {
+        assertTrue(conversor.canWrite(SolicitacaoResponse.class, MediaType.APPLICATION_JSON));
+        assertTrue(conversor.canWrite(SolicitacaoResponse.class, MediaType.APPLICATION_PROBLEM_JSON));
+        assertFalse(conversor.canWrite(SolicitacaoResponse.class, MediaType.APPLICATION_XML));
+        assertFalse(conversor.canWrite(CartaoResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(conversor.canRead(SolicitacaoResponse.class, MediaType.APPLICATION_JSON));
+    }
+
+    private static byte[] referencia(String arquivo) throws IOException {
+        try (InputStream entrada = ConversorSolicitacaoResponseTest.class.getResourceAsStream("/golden/" + arquivo)) {
+            assertNotNull(entrada, arquivo);
+            byte[] conteudo = entrada.readAllBytes();
+            // Os arquivos terminam com quebra de linha, que não faz parte da resposta
+            return Arrays.copyOf(conteudo, conteudo.length - 1);
+        }
+    }
+
+    private static SolicitacaoResponse tresCartoes() {
+        return SolicitacaoResponse.builder()
+                .numeroSolicitacao("b5d7d8e3-5c8a-4d1b-9c3e-7a8b6f5d4e2c")
+                .idCliente("2b6f0cc9-04f8-4c1e-9a3d-5e7f8a9b0c1d")
+                .dataSolicitacao(LocalDateTime.of(2025, 3, 13, 16, 45, 30, 123_456_789))
+                .cliente(ClienteDTO.builder()
+                        .nome("Cliente Teste")
+                        .cpf("123.456.789-10")
+                        .idade(35)
+                        .dataNascimento(LocalDate.of(1990, 1, 1))
+                        .uf("SP")
+                        .rendaMensal(new BigDecimal("7500.50"))
+                        .email("cliente@teste.com")
+                        .telefoneWhatsapp("11999992020")
+                        .build())
+                .cartoesOfertados(List.of(
+                        cartao(TipoCartao.CARTAO_SEM_ANUIDADE, "0.00", "1000.00"),
+                        cartao(TipoCartao.CARTAO_DE_PARCEIROS, "20.00", "3000.00"),
+                        cartao(TipoCartao.CARTAO_COM_CASHBACK, "15.00", "5000.00")))
+                .build();
+    }
+
+    private static SolicitacaoResponse caracteresEspeciais() {
+        return SolicitacaoResponse.builder()
+                .numeroSolicitacao("018f3a6e-7c1d-7b2a-9e4f-1a2b3c4d5e6f")
+                .idCliente("018f3a6e-7c1d-7b2a-9e4f-000000000001")
+                .dataSolicitacao(LocalDateTime.of(2026, 10, 18, 9, 5, 7))
+                .cliente(ClienteDTO.builder()
+                        .nome("José \"Zé\" D'Ávila \\ Müller\t\n\u0001 😀 </script>")
+                        .cpf("000.000.000-00")
+                        .idade(18)
+                        .dataNascimento(LocalDate.of(2008, 2, 29))
+                        .uf("RJ")
+                        .rendaMensal(new BigDecimal("1E+3"))
+                        .email("jose+cartoes@exemplo.com.br")
+                        .telefoneWhatsapp("+55 (21) 9 8888-7777")
+                        .build())
+                .cartoesOfertados(List.of(cartao(TipoCartao.CARTAO_SEM_ANUIDADE, "0", "1000")))
+                .build();
+    }
+
+    private static SolicitacaoResponse camposNulos() {
+        return SolicitacaoResponse.builder()
+                .cliente(new ClienteDTO())
+                .cartoesOfertados(Arrays.asList(null, CartaoResponse.builder().build()))
+                .build();
+    }
+
+    private static CartaoResponse cartao(TipoCartao tipo, String anuidade, String limite) {
+        return CartaoResponse.builder()
+                .tipoCartao(tipo)
+                .valorAnuidadeMensal(new BigDecimal(anuidade))
+                .valorLimiteDisponivel(new BigDecimal(limite))
+                .status(CartaoStatus.APROVADO)
+                .build();
+    }
+}
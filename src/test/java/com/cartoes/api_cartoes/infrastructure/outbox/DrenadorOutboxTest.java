@@ -0,0 +1,242 @@
+package com.cartoes.api_cartoes.infrastructure.outbox;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.exception.BusinessException;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import com.cartoes.api_cartoes.infrastructure.repository.ClienteRepositoryImpl;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DrenadorOutboxTest {
+
+    private static final Duration ESPERA_VAZIO = Duration.ofMillis(100);
+
+    @TempDir
+    Path diretorio;
+
+    @Mock
+    private ClienteRepositoryImpl clienteRepository;
+
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("clienteService");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GeradorIdentificadorUuidV7 geradorIdentificador = new GeradorIdentificadorUuidV7(0);
+    private JournalOutbox journal;
+    private OutboxClientesJournal outbox;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        journal = new JournalOutbox(diretorio, 4096, 1 << 20, Duration.ofMillis(1), false);
+        outbox = new OutboxClientesJournal(journal, Clock.systemUTC(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CircuitBreaker.State.class, names = {"OPEN", "FORCED_OPEN"})
+    @DisplayName("Não deve reenviar enquanto o circuito da API de cliente estiver aberto")
+    void naoDeveReenviarComCircuitoAberto(CircuitBreaker.State estado) throws IOException {
+        // Dado
+        if (estado == CircuitBreaker.State.FORCED_OPEN) {
+            circuitBreaker.transitionToForcedOpenState();
+        } else {
+            circuitBreaker.transitionToOpenState();
+        }
+        when(clienteRepository.circuitBreaker()).thenReturn(circuitBreaker);
+        registrar(criarCliente("1"));
+        DrenadorOutbox drenador = criarDrenador(true, Integer.MAX_VALUE);
+
+        // Quando
+        long espera = drenador.drenar();
+
+        // Então
+        assertEquals(ESPERA_VAZIO.toNanos(), espera);
+        verify(clienteRepository, never()).enviarClientesAsync(anyList(), anyList());
+        assertEquals(1, journal.pendentes());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar os pendentes pelo endpoint de lote e confirmá-los")
+    void deveReenviarPeloEndpointDeLote() throws IOException {
+        // Dado
+        when(clienteRepository.circuitBreaker()).thenReturn(circuitBreaker);
+        when(clienteRepository.enviarClientesAsync(anyList(), anyList()))
+                .thenAnswer(invocacao -> CompletableFuture.completedFuture(ids(invocacao.<List<Cliente>>getArgument(0).size())));
+        registrar(criarCliente("1"));
+        registrar(criarCliente("2"));
+        DrenadorOutbox drenador = criarDrenador(true, Integer.MAX_VALUE);
+
+        // Quando
+        drenador.drenar();
+
+        // Então
+        verify(clienteRepository).enviarClientesAsync(argThat(clientes -> clientes.size() == 2), anyList());
+        assertEquals(0, journal.pendentes());
+        assertEquals(2.0, meterRegistry.get("api.cliente.outbox.reenviados").counter().count());
+        assertEquals(2, meterRegistry.get("api.cliente.outbox.atraso").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve confirmar apenas o prefixo reenviado com sucesso nas chamadas individuais")
+    void deveConfirmarApenasPrefixoReenviado() throws IOException {
+        // Dado
+        when(clienteRepository.circuitBreaker()).thenReturn(circuitBreaker);
+        when(clienteRepository.enviarClienteAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(new UUID(0L, 1L)))
+                .thenReturn(CompletableFuture.failedFuture(new BusinessException("Falha")));
+        registrar(criarCliente("1"));
+        registrar(criarCliente("2"));
+        registrar(criarCliente("3"));
+        DrenadorOutbox drenador = criarDrenador(false, Integer.MAX_VALUE);
+
+        // Quando
+        long espera = drenador.drenar();
+
+        // Então
+        assertTrue(espera > ESPERA_VAZIO.toNanos());
+        assertEquals(List.of("2", "3"), cpfsPendentes());
+        assertEquals(1.0, meterRegistry.get("api.cliente.outbox.reenviados").counter().count());
+        assertEquals(1.0, meterRegistry.get("api.cliente.outbox.falhas").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar com o ID provisório como chave de idempotência, o mesmo em cada tentativa")
+    void deveReenviarComIdProvisorioComoChave() throws IOException {
+        // Dado
+        when(clienteRepository.circuitBreaker()).thenReturn(circuitBreaker);
+        when(clienteRepository.enviarClienteAsync(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new BusinessException("Falha")))
+                .thenReturn(CompletableFuture.completedFuture(new UUID(0L, 1L)));
+        UUID idProvisorio = registrar(criarCliente("1"));
+        DrenadorOutbox drenador = criarDrenador(false, Integer.MAX_VALUE);
+
+        // Quando
+        drenador.drenar();
+        drenador.drenar();
+
+        // Então
+        verify(clienteRepository, times(2)).enviarClienteAsync(any(), eq(idProvisorio));
+        assertEquals(0, journal.pendentes());
+    }
+
+    @Test
+    @DisplayName("Deve enviar ao endpoint de lote a chave de idempotência de cada cliente")
+    void deveEnviarChavesNoLote() throws IOException {
+        // Dado
+        when(clienteRepository.circuitBreaker()).thenReturn(circuitBreaker);
+        when(clienteRepository.enviarClientesAsync(anyList(), anyList()))
+                .thenAnswer(invocacao -> CompletableFuture.completedFuture(ids(invocacao.<List<Cliente>>getArgument(0).size())));
+        UUID primeiro = registrar(criarCliente("1"));
+        UUID segundo = registrar(criarCliente("2"));
+        DrenadorOutbox drenador = criarDrenador(true, Integer.MAX_VALUE);
+
+        // Quando
+        drenador.drenar();
+
+        // Então
+        verify(clienteRepository).enviarClientesAsync(anyList(), eq(List.of(primeiro, segundo)));
+    }
+
+    @Test
+    @DisplayName("Deve reenviar um a um e mover para o final o cliente que continua falhando")
+    void deveReposicionarClienteQueContinuaFalhando() throws IOException {
+        // Dado
+        when(clienteRepository.circuitBreaker()).thenReturn(circuitBreaker);
+        when(clienteRepository.enviarClientesAsync(anyList(), anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new BusinessException("Falha")));
+        when(clienteRepository.enviarClienteAsync(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new BusinessException("Falha")));
+        registrar(criarCliente("1"));
+        registrar(criarCliente("2"));
+        DrenadorOutbox drenador = criarDrenador(true, Integer.MAX_VALUE);
+
+        // Quando: 2 falhas do lote, seguidas de 2 falhas individuais
+        for (int i = 0; i < 4; i++) {
+            drenador.drenar();
+        }
+
+        // Então
+        verify(clienteRepository, times(2)).enviarClientesAsync(anyList(), anyList());
+        verify(clienteRepository, times(2)).enviarClienteAsync(any(), any());
+        assertEquals(List.of("2", "1"), cpfsPendentes());
+        assertEquals(1.0, meterRegistry.get("api.cliente.outbox.reposicionados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve limitar a taxa de reenvio de clientes por segundo")
+    void deveLimitarTaxaDeReenvio() throws IOException {
+        // Dado
+        when(clienteRepository.circuitBreaker()).thenReturn(circuitBreaker);
+        when(clienteRepository.enviarClientesAsync(anyList(), anyList()))
+                .thenAnswer(invocacao -> CompletableFuture.completedFuture(ids(invocacao.<List<Cliente>>getArgument(0).size())));
+        for (int i = 0; i < 4; i++) {
+            registrar(criarCliente(String.valueOf(i)));
+        }
+        DrenadorOutbox drenador = criarDrenador(true, 1);
+
+        // Quando
+        drenador.drenar();
+        long espera = drenador.drenar();
+
+        // Então: 2 clientes enviados a 1 por segundo
+        assertTrue(espera > Duration.ofSeconds(1).toNanos());
+        verify(clienteRepository, times(1)).enviarClientesAsync(anyList(), anyList());
+        assertEquals(2, journal.pendentes());
+    }
+
+    private UUID registrar(Cliente cliente) {
+        UUID idProvisorio = geradorIdentificador.gerar();
+        outbox.registrar(idProvisorio, cliente);
+        return idProvisorio;
+    }
+
+    private DrenadorOutbox criarDrenador(boolean enviarEmLote, int taxaMaxima) {
+        return new DrenadorOutbox(outbox, clienteRepository, enviarEmLote, 2, taxaMaxima, ESPERA_VAZIO,
+                Duration.ofSeconds(30), 2, Clock.systemUTC(), meterRegistry);
+    }
+
+    private List<String> cpfsPendentes() throws IOException {
+        return outbox.pendentes(10).stream().map(pendente -> pendente.cliente().getCpf()).toList();
+    }
+
+    private static List<UUID> ids(int quantidade) {
+        return LongStream.rangeClosed(1, quantidade).mapToObj(i -> new UUID(0L, i)).toList();
+    }
+
+    private static Cliente criarCliente(String cpf) {
+        return Cliente.builder()
+                .nome("Cliente Teste")
+                .cpf(cpf)
+                .idade(25)
+                .uf("SP")
+                .rendaMensalCentavos(400_000L)
+                .build();
+    }
+}
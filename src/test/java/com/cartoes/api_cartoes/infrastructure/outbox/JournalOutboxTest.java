@@ -0,0 +1,267 @@
+package com.cartoes.api_cartoes.infrastructure.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalOutboxTest {
+
+    private static final int TAMANHO_SEGMENTO = 64;
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve ler os registros anexados na ordem de gravação")
+    void deveLerRegistrosNaOrdem() throws IOException {
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            // Dado
+            journal.anexar(bytes("primeiro"));
+            journal.anexar(bytes("segundo"));
+
+            // Quando
+            List<JournalOutbox.Registro> registros = journal.ler(journal.posicaoConfirmada(), 10);
+
+            // Então
+            assertEquals(List.of("primeiro", "segundo"), textos(registros));
+            assertEquals(registros.get(0).proxima(), registros.get(1).posicao());
+            assertEquals(2, journal.pendentes());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve passar ao próximo segmento quando o registro não couber no atual")
+    void devePassarAoProximoSegmento() throws IOException {
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            // Dado: 3 registros de 28 bytes não cabem em um segmento de 64
+            for (int i = 0; i < 3; i++) {
+                journal.anexar(bytes("registro-numero-" + i + "___"));
+            }
+
+            // Quando
+            List<JournalOutbox.Registro> registros = journal.ler(journal.posicaoConfirmada(), 10);
+
+            // Então
+            assertEquals(3, registros.size());
+            assertEquals(TAMANHO_SEGMENTO, registros.get(2).posicao());
+            assertEquals(2, segmentos());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve preparar o próximo segmento fora da gravação quando o atual passar da metade")
+    void devePrepararProximoSegmento() throws Exception {
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            // Dado: 2 registros de 28 bytes ocupam 56 dos 64 bytes do segmento
+            journal.anexar(bytes("registro-numero-0___"));
+            journal.anexar(bytes("registro-numero-1___"));
+
+            // Quando
+            aguardarSegmentos(2);
+            long fim = journal.anexar(bytes("registro-numero-2___"));
+
+            // Então
+            assertEquals(TAMANHO_SEGMENTO + 28, fim);
+            assertEquals(List.of("registro-numero-0___", "registro-numero-1___", "registro-numero-2___"),
+                    textos(journal.ler(journal.posicaoConfirmada(), 10)));
+            assertEquals(2, segmentos());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve apagar no fechamento o segmento preparado e não usado")
+    void deveApagarSegmentoPreparadoAoFechar() throws Exception {
+        // Dado
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            journal.anexar(bytes("registro-numero-0___"));
+            journal.anexar(bytes("registro-numero-1___"));
+            aguardarSegmentos(2);
+        }
+
+        // Quando
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            // Então: a reabertura continua no segmento em que a gravação parou
+            assertEquals(1, segmentos());
+            assertEquals(2, journal.pendentes());
+            assertEquals(56, journal.posicaoEscrita());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve apagar os segmentos inteiramente confirmados")
+    void deveApagarSegmentosConfirmados() throws IOException {
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            // Dado
+            for (int i = 0; i < 3; i++) {
+                journal.anexar(bytes("registro-numero-" + i + "___"));
+            }
+            List<JournalOutbox.Registro> registros = journal.ler(journal.posicaoConfirmada(), 10);
+
+            // Quando
+            journal.confirmar(registros.get(1).proxima(), 2);
+
+            // Então
+            assertEquals(1, segmentos());
+            assertEquals(1, journal.pendentes());
+            assertEquals(List.of("registro-numero-2___"), textos(journal.ler(journal.posicaoConfirmada(), 10)));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recuperar os pendentes a partir da última confirmação ao reabrir")
+    void deveRecuperarPendentesAoReabrir() throws IOException {
+        // Dado
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            journal.anexar(bytes("confirmado"));
+            long posicao = journal.anexar(bytes("pendente-1"));
+            journal.anexar(bytes("pendente-2"));
+            journal.confirmar(journal.ler(journal.posicaoConfirmada(), 1).getFirst().proxima(), 1);
+            assertTrue(posicao > journal.posicaoConfirmada());
+        }
+
+        // Quando
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            // Então
+            assertEquals(2, journal.pendentes());
+            assertEquals(List.of("pendente-1", "pendente-2"), textos(journal.ler(journal.posicaoConfirmada(), 10)));
+
+            journal.anexar(bytes("depois"));
+            assertEquals(List.of("pendente-1", "pendente-2", "depois"), textos(journal.ler(journal.posicaoConfirmada(), 10)));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar a gravação interrompida no final do log ao reabrir")
+    void deveDescartarGravacaoInterrompida() throws IOException {
+        // Dado
+        long fim;
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            journal.anexar(bytes("integro"));
+            fim = journal.anexar(bytes("corrompido"));
+        }
+        corromperUltimoByte(fim);
+
+        // Quando
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            // Então
+            assertEquals(1, journal.pendentes());
+            assertEquals(List.of("integro"), textos(journal.ler(journal.posicaoConfirmada(), 10)));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve zerar a gravação interrompida para que não seja lida após a troca de segmento")
+    void deveZerarGravacaoInterrompidaAoReabrir() throws IOException {
+        // Dado: o registro interrompido ocupa o final do primeiro segmento
+        long fim;
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            journal.anexar(bytes("integro"));
+            fim = journal.anexar(bytes("interrompido-grande"));
+        }
+        corromperUltimoByte(fim);
+
+        // Quando: o novo registro é menor e o seguinte não cabe no restante do segmento
+        try (JournalOutbox journal = criarJournal(1024, false)) {
+            journal.anexar(bytes("curto"));
+            long proximo = journal.anexar(bytes("registro-no-proximo-segmento-xx"));
+
+            // Então
+            assertEquals(1, proximo / TAMANHO_SEGMENTO);
+            assertEquals(List.of("integro", "curto", "registro-no-proximo-segmento-xx"),
+                    textos(journal.ler(journal.posicaoConfirmada(), 10)));
+            assertEquals(3, journal.pendentes());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar a gravação quando o outbox atingir o tamanho máximo")
+    void deveRecusarGravacaoQuandoCheio() throws IOException {
+        try (JournalOutbox journal = criarJournal(2 * TAMANHO_SEGMENTO, false)) {
+            // Dado
+            for (int i = 0; i < 4; i++) {
+                journal.anexar(bytes("registro-numero-" + i + "___"));
+            }
+
+            // Quando / Então
+            IOException erro = assertThrows(IOException.class, () -> journal.anexar(bytes("registro-excedente-_")));
+            assertTrue(erro.getMessage().contains("cheio"));
+            assertEquals(4, journal.pendentes());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas após a sincronização quando configurado para aguardá-la")
+    void deveAguardarSincronizacao() throws IOException {
+        try (JournalOutbox journal = criarJournal(1024, true)) {
+            // Quando
+            long fim = journal.anexar(bytes("sincronizado"));
+
+            // Então
+            assertEquals(1, journal.pendentes());
+            assertEquals(fim, journal.ler(journal.posicaoConfirmada(), 1).getFirst().proxima());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar a abertura de um diretório já em uso e liberá-lo ao fechar")
+    void deveRecusarDiretorioEmUso() throws IOException {
+        // Dado
+        JournalOutbox primeiro = criarJournal(1024, false);
+
+        // Quando
+        IOException erro = assertThrows(IOException.class, () -> criarJournal(1024, false));
+        primeiro.close();
+
+        // Então
+        assertTrue(erro.getMessage().contains("em uso"));
+        try (JournalOutbox segundo = criarJournal(1024, false)) {
+            assertEquals(0, segundo.pendentes());
+        }
+    }
+
+    private JournalOutbox criarJournal(long tamanhoMaximo, boolean aguardarSincronizacao) throws IOException {
+        return new JournalOutbox(diretorio, TAMANHO_SEGMENTO, tamanhoMaximo, Duration.ofMillis(1), aguardarSincronizacao);
+    }
+
+    private void corromperUltimoByte(long fim) throws IOException {
+        Path segmento = diretorio.resolve(String.format("outbox-%016d.seg", fim / TAMANHO_SEGMENTO));
+        try (FileChannel canal = FileChannel.open(segmento, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[]{'X'}), fim % TAMANHO_SEGMENTO - 1);
+        }
+    }
+
+    private void aguardarSegmentos(long quantidade) throws IOException, InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (segmentos() < quantidade && System.nanoTime() < limite) {
+            Thread.sleep(1);
+        }
+        assertEquals(quantidade, segmentos());
+    }
+
+    private long segmentos() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.filter(arquivo -> arquivo.getFileName().toString().endsWith(".seg")).count();
+        }
+    }
+
+    private static byte[] bytes(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> textos(List<JournalOutbox.Registro> registros) {
+        return registros.stream().map(registro -> new String(registro.dados(), StandardCharsets.UTF_8)).toList();
+    }
+}
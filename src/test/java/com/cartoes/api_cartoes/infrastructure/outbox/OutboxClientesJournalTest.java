@@ -0,0 +1,163 @@
+package com.cartoes.api_cartoes.infrastructure.outbox;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxClientesJournalTest {
+
+    private static final Instant AGORA = Instant.parse("2026-01-15T10:00:00Z");
+
+    @TempDir
+    Path diretorio;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GeradorIdentificadorUuidV7 geradorIdentificador = new GeradorIdentificadorUuidV7(0);
+    private JournalOutbox journal;
+    private OutboxClientesJournal outbox;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        journal = new JournalOutbox(diretorio, 4096, 8192, Duration.ofMillis(1), false);
+        outbox = new OutboxClientesJournal(journal, Clock.fixed(AGORA, ZoneOffset.UTC), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Deve gravar o cliente com o ID provisório retornado e lê-lo de volta sem perdas")
+    void deveGravarELerCliente() throws IOException {
+        // Dado
+        Cliente cliente = criarCliente("123.456.789-10");
+
+        // Quando
+        UUID id = registrar(cliente);
+        List<OutboxClientesJournal.Pendente> pendentes = outbox.pendentes(10);
+
+        // Então
+        assertEquals(1, pendentes.size());
+        assertEquals(id, pendentes.getFirst().idProvisorio());
+        assertEquals(AGORA, pendentes.getFirst().registradoEm());
+        assertEquals(cliente, pendentes.getFirst().cliente());
+        assertEquals(1.0, meterRegistry.get("api.cliente.outbox.pendentes").gauge().value());
+        assertEquals(1, meterRegistry.get("api.cliente.outbox.anexacao").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve preservar os campos opcionais ausentes")
+    void devePreservarCamposAusentes() throws IOException {
+        // Dado
+        Cliente cliente = Cliente.builder().cpf("123.456.789-10").rendaMensalCentavos(0).build();
+
+        // Quando
+        registrar(cliente);
+
+        // Então
+        assertEquals(cliente, outbox.pendentes(1).getFirst().cliente());
+    }
+
+    @Test
+    @DisplayName("Deve deixar de retornar os clientes confirmados")
+    void deveDeixarDeRetornarConfirmados() throws IOException {
+        // Dado
+        registrar(criarCliente("1"));
+        registrar(criarCliente("2"));
+        registrar(criarCliente("3"));
+
+        // Quando
+        outbox.confirmar(outbox.pendentes(2));
+
+        // Então
+        List<OutboxClientesJournal.Pendente> pendentes = outbox.pendentes(10);
+        assertEquals(List.of("3"), pendentes.stream().map(pendente -> pendente.cliente().getCpf()).toList());
+        assertEquals(1.0, meterRegistry.get("api.cliente.outbox.pendentes").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve mover o primeiro pendente para o final do outbox")
+    void deveReposicionarPrimeiroPendente() throws IOException {
+        // Dado
+        UUID primeiro = registrar(criarCliente("1"));
+        registrar(criarCliente("2"));
+
+        // Quando
+        outbox.reposicionar(outbox.pendentes(1).getFirst());
+
+        // Então
+        List<OutboxClientesJournal.Pendente> pendentes = outbox.pendentes(10);
+        assertEquals(List.of("2", "1"), pendentes.stream().map(pendente -> pendente.cliente().getCpf()).toList());
+        assertEquals(primeiro, pendentes.get(1).idProvisorio());
+        assertEquals(1.0, meterRegistry.get("api.cliente.outbox.reposicionados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o cliente sem falhar quando o outbox estiver cheio")
+    void deveRecusarSemFalharQuandoCheio() throws IOException {
+        // Dado
+        while (meterRegistry.get("api.cliente.outbox.recusados").counter().count() == 0) {
+            registrar(criarCliente("123.456.789-10"));
+        }
+        long pendentes = journal.pendentes();
+
+        // Quando
+        assertDoesNotThrow(() -> registrar(criarCliente("987.654.321-00")));
+
+        // Então
+        assertEquals(pendentes, journal.pendentes());
+        assertEquals(2.0, meterRegistry.get("api.cliente.outbox.recusados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve descartar registros ilegíveis no início do outbox")
+    void deveDescartarRegistrosIlegiveis() throws IOException {
+        // Dado
+        journal.anexar(new byte[]{99, 1, 2});
+        registrar(criarCliente("1"));
+
+        // Quando
+        List<OutboxClientesJournal.Pendente> pendentes = outbox.pendentes(10);
+
+        // Então
+        assertEquals(List.of("1"), pendentes.stream().map(pendente -> pendente.cliente().getCpf()).toList());
+        assertEquals(1.0, meterRegistry.get("api.cliente.outbox.invalidos").counter().count());
+    }
+
+    private UUID registrar(Cliente cliente) {
+        UUID idProvisorio = geradorIdentificador.gerar();
+        outbox.registrar(idProvisorio, cliente);
+        return idProvisorio;
+    }
+
+    private Cliente criarCliente(String cpf) {
+        return Cliente.builder()
+                .nome("Cliente Teste")
+                .cpf(cpf)
+                .idade(25)
+                .dataNascimento(LocalDate.of(2000, 1, 1))
+                .uf("SP")
+                .rendaMensalCentavos(400_000L)
+                .email("cliente@teste.com")
+                .telefoneWhatsapp("11999992020")
+                .build();
+    }
+}
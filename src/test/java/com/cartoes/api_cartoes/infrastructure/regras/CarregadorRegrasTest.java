@@ -0,0 +1,171 @@
+package com.cartoes.api_cartoes.infrastructure.regras;
+
+import com.cartoes.api_cartoes.domain.exception.RegrasInvalidasException;
+import com.cartoes.api_cartoes.domain.strategy.ParametrosRegras;
+import com.cartoes.api_cartoes.domain.strategy.RegrasSnapshot;
+import com.cartoes.api_cartoes.domain.strategy.RegrasVigentes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarregadorRegrasTest {
+
+    @TempDir
+    Path diretorio;
+
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment()
+                .withProperty("aplicacao.cliente.idade-minima", "18")
+                .withProperty("aplicacao.cliente.idade-jovem-maxima", "25")
+                .withProperty("aplicacao.cliente.sp-jovem-adulto-idade-min", "25")
+                .withProperty("aplicacao.cliente.sp-jovem-adulto-idade-max", "30")
+                .withProperty("aplicacao.estados.sao-paulo", "SP")
+                .withProperty("aplicacao.renda.faixa-baixa-min", "1000.00")
+                .withProperty("aplicacao.renda.faixa-baixa-max", "3000.00")
+                .withProperty("aplicacao.renda.faixa-media-min", "3000.00")
+                .withProperty("aplicacao.renda.faixa-media-max", "5000.00")
+                .withProperty("aplicacao.renda.faixa-alta-min", "5000.00")
+                .withProperty("aplicacao.cartoes.sem-anuidade.limite", "1000.00")
+                .withProperty("aplicacao.cartoes.sem-anuidade.renda-minima", "1000.00")
+                .withProperty("aplicacao.cartoes.sem-anuidade.anuidade", "0.00")
+                .withProperty("aplicacao.cartoes.parceiros.limite", "3000.00")
+                .withProperty("aplicacao.cartoes.parceiros.renda-minima", "3000.00")
+                .withProperty("aplicacao.cartoes.parceiros.anuidade", "20.00")
+                .withProperty("aplicacao.cartoes.cashback.limite", "5000.00")
+                .withProperty("aplicacao.cartoes.cashback.renda-minima", "5000.00")
+                .withProperty("aplicacao.cartoes.cashback.anuidade", "15.00");
+    }
+
+    @Test
+    @DisplayName("Deve ler os parâmetros das propriedades da aplicação")
+    void deveLerParametrosDasPropriedades() {
+        // Quando
+        ParametrosRegras parametros = new CarregadorRegras(environment, "").carregar();
+
+        // Então
+        assertEquals(18, parametros.cliente().idadeMinima());
+        assertEquals(30, parametros.cliente().spJovemAdultoIdadeMax());
+        assertEquals("SP", parametros.estados().saoPaulo());
+        assertEquals(new BigDecimal("3000.00"), parametros.renda().faixaBaixaMax());
+        assertEquals(new BigDecimal("20.00"), parametros.cartoes().parceiros().anuidade());
+        assertTrue(parametros.validar().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Os valores do arquivo de regras devem ter precedência sobre as propriedades")
+    void valoresDoArquivoDevemTerPrecedencia() throws IOException {
+        // Dado
+        Path arquivo = escrever("""
+                aplicacao:
+                  cliente:
+                    idade-minima: 21
+                  cartoes:
+                    cashback:
+                      limite: 7500.00
+                """);
+
+        // Quando
+        ParametrosRegras parametros = new CarregadorRegras(environment, arquivo.toString()).carregar();
+
+        // Então
+        assertEquals(21, parametros.cliente().idadeMinima());
+        assertEquals(25, parametros.cliente().idadeJovemMaxima());
+        assertEquals(0, new BigDecimal("7500.00").compareTo(parametros.cartoes().cashback().limite()));
+        assertEquals(new BigDecimal("5000.00"), parametros.cartoes().cashback().rendaMinima());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores que não podem ser convertidos")
+    void deveRejeitarValoresInvalidos() throws IOException {
+        // Dado
+        Path arquivo = escrever("""
+                aplicacao:
+                  cliente:
+                    idade-minima: dezoito
+                """);
+        CarregadorRegras carregador = new CarregadorRegras(environment, arquivo.toString());
+
+        // Quando/Então
+        RegrasInvalidasException exception = assertThrows(RegrasInvalidasException.class, carregador::carregar);
+        assertTrue(exception.getErros().getFirst().startsWith("aplicacao.cliente"));
+    }
+
+    @Test
+    @DisplayName("Deve recarregar as regras quando o arquivo monitorado mudar")
+    void deveRecarregarQuandoArquivoMudar() throws IOException {
+        // Dado
+        Path arquivo = escrever("""
+                aplicacao:
+                  cliente:
+                    idade-minima: 18
+                """);
+        CarregadorRegras carregador = new CarregadorRegras(environment, arquivo.toString());
+        RegrasVigentes regras = new RegrasVigentes(RegrasSnapshot.compilar(1, carregador.carregar()));
+
+        try (MonitorArquivoRegras monitor = new MonitorArquivoRegras(arquivo, Duration.ofHours(1), carregador, regras)) {
+            assertFalse(monitor.verificar());
+
+            // Quando
+            atualizar(arquivo, """
+                    aplicacao:
+                      cliente:
+                        idade-minima: 21
+                    """);
+
+            // Então
+            assertTrue(monitor.verificar());
+            assertEquals(2, regras.atual().versao());
+            assertEquals(21, regras.atual().idadeMinima());
+            assertFalse(monitor.verificar());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter as regras em vigor quando o arquivo alterado for inválido")
+    void deveManterRegrasQuandoArquivoInvalido() throws IOException {
+        // Dado
+        Path arquivo = escrever("aplicacao: {}\n");
+        CarregadorRegras carregador = new CarregadorRegras(environment, arquivo.toString());
+        RegrasVigentes regras = new RegrasVigentes(RegrasSnapshot.compilar(1, carregador.carregar()));
+        RegrasSnapshot atual = regras.atual();
+
+        try (MonitorArquivoRegras monitor = new MonitorArquivoRegras(arquivo, Duration.ofHours(1), carregador, regras)) {
+            // Quando
+            atualizar(arquivo, """
+                    aplicacao:
+                      cliente:
+                        idade-jovem-maxima: 10
+                    """);
+
+            // Então
+            assertTrue(monitor.verificar());
+            assertSame(atual, regras.atual());
+        }
+    }
+
+    private Path escrever(String conteudo) throws IOException {
+        return Files.writeString(diretorio.resolve("regras.yml"), conteudo);
+    }
+
+    private static void atualizar(Path arquivo, String conteudo) throws IOException {
+        Instant modificadoEm = Files.getLastModifiedTime(arquivo).toInstant();
+        Files.writeString(arquivo, conteudo);
+        // Garante uma data de modificação diferente mesmo em sistemas de arquivos com resolução de segundos
+        Files.setLastModifiedTime(arquivo, FileTime.from(modificadoEm.plusSeconds(2)));
+    }
+}
@@ -0,0 +1,146 @@
+package com.cartoes.api_cartoes.infrastructure.repository;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClienteRepositoryEmLoteTest {
+
+    @Mock
+    private ClienteRepositoryImpl clienteRepositoryImpl;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ScheduledExecutorService agendador;
+
+    @BeforeEach
+    void setUp() {
+        agendador = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        agendador.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote ao atingir o tamanho máximo e devolver a cada chamador o seu ID")
+    void deveEnviarLoteAoAtingirTamanhoMaximo() {
+        // Dado
+        when(clienteRepositoryImpl.registrarClientesAsync(anyList())).thenAnswer(invocacao -> idsPorCpf(invocacao.getArgument(0)));
+        ClienteRepositoryEmLote repository = criarRepository(3, Duration.ofSeconds(30));
+
+        // Quando
+        CompletableFuture<UUID> primeiro = repository.registrarClienteAsync(criarCliente("1"));
+        CompletableFuture<UUID> segundo = repository.registrarClienteAsync(criarCliente("2"));
+        CompletableFuture<UUID> terceiro = repository.registrarClienteAsync(criarCliente("3"));
+
+        // Então
+        assertEquals(idDoCpf("1"), primeiro.join());
+        assertEquals(idDoCpf("2"), segundo.join());
+        assertEquals(idDoCpf("3"), terceiro.join());
+        verify(clienteRepositoryImpl, times(1)).registrarClientesAsync(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote incompleto após a espera máxima")
+    void deveEnviarLoteIncompletoAposEsperaMaxima() {
+        // Dado
+        when(clienteRepositoryImpl.registrarClientesAsync(anyList())).thenAnswer(invocacao -> idsPorCpf(invocacao.getArgument(0)));
+        ClienteRepositoryEmLote repository = criarRepository(50, Duration.ofMillis(20));
+
+        // Quando
+        CompletableFuture<UUID> primeiro = repository.registrarClienteAsync(criarCliente("1"));
+        CompletableFuture<UUID> segundo = repository.registrarClienteAsync(criarCliente("2"));
+
+        // Então
+        assertEquals(idDoCpf("1"), assertTimeoutPreemptively(Duration.ofSeconds(2), primeiro::join));
+        assertEquals(idDoCpf("2"), segundo.join());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Cliente>> lote = ArgumentCaptor.forClass(List.class);
+        verify(clienteRepositoryImpl, times(1)).registrarClientesAsync(lote.capture());
+        assertEquals(2, lote.getValue().size());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha do lote a todos os chamadores")
+    void devePropagarFalhaDoLote() {
+        // Dado
+        when(clienteRepositoryImpl.registrarClientesAsync(anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("falha")));
+        ClienteRepositoryEmLote repository = criarRepository(2, Duration.ofSeconds(30));
+
+        // Quando
+        CompletableFuture<UUID> primeiro = repository.registrarClienteAsync(criarCliente("1"));
+        CompletableFuture<UUID> segundo = repository.registrarClienteAsync(criarCliente("2"));
+
+        // Então
+        assertTrue(primeiro.isCompletedExceptionally());
+        assertTrue(segundo.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tamanho dos lotes e a espera de cada cliente")
+    void deveRegistrarMetricasDoLote() {
+        // Dado
+        when(clienteRepositoryImpl.registrarClientesAsync(anyList())).thenAnswer(invocacao -> idsPorCpf(invocacao.getArgument(0)));
+        ClienteRepositoryEmLote repository = criarRepository(2, Duration.ofSeconds(30));
+
+        // Quando
+        for (int i = 0; i < 5; i++) {
+            repository.registrarClienteAsync(criarCliente(String.valueOf(i)));
+        }
+        repository.close();
+
+        // Então
+        assertEquals(3, meterRegistry.get("api.cliente.lote.tamanho").summary().count());
+        assertEquals(5.0, meterRegistry.get("api.cliente.lote.tamanho").summary().totalAmount());
+        assertEquals(5, meterRegistry.get("api.cliente.lote.espera").timer().count());
+    }
+
+    private ClienteRepositoryEmLote criarRepository(int tamanhoMaximo, Duration esperaMaxima) {
+        return new ClienteRepositoryEmLote(clienteRepositoryImpl, tamanhoMaximo, esperaMaxima, agendador, meterRegistry);
+    }
+
+    private static CompletableFuture<List<UUID>> idsPorCpf(List<Cliente> clientes) {
+        List<UUID> ids = new ArrayList<>();
+        for (Cliente cliente : clientes) {
+            ids.add(idDoCpf(cliente.getCpf()));
+        }
+        return CompletableFuture.completedFuture(ids);
+    }
+
+    private static UUID idDoCpf(String cpf) {
+        return new UUID(0L, Long.parseLong(cpf) + 1);
+    }
+
+    private Cliente criarCliente(String cpf) {
+        return Cliente.builder()
+                .nome("Cliente Teste")
+                .cpf(cpf)
+                .idade(25)
+                .uf("SP")
+                .rendaMensalCentavos(400_000L)
+                .build();
+    }
+}
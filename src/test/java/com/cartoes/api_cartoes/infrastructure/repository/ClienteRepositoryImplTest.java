@@ -0,0 +1,415 @@
+package com.cartoes.api_cartoes.infrastructure.repository;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.service.impl.GeradorIdentificadorUuidV7;
+import com.cartoes.api_cartoes.infrastructure.outbox.OutboxClientes;
+import com.cartoes.api_cartoes.infrastructure.resilience.HedgeAdaptativo;
+import com.cartoes.api_cartoes.infrastructure.resilience.PoliticaHedge;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.io.CloseMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClienteRepositoryImplTest {
+
+    private static final UUID ID_CLIENTE = UUID.fromString("b5d7d8e3-5c8a-4d1b-9c3e-7a8b6f5d4e2c");
+    private static final UUID ID_PROVISORIO = UUID.fromString("0190f1a2-7c3b-7d4e-8f5a-6b7c8d9e0f1a");
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer apiCliente;
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private ScheduledExecutorService agendador;
+
+    private final AtomicInteger chamadas = new AtomicInteger();
+    private final AtomicInteger chamadasLote = new AtomicInteger();
+    private final AtomicReference<JsonNode> ultimoCorpo = new AtomicReference<>();
+    private volatile int statusResposta = 200;
+    private volatile long latenciaMs = 0;
+    private volatile long latenciaPrimeiraChamadaMs = -1;
+    private final List<String> chavesIdempotencia = new CopyOnWriteArrayList<>();
+
+    private final List<Cliente> clientesOutbox = new CopyOnWriteArrayList<>();
+    private final List<UUID> idsOutbox = new CopyOnWriteArrayList<>();
+    private final OutboxClientes outbox = (idProvisorio, cliente) -> {
+        idsOutbox.add(idProvisorio);
+        clientesOutbox.add(cliente);
+    };
+
+    @BeforeEach
+    void setUp() throws IOException {
+        apiCliente = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        apiCliente.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        apiCliente.createContext("/api/clientes", troca -> {
+            try (troca) {
+                int chamada = chamadas.incrementAndGet();
+                chavesIdempotencia.add(String.valueOf(troca.getRequestHeaders().getFirst("Idempotency-Key")));
+                ultimoCorpo.set(objectMapper.readTree(troca.getRequestBody()));
+                Thread.sleep(chamada == 1 && latenciaPrimeiraChamadaMs >= 0 ? latenciaPrimeiraChamadaMs : latenciaMs);
+
+                byte[] resposta = ("{\"id_cliente\":\"" + ID_CLIENTE + "\"}").getBytes(StandardCharsets.UTF_8);
+                troca.getResponseHeaders().add("Content-Type", "application/json");
+                troca.sendResponseHeaders(statusResposta, resposta.length);
+                try (OutputStream corpo = troca.getResponseBody()) {
+                    corpo.write(resposta);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        apiCliente.createContext("/api/clientes/lote", troca -> {
+            try (troca) {
+                chamadasLote.incrementAndGet();
+                JsonNode corpo = objectMapper.readTree(troca.getRequestBody());
+                ultimoCorpo.set(corpo);
+
+                StringBuilder resposta = new StringBuilder("{\"clientes\":[");
+                for (int i = 0; i < corpo.get("clientes").size(); i++) {
+                    resposta.append(i > 0 ? "," : "").append("{\"id_cliente\":\"").append(idLote(i)).append("\"}");
+                }
+                byte[] bytes = resposta.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+                troca.getResponseHeaders().add("Content-Type", "application/json");
+                troca.sendResponseHeaders(statusResposta, bytes.length);
+                try (OutputStream saida = troca.getResponseBody()) {
+                    saida.write(bytes);
+                }
+            }
+        });
+        apiCliente.start();
+
+        httpAsyncClient = HttpAsyncClients.createDefault();
+        httpAsyncClient.start();
+        agendador = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpAsyncClient.close(CloseMode.IMMEDIATE);
+        agendador.shutdownNow();
+        apiCliente.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve registrar o cliente de forma assíncrona e retornar o ID da API externa")
+    void deveRegistrarClienteDeFormaAssincrona() {
+        // Dado
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3));
+
+        // Quando
+        UUID id = repository.registrarClienteAsync(criarCliente()).join();
+
+        // Então
+        assertEquals(ID_CLIENTE, id);
+        JsonNode cliente = ultimoCorpo.get().get("cliente");
+        assertEquals("123.456.789-10", cliente.get("cpf").asText());
+        assertEquals("2000-01-01", cliente.get("data_nascimento").asText());
+        assertEquals(4000.00, cliente.get("renda_mensal").asDouble());
+        assertEquals("11999992020", cliente.get("telefone_whatsapp").asText());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar retry e utilizar o fallback quando a API externa falhar")
+    void deveUtilizarFallbackAposRetry() {
+        // Dado
+        statusResposta = 500;
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3));
+
+        // Quando
+        UUID id = repository.registrarClienteAsync(criarCliente()).join();
+
+        // Então
+        assertNotNull(id);
+        assertNotEquals(ID_CLIENTE, id);
+        assertEquals(2, chamadas.get());
+    }
+
+    @Test
+    @DisplayName("Deve gravar o cliente no outbox e retornar o ID provisório quando a API externa falhar")
+    void deveGravarClienteNoOutboxNoFallback() {
+        // Dado
+        statusResposta = 500;
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3));
+        Cliente cliente = criarCliente();
+
+        // Quando
+        UUID id = repository.registrarClienteAsync(cliente).join();
+
+        // Então
+        assertEquals(List.of(id), idsOutbox);
+        assertEquals(List.of(cliente), clientesOutbox);
+    }
+
+    @Test
+    @DisplayName("Deve gravar no outbox como ID provisório a chave de idempotência enviada em todas as tentativas")
+    void deveGravarChaveDeIdempotenciaComoIdProvisorio() {
+        // Dado
+        statusResposta = 500;
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3));
+
+        // Quando
+        UUID id = repository.registrarClienteAsync(criarCliente()).join();
+
+        // Então
+        assertEquals(List.of(id.toString(), id.toString()), chavesIdempotencia);
+    }
+
+    @Test
+    @DisplayName("Deve registrar de forma síncrona pelo mesmo caminho do registro assíncrono")
+    void deveRegistrarDeFormaSincronaPeloCaminhoAssincrono() {
+        // Dado
+        statusResposta = 500;
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3));
+
+        // Quando
+        UUID id = repository.registrarCliente(criarCliente());
+
+        // Então
+        assertEquals(List.of(id), idsOutbox);
+        assertEquals(List.of(id.toString(), id.toString()), chavesIdempotencia);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha sem fallback no envio usado pelo reenvio do outbox")
+    void devePropagarFalhaNoEnvioSemFallback() {
+        // Dado
+        statusResposta = 500;
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3));
+
+        // Quando
+        CompletableFuture<UUID> envio = repository.enviarClienteAsync(criarCliente(), ID_PROVISORIO);
+
+        // Então
+        assertThrows(CompletionException.class, envio::join);
+        assertTrue(clientesOutbox.isEmpty());
+        assertEquals(2, chamadas.get());
+        assertEquals(List.of(ID_PROVISORIO.toString(), ID_PROVISORIO.toString()), chavesIdempotencia);
+    }
+
+    @Test
+    @DisplayName("Deve limitar cada tentativa do registro com o TimeLimiterConfig")
+    void deveLimitarCadaTentativaDoRegistro() {
+        // Dado
+        latenciaMs = 2_000;
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofMillis(200));
+
+        // Quando
+        CompletableFuture<UUID> registro = repository.registrarClienteAsync(criarCliente());
+
+        // Então
+        UUID id = assertTimeoutPreemptively(Duration.ofSeconds(1), registro::join);
+        assertNotEquals(ID_CLIENTE, id);
+        // As tentativas abandonadas podem ter sido aceitas: o reenvio usará a mesma chave
+        assertEquals(List.of(id.toString(), id.toString()), chavesIdempotencia);
+        assertEquals(List.of(id), idsOutbox);
+    }
+
+    @Test
+    @DisplayName("Não deve enviar novas tentativas depois que o registro for cancelado")
+    void naoDeveEnviarTentativasAposCancelamento() {
+        // Dado
+        statusResposta = 500;
+        latenciaMs = 200;
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3), bulkheadRegistry);
+        io.github.resilience4j.bulkhead.Bulkhead bulkhead = bulkheadRegistry.bulkhead("clienteService");
+        int vagas = bulkhead.getMetrics().getAvailableConcurrentCalls();
+
+        // Quando
+        repository.enviarClienteAsync(criarCliente(), ID_PROVISORIO).cancel(false);
+
+        // Então
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            while (bulkhead.getMetrics().getAvailableConcurrentCalls() < vagas) {
+                Thread.sleep(5);
+            }
+        });
+        assertEquals(1, chamadas.get());
+    }
+
+    @Test
+    @DisplayName("Deve enviar ao fallback sem chamar a API o registro que exceder o bulkhead")
+    void deveEnviarAoFallbackRegistroQueExcederBulkhead() {
+        // Dado
+        latenciaMs = 300;
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3), BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build()));
+        CompletableFuture<UUID> primeiro = repository.registrarClienteAsync(criarCliente());
+
+        // Quando
+        CompletableFuture<UUID> segundo = repository.registrarClienteAsync(criarCliente());
+
+        // Então
+        assertTrue(segundo.isDone());
+        assertEquals(List.of(segundo.join()), idsOutbox);
+        assertEquals(ID_CLIENTE, primeiro.join());
+        assertEquals(1, chamadas.get());
+        assertEquals(1.0, meterRegistry.get("api.cliente.bulkhead.rejeitadas").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve responder com o hedge quando a primeira tentativa demorar, com a mesma chave de idempotência")
+    void deveResponderComHedgeQuandoPrimeiraTentativaDemorar() {
+        // Dado
+        latenciaPrimeiraChamadaMs = 2_000;
+        HedgeAdaptativo hedge = new HedgeAdaptativo(0.95, Duration.ofMillis(50), Duration.ofMillis(50), 64,
+                Duration.ofSeconds(1), 0.1, 1, agendador, meterRegistry);
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3), BulkheadRegistry.ofDefaults(), hedge);
+
+        // Quando
+        CompletableFuture<UUID> registro = repository.registrarClienteAsync(criarCliente());
+
+        // Então
+        UUID id = assertTimeoutPreemptively(Duration.ofSeconds(1), registro::join);
+        assertEquals(ID_CLIENTE, id);
+        assertEquals(2, chamadas.get());
+        assertEquals(2, chavesIdempotencia.size());
+        assertEquals(chavesIdempotencia.get(0), chavesIdempotencia.get(1));
+        assertNotEquals("null", chavesIdempotencia.get(0));
+        assertEquals(1.0, meterRegistry.get("api.cliente.hedge.vencedores").counter().count());
+        assertTrue(clientesOutbox.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve chamar a API externa no modo simulado")
+    void naoDeveChamarApiNoModoSimulado() {
+        // Dado
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(repository, "simulado", true);
+
+        // Quando
+        CompletableFuture<UUID> registro = repository.registrarClienteAsync(criarCliente());
+
+        // Então
+        assertTrue(registro.isDone());
+        assertNotNull(registro.join());
+        assertEquals(0, chamadas.get());
+        assertTrue(clientesOutbox.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve registrar um lote de clientes em uma única chamada, mantendo a ordem dos IDs")
+    void deveRegistrarLoteEmUmaChamada() {
+        // Dado
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3));
+        List<Cliente> clientes = List.of(criarCliente(), criarCliente(), criarCliente());
+
+        // Quando
+        List<UUID> ids = repository.registrarClientesAsync(clientes).join();
+
+        // Então
+        assertEquals(List.of(idLote(0), idLote(1), idLote(2)), ids);
+        assertEquals(1, chamadasLote.get());
+        assertEquals(0, chamadas.get());
+        assertEquals(3, ultimoCorpo.get().get("clientes").size());
+        assertEquals("123.456.789-10", ultimoCorpo.get().get("clientes").get(0).get("cpf").asText());
+        assertTrue(ultimoCorpo.get().get("clientes").get(0).get("chave_idempotencia").isTextual());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar retry ao lote e utilizar um ID de fallback por cliente quando a API externa falhar")
+    void deveUtilizarFallbackPorClienteNoLote() {
+        // Dado
+        statusResposta = 500;
+        ClienteRepositoryImpl repository = criarRepository(Duration.ofSeconds(3));
+
+        // Quando
+        List<UUID> ids = repository.registrarClientesAsync(List.of(criarCliente(), criarCliente())).join();
+
+        // Então
+        assertEquals(2, ids.size());
+        assertNotEquals(ids.get(0), ids.get(1));
+        assertFalse(ids.contains(idLote(0)));
+        assertEquals(2, chamadasLote.get());
+        assertEquals(2, clientesOutbox.size());
+        assertEquals(ids, idsOutbox);
+        assertEquals(ids.get(1).toString(), ultimoCorpo.get().get("clientes").get(1).get("chave_idempotencia").asText());
+    }
+
+    private static UUID idLote(int indice) {
+        return new UUID(0L, indice + 1L);
+    }
+
+    private ClienteRepositoryImpl criarRepository(Duration timeout) {
+        return criarRepository(timeout, BulkheadRegistry.ofDefaults());
+    }
+
+    private ClienteRepositoryImpl criarRepository(Duration timeout, BulkheadRegistry bulkheadRegistry) {
+        return criarRepository(timeout, bulkheadRegistry, PoliticaHedge.NENHUMA);
+    }
+
+    private ClienteRepositoryImpl criarRepository(Duration timeout, BulkheadRegistry bulkheadRegistry,
+                                                  PoliticaHedge politicaHedge) {
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(2)
+                .waitDuration(Duration.ofMillis(10))
+                .build());
+
+        ClienteRepositoryImpl repository = new ClienteRepositoryImpl(
+                httpAsyncClient,
+                objectMapper,
+                CircuitBreakerRegistry.ofDefaults(),
+                retryRegistry,
+                bulkheadRegistry,
+                TimeLimiterConfig.custom().timeoutDuration(timeout).build(),
+                agendador,
+                new GeradorIdentificadorUuidV7(0),
+                outbox,
+                politicaHedge,
+                meterRegistry);
+        ReflectionTestUtils.setField(repository, "apiClienteUrl",
+                "http://localhost:" + apiCliente.getAddress().getPort() + "/api/clientes");
+        ReflectionTestUtils.setField(repository, "apiClienteLoteUrl",
+                "http://localhost:" + apiCliente.getAddress().getPort() + "/api/clientes/lote");
+        ReflectionTestUtils.setField(repository, "simulado", false);
+        return repository;
+    }
+
+    private Cliente criarCliente() {
+        return Cliente.builder()
+                .nome("Cliente Teste")
+                .cpf("123.456.789-10")
+                .idade(25)
+                .dataNascimento(LocalDate.of(2000, 1, 1))
+                .uf("SP")
+                .rendaMensalCentavos(400_000L)
+                .email("cliente@teste.com")
+                .telefoneWhatsapp("11999992020")
+                .build();
+    }
+}
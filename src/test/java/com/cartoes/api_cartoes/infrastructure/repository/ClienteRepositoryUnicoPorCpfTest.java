@@ -0,0 +1,182 @@
+package com.cartoes.api_cartoes.infrastructure.repository;
+
+import com.cartoes.api_cartoes.domain.entity.Cliente;
+import com.cartoes.api_cartoes.domain.repository.ClienteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClienteRepositoryUnicoPorCpfTest {
+
+    private static final UUID ID_CLIENTE = UUID.fromString("b5d7d8e3-5c8a-4d1b-9c3e-7a8b6f5d4e2c");
+
+    @Mock
+    private ClienteRepository delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve compartilhar o registro em andamento entre chamadas do mesmo CPF")
+    void deveCompartilharRegistroEmAndamento() {
+        // Dado
+        CompletableFuture<UUID> registro = new CompletableFuture<>();
+        when(delegate.registrarClienteAsync(any())).thenReturn(registro);
+        ClienteRepositoryUnicoPorCpf repository = criarRepository(64);
+
+        // Quando
+        CompletableFuture<UUID> primeiro = repository.registrarClienteAsync(criarCliente("123.456.789-10"));
+        CompletableFuture<UUID> segundo = repository.registrarClienteAsync(criarCliente("123.456.789-10"));
+        registro.complete(ID_CLIENTE);
+
+        // Então
+        assertEquals(ID_CLIENTE, primeiro.join());
+        assertEquals(ID_CLIENTE, segundo.join());
+        verify(delegate, times(1)).registrarClienteAsync(any());
+        assertEquals(1.0, meterRegistry.get("api.cliente.coalescencia.compartilhados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve registrar novamente o mesmo CPF após a conclusão do registro anterior")
+    void deveRegistrarNovamenteAposConclusao() {
+        // Dado
+        when(delegate.registrarClienteAsync(any())).thenReturn(CompletableFuture.completedFuture(ID_CLIENTE));
+        ClienteRepositoryUnicoPorCpf repository = criarRepository(64);
+
+        // Quando
+        repository.registrarClienteAsync(criarCliente("123.456.789-10")).join();
+        repository.registrarClienteAsync(criarCliente("123.456.789-10")).join();
+
+        // Então
+        verify(delegate, times(2)).registrarClienteAsync(any());
+        assertEquals(0.0, meterRegistry.get("api.cliente.coalescencia.compartilhados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve registrar CPFs diferentes separadamente, mesmo quando colidirem na mesma vaga")
+    void deveRegistrarCpfsDiferentesSeparadamente() {
+        // Dado: uma única vaga, ocupada pelo primeiro CPF
+        CompletableFuture<UUID> primeiroRegistro = new CompletableFuture<>();
+        UUID outroId = new UUID(0L, 2L);
+        when(delegate.registrarClienteAsync(any()))
+                .thenReturn(primeiroRegistro)
+                .thenReturn(CompletableFuture.completedFuture(outroId));
+        ClienteRepositoryUnicoPorCpf repository = criarRepository(1);
+
+        // Quando
+        CompletableFuture<UUID> primeiro = repository.registrarClienteAsync(criarCliente("123.456.789-10"));
+        CompletableFuture<UUID> segundo = repository.registrarClienteAsync(criarCliente("987.654.321-00"));
+        primeiroRegistro.complete(ID_CLIENTE);
+
+        // Então
+        assertEquals(ID_CLIENTE, primeiro.join());
+        assertEquals(outroId, segundo.join());
+        verify(delegate, times(2)).registrarClienteAsync(any());
+        assertEquals(1.0, meterRegistry.get("api.cliente.coalescencia.colisoes").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha a todas as chamadas compartilhadas e liberar a vaga")
+    void devePropagarFalhaELiberarVaga() {
+        // Dado
+        CompletableFuture<UUID> registro = new CompletableFuture<>();
+        when(delegate.registrarClienteAsync(any()))
+                .thenReturn(registro)
+                .thenReturn(CompletableFuture.completedFuture(ID_CLIENTE));
+        ClienteRepositoryUnicoPorCpf repository = criarRepository(64);
+        CompletableFuture<UUID> primeiro = repository.registrarClienteAsync(criarCliente("123.456.789-10"));
+        CompletableFuture<UUID> segundo = repository.registrarClienteAsync(criarCliente("123.456.789-10"));
+
+        // Quando
+        registro.completeExceptionally(new IllegalStateException("API indisponível"));
+
+        // Então
+        assertThrows(CompletionException.class, primeiro::join);
+        assertThrows(CompletionException.class, segundo::join);
+        assertEquals(ID_CLIENTE, repository.registrarClienteAsync(criarCliente("123.456.789-10")).join());
+    }
+
+    @Test
+    @DisplayName("Não deve cancelar o registro compartilhado quando um dos chamadores cancelar o seu futuro")
+    void naoDeveCancelarRegistroCompartilhado() {
+        // Dado
+        CompletableFuture<UUID> registro = new CompletableFuture<>();
+        when(delegate.registrarClienteAsync(any())).thenReturn(registro);
+        ClienteRepositoryUnicoPorCpf repository = criarRepository(64);
+        CompletableFuture<UUID> primeiro = repository.registrarClienteAsync(criarCliente("123.456.789-10"));
+        CompletableFuture<UUID> segundo = repository.registrarClienteAsync(criarCliente("123.456.789-10"));
+
+        // Quando
+        primeiro.cancel(true);
+        registro.complete(ID_CLIENTE);
+
+        // Então
+        assertFalse(registro.isCancelled());
+        assertEquals(ID_CLIENTE, segundo.join());
+    }
+
+    @Test
+    @DisplayName("Deve fazer uma única chamada para muitas threads registrando o mesmo CPF ao mesmo tempo")
+    void deveFazerUmaChamadaParaThreadsConcorrentes() throws Exception {
+        // Dado
+        CompletableFuture<UUID> registro = new CompletableFuture<>();
+        when(delegate.registrarClienteAsync(any())).thenReturn(registro);
+        ClienteRepositoryUnicoPorCpf repository = criarRepository(64);
+        int threads = 16;
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<CompletableFuture<UUID>>> chamadas = new ArrayList<>();
+
+        // Quando
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                chamadas.add(executor.submit(() -> {
+                    largada.await();
+                    return repository.registrarClienteAsync(criarCliente("123.456.789-10"));
+                }));
+            }
+            largada.countDown();
+            for (Future<CompletableFuture<UUID>> chamada : chamadas) {
+                chamada.get();
+            }
+        }
+        registro.complete(ID_CLIENTE);
+
+        // Então
+        for (Future<CompletableFuture<UUID>> chamada : chamadas) {
+            assertEquals(ID_CLIENTE, chamada.get().join());
+        }
+        verify(delegate, times(1)).registrarClienteAsync(any());
+        assertEquals(threads - 1.0, meterRegistry.get("api.cliente.coalescencia.compartilhados").counter().count());
+    }
+
+    private ClienteRepositoryUnicoPorCpf criarRepository(int vagas) {
+        return new ClienteRepositoryUnicoPorCpf(delegate, vagas, meterRegistry);
+    }
+
+    private Cliente criarCliente(String cpf) {
+        return Cliente.builder()
+                .nome("Cliente Teste")
+                .cpf(cpf)
+                .idade(26)
+                .uf("SP")
+                .rendaMensalCentavos(400_000L)
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.cartoes.api_cartoes.infrastructure.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgeAdaptativoTest {
+
+    private static final Duration ATRASO = Duration.ofMillis(30);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor();
+
+    // Tentativas iniciadas, na ordem; o teste decide quando e como cada uma termina
+    private final List<CompletableFuture<String>> tentativas = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        agendador.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Não deve enviar hedge quando a primeira tentativa responder dentro do atraso")
+    void naoDeveEnviarHedgeQuandoPrimeiraResponderATempo() throws Exception {
+        // Dado
+        HedgeAdaptativo hedge = criarHedge(ATRASO, ATRASO, 10);
+
+        // Quando
+        CompletableFuture<String> resultado = hedge.executar(this::novaTentativa);
+        tentativas.get(0).complete("primeira");
+        TimeUnit.MILLISECONDS.sleep(ATRASO.toMillis() * 3);
+
+        // Então
+        assertEquals("primeira", resultado.join());
+        assertEquals(1, tentativas.size());
+        assertEquals(0.0, contador("api.cliente.hedge.enviados"));
+    }
+
+    @Test
+    @DisplayName("Deve enviar o hedge após o atraso, responder com ele e cancelar a primeira tentativa")
+    void deveResponderComHedgeECancelarPrimeira() {
+        // Dado
+        HedgeAdaptativo hedge = criarHedge(ATRASO, ATRASO, 10);
+
+        // Quando
+        CompletableFuture<String> resultado = hedge.executar(this::novaTentativa);
+        aguardarTentativas(2);
+        tentativas.get(1).complete("hedge");
+
+        // Então
+        assertEquals("hedge", resultado.join());
+        assertTrue(tentativas.get(0).isCancelled());
+        assertEquals(1.0, contador("api.cliente.hedge.chamadas"));
+        assertEquals(1.0, contador("api.cliente.hedge.enviados"));
+        assertEquals(1.0, contador("api.cliente.hedge.vencedores"));
+    }
+
+    @Test
+    @DisplayName("Deve aguardar o hedge quando a primeira tentativa falhar depois do envio dele")
+    void deveAguardarHedgeQuandoPrimeiraFalhar() {
+        // Dado
+        HedgeAdaptativo hedge = criarHedge(ATRASO, ATRASO, 10);
+        CompletableFuture<String> resultado = hedge.executar(this::novaTentativa);
+        aguardarTentativas(2);
+
+        // Quando
+        tentativas.get(0).completeExceptionally(new IllegalStateException("primeira"));
+
+        // Então
+        assertFalse(resultado.isDone());
+        tentativas.get(1).complete("hedge");
+        assertEquals("hedge", resultado.join());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha da primeira tentativa antes do atraso sem enviar hedge")
+    void devePropagarFalhaAntesDoAtraso() throws Exception {
+        // Dado
+        HedgeAdaptativo hedge = criarHedge(ATRASO, ATRASO, 10);
+        CompletableFuture<String> resultado = hedge.executar(this::novaTentativa);
+
+        // Quando
+        tentativas.get(0).completeExceptionally(new IllegalStateException("primeira"));
+        TimeUnit.MILLISECONDS.sleep(ATRASO.toMillis() * 3);
+
+        // Então
+        CompletionException exception = assertThrows(CompletionException.class, resultado::join);
+        assertEquals("primeira", exception.getCause().getMessage());
+        assertEquals(1, tentativas.size());
+    }
+
+    @Test
+    @DisplayName("Não deve enviar hedges além do orçamento")
+    void naoDeveEnviarHedgesAlemDoOrcamento() throws Exception {
+        // Dado: rajada de um hedge e orçamento de 0,1 por chamada
+        HedgeAdaptativo hedge = criarHedge(ATRASO, ATRASO, 1);
+
+        // Quando: cinco chamadas lentas simultâneas
+        for (int i = 0; i < 5; i++) {
+            hedge.executar(this::novaTentativa);
+        }
+        TimeUnit.MILLISECONDS.sleep(ATRASO.toMillis() * 5);
+
+        // Então
+        assertEquals(6, tentativas.size());
+        assertEquals(1.0, contador("api.cliente.hedge.enviados"));
+        assertEquals(4.0, contador("api.cliente.hedge.sem.orcamento"));
+    }
+
+    @Test
+    @DisplayName("Deve usar o percentil das latências da primeira tentativa como atraso, dentro dos limites")
+    void deveAtualizarAtrasoPeloPercentil() {
+        // Dado
+        HedgeAdaptativo hedge = criarHedge(Duration.ZERO, Duration.ofSeconds(5), 10);
+        assertEquals(Duration.ofSeconds(5), hedge.atraso());
+
+        // Quando: respostas imediatas, abaixo de qualquer atraso
+        for (int i = 0; i < 100; i++) {
+            hedge.executar(() -> CompletableFuture.completedFuture("imediata"));
+        }
+        hedge.atualizarAtraso();
+
+        // Então
+        assertTrue(hedge.atraso().compareTo(Duration.ofMillis(10)) < 0, hedge.atraso().toString());
+        assertEquals(0.0, contador("api.cliente.hedge.enviados"));
+    }
+
+    @Test
+    @DisplayName("Deve manter o atraso máximo enquanto não houver amostras suficientes")
+    void deveManterAtrasoMaximoSemAmostras() {
+        // Dado
+        HedgeAdaptativo hedge = criarHedge(Duration.ZERO, Duration.ofSeconds(5), 10);
+        hedge.executar(() -> CompletableFuture.completedFuture("imediata"));
+
+        // Quando
+        hedge.atualizarAtraso();
+
+        // Então
+        assertEquals(Duration.ofSeconds(5), hedge.atraso());
+    }
+
+    private CompletableFuture<String> novaTentativa() {
+        CompletableFuture<String> tentativa = new CompletableFuture<>();
+        tentativas.add(tentativa);
+        return tentativa;
+    }
+
+    private void aguardarTentativas(int quantidade) {
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            while (tentativas.size() < quantidade) {
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+        });
+    }
+
+    private double contador(String nome) {
+        return meterRegistry.get(nome).counter().count();
+    }
+
+    private HedgeAdaptativo criarHedge(Duration atrasoMinimo, Duration atrasoMaximo, int rajada) {
+        return new HedgeAdaptativo(0.95, atrasoMinimo, atrasoMaximo, 64, Duration.ofSeconds(1), 0.1, rajada,
+                agendador, meterRegistry);
+    }
+}
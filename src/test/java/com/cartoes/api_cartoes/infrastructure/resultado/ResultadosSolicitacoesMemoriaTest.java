@@ -0,0 +1,205 @@
+package com.cartoes.api_cartoes.infrastructure.resultado;
+
+import com.cartoes.api_cartoes.application.dto.ClienteDTO;
+import com.cartoes.api_cartoes.application.dto.response.CartaoResponse;
+import com.cartoes.api_cartoes.application.dto.response.ProblemDetail;
+import com.cartoes.api_cartoes.application.dto.response.SolicitacaoResponse;
+import com.cartoes.api_cartoes.application.metrics.MetricasSolicitacao;
+import com.cartoes.api_cartoes.application.resultado.ResultadosSolicitacoes;
+import com.cartoes.api_cartoes.domain.enums.CartaoStatus;
+import com.cartoes.api_cartoes.domain.enums.TipoCartao;
+import com.cartoes.api_cartoes.infrastructure.json.ConversorSolicitacaoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultadosSolicitacoesMemoriaTest {
+
+    // Mesmas configurações aplicadas pelo Spring Boot ao ObjectMapper da aplicação
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConversorSolicitacaoResponse conversor = new ConversorSolicitacaoResponse(
+            objectMapper, new MetricasSolicitacao(meterRegistry, true));
+
+    // Ticker do Caffeine, em nanossegundos, avançado manualmente nos testes de expiração
+    private final AtomicLong agora = new AtomicLong();
+
+    @Test
+    @DisplayName("Deve guardar a resposta com os mesmos bytes escritos pelo POST /cartoes, sem o cliente")
+    void deveGuardarRespostaSerializada() throws Exception {
+        // Dado
+        ResultadosSolicitacoesMemoria resultados = criar(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        SolicitacaoResponse resposta = resposta("solicitacao-1", List.of(cartao()));
+
+        // Quando
+        resultados.armazenar(resposta);
+
+        // Então
+        ResultadosSolicitacoes.Resultado resultado = resultados.buscar("solicitacao-1").orElseThrow();
+        resposta.setCliente(null);
+        assertEquals(200, resultado.status());
+        assertEquals(objectMapper.writeValueAsString(resposta), new String(resultado.corpo()));
+    }
+
+    @Test
+    @DisplayName("Não deve guardar os dados pessoais do cliente")
+    void naoDeveGuardarDadosDoCliente() {
+        // Dado
+        ResultadosSolicitacoes resultados = criar(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        SolicitacaoResponse resposta = resposta("solicitacao-1", List.of(cartao()));
+
+        // Quando
+        resultados.armazenarPendente(resposta);
+        String pendente = new String(resultados.buscar("solicitacao-1").orElseThrow().corpo());
+        resultados.armazenar(resposta);
+        String processado = new String(resultados.buscar("solicitacao-1").orElseThrow().corpo());
+
+        // Então
+        for (String corpo : List.of(pendente, processado)) {
+            assertFalse(corpo.contains("123.456.789-10"));
+            assertFalse(corpo.contains("cliente@teste.com"));
+            assertFalse(corpo.contains("11999992020"));
+            assertFalse(corpo.contains("Cliente Teste"));
+        }
+        assertNotNull(resposta.getCliente());
+    }
+
+    @Test
+    @DisplayName("Deve substituir a pendência pelo resultado processado")
+    void deveSubstituirPendenciaPeloResultado() {
+        // Dado
+        ResultadosSolicitacoes resultados = criar(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        resultados.armazenarPendente(resposta("solicitacao-1", null));
+        int statusPendente = resultados.buscar("solicitacao-1").orElseThrow().status();
+
+        // Quando
+        resultados.armazenar(resposta("solicitacao-1", List.of(cartao())));
+
+        // Então
+        assertEquals(202, statusPendente);
+        assertEquals(200, resultados.buscar("solicitacao-1").orElseThrow().status());
+    }
+
+    @Test
+    @DisplayName("Deve guardar a falha com o status e o corpo do problema")
+    void deveGuardarFalha() throws Exception {
+        // Dado
+        ResultadosSolicitacoes resultados = criar(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        ProblemDetail problema = ProblemDetail.builder()
+                .title("Violação de Regra de Negócio")
+                .status(422)
+                .detail("Renda insuficiente")
+                .extensions(Map.of("motivo", "RENDA_INSUFICIENTE"))
+                .build();
+
+        // Quando
+        resultados.armazenarFalha("solicitacao-1", problema);
+
+        // Então
+        ResultadosSolicitacoes.Resultado resultado = resultados.buscar("solicitacao-1").orElseThrow();
+        assertEquals(422, resultado.status());
+        assertEquals(problema, objectMapper.readValue(resultado.corpo(), ProblemDetail.class));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de memória estimada, removendo resultados excedentes")
+    void deveRespeitarLimiteDeMemoria() {
+        // Dado
+        ResultadosSolicitacoesMemoria resultados = criar(DataSize.ofKilobytes(8), Duration.ofMinutes(10));
+
+        // Quando
+        for (int i = 0; i < 100; i++) {
+            resultados.armazenar(resposta("solicitacao-" + i, List.of(cartao())));
+        }
+
+        // Então
+        assertTrue(resultados.bytesOcupados() <= DataSize.ofKilobytes(8).toBytes());
+        assertTrue(meterRegistry.get("cache.evictions").tag("cache", "resultados").functionCounter().count() > 0);
+        assertEquals(resultados.bytesOcupados(), meterRegistry.get("cartoes.resultados.bytes").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve publicar acertos e faltas das consultas")
+    void devePublicarAcertosEFaltas() {
+        // Dado
+        ResultadosSolicitacoes resultados = criar(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        resultados.armazenar(resposta("solicitacao-1", List.of()));
+
+        // Quando
+        resultados.buscar("solicitacao-1");
+        resultados.buscar("solicitacao-1");
+        resultados.buscar("inexistente");
+        resultados.remover("solicitacao-1");
+        resultados.buscar("solicitacao-1");
+
+        // Então
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "resultados").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "resultados").tag("result", "miss")
+                .functionCounter().count());
+        assertEquals(0.5, meterRegistry.get("cache.hit.ratio").tag("cache", "resultados").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve expirar os resultados após o TTL, contado a partir da última gravação")
+    void deveExpirarResultados() {
+        // Dado
+        ResultadosSolicitacoes resultados = criar(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        resultados.armazenar(resposta("solicitacao-1", List.of()));
+        resultados.armazenar(resposta("solicitacao-2", List.of()));
+        agora.addAndGet(Duration.ofMinutes(9).toNanos());
+        resultados.armazenar(resposta("solicitacao-2", List.of()));
+
+        // Quando
+        agora.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        // Então
+        assertTrue(resultados.buscar("solicitacao-1").isEmpty());
+        assertTrue(resultados.buscar("solicitacao-2").isPresent());
+    }
+
+    private ResultadosSolicitacoesMemoria criar(DataSize tamanhoMaximo, Duration ttl) {
+        return new ResultadosSolicitacoesMemoria(conversor, objectMapper, tamanhoMaximo, ttl, agora::get, meterRegistry);
+    }
+
+    private SolicitacaoResponse resposta(String numero, List<CartaoResponse> cartoes) {
+        return SolicitacaoResponse.builder()
+                .numeroSolicitacao(numero)
+                .idCliente("2b6f0cc9-04f8-4c1e-9a3d-5e7f8a9b0c1d")
+                .dataSolicitacao(LocalDateTime.of(2026, 1, 1, 12, 0))
+                .cliente(ClienteDTO.builder()
+                        .nome("Cliente Teste")
+                        .cpf("123.456.789-10")
+                        .idade(30)
+                        .dataNascimento(LocalDate.of(1995, 1, 1))
+                        .uf("SP")
+                        .rendaMensal(new BigDecimal("4000.00"))
+                        .email("cliente@teste.com")
+                        .telefoneWhatsapp("11999992020")
+                        .build())
+                .cartoesOfertados(cartoes)
+                .build();
+    }
+
+    private CartaoResponse cartao() {
+        return CartaoResponse.builder()
+                .tipoCartao(TipoCartao.CARTAO_SEM_ANUIDADE)
+                .valorAnuidadeMensal(BigDecimal.ZERO)
+                .valorLimiteDisponivel(new BigDecimal("1000.00"))
+                .status(CartaoStatus.APROVADO)
+                .build();
+    }
+}